@@ -0,0 +1,48 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.Properties;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.PostgreSQL10Dialect;
+import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.provider.ReactiveServiceRegistryBuilder;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+
+/**
+ * Builds a {@link SessionFactory} which obtains its connections
+ * from the given {@link ReactiveConnectionPool}, usually one which
+ * never touches a database.
+ */
+final class BenchmarkSessionFactory {
+
+	private BenchmarkSessionFactory() {
+	}
+
+	static Stage.SessionFactory create(ScriptedConnectionPool pool, Class<?>... entities) {
+		return create( pool, new Properties(), entities ).unwrap( Stage.SessionFactory.class );
+	}
+
+	static SessionFactory create(ReactiveConnectionPool pool, Properties settings, Class<?>... entities) {
+		Configuration configuration = new Configuration();
+		// there's no database to ask for its version
+		configuration.setProperty( Settings.DIALECT, PostgreSQL10Dialect.class.getName() );
+		configuration.setProperty( Settings.HBM2DDL_AUTO, "none" );
+		configuration.addProperties( settings );
+		configuration.getProperties().put( Settings.SQL_CLIENT_POOL, pool );
+		for ( Class<?> entity : entities ) {
+			configuration.addAnnotatedClass( entity );
+		}
+		StandardServiceRegistry registry = new ReactiveServiceRegistryBuilder()
+				.applySettings( configuration.getProperties() )
+				.build();
+		return configuration.buildSessionFactory( registry );
+	}
+}
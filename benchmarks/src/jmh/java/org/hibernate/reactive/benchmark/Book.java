@@ -0,0 +1,81 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * A simple entity with a few basic properties of the
+ * types most commonly returned by the drivers.
+ */
+@Entity(name = "Book")
+@Table(name = "Book")
+public class Book {
+	@Id
+	private Long id;
+	private String isbn;
+	private String title;
+	private Integer pages;
+	private Double price;
+
+	public Book() {
+	}
+
+	public Book(Long id, String isbn, String title, Integer pages, Double price) {
+		this.id = id;
+		this.isbn = isbn;
+		this.title = title;
+		this.pages = pages;
+		this.price = price;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getIsbn() {
+		return isbn;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public Integer getPages() {
+		return pages;
+	}
+
+	public Double getPrice() {
+		return price;
+	}
+
+	/**
+	 * @return the value of the given column of the {@code i}th
+	 * row of a query result, consistent with {@link #create(int)}
+	 */
+	static Object column(String column, int i) {
+		switch ( column ) {
+			case "id":
+				return (long) i;
+			case "isbn":
+				return "978-" + i;
+			case "title":
+				return "Book " + i;
+			case "pages":
+				return 100 + i % 500;
+			case "price":
+				return 9.99 + i % 10;
+			default:
+				throw new IllegalArgumentException( "Unexpected column: " + column );
+		}
+	}
+
+	static Book create(int i) {
+		return new Book( (long) i, "978-" + i, "Book " + i, 100 + i % 500, 9.99 + i % 10 );
+	}
+}
@@ -0,0 +1,195 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.vertx.sqlclient.PropertyKind;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowIterator;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.desc.ColumnDescriptor;
+import io.vertx.sqlclient.impl.ArrayTuple;
+
+/**
+ * An in-memory {@link RowSet}, standing in for the result of a query,
+ * so that benchmarks can exercise the code which consumes results
+ * without a database.
+ * <p>
+ * A {@code CannedRowSet} may be iterated any number of times.
+ */
+public class CannedRowSet implements RowSet<Row> {
+
+	private final List<String> columnNames;
+	private final List<Row> rows;
+	private final int rowCount;
+	private final CannedRowSet next;
+
+	private CannedRowSet(List<String> columnNames, List<Row> rows) {
+		this( columnNames, rows, rows.size(), null );
+	}
+
+	private CannedRowSet(List<String> columnNames, List<Row> rows, int rowCount, CannedRowSet next) {
+		this.columnNames = columnNames;
+		this.rows = rows;
+		this.rowCount = rowCount;
+		this.next = next;
+	}
+
+	/**
+	 * The result of an insert, update, or delete statement
+	 * which affected the given number of rows.
+	 */
+	public static CannedRowSet updated(int rowCount) {
+		return new CannedRowSet( Collections.emptyList(), Collections.emptyList(), rowCount, null );
+	}
+
+	/**
+	 * The result of a batch of insert, update, or delete statements,
+	 * with one {@code RowSet}, linked by {@link #next()}, for each
+	 * statement of the batch.
+	 */
+	public static CannedRowSet batch(int statements, int rowCount) {
+		CannedRowSet result = null;
+		for ( int i = 0; i < statements; i++ ) {
+			result = new CannedRowSet( Collections.emptyList(), Collections.emptyList(), rowCount, result );
+		}
+		return result;
+	}
+
+	private static final Pattern SELECT_ITEM = Pattern.compile( "\\w+\\.(\\w+) as (\\w+)" );
+
+	public static Builder columns(String... columnNames) {
+		return new Builder( columnNames );
+	}
+
+	/**
+	 * A {@code CannedRowSet} with a column for each item of the
+	 * select list of the given SQL, as generated by Hibernate, that
+	 * is, with items of form {@code alias.column as label}, so that
+	 * a benchmark doesn't need to know the labels in advance.
+	 *
+	 * @param values produces the value of the given column for the
+	 * given row
+	 */
+	public static CannedRowSet forSelect(String sql, int rows, BiFunction<String, Integer, Object> values) {
+		List<String> columns = new ArrayList<>();
+		List<String> labels = new ArrayList<>();
+		Matcher matcher = SELECT_ITEM.matcher( sql.substring( 0, sql.indexOf( " from " ) ) );
+		while ( matcher.find() ) {
+			columns.add( matcher.group( 1 ) );
+			labels.add( matcher.group( 2 ) );
+		}
+		Builder builder = columns( labels.toArray( new String[0] ) );
+		for ( int row = 0; row < rows; row++ ) {
+			Object[] tuple = new Object[columns.size()];
+			for ( int i = 0; i < tuple.length; i++ ) {
+				tuple[i] = values.apply( columns.get( i ), row );
+			}
+			builder.row( tuple );
+		}
+		return builder.build();
+	}
+
+	public static class Builder {
+		private final List<String> columnNames;
+		private final List<Row> rows = new ArrayList<>();
+
+		private Builder(String... columnNames) {
+			this.columnNames = Collections.unmodifiableList( Arrays.asList( columnNames ) );
+		}
+
+		public Builder row(Object... values) {
+			if ( values.length != columnNames.size() ) {
+				throw new IllegalArgumentException( "Expected " + columnNames.size() + " values but got " + values.length );
+			}
+			rows.add( new CannedRow( columnNames, values ) );
+			return this;
+		}
+
+		public CannedRowSet build() {
+			return new CannedRowSet( columnNames, Collections.unmodifiableList( rows ) );
+		}
+	}
+
+	@Override
+	public RowIterator<Row> iterator() {
+		return new RowIterator<Row>() {
+			int next = 0;
+
+			@Override
+			public boolean hasNext() {
+				return next < rows.size();
+			}
+
+			@Override
+			public Row next() {
+				return rows.get( next++ );
+			}
+		};
+	}
+
+	@Override
+	public int rowCount() {
+		return rowCount;
+	}
+
+	@Override
+	public List<String> columnsNames() {
+		return columnNames;
+	}
+
+	@Override
+	public List<ColumnDescriptor> columnDescriptors() {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public int size() {
+		return rows.size();
+	}
+
+	@Override
+	public <V> V property(PropertyKind<V> propertyKind) {
+		return null;
+	}
+
+	@Override
+	public RowSet<Row> value() {
+		return this;
+	}
+
+	@Override
+	public RowSet<Row> next() {
+		return next;
+	}
+
+	private static class CannedRow extends ArrayTuple implements Row {
+		private final List<String> columnNames;
+
+		CannedRow(List<String> columnNames, Object[] values) {
+			super( values.length );
+			this.columnNames = columnNames;
+			Collections.addAll( this, values );
+		}
+
+		@Override
+		public String getColumnName(int pos) {
+			return columnNames.get( pos );
+		}
+
+		@Override
+		public int getColumnIndex(String name) {
+			return columnNames.indexOf( name );
+		}
+	}
+}
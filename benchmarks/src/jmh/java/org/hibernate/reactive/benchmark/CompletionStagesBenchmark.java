@@ -0,0 +1,99 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.hibernate.reactive.util.impl.CompletionStages;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.ibm.asyncutil.iteration.AsyncIterator;
+import com.ibm.asyncutil.iteration.AsyncTrampoline;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * Compares {@link CompletionStages#loop} and {@link CompletionStages#total}
+ * with the implementations based on {@code asyncutil} which they replaced,
+ * for the common case where the consumer returns a stage which is already
+ * completed, as it does for most of the elements of a flush or cascade.
+ * <p>
+ * Every invocation processes {@value #ELEMENTS} elements, so that, with
+ * the {@code gc} profiler, {@code gc.alloc.rate.norm} is the number of
+ * bytes allocated per element.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(CompletionStagesBenchmark.ELEMENTS)
+public class CompletionStagesBenchmark {
+
+	static final int ELEMENTS = 10_000;
+
+	private static final CompletionStage<Integer> ONE = completedFuture( 1 );
+
+	private List<Object> elements;
+
+	@Setup
+	public void setup() {
+		elements = new ArrayList<>( ELEMENTS );
+		for ( int i = 0; i < ELEMENTS; i++ ) {
+			elements.add( new Object() );
+		}
+	}
+
+	@Benchmark
+	public Object loop() {
+		return CompletionStages.loop( elements, e -> voidFuture() ).toCompletableFuture().join();
+	}
+
+	@Benchmark
+	public Object loopWithAsyncTrampoline() {
+		return asyncTrampolineLoop( elements.iterator(), e -> voidFuture() ).toCompletableFuture().join();
+	}
+
+	@Benchmark
+	public Object total() {
+		return CompletionStages.total( elements.iterator(), e -> ONE ).toCompletableFuture().join();
+	}
+
+	@Benchmark
+	public Object totalWithAsyncIterator() {
+		return asyncIteratorTotal( elements.iterator(), e -> ONE ).toCompletableFuture().join();
+	}
+
+	// the previous implementation of CompletionStages.loop()
+	private static <T> CompletionStage<Void> asyncTrampolineLoop(Iterator<T> iterator, Function<T, CompletionStage<?>> consumer) {
+		if ( iterator.hasNext() ) {
+			return AsyncTrampoline.asyncWhile( () -> consumer.apply( iterator.next() )
+					.thenApply( r -> iterator.hasNext() ) );
+		}
+		else {
+			return voidFuture();
+		}
+	}
+
+	// the previous implementation of CompletionStages.total()
+	private static <T> CompletionStage<Integer> asyncIteratorTotal(Iterator<T> iterator, Function<T, CompletionStage<Integer>> consumer) {
+		return AsyncIterator.fromIterator( iterator )
+				.thenCompose( consumer )
+				.fold( 0, Integer::sum );
+	}
+}
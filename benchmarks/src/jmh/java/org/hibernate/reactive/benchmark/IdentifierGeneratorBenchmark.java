@@ -0,0 +1,67 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.reactive.id.impl.BlockingIdentifierGenerator;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.session.ReactiveConnectionSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures the cost of generating an id with a {@link BlockingIdentifierGenerator}
+ * shared by several threads, as it is by all the sessions of a {@code SessionFactory},
+ * with the "hi" values obtained from a {@link ScriptedConnection}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class IdentifierGeneratorBenchmark {
+
+	private static final Object[] NO_PARAMETERS = new Object[0];
+
+	@Param({ "1", "50", "1000" })
+	int blockSize;
+
+	private BlockingIdentifierGenerator generator;
+	private ReactiveConnectionSupplier session;
+
+	@Setup
+	public void setup() {
+		ReactiveConnection connection = new ScriptedConnectionPool().getProxyConnection();
+		session = () -> connection;
+		generator = new BlockingIdentifierGenerator() {
+			@Override
+			protected int getBlockSize() {
+				return blockSize;
+			}
+
+			@Override
+			protected CompletionStage<Long> nextHiValue(ReactiveConnectionSupplier session) {
+				return session.getReactiveConnection()
+						.selectIdentifier( "select nextval('book_seq')", NO_PARAMETERS )
+						.thenApply( hi -> hi * blockSize );
+			}
+		};
+	}
+
+	@Benchmark
+	public Object generate() {
+		return generator.generate( session, null ).toCompletableFuture().join();
+	}
+}
@@ -0,0 +1,69 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.dialect.PostgreSQL10Dialect;
+import org.hibernate.reactive.pool.impl.Parameters;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the cost of rewriting the JDBC-style parameters of
+ * statements generated by Hibernate to the PostgreSQL syntax.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParametersBenchmark {
+
+	private static final String INSERT =
+			"insert into Book (isbn, pages, price, title, id) values (?, ?, ?, ?, ?)";
+
+	private static final String SELECT =
+			"select book0_.id as id1_0_, book0_.isbn as isbn2_0_, book0_.pages as pages3_0_, "
+					+ "book0_.price as price4_0_, book0_.title as title5_0_ from Book book0_ "
+					+ "where book0_.title like ? and book0_.isbn<>'?' and book0_.pages between ? and ? "
+					+ "order by book0_.title limit ? offset ?";
+
+	private static final String NO_PARAMETERS =
+			"select book0_.id as id1_0_, book0_.isbn as isbn2_0_ from Book book0_";
+
+	private static final Object[] LIMIT_PARAMETERS = { "Book %", 100, 200, 10, 20 };
+
+	private final Parameters parameters = Parameters.instance( new PostgreSQL10Dialect() );
+
+	@Benchmark
+	public String insert() {
+		return parameters.process( INSERT );
+	}
+
+	@Benchmark
+	public String insertWithCount() {
+		return parameters.process( INSERT, 5 );
+	}
+
+	@Benchmark
+	public String select() {
+		return parameters.process( SELECT );
+	}
+
+	@Benchmark
+	public String selectWithLimit() {
+		return parameters.processLimit( SELECT, LIMIT_PARAMETERS, true );
+	}
+
+	@Benchmark
+	public String noParameters() {
+		return parameters.process( NO_PARAMETERS );
+	}
+}
@@ -0,0 +1,73 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.reactive.stage.Stage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+
+/**
+ * Measures the cost of executing an HQL query and hydrating its
+ * results, via {@code ReactiveQueryLoader}, from rows returned by
+ * a {@link ScriptedConnection}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QueryHydrationBenchmark {
+
+	@Param({ "10", "100", "1000" })
+	int rows;
+
+	private Stage.SessionFactory factory;
+
+	@Setup
+	public void setup() {
+		ScriptedConnectionPool pool = new ScriptedConnectionPool();
+		// the rows are built once, for the first execution of each
+		// SQL statement, and then returned by every later execution
+		Map<String, RowSet<Row>> results = new ConcurrentHashMap<>();
+		pool.setScript( (sql, paramValues) -> results.computeIfAbsent(
+				sql,
+				key -> CannedRowSet.forSelect( key, rows, Book::column )
+		) );
+		factory = BenchmarkSessionFactory.create( pool, Book.class );
+	}
+
+	@TearDown
+	public void tearDown() {
+		factory.close();
+	}
+
+	@Benchmark
+	public Object selectAll() {
+		Stage.Session session = factory.openSession();
+		try {
+			return session.createQuery( "from Book", Book.class )
+					.getResultList()
+					.toCompletableFuture()
+					.join();
+		}
+		finally {
+			session.close();
+		}
+	}
+}
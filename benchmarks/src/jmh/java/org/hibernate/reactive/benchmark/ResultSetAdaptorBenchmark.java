@@ -0,0 +1,95 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of reading each row of a result through
+ * {@link ResultSetAdaptor}, the way Hibernate hydrates an entity,
+ * that is, by column label.
+ * <p>
+ * Every invocation hydrates {@value #ROWS} rows, so that, with the
+ * {@code gc} profiler, {@code gc.alloc.rate.norm} is the number of
+ * bytes allocated per hydrated row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(ResultSetAdaptorBenchmark.ROWS)
+public class ResultSetAdaptorBenchmark {
+
+	static final int ROWS = 100_000;
+
+	private CannedRowSet rowSet;
+
+	@Setup
+	public void setup() {
+		// column labels as generated by Hibernate, and values of
+		// the types the drivers return: note that the driver may
+		// hand us a Short or Long for a column mapped to an int
+		CannedRowSet.Builder builder = CannedRowSet.columns(
+				"id1_0_0_", "version2_0_0_", "name3_0_0_", "price4_0_0_",
+				"quantity5_0_0_", "stock6_0_0_", "created7_0_0_"
+		);
+		LocalDateTime created = LocalDateTime.of( 2021, 3, 14, 15, 9, 26 );
+		for ( int i = 0; i < ROWS; i++ ) {
+			builder.row(
+					(long) i,
+					i % 7,
+					"Product " + i,
+					i * 1.5d,
+					(short) ( i % 1000 ),
+					(long) ( i % 5000 ),
+					i % 3 == 0 ? null : created
+			);
+		}
+		rowSet = builder.build();
+	}
+
+	@Benchmark
+	public void hydrateByLabel(Blackhole bh) {
+		ResultSetAdaptor resultSet = new ResultSetAdaptor( rowSet );
+		while ( resultSet.next() ) {
+			bh.consume( resultSet.getLong( "id1_0_0_" ) );
+			bh.consume( resultSet.getInt( "version2_0_0_" ) );
+			bh.consume( resultSet.getString( "name3_0_0_" ) );
+			bh.consume( resultSet.getDouble( "price4_0_0_" ) );
+			bh.consume( resultSet.getInt( "quantity5_0_0_" ) );
+			bh.consume( resultSet.getInt( "stock6_0_0_" ) );
+			bh.consume( resultSet.getTimestamp( "created7_0_0_" ) );
+			bh.consume( resultSet.wasNull() );
+		}
+	}
+
+	@Benchmark
+	public void hydrateByIndex(Blackhole bh) {
+		ResultSetAdaptor resultSet = new ResultSetAdaptor( rowSet );
+		while ( resultSet.next() ) {
+			bh.consume( resultSet.getLong( 0 ) );
+			bh.consume( resultSet.getInt( 1 ) );
+			bh.consume( resultSet.getString( 2 ) );
+			bh.consume( resultSet.getDouble( 3 ) );
+			bh.consume( resultSet.getInt( 4 ) );
+			bh.consume( resultSet.getInt( 5 ) );
+			bh.consume( resultSet.getTimestamp( 6 ) );
+			bh.consume( resultSet.wasNull() );
+		}
+	}
+}
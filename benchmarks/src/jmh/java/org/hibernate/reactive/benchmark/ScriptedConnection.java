@@ -0,0 +1,174 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
+import org.hibernate.reactive.pool.ReactiveConnection;
+
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowIterator;
+import io.vertx.sqlclient.RowSet;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * A {@link ReactiveConnection} which never talks to a database.
+ * Every query returns the {@link RowSet} produced by a {@link Script},
+ * every insert, update, or delete affects exactly one row, and every
+ * identifier is obtained from a counter shared by all connections of
+ * the {@link ScriptedConnectionPool}.
+ * <p>
+ * All the operations complete immediately, so a benchmark measures
+ * only the work done by Hibernate Reactive itself.
+ */
+public class ScriptedConnection implements ReactiveConnection {
+
+	/**
+	 * Produces the result of a query.
+	 */
+	@FunctionalInterface
+	public interface Script {
+		/**
+		 * @return the rows returned by the given SQL query
+		 */
+		RowSet<Row> execute(String sql, Object[] paramValues);
+	}
+
+	/**
+	 * A {@link Script} for which every query returns no rows.
+	 */
+	public static final Script EMPTY = (sql, paramValues) -> CannedRowSet.columns().build();
+
+	private static final Object[] NO_PARAMETERS = new Object[0];
+
+	private final Script script;
+	private final AtomicLong identifiers;
+
+	ScriptedConnection(Script script, AtomicLong identifiers) {
+		this.script = script;
+		this.identifiers = identifiers;
+	}
+
+	@Override
+	public CompletionStage<Void> execute(String sql) {
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> executeOutsideTransaction(String sql) {
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql) {
+		return completedFuture( 1 );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql, Object[] paramValues) {
+		return completedFuture( 1 );
+	}
+
+	@Override
+	public CompletionStage<Void> update(String sql, Object[] paramValues, boolean allowBatching, Expectation expectation) {
+		expectation.verifyOutcome( 1, -1, sql );
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+		int[] rowCounts = new int[paramValues.size()];
+		for ( int i = 0; i < rowCounts.length; i++ ) {
+			rowCounts[i] = 1;
+		}
+		return completedFuture( rowCounts );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql) {
+		return select( sql, NO_PARAMETERS );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql, Object[] paramValues) {
+		return completedFuture( new CannedResult( script.execute( sql, paramValues ) ) );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
+		return completedFuture( new ResultSetAdaptor( script.execute( sql, paramValues ) ) );
+	}
+
+	@Override
+	public CompletionStage<Long> insertAndSelectIdentifier(String sql, Object[] paramValues) {
+		return completedFuture( identifiers.incrementAndGet() );
+	}
+
+	@Override
+	public CompletionStage<Long> selectIdentifier(String sql, Object[] paramValues) {
+		return completedFuture( identifiers.incrementAndGet() );
+	}
+
+	@Override
+	public CompletionStage<Void> beginTransaction() {
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> commitTransaction() {
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> rollbackTransaction() {
+		return voidFuture();
+	}
+
+	@Override
+	public CompletionStage<Void> executeBatch() {
+		return voidFuture();
+	}
+
+	@Override
+	public void close() {
+	}
+
+	private static class CannedResult implements Result {
+		private final RowSet<Row> rows;
+		private final RowIterator<Row> iterator;
+
+		CannedResult(RowSet<Row> rows) {
+			this.rows = rows;
+			this.iterator = rows.iterator();
+		}
+
+		@Override
+		public int size() {
+			return rows.size();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return iterator.hasNext();
+		}
+
+		@Override
+		public Object[] next() {
+			Row row = iterator.next();
+			Object[] values = new Object[row.size()];
+			for ( int i = 0; i < values.length; i++ ) {
+				values[i] = row.getValue( i );
+			}
+			return values;
+		}
+	}
+}
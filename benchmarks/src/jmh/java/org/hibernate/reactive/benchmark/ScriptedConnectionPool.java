@@ -0,0 +1,54 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.ReactiveConnectionPool;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+
+/**
+ * A {@link ReactiveConnectionPool} of {@link ScriptedConnection}s,
+ * for benchmarks which need a {@code SessionFactory} but no database.
+ * It may be passed as the value of
+ * {@link org.hibernate.reactive.provider.Settings#SQL_CLIENT_POOL}.
+ * <p>
+ * The {@link ScriptedConnection.Script} may be replaced at any time,
+ * for example, in the {@code @Setup} method of a benchmark, after the
+ * {@code SessionFactory} has been created.
+ */
+public class ScriptedConnectionPool implements ReactiveConnectionPool {
+
+	private final AtomicLong identifiers = new AtomicLong();
+	private volatile ScriptedConnection.Script script = ScriptedConnection.EMPTY;
+
+	public void setScript(ScriptedConnection.Script script) {
+		this.script = script;
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection() {
+		return completedFuture( getProxyConnection() );
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection(String tenantId) {
+		return getConnection();
+	}
+
+	@Override
+	public ReactiveConnection getProxyConnection() {
+		return new ScriptedConnection( script, identifiers );
+	}
+
+	@Override
+	public ReactiveConnection getProxyConnection(String tenantId) {
+		return getProxyConnection();
+	}
+}
@@ -0,0 +1,69 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.reactive.stage.Stage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the cost of persisting and flushing new entities with
+ * a reactive session, that is, of the persistence context, the
+ * action queue, and the generation of the insert statements, but
+ * not of the statements themselves, which are executed by a
+ * {@link ScriptedConnection}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SessionFlushBenchmark {
+
+	@Param({ "10", "100", "1000" })
+	int entities;
+
+	private Stage.SessionFactory factory;
+	private Book[] books;
+
+	@Setup
+	public void setup() {
+		factory = BenchmarkSessionFactory.create( new ScriptedConnectionPool(), Book.class );
+		// the entities aren't enhanced, so a Book persisted by a session
+		// which was closed is indistinguishable from a new instance
+		books = new Book[entities];
+		for ( int i = 0; i < entities; i++ ) {
+			books[i] = Book.create( i );
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		factory.close();
+	}
+
+	@Benchmark
+	public Object persistAndFlush() {
+		Stage.Session session = factory.openSession();
+		try {
+			return session.persist( (Object[]) books )
+					.thenCompose( v -> session.flush() )
+					.toCompletableFuture()
+					.join();
+		}
+		finally {
+			session.close();
+		}
+	}
+}
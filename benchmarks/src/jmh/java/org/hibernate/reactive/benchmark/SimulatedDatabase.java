@@ -0,0 +1,230 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+
+/**
+ * Simulates the behavior of a database, as seen by a client: each
+ * statement is answered by a fixture, after a latency drawn from a
+ * configurable distribution, and may time out or fail. The behavior
+ * is specified by {@link Rule}s, each of which applies to statements
+ * matching a regular expression.
+ *
+ * <pre>
+ * new SimulatedDatabase()
+ *     .rule( "^select", rule -&gt; rule.latency( Latency.logNormal( 2, 0.5 ) ).rows( fixture ) )
+ *     .rule( "^(insert|update|delete)", rule -&gt; rule.latency( Latency.uniform( 1, 3 ) ).errorRate( 0.001 ) )
+ *     .defaults( rule -&gt; rule.latency( Latency.fixed( 1 ) ) );
+ * </pre>
+ *
+ * Statements are "executed" by a {@link SimulatedDatabasePool}.
+ */
+public class SimulatedDatabase {
+
+	/**
+	 * A distribution of the time taken by the database to answer
+	 * a statement.
+	 */
+	@FunctionalInterface
+	public interface Latency {
+		Latency NONE = random -> 0;
+
+		/**
+		 * @return the number of milliseconds taken by a statement
+		 */
+		long millis(ThreadLocalRandom random);
+
+		static Latency fixed(long millis) {
+			return random -> millis;
+		}
+
+		static Latency uniform(long minMillis, long maxMillis) {
+			return random -> random.nextLong( minMillis, maxMillis + 1 );
+		}
+
+		/**
+		 * A distribution with a long tail, typical of the latency
+		 * of real databases.
+		 *
+		 * @param medianMillis the median latency
+		 * @param sigma the standard deviation of the logarithm of the
+		 * latency: the larger it is, the longer the tail
+		 */
+		static Latency logNormal(double medianMillis, double sigma) {
+			return random -> Math.round( medianMillis * Math.exp( sigma * random.nextGaussian() ) );
+		}
+	}
+
+	/**
+	 * The behavior of the database for the statements matching a
+	 * pattern.
+	 */
+	public static class Rule {
+		private final Pattern pattern;
+		private Latency latency = Latency.NONE;
+		private double errorRate;
+		private long timeoutMillis;
+		private ScriptedConnection.Script fixture;
+
+		private Rule(Pattern pattern) {
+			this.pattern = pattern;
+		}
+
+		public Rule latency(Latency latency) {
+			this.latency = latency;
+			return this;
+		}
+
+		/**
+		 * @param errorRate the fraction of statements which fail
+		 */
+		public Rule errorRate(double errorRate) {
+			this.errorRate = errorRate;
+			return this;
+		}
+
+		/**
+		 * @param timeoutMillis statements which would take longer
+		 * fail after this number of milliseconds
+		 */
+		public Rule timeout(long timeoutMillis) {
+			this.timeoutMillis = timeoutMillis;
+			return this;
+		}
+
+		/**
+		 * @param fixture the rows returned by queries
+		 */
+		public Rule rows(ScriptedConnection.Script fixture) {
+			this.fixture = fixture;
+			return this;
+		}
+	}
+
+	/**
+	 * The failure of a statement.
+	 */
+	public static class SimulatedFailure extends RuntimeException {
+		public SimulatedFailure(String message) {
+			super( message );
+		}
+	}
+
+	private final List<Rule> rules = new ArrayList<>();
+	private final Rule defaults = new Rule( null );
+	private final Map<String, Rule> rulesBySql = new ConcurrentHashMap<>();
+
+	private final LongAdder statements = new LongAdder();
+	private final LongAdder errors = new LongAdder();
+	private final LongAdder timeouts = new LongAdder();
+
+	/**
+	 * Add a rule for statements in which the given regular expression
+	 * is found. The first matching rule applies to a statement.
+	 */
+	public SimulatedDatabase rule(String regex, Consumer<Rule> configuration) {
+		Rule rule = new Rule( Pattern.compile( regex, Pattern.CASE_INSENSITIVE ) );
+		configuration.accept( rule );
+		rules.add( rule );
+		rulesBySql.clear();
+		return this;
+	}
+
+	/**
+	 * Configure the rule for statements not matched by any other rule.
+	 */
+	public SimulatedDatabase defaults(Consumer<Rule> configuration) {
+		configuration.accept( defaults );
+		return this;
+	}
+
+	public long getStatementCount() {
+		return statements.sum();
+	}
+
+	public long getErrorCount() {
+		return errors.sum();
+	}
+
+	public long getTimeoutCount() {
+		return timeouts.sum();
+	}
+
+	/**
+	 * Execute the given statement, or batch of statements, calling the
+	 * handler from the Vert.x context once the simulated latency has
+	 * elapsed.
+	 *
+	 * @param batchSize the number of statements in the batch, or
+	 * {@code -1} if the statement is not batched
+	 */
+	void execute(Vertx vertx, String sql, Object[] paramValues, int batchSize, Handler<AsyncResult<RowSet<Row>>> handler) {
+		statements.increment();
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		Rule rule = ruleFor( sql );
+		long latency = Math.max( 0, rule.latency.millis( random ) );
+		final AsyncResult<RowSet<Row>> result;
+		if ( rule.timeoutMillis > 0 && latency > rule.timeoutMillis ) {
+			timeouts.increment();
+			latency = rule.timeoutMillis;
+			result = Future.failedFuture( new SimulatedFailure( "Statement timed out after " + latency + "ms: " + sql ) );
+		}
+		else if ( rule.errorRate > 0 && random.nextDouble() < rule.errorRate ) {
+			errors.increment();
+			result = Future.failedFuture( new SimulatedFailure( "Statement failed: " + sql ) );
+		}
+		else {
+			result = Future.succeededFuture( rows( rule, sql, paramValues, batchSize ) );
+		}
+		complete( vertx, latency, handler, result );
+	}
+
+	static <T> void complete(Vertx vertx, long latency, Handler<AsyncResult<T>> handler, AsyncResult<T> result) {
+		if ( latency > 0 ) {
+			vertx.setTimer( latency, id -> handler.handle( result ) );
+		}
+		else {
+			vertx.runOnContext( v -> handler.handle( result ) );
+		}
+	}
+
+	private Rule ruleFor(String sql) {
+		return rulesBySql.computeIfAbsent( sql, key -> {
+			for ( Rule rule : rules ) {
+				if ( rule.pattern.matcher( key ).find() ) {
+					return rule;
+				}
+			}
+			return defaults;
+		} );
+	}
+
+	private static RowSet<Row> rows(Rule rule, String sql, Object[] paramValues, int batchSize) {
+		if ( rule.fixture != null ) {
+			return rule.fixture.execute( sql, paramValues );
+		}
+		if ( sql.trim().toLowerCase( Locale.ROOT ).startsWith( "select" ) ) {
+			return CannedRowSet.columns().build();
+		}
+		return batchSize < 0 ? CannedRowSet.updated( 1 ) : CannedRowSet.batch( batchSize, 1 );
+	}
+}
@@ -0,0 +1,135 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.reactive.benchmark.SimulatedDatabase.Latency;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+
+/**
+ * Runs end-to-end {@code Stage} and {@code Mutiny} workloads against
+ * a {@link SimulatedDatabase} with a long-tailed latency, from more
+ * concurrent clients than there are connections in the pool.
+ * <p>
+ * In {@code SampleTime} mode, JMH reports the percentiles of the
+ * latency of each operation, including the time spent waiting for
+ * a connection. The statistics of the wait queue of the pool are
+ * printed at the end of each trial.
+ * <p>
+ * Example:
+ * <pre>
+ * ./gradlew :benchmarks:jmh -PjmhInclude=SimulatedDatabaseBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(32)
+public class SimulatedDatabaseBenchmark {
+
+	@Param({ "5", "20" })
+	int poolSize;
+
+	@Param({ "2" })
+	double medianLatencyMillis;
+
+	@Param({ "0.5" })
+	double latencySigma;
+
+	private SimulatedDatabasePool pool;
+	private SessionFactory factory;
+	private Stage.SessionFactory stage;
+	private Mutiny.SessionFactory mutiny;
+
+	@Setup
+	public void setup() {
+		Map<String, RowSet<Row>> results = new ConcurrentHashMap<>();
+		SimulatedDatabase database = new SimulatedDatabase()
+				.rule( "^select", rule -> rule
+						.latency( Latency.logNormal( medianLatencyMillis, latencySigma ) )
+						.rows( (sql, paramValues) -> results.computeIfAbsent(
+								sql,
+								key -> CannedRowSet.forSelect( key, 1, Book::column )
+						) )
+				)
+				.defaults( rule -> rule.latency( Latency.uniform( 1, Math.round( 2 * medianLatencyMillis ) ) ) );
+		pool = new SimulatedDatabasePool( database );
+
+		Properties settings = new Properties();
+		settings.setProperty( Settings.POOL_SIZE, String.valueOf( poolSize ) );
+		factory = BenchmarkSessionFactory.create( pool, settings, Book.class );
+		stage = factory.unwrap( Stage.SessionFactory.class );
+		mutiny = factory.unwrap( Mutiny.SessionFactory.class );
+	}
+
+	@TearDown
+	public void tearDown() {
+		long acquisitions = pool.getAcquisitionCount();
+		System.out.printf(
+				"%nConnections: %d acquired, %d waited (%.1f%%), %d rejected, max wait queue %d, mean wait %.3fms%n",
+				acquisitions,
+				pool.getWaitCount(),
+				acquisitions == 0 ? 0.0 : 100.0 * pool.getWaitCount() / acquisitions,
+				pool.getRejectionCount(),
+				pool.getMaxWaitQueueLength(),
+				pool.getWaitCount() == 0 ? 0.0 : pool.getTotalWaitNanos() / 1e6 / pool.getWaitCount()
+		);
+		System.out.printf(
+				"Statements: %d executed, %d failed, %d timed out%n",
+				pool.getDatabase().getStatementCount(),
+				pool.getDatabase().getErrorCount(),
+				pool.getDatabase().getTimeoutCount()
+		);
+		factory.close();
+	}
+
+	@Benchmark
+	public Object stageFind() {
+		return stage.withSession( session -> session.find( Book.class, nextId() ) )
+				.toCompletableFuture()
+				.join();
+	}
+
+	@Benchmark
+	public Object stagePersist() {
+		return stage.withTransaction( (session, tx) -> session.persist( Book.create( nextId() ) ) )
+				.toCompletableFuture()
+				.join();
+	}
+
+	@Benchmark
+	public Object mutinyFind() {
+		return mutiny.withSession( session -> session.find( Book.class, nextId() ) )
+				.await()
+				.indefinitely();
+	}
+
+	private static long nextId() {
+		return ThreadLocalRandom.current().nextInt( 1_000_000 );
+	}
+}
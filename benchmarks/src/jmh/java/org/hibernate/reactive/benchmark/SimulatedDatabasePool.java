@@ -0,0 +1,332 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.reactive.pool.impl.SqlClientPool;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.vertx.VertxInstance;
+import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.ServiceRegistryAwareService;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PreparedQuery;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.Transaction;
+import io.vertx.sqlclient.Tuple;
+
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+
+/**
+ * A {@link SqlClientPool} backed by a {@link SimulatedDatabase}
+ * instead of a Vert.x driver, so that the whole reactive stack,
+ * from the {@code Stage} or {@code Mutiny} session down to the
+ * {@code SqlClientConnection}, can be exercised with a controlled
+ * latency. It may be passed as the value of
+ * {@link Settings#SQL_CLIENT_POOL}.
+ * <p>
+ * Like the pools of the Vert.x drivers, the pool has at most
+ * {@link Settings#POOL_SIZE} connections, and requests for a
+ * connection wait in a queue of at most
+ * {@link Settings#POOL_MAX_WAIT_QUEUE_SIZE} requests when they're
+ * all in use. The pool keeps statistics about the wait queue.
+ * <p>
+ * The Vert.x client objects are implemented by dynamic proxies,
+ * which handle only the operations used by Hibernate Reactive,
+ * and so don't depend on the exact version of the Vert.x API.
+ */
+public class SimulatedDatabasePool extends SqlClientPool implements ServiceRegistryAwareService, Configurable {
+
+	private static final int DEFAULT_POOL_SIZE = 5;
+
+	private final SimulatedDatabase database;
+
+	private VertxInstance vertxInstance;
+	private SqlStatementLogger sqlStatementLogger;
+	private int poolSize = DEFAULT_POOL_SIZE;
+	private int maxWaitQueueSize = -1;
+	private Pool pool;
+
+	// guarded by this
+	private int connectionsInUse;
+	private final Queue<Waiter> waitQueue = new ArrayDeque<>();
+	private long acquisitions;
+	private long waits;
+	private long rejections;
+	private long totalWaitNanos;
+	private int maxWaitQueueLength;
+
+	private static class Waiter {
+		final Handler<AsyncResult<SqlConnection>> handler;
+		final long enqueued = System.nanoTime();
+
+		Waiter(Handler<AsyncResult<SqlConnection>> handler) {
+			this.handler = handler;
+		}
+	}
+
+	public SimulatedDatabasePool(SimulatedDatabase database) {
+		this.database = database;
+	}
+
+	@Override
+	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
+		vertxInstance = serviceRegistry.getService( VertxInstance.class );
+		sqlStatementLogger = serviceRegistry.getService( JdbcServices.class ).getSqlStatementLogger();
+	}
+
+	@Override
+	public void configure(Map configuration) {
+		poolSize = getInt( Settings.POOL_SIZE, configuration, DEFAULT_POOL_SIZE );
+		maxWaitQueueSize = getInt( Settings.POOL_MAX_WAIT_QUEUE_SIZE, configuration, -1 );
+	}
+
+	@Override
+	protected synchronized Pool getPool() {
+		if ( pool == null ) {
+			pool = proxy( Pool.class, (proxy, method, args) -> {
+				switch ( method.getName() ) {
+					case "getConnection":
+						acquire( handler( args ) );
+						return null;
+					case "preparedQuery":
+					case "query":
+						return query( proxy, method, args );
+					case "close":
+						return null;
+					default:
+						return other( proxy, method, args );
+				}
+			} );
+		}
+		return pool;
+	}
+
+	@Override
+	protected SqlStatementLogger getSqlStatementLogger() {
+		return sqlStatementLogger;
+	}
+
+	public SimulatedDatabase getDatabase() {
+		return database;
+	}
+
+	/**
+	 * @return the number of connections obtained from the pool
+	 */
+	public synchronized long getAcquisitionCount() {
+		return acquisitions;
+	}
+
+	/**
+	 * @return the number of requests for a connection which had
+	 * to wait because all the connections were in use
+	 */
+	public synchronized long getWaitCount() {
+		return waits;
+	}
+
+	/**
+	 * @return the number of requests for a connection which were
+	 * rejected because the wait queue was full
+	 */
+	public synchronized long getRejectionCount() {
+		return rejections;
+	}
+
+	/**
+	 * @return the total time spent by requests in the wait queue
+	 */
+	public synchronized long getTotalWaitNanos() {
+		return totalWaitNanos;
+	}
+
+	/**
+	 * @return the maximum length reached by the wait queue
+	 */
+	public synchronized int getMaxWaitQueueLength() {
+		return maxWaitQueueLength;
+	}
+
+	private Vertx vertx() {
+		return vertxInstance.getVertx();
+	}
+
+	private void acquire(Handler<AsyncResult<SqlConnection>> handler) {
+		final AsyncResult<SqlConnection> result;
+		synchronized ( this ) {
+			if ( connectionsInUse < poolSize ) {
+				connectionsInUse++;
+				acquisitions++;
+				result = Future.succeededFuture( newConnection() );
+			}
+			else if ( maxWaitQueueSize < 0 || waitQueue.size() < maxWaitQueueSize ) {
+				waits++;
+				waitQueue.add( new Waiter( handler ) );
+				maxWaitQueueLength = Math.max( maxWaitQueueLength, waitQueue.size() );
+				return;
+			}
+			else {
+				rejections++;
+				result = Future.failedFuture( new SimulatedDatabase.SimulatedFailure(
+						"Connection pool reached max wait queue size of " + maxWaitQueueSize ) );
+			}
+		}
+		SimulatedDatabase.complete( vertx(), 0, handler, result );
+	}
+
+	private void release() {
+		final Waiter waiter;
+		synchronized ( this ) {
+			waiter = waitQueue.poll();
+			if ( waiter == null ) {
+				connectionsInUse--;
+				return;
+			}
+			// hand over the connection to the next waiter
+			acquisitions++;
+			totalWaitNanos += System.nanoTime() - waiter.enqueued;
+		}
+		SimulatedDatabase.complete( vertx(), 0, waiter.handler, Future.succeededFuture( newConnection() ) );
+	}
+
+	private SqlConnection newConnection() {
+		final boolean[] closed = { false };
+		return proxy( SqlConnection.class, (proxy, method, args) -> {
+			switch ( method.getName() ) {
+				case "preparedQuery":
+				case "query":
+					return query( proxy, method, args );
+				case "begin":
+					return transaction();
+				case "close":
+					synchronized ( closed ) {
+						if ( closed[0] ) {
+							return null;
+						}
+						closed[0] = true;
+					}
+					release();
+					return null;
+				case "isSSL":
+					return false;
+				default:
+					return other( proxy, method, args );
+			}
+		} );
+	}
+
+	private Transaction transaction() {
+		return proxy( Transaction.class, (proxy, method, args) -> {
+			switch ( method.getName() ) {
+				case "preparedQuery":
+				case "query":
+					return query( proxy, method, args );
+				case "commit":
+				case "rollback":
+					if ( args != null && args.length > 0 ) {
+						SimulatedDatabase.complete( vertx(), 0, handler( args ), Future.succeededFuture() );
+					}
+					return null;
+				default:
+					return other( proxy, method, args );
+			}
+		} );
+	}
+
+	/**
+	 * Handles {@code preparedQuery(sql)} and {@code query(sql)},
+	 * returning a {@link PreparedQuery}, and the older methods which
+	 * execute the statement right away, passing the result to the
+	 * {@link Handler} given as the last argument.
+	 */
+	private Object query(Object client, Method method, Object[] args) {
+		final String sql = (String) args[0];
+		if ( args.length > 1 ) {
+			Object parameters = args.length > 2 ? args[1] : null;
+			execute( sql, parameters, handler( args ) );
+			return method.getReturnType().isInstance( client ) ? client : null;
+		}
+		return proxy( PreparedQuery.class, (proxy, queryMethod, queryArgs) -> {
+			switch ( queryMethod.getName() ) {
+				case "execute":
+				case "executeBatch":
+					execute( sql, queryArgs.length > 1 ? queryArgs[0] : null, handler( queryArgs ) );
+					return null;
+				default:
+					return other( proxy, queryMethod, queryArgs );
+			}
+		} );
+	}
+
+	private void execute(String sql, Object parameters, Handler<AsyncResult<RowSet<Row>>> handler) {
+		sqlStatementLogger.logStatement( sql );
+		if ( parameters instanceof List ) {
+			List<?> batch = (List<?>) parameters;
+			Object[] first = batch.isEmpty() ? new Object[0] : values( (Tuple) batch.get( 0 ) );
+			database.execute( vertx(), sql, first, batch.size(), handler );
+		}
+		else {
+			Object[] values = parameters instanceof Tuple ? values( (Tuple) parameters ) : new Object[0];
+			database.execute( vertx(), sql, values, -1, handler );
+		}
+	}
+
+	private static Object[] values(Tuple tuple) {
+		Object[] values = new Object[tuple.size()];
+		for ( int i = 0; i < values.length; i++ ) {
+			values[i] = tuple.getValue( i );
+		}
+		return values;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Handler<AsyncResult<T>> handler(Object[] args) {
+		return (Handler<AsyncResult<T>>) args[args.length - 1];
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+		return (T) Proxy.newProxyInstance( type.getClassLoader(), new Class<?>[] { type }, handler );
+	}
+
+	/**
+	 * Handles the methods of {@link Object}, and the methods used to
+	 * register callbacks, which return the client itself.
+	 */
+	private static Object other(Object proxy, Method method, Object[] args) {
+		switch ( method.getName() ) {
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode( proxy );
+			case "toString":
+				return "Simulated" + method.getDeclaringClass().getSimpleName() + "@" + System.identityHashCode( proxy );
+			default:
+				if ( method.getReturnType().isInstance( proxy ) ) {
+					// exceptionHandler(), closeHandler(), abortHandler(), ...
+					return proxy;
+				}
+				throw new UnsupportedOperationException( "Not supported by the simulated database: " + method );
+		}
+	}
+}
@@ -37,22 +37,79 @@
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * An adaptor that allows Hibenate core code which expects a JDBC
  * {@code ResultSet} to read values from Vert.x's {@code RowSet}.
+ * <p>
+ * Column labels are resolved to positions once per {@code RowSet},
+ * and numeric values are read directly from the driver's value
+ * instead of being re-boxed by the typed accessors of {@link Row}.
  */
 public class ResultSetAdaptor implements ResultSet {
 
 	private final RowIterator<Row> iterator;
-	private RowSet<Row> rows;
+	private final RowSet<Row> rows;
+	private final Map<String, Integer> columnIndexes;
 	private Row row;
 	private boolean wasNull;
 
 	public ResultSetAdaptor(RowSet<Row> rows) {
 		this.iterator = rows.iterator();
 		this.rows = rows;
+		this.columnIndexes = columnIndexes( rows.columnsNames() );
+	}
+
+	/**
+	 * @return the total number of rows in the result set
+	 */
+	public int getRowCount() {
+		return rows.size();
+	}
+
+	private static Map<String, Integer> columnIndexes(List<String> columnNames) {
+		if ( columnNames == null ) {
+			return new HashMap<>();
+		}
+		Map<String, Integer> indexes = new HashMap<>( columnNames.size() * 2 );
+		for ( int i = 0; i < columnNames.size(); i++ ) {
+			// with duplicate labels the first column wins, as in JDBC
+			indexes.putIfAbsent( columnNames.get( i ), i );
+		}
+		return indexes;
+	}
+
+	/**
+	 * The zero-based position of the column with the given label in
+	 * the current {@code RowSet}, or {@code -1} if there is no such
+	 * column. Labels the driver matches more leniently than we do
+	 * (for example, case-insensitively) are resolved by the driver
+	 * the first time we see them, and remembered.
+	 */
+	private int columnIndex(String columnLabel) {
+		Integer index = columnIndexes.get( columnLabel );
+		if ( index != null ) {
+			return index;
+		}
+		if ( row == null ) {
+			return -1;
+		}
+		int driverIndex = row.getColumnIndex( columnLabel );
+		if ( driverIndex >= 0 ) {
+			columnIndexes.put( columnLabel, driverIndex );
+		}
+		return driverIndex;
+	}
+
+	/**
+	 * The Vert.x drivers return {@code null} when asked for a column
+	 * which doesn't exist, so we do the same.
+	 */
+	private boolean isUnknown(int columnIndex) {
+		return wasNull = columnIndex < 0;
 	}
 
 	@Override
@@ -84,40 +141,75 @@ public boolean getBoolean(int columnIndex) {
 		return (wasNull=bool==null) ? false : bool;
 	}
 
+	// The numeric accessors of Row box the result whenever the
+	// driver's value isn't already of the requested wrapper type,
+	// so we convert from the raw Number ourselves, and only fall
+	// back to Row for values which need some other conversion
+
 	@Override
 	public byte getByte(int columnIndex) {
-		Integer integer = row.getInteger( columnIndex );
-		return (wasNull=integer==null) ? 0 : integer.byteValue();
+		Object value = row.getValue(columnIndex);
+		if (wasNull=value==null) {
+			return 0;
+		}
+		return value instanceof Number
+				? ( (Number) value ).byteValue()
+				: row.getInteger(columnIndex).byteValue();
 	}
 
 	@Override
 	public short getShort(int columnIndex) {
-		Short integer = row.getShort(columnIndex);
-		return (wasNull=integer==null) ? 0 : integer;
+		Object value = row.getValue(columnIndex);
+		if (wasNull=value==null) {
+			return 0;
+		}
+		return value instanceof Number
+				? ( (Number) value ).shortValue()
+				: row.getShort(columnIndex);
 	}
 
 	@Override
 	public int getInt(int columnIndex) {
-		Integer integer = row.getInteger( columnIndex );
-		return (wasNull=integer==null) ? 0 : integer;
+		Object value = row.getValue(columnIndex);
+		if (wasNull=value==null) {
+			return 0;
+		}
+		return value instanceof Number
+				? ( (Number) value ).intValue()
+				: row.getInteger(columnIndex);
 	}
 
 	@Override
 	public long getLong(int columnIndex) {
-		Long integer = row.getLong(columnIndex);
-		return (wasNull=integer==null) ? 0 : integer;
+		Object value = row.getValue(columnIndex);
+		if (wasNull=value==null) {
+			return 0;
+		}
+		return value instanceof Number
+				? ( (Number) value ).longValue()
+				: row.getLong(columnIndex);
 	}
 
 	@Override
 	public float getFloat(int columnIndex) {
-		Float real = row.getFloat(columnIndex);
-		return (wasNull=real==null) ? 0 : real;
+		Object value = row.getValue(columnIndex);
+		if (wasNull=value==null) {
+			return 0;
+		}
+		return value instanceof Number
+				? ( (Number) value ).floatValue()
+				: row.getFloat(columnIndex);
 	}
 
 	@Override
 	public double getDouble(int columnIndex) {
-		Double real = row.getDouble(columnIndex);
-		return (wasNull=real==null) ? 0 : real;
+		Object value = row.getValue(columnIndex);
+		if (wasNull=value==null) {
+			return 0;
+		}
+		return value instanceof Number
+				? ( (Number) value ).doubleValue()
+				: row.getDouble(columnIndex);
 	}
 
 	@Override
@@ -166,50 +258,50 @@ public InputStream getBinaryStream(int columnIndex) {
 
 	@Override
 	public String getString(String columnLabel) {
-		String string = row.getString(columnLabel);
-		return (wasNull=string==null) ? null : string;
+		int index = columnIndex(columnLabel);
+		return isUnknown(index) ? null : getString(index);
 	}
 
 	@Override
 	public boolean getBoolean(String columnLabel) {
-		Boolean bool = row.getBoolean(columnLabel);
-		return (wasNull=bool==null) ? false : bool;
+		int index = columnIndex(columnLabel);
+		return isUnknown(index) ? false : getBoolean(index);
 	}
 
 	@Override
 	public byte getByte(String columnLabel) {
-		Integer integer = row.getInteger( columnLabel );
-		return (wasNull=integer==null) ? 0 : integer.byteValue();
+		int index = columnIndex(columnLabel);
+		return isUnknown(index) ? 0 : getByte(index);
 	}
 
 	@Override
 	public short getShort(String columnLabel) {
-		Short integer = row.getShort(columnLabel);
-		return (wasNull=integer==null) ? 0 : integer;
+		int index = columnIndex(columnLabel);
+		return isUnknown(index) ? 0 : getShort(index);
 	}
 
 	@Override
 	public int getInt(String columnLabel) {
-		Integer integer = row.getInteger( columnLabel );
-		return (wasNull=integer==null) ? 0 : integer;
+		int index = columnIndex(columnLabel);
+		return isUnknown(index) ? 0 : getInt(index);
 	}
 
 	@Override
 	public long getLong(String columnLabel) {
-		Long integer = row.getLong(columnLabel);
-		return (wasNull=integer==null) ? 0 : integer;
+		int index = columnIndex(columnLabel);
+		return isUnknown(index) ? 0 : getLong(index);
 	}
 
 	@Override
 	public float getFloat(String columnLabel) {
-		Float real = row.getFloat(columnLabel);
-		return (wasNull=real==null) ? 0 : real;
+		int index = columnIndex(columnLabel);
+		return isUnknown(index) ? 0 : getFloat(index);
 	}
 
 	@Override
 	public double getDouble(String columnLabel) {
-		Double real = row.getDouble(columnLabel);
-		return (wasNull=real==null) ? 0 : real;
+		int index = columnIndex(columnLabel);
+		return isUnknown(index) ? 0 : getDouble(index);
 	}
 
 	@Override
@@ -219,25 +311,29 @@ public BigDecimal getBigDecimal(String columnLabel, int scale) {
 
 	@Override
 	public byte[] getBytes(String columnLabel) {
-		Buffer buffer = row.getBuffer(columnLabel);
-		return (wasNull=buffer==null) ? null : buffer.getBytes();
+		int index = columnIndex(columnLabel);
+		return isUnknown(index) ? null : getBytes(index);
 	}
 
 	@Override
 	public Date getDate(String columnLabel) {
-		LocalDate localDate = row.getLocalDate(columnLabel);
-		return (wasNull=localDate==null) ? null : java.sql.Date.valueOf(localDate);
+		int index = columnIndex(columnLabel);
+		return isUnknown(index) ? null : getDate(index);
 	}
 
 	@Override
 	public Time getTime(String columnLabel) {
-		LocalTime localTime = row.getLocalTime(columnLabel);
-		return (wasNull=localTime==null) ? null : Time.valueOf(localTime);
+		int index = columnIndex(columnLabel);
+		return isUnknown(index) ? null : getTime(index);
 	}
 
 	@Override
 	public Timestamp getTimestamp(String columnLabel) {
-		Object rawValue = row.getValue(columnLabel);
+		int index = columnIndex(columnLabel);
+		if ( isUnknown(index) ) {
+			return null;
+		}
+		Object rawValue = row.getValue(index);
 		return (wasNull=rawValue==null) ? null : Timestamp.valueOf( toLocalDateTime(rawValue) );
 	}
 
@@ -271,8 +367,8 @@ public <T> T getObject(int columnIndex, Class<T> type) {
 
 	@Override
 	public <T> T getObject(String columnLabel, Class<T> type) {
-		T object = row.get( type, row.getColumnIndex(columnLabel) );
-		return (wasNull=object==null) ? null : object;
+		int index = columnIndex(columnLabel);
+		return isUnknown(index) ? null : getObject(index, type);
 	}
 
 	@Override
@@ -427,14 +523,13 @@ public Object getObject(int columnIndex) {
 
 	@Override
 	public Object getObject(String columnLabel) {
-		Object object = row.getValue( columnLabel );
-		return (wasNull=object==null) ? null : object;
+		int index = columnIndex(columnLabel);
+		return isUnknown(index) ? null : getObject(index);
 	}
 
 	@Override
 	public int findColumn(String columnLabel) {
-		return rows.columnsNames().indexOf(columnLabel)+1;
-//		return row.getColumnIndex( columnLabel );
+		return columnIndex(columnLabel)+1;
 	}
 
 	@Override
@@ -445,8 +540,8 @@ public BigDecimal getBigDecimal(int columnIndex) {
 
 	@Override
 	public BigDecimal getBigDecimal(String columnLabel) {
-		BigDecimal decimal = row.getBigDecimal(columnLabel);
-		return (wasNull=decimal==null) ? null : decimal;
+		int index = columnIndex(columnLabel);
+		return isUnknown(index) ? null : getBigDecimal(index);
 	}
 
 	@Override
@@ -652,7 +747,11 @@ public Ref getRef(String columnLabel) {
 
 	@Override
 	public Blob getBlob(String columnLabel) {
-		Buffer buffer = (Buffer) row.getValue( columnLabel );
+		int index = columnIndex(columnLabel);
+		if ( isUnknown(index) ) {
+			return null;
+		}
+		Buffer buffer = (Buffer) row.getValue( index );
 		return ( wasNull = buffer == null )
 				? null
 				: BlobProxy.generateProxy( buffer.getBytes() );
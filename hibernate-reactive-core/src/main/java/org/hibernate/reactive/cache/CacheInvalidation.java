@@ -0,0 +1,97 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The changes to the second-level cache made by a transaction which
+ * must also be applied by the other nodes of a cluster, coalesced so
+ * that they may be sent as a single message when the transaction
+ * completes.
+ *
+ * @see CacheInvalidationBroadcaster
+ */
+public final class CacheInvalidation {
+
+	private final Set<String> querySpaces = new HashSet<>();
+	private final Set<String> evictedSpaces = new HashSet<>();
+	private final Map<String, Set<Serializable>> evictedEntities = new HashMap<>();
+	private final Map<String, Set<Serializable>> evictedCollections = new HashMap<>();
+
+	/**
+	 * Record that the cached query results which depend on the given
+	 * table are stale.
+	 */
+	public void addQuerySpace(String space) {
+		querySpaces.add( space );
+	}
+
+	/**
+	 * Record that every cached entity or collection mapped to the
+	 * given table must be evicted, as after a bulk update or delete.
+	 */
+	public void addEvictedSpace(String space) {
+		evictedSpaces.add( space );
+	}
+
+	/**
+	 * Record that the cached state of the given entity must be evicted.
+	 */
+	public void addEvictedEntity(String entityName, Serializable id) {
+		evictedEntities.computeIfAbsent( entityName, name -> new HashSet<>() ).add( id );
+	}
+
+	/**
+	 * Record that the cached state of the collection with the given
+	 * role and key must be evicted.
+	 */
+	public void addEvictedCollection(String role, Serializable key) {
+		evictedCollections.computeIfAbsent( role, name -> new HashSet<>() ).add( key );
+	}
+
+	public Set<String> getQuerySpaces() {
+		return Collections.unmodifiableSet( querySpaces );
+	}
+
+	public Set<String> getEvictedSpaces() {
+		return Collections.unmodifiableSet( evictedSpaces );
+	}
+
+	/**
+	 * @return the ids of the evicted entities, by entity name
+	 */
+	public Map<String, Set<Serializable>> getEvictedEntities() {
+		return Collections.unmodifiableMap( evictedEntities );
+	}
+
+	/**
+	 * @return the keys of the evicted collections, by role
+	 */
+	public Map<String, Set<Serializable>> getEvictedCollections() {
+		return Collections.unmodifiableMap( evictedCollections );
+	}
+
+	public boolean isEmpty() {
+		return querySpaces.isEmpty()
+				&& evictedSpaces.isEmpty()
+				&& evictedEntities.isEmpty()
+				&& evictedCollections.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return "CacheInvalidation[querySpaces=" + querySpaces
+				+ " evictedSpaces=" + evictedSpaces
+				+ " evictedEntities=" + evictedEntities
+				+ " evictedCollections=" + evictedCollections + "]";
+	}
+}
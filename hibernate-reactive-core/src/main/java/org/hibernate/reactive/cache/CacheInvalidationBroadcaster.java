@@ -0,0 +1,51 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.service.Service;
+
+/**
+ * Propagates the invalidations of the second-level cache and of the
+ * query cache made by a node of a cluster to the other nodes, so that
+ * a local cache may be used by each node without serving stale data.
+ * <p>
+ * The invalidations made by a session are coalesced and broadcast once,
+ * after its transaction commits. Each node applies the invalidations
+ * it receives from the other nodes to the caches of the session factory
+ * which {@link #subscribe subscribed} to them.
+ * <p>
+ * The default implementation is
+ * {@link org.hibernate.reactive.cache.impl.EventBusCacheInvalidationBroadcaster},
+ * which is disabled unless {@link org.hibernate.reactive.provider.Settings#CACHE_INVALIDATION_ADDRESS}
+ * is specified.
+ */
+public interface CacheInvalidationBroadcaster extends Service {
+
+	/**
+	 * @return {@code true} if invalidations should be collected and
+	 *         broadcast
+	 */
+	boolean isEnabled();
+
+	/**
+	 * Send the given invalidations, made to the caches of the given
+	 * session factory, to the other nodes of the cluster.
+	 */
+	void broadcast(CacheInvalidation invalidation, SessionFactoryImplementor factory);
+
+	/**
+	 * Start applying the invalidations received from the other nodes
+	 * to the caches of the given session factory.
+	 */
+	void subscribe(SessionFactoryImplementor factory);
+
+	/**
+	 * Stop applying invalidations to the caches of the given session
+	 * factory.
+	 */
+	void unsubscribe(SessionFactoryImplementor factory);
+}
@@ -0,0 +1,133 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.cache.spi.DirectAccessRegion;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.service.Service;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
+/**
+ * Non-blocking access to the regions of the second-level cache, used
+ * by Hibernate Reactive when it loads entities and collections, and
+ * when it reads results from the query cache.
+ * <p>
+ * The regions themselves are still built by the configured Hibernate
+ * {@link org.hibernate.cache.spi.RegionFactory}, and Hibernate ORM
+ * still accesses them directly in some places, so an implementation
+ * of this service must observe the same data as the synchronous
+ * {@link CachedDomainDataAccess} it is passed. This makes it possible
+ * for a provider backed by a remote or disk-based cache to serve reads
+ * from a local near-cache, populated asynchronously, without ever
+ * blocking a Vert.x thread.
+ * <p>
+ * The default implementation is
+ * {@link org.hibernate.reactive.cache.impl.SynchronousCacheAccess},
+ * which is appropriate for in-process caches. A custom implementation
+ * may be specified via {@link org.hibernate.reactive.provider.Settings#CACHE_ACCESS}.
+ *
+ * @see org.hibernate.reactive.cache.impl.SynchronousCacheAccess
+ * @see org.hibernate.reactive.cache.impl.BlockingCacheAccess
+ */
+public interface ReactiveCacheAccess extends Service {
+
+	/**
+	 * Obtain the cached data for the given key.
+	 *
+	 * @return the cached data, or {@code null} if there's nothing in
+	 *         the cache for the key
+	 *
+	 * @see CachedDomainDataAccess#get(SharedSessionContractImplementor, Object)
+	 */
+	CompletionStage<Object> get(
+			CachedDomainDataAccess access,
+			Object key,
+			SharedSessionContractImplementor session);
+
+	/**
+	 * Obtain the cached data for each of the given keys, with a single
+	 * request to the cache, when the cache supports it.
+	 *
+	 * @return a list with the cached data for each key, in the order
+	 *         of the given keys, and a {@code null} element for each
+	 *         key with nothing in the cache
+	 *
+	 * @see #get(CachedDomainDataAccess, Object, SharedSessionContractImplementor)
+	 */
+	default CompletionStage<List<Object>> getAll(
+			CachedDomainDataAccess access,
+			List<Object> keys,
+			SharedSessionContractImplementor session) {
+		final List<Object> values = new ArrayList<>( keys.size() );
+		return loop( keys, key -> get( access, key, session ).thenAccept( values::add ) )
+				.thenApply( v -> values );
+	}
+
+	/**
+	 * Cache data that was just read from the database.
+	 *
+	 * @return {@code true} if the data was actually cached
+	 *
+	 * @see CachedDomainDataAccess#putFromLoad(SharedSessionContractImplementor, Object, Object, Object)
+	 */
+	CompletionStage<Boolean> putFromLoad(
+			CachedDomainDataAccess access,
+			Object key,
+			Object value,
+			Object version,
+			SharedSessionContractImplementor session);
+
+	/**
+	 * Forcibly evict the data for the given key, regardless of any
+	 * transaction isolation.
+	 *
+	 * @see CachedDomainDataAccess#evict(Object)
+	 */
+	CompletionStage<Void> evict(CachedDomainDataAccess access, Object key);
+
+	/**
+	 * Lock the data for the given key, in preparation for an update.
+	 *
+	 * @see CachedDomainDataAccess#lockItem(SharedSessionContractImplementor, Object, Object)
+	 */
+	CompletionStage<SoftLock> lockItem(
+			CachedDomainDataAccess access,
+			Object key,
+			Object version,
+			SharedSessionContractImplementor session);
+
+	/**
+	 * Release a lock obtained from {@link #lockItem}.
+	 *
+	 * @see CachedDomainDataAccess#unlockItem(SharedSessionContractImplementor, Object, SoftLock)
+	 */
+	CompletionStage<Void> unlockItem(
+			CachedDomainDataAccess access,
+			Object key,
+			SoftLock lock,
+			SharedSessionContractImplementor session);
+
+	/**
+	 * Obtain the data cached in a region which is not associated with
+	 * domain data, for example, the region used by the query cache.
+	 *
+	 * @return the cached data, or {@code null} if there's nothing in
+	 *         the cache for the key
+	 *
+	 * @see DirectAccessRegion#getFromCache(Object, SharedSessionContractImplementor)
+	 */
+	CompletionStage<Object> getFromCache(
+			DirectAccessRegion region,
+			Object key,
+			SharedSessionContractImplementor session);
+}
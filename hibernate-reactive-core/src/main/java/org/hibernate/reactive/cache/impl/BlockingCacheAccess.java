@@ -0,0 +1,57 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * An adaptor for a synchronous {@link org.hibernate.cache.spi.RegionFactory}
+ * whose regions may block, for example, because they're backed by the
+ * disk, or by a remote cache without a near-cache. Each operation of
+ * the region is executed by a Vert.x worker thread, and the resulting
+ * {@link CompletionStage} is completed back on the calling context.
+ * <p>
+ * Note that Hibernate ORM itself still calls the regions directly in
+ * some cases, for example, when it caches an entity it just read from
+ * the database, or when it resolves an association of an entity it's
+ * assembling from the cache.
+ *
+ * @see org.hibernate.reactive.provider.Settings#CACHE_ACCESS
+ */
+public class BlockingCacheAccess extends SynchronousCacheAccess {
+
+	@Override
+	protected <T> CompletionStage<T> execute(Supplier<T> operation) {
+		final Context context = Vertx.currentContext();
+		if ( context == null ) {
+			// we're not on a Vert.x thread, so there's
+			// nothing to be gained by switching threads
+			return super.execute( operation );
+		}
+
+		final CompletableFuture<T> result = new CompletableFuture<>();
+		context.<T>executeBlocking(
+				promise -> promise.complete( operation.get() ),
+				// preserve the order of operations, so a read
+				// can't overtake a preceding write or eviction
+				true,
+				ar -> {
+					if ( ar.succeeded() ) {
+						result.complete( ar.result() );
+					}
+					else {
+						result.completeExceptionally( ar.cause() );
+					}
+				}
+		);
+		return result;
+	}
+}
@@ -0,0 +1,37 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.cache.CacheInvalidationBroadcaster;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * A Hibernate {@link StandardServiceInitiator service initiator} that
+ * integrates our {@link CacheInvalidationBroadcaster}. The default
+ * implementation, {@link EventBusCacheInvalidationBroadcaster}, is
+ * enabled by specifying {@link Settings#CACHE_INVALIDATION_ADDRESS}.
+ */
+public class CacheInvalidationBroadcasterInitiator implements StandardServiceInitiator<CacheInvalidationBroadcaster> {
+
+	public static final CacheInvalidationBroadcasterInitiator INSTANCE = new CacheInvalidationBroadcasterInitiator();
+
+	@Override
+	public CacheInvalidationBroadcaster initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		return new EventBusCacheInvalidationBroadcaster(
+				ConfigurationHelper.getString( Settings.CACHE_INVALIDATION_ADDRESS, configurationValues )
+		);
+	}
+
+	@Override
+	public Class<CacheInvalidationBroadcaster> getServiceInitiated() {
+		return CacheInvalidationBroadcaster.class;
+	}
+}
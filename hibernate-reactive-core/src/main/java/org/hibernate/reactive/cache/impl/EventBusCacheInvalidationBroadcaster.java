@@ -0,0 +1,297 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.reactive.cache.CacheInvalidation;
+import org.hibernate.reactive.cache.CacheInvalidationBroadcaster;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.vertx.VertxInstance;
+import org.hibernate.service.spi.ServiceRegistryAwareService;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.Stoppable;
+import org.hibernate.type.AbstractStandardBasicType;
+import org.hibernate.type.Type;
+
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * A {@link CacheInvalidationBroadcaster} which publishes invalidations
+ * on the event bus of the {@link io.vertx.core.Vertx} instance obtained
+ * from the {@link VertxInstance} service, at the address given by
+ * {@link Settings#CACHE_INVALIDATION_ADDRESS}. The invalidations are
+ * sent to the other nodes of the cluster when the instance of Vert.x
+ * is clustered, and to the other session factories which share the
+ * instance otherwise.
+ * <p>
+ * Messages are {@link CacheInvalidation}s encoded as JSON, with a header
+ * identifying the sender, so that a node never applies the invalidations
+ * it has already applied locally. Entity ids and collection keys are
+ * encoded as strings by their basic type, and a message never contains
+ * anything but strings, so no Java deserialization is involved. When an
+ * id or key isn't of a basic type, as for a composite id, the tables of
+ * the entity or collection are sent instead, and the whole region is
+ * evicted.
+ */
+public class EventBusCacheInvalidationBroadcaster implements CacheInvalidationBroadcaster,
+		ServiceRegistryAwareService, Stoppable {
+
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( EventBusCacheInvalidationBroadcaster.class );
+
+	private static final String ORIGIN_HEADER = "origin";
+
+	private static final String QUERY_SPACES = "querySpaces";
+	private static final String EVICTED_SPACES = "evictedSpaces";
+	private static final String EVICTED_ENTITIES = "evictedEntities";
+	private static final String EVICTED_COLLECTIONS = "evictedCollections";
+
+	private final String address;
+	private final String origin = UUID.randomUUID().toString();
+	private final Map<SessionFactoryImplementor, MessageConsumer<JsonObject>> consumers = new ConcurrentHashMap<>();
+	private ServiceRegistryImplementor serviceRegistry;
+
+	/**
+	 * @param address the event bus address, or {@code null} if the
+	 *                broadcaster is disabled
+	 */
+	public EventBusCacheInvalidationBroadcaster(String address) {
+		this.address = address;
+	}
+
+	@Override
+	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
+		this.serviceRegistry = serviceRegistry;
+	}
+
+	private EventBus eventBus() {
+		return serviceRegistry.getService( VertxInstance.class ).getVertx().eventBus();
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return address != null;
+	}
+
+	@Override
+	public void broadcast(CacheInvalidation invalidation, SessionFactoryImplementor factory) {
+		if ( isEnabled() && !invalidation.isEmpty() ) {
+			LOG.debugf( "Broadcasting %s", invalidation );
+			eventBus().publish(
+					address,
+					encode( invalidation, factory ),
+					new DeliveryOptions().addHeader( ORIGIN_HEADER, origin )
+			);
+		}
+	}
+
+	@Override
+	public void subscribe(SessionFactoryImplementor factory) {
+		if ( isEnabled() ) {
+			consumers.computeIfAbsent(
+					factory,
+					f -> eventBus().consumer( address, message -> receive( message, f ) )
+			);
+		}
+	}
+
+	@Override
+	public void unsubscribe(SessionFactoryImplementor factory) {
+		final MessageConsumer<JsonObject> consumer = consumers.remove( factory );
+		if ( consumer != null ) {
+			consumer.unregister();
+		}
+	}
+
+	@Override
+	public void stop() {
+		consumers.values().forEach( MessageConsumer::unregister );
+		consumers.clear();
+	}
+
+	private void receive(Message<JsonObject> message, SessionFactoryImplementor factory) {
+		if ( origin.equals( message.headers().get( ORIGIN_HEADER ) ) ) {
+			// we already applied it
+			return;
+		}
+		try {
+			final CacheInvalidation invalidation = decode( message.body(), factory );
+			LOG.debugf( "Applying %s", invalidation );
+			apply( invalidation, factory );
+		}
+		catch (RuntimeException e) {
+			LOG.warnf( e, "Unable to apply cache invalidation received at address %s", address );
+		}
+	}
+
+	/**
+	 * Apply the given invalidations to the caches of the given factory.
+	 */
+	protected void apply(CacheInvalidation invalidation, SessionFactoryImplementor factory) {
+		final CacheImplementor cache = factory.getCache();
+
+		if ( !invalidation.getQuerySpaces().isEmpty() && factory.getSessionFactoryOptions().isQueryCacheEnabled() ) {
+			// like TimestampsCache.invalidate(), but there's no session here,
+			// and the timestamps region itself doesn't need one
+			final Long timestamp = cache.getRegionFactory().nextTimestamp();
+			for ( String space : invalidation.getQuerySpaces() ) {
+				cache.getTimestampsCache().getRegion().putIntoCache( space, timestamp, null );
+			}
+		}
+
+		for ( Map.Entry<String, Set<Serializable>> entry : invalidation.getEvictedEntities().entrySet() ) {
+			for ( Serializable id : entry.getValue() ) {
+				cache.evictEntityData( entry.getKey(), id );
+			}
+		}
+
+		for ( Map.Entry<String, Set<Serializable>> entry : invalidation.getEvictedCollections().entrySet() ) {
+			for ( Serializable key : entry.getValue() ) {
+				cache.evictCollectionData( entry.getKey(), key );
+			}
+		}
+
+		final Set<String> evictedSpaces = invalidation.getEvictedSpaces();
+		if ( !evictedSpaces.isEmpty() ) {
+			// the same regions a BulkOperationCleanupAction evicts
+			for ( EntityPersister persister : factory.getMetamodel().entityPersisters().values() ) {
+				if ( persister.canWriteToCache() && affects( evictedSpaces, persister.getQuerySpaces() ) ) {
+					cache.evictEntityData( persister.getEntityName() );
+				}
+			}
+			for ( CollectionPersister persister : factory.getMetamodel().collectionPersisters().values() ) {
+				if ( persister.hasCache() && affects( evictedSpaces, persister.getCollectionSpaces() ) ) {
+					cache.evictCollectionData( persister.getRole() );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Encode the given invalidations as a JSON object.
+	 */
+	static JsonObject encode(CacheInvalidation invalidation, SessionFactoryImplementor factory) {
+		final JsonArray evictedSpaces = new JsonArray();
+		invalidation.getEvictedSpaces().forEach( evictedSpaces::add );
+
+		final JsonObject evictedEntities = new JsonObject();
+		for ( Map.Entry<String, Set<Serializable>> entry : invalidation.getEvictedEntities().entrySet() ) {
+			final EntityPersister persister = factory.getMetamodel().entityPersister( entry.getKey() );
+			final JsonArray ids = encode( persister.getIdentifierType(), entry.getValue() );
+			if ( ids == null ) {
+				addAll( evictedSpaces, persister.getQuerySpaces() );
+			}
+			else {
+				evictedEntities.put( entry.getKey(), ids );
+			}
+		}
+
+		final JsonObject evictedCollections = new JsonObject();
+		for ( Map.Entry<String, Set<Serializable>> entry : invalidation.getEvictedCollections().entrySet() ) {
+			final CollectionPersister persister = factory.getMetamodel().collectionPersister( entry.getKey() );
+			final JsonArray keys = encode( persister.getKeyType(), entry.getValue() );
+			if ( keys == null ) {
+				addAll( evictedSpaces, persister.getCollectionSpaces() );
+			}
+			else {
+				evictedCollections.put( entry.getKey(), keys );
+			}
+		}
+
+		final JsonArray querySpaces = new JsonArray();
+		invalidation.getQuerySpaces().forEach( querySpaces::add );
+
+		return new JsonObject()
+				.put( QUERY_SPACES, querySpaces )
+				.put( EVICTED_SPACES, evictedSpaces )
+				.put( EVICTED_ENTITIES, evictedEntities )
+				.put( EVICTED_COLLECTIONS, evictedCollections );
+	}
+
+	/**
+	 * @return the given ids as strings, or {@code null} if the type
+	 *         has no string representation
+	 */
+	@SuppressWarnings("unchecked")
+	private static JsonArray encode(Type type, Set<Serializable> ids) {
+		if ( !( type instanceof AbstractStandardBasicType ) ) {
+			return null;
+		}
+		final AbstractStandardBasicType<Object> basicType = (AbstractStandardBasicType<Object>) type;
+		final JsonArray encoded = new JsonArray();
+		for ( Serializable id : ids ) {
+			encoded.add( basicType.toString( id ) );
+		}
+		return encoded;
+	}
+
+	private static void addAll(JsonArray array, Serializable[] spaces) {
+		for ( Serializable space : spaces ) {
+			if ( !array.contains( space ) ) {
+				array.add( (String) space );
+			}
+		}
+	}
+
+	/**
+	 * Decode the invalidations encoded by {@link #encode(CacheInvalidation, SessionFactoryImplementor)}.
+	 */
+	static CacheInvalidation decode(JsonObject message, SessionFactoryImplementor factory) {
+		final CacheInvalidation invalidation = new CacheInvalidation();
+		message.getJsonArray( QUERY_SPACES, new JsonArray() )
+				.forEach( space -> invalidation.addQuerySpace( (String) space ) );
+		message.getJsonArray( EVICTED_SPACES, new JsonArray() )
+				.forEach( space -> invalidation.addEvictedSpace( (String) space ) );
+
+		final JsonObject evictedEntities = message.getJsonObject( EVICTED_ENTITIES, new JsonObject() );
+		for ( String entityName : evictedEntities.fieldNames() ) {
+			final Type type = factory.getMetamodel().entityPersister( entityName ).getIdentifierType();
+			for ( Object id : evictedEntities.getJsonArray( entityName ) ) {
+				invalidation.addEvictedEntity( entityName, decode( type, (String) id ) );
+			}
+		}
+
+		final JsonObject evictedCollections = message.getJsonObject( EVICTED_COLLECTIONS, new JsonObject() );
+		for ( String role : evictedCollections.fieldNames() ) {
+			final Type type = factory.getMetamodel().collectionPersister( role ).getKeyType();
+			for ( Object key : evictedCollections.getJsonArray( role ) ) {
+				invalidation.addEvictedCollection( role, decode( type, (String) key ) );
+			}
+		}
+		return invalidation;
+	}
+
+	private static Serializable decode(Type type, String id) {
+		if ( !( type instanceof AbstractStandardBasicType ) ) {
+			throw new IllegalArgumentException( "Not a basic type: " + type.getName() );
+		}
+		return (Serializable) ( (AbstractStandardBasicType<?>) type ).fromStringValue( id );
+	}
+
+	private static boolean affects(Set<String> evictedSpaces, Serializable[] spaces) {
+		for ( Serializable space : spaces ) {
+			if ( evictedSpaces.contains( space ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,100 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+/**
+ * A probabilistic estimate of how often each key has been used
+ * recently, used by {@link OffHeapStorageAccess} to decide if a new
+ * entry is worth admitting in place of an older one, as in TinyLFU.
+ * <p>
+ * This is a count-min sketch with four 4-bit counters per key, packed
+ * sixteen to a {@code long}. When the number of increments reaches a
+ * multiple of the table size, every counter is halved, so that the
+ * estimate forgets the distant past.
+ * <p>
+ * Not thread-safe: it's always accessed with the lock on its segment.
+ */
+final class FrequencySketch {
+
+	private static final long[] SEEDS = {
+			0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+	};
+	private static final long RESET_MASK = 0x7777777777777777L;
+	private static final long ONE_MASK = 0x1111111111111111L;
+
+	private final long[] table;
+	private final int tableMask;
+	private final int sampleSize;
+	private int size;
+
+	FrequencySketch(int expectedEntries) {
+		int length = Integer.highestOneBit( Math.max( expectedEntries, 16 ) - 1 ) << 1;
+		table = new long[length];
+		tableMask = length - 1;
+		sampleSize = 10 * length;
+	}
+
+	/**
+	 * @return the estimated number of recent uses of the key, at most 15
+	 */
+	int frequency(Object key) {
+		final int hash = spread( key.hashCode() );
+		final int start = ( hash & 3 ) << 2;
+		int frequency = Integer.MAX_VALUE;
+		for ( int i = 0; i < 4; i++ ) {
+			final int index = indexOf( hash, i );
+			final int count = (int) ( ( table[index] >>> ( ( start + i ) << 2 ) ) & 0xfL );
+			frequency = Math.min( frequency, count );
+		}
+		return frequency;
+	}
+
+	/**
+	 * Record a use of the key.
+	 */
+	void increment(Object key) {
+		final int hash = spread( key.hashCode() );
+		final int start = ( hash & 3 ) << 2;
+		boolean added = false;
+		for ( int i = 0; i < 4; i++ ) {
+			added |= incrementAt( indexOf( hash, i ), start + i );
+		}
+		if ( added && ++size == sampleSize ) {
+			reset();
+		}
+	}
+
+	private boolean incrementAt(int index, int counter) {
+		final int offset = counter << 2;
+		final long mask = 0xfL << offset;
+		if ( ( table[index] & mask ) != mask ) {
+			table[index] += 1L << offset;
+			return true;
+		}
+		return false;
+	}
+
+	private void reset() {
+		int odd = 0;
+		for ( int i = 0; i < table.length; i++ ) {
+			odd += Long.bitCount( table[i] & ONE_MASK );
+			table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+		}
+		size = ( size >>> 1 ) - ( odd >>> 2 );
+	}
+
+	private int indexOf(int hash, int i) {
+		long h = ( hash + SEEDS[i] ) * SEEDS[i];
+		h += h >>> 32;
+		return ( (int) h ) & tableMask;
+	}
+
+	static int spread(int x) {
+		x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+		x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+		return ( x >>> 16 ) ^ x;
+	}
+}
@@ -0,0 +1,51 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Unbounded on-heap storage for the update timestamps region of the
+ * {@link OffHeapRegionFactory}, which has one small entry per table,
+ * and must never be evicted.
+ */
+class MapStorageAccess implements DomainDataStorageAccess {
+
+	private final ConcurrentHashMap<Object,Object> map = new ConcurrentHashMap<>();
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		return map.get( key );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		map.put( key, value );
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return map.containsKey( key );
+	}
+
+	@Override
+	public void evictData() {
+		map.clear();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		map.remove( key );
+	}
+
+	@Override
+	public void release() {
+		map.clear();
+	}
+}
@@ -0,0 +1,72 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.util.Map;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.reactive.provider.Settings;
+
+/**
+ * A second-level cache which keeps the cached entity and collection
+ * data and query results outside the Java heap, bounding the size
+ * of each region, and which lets each event loop thread read the
+ * most recently used entries without acquiring any lock.
+ * <p>
+ * Enable it by setting {@value org.hibernate.cfg.AvailableSettings#CACHE_REGION_FACTORY}
+ * to the name of this class. The size of each region is controlled by
+ * {@link Settings#OFF_HEAP_CACHE_MAX_MEGABYTES}, and the number of
+ * entries kept by each event loop by {@link Settings#OFF_HEAP_CACHE_LOCAL_ENTRIES}.
+ *
+ * @see OffHeapStorageAccess
+ */
+public class OffHeapRegionFactory extends RegionFactoryTemplate {
+
+	public static final int DEFAULT_MAX_MEGABYTES = 64;
+	public static final int DEFAULT_LOCAL_ENTRIES = 1000;
+
+	private long maxBytes;
+	private int maxLocalEntries;
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map configValues) {
+		maxBytes = ConfigurationHelper.getInt( Settings.OFF_HEAP_CACHE_MAX_MEGABYTES, configValues, DEFAULT_MAX_MEGABYTES ) * 1024L * 1024L;
+		maxLocalEntries = ConfigurationHelper.getInt( Settings.OFF_HEAP_CACHE_LOCAL_ENTRIES, configValues, DEFAULT_LOCAL_ENTRIES );
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		// the storage of each region is released by the region
+	}
+
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		return new OffHeapStorageAccess( maxBytes, maxLocalEntries );
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new OffHeapStorageAccess( maxBytes, maxLocalEntries );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new MapStorageAccess();
+	}
+}
@@ -0,0 +1,483 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.type.SerializationException;
+
+import io.vertx.core.Context;
+
+/**
+ * Storage for a region of the {@link OffHeapRegionFactory}.
+ * <p>
+ * Values are serialized and kept outside the Java heap, in fixed-size
+ * chunks of direct buffers, which are allocated in slabs as a segment
+ * grows, and reused when an entry is removed. The keys are partitioned
+ * into segments, each guarded by its own lock and bounded by its share
+ * of the maximum size of the region. When a segment is full, the
+ * choice of what to evict is made as in W-TinyLFU: a new entry first
+ * goes to a small LRU "window", and when it's pushed out of the window,
+ * it's admitted to the main LRU space only if it has been used more
+ * often, according to a {@link FrequencySketch}, than every entry it
+ * would displace. Nothing is evicted from the main space unless the
+ * candidate is admitted.
+ * <p>
+ * In addition, each Vert.x event loop thread keeps a small, lock-free
+ * map of deserialized values it has read recently. Every write to a
+ * segment increments the version of the segment, invalidating the
+ * values read from that segment by every event loop at once, so a
+ * thread reading a value from its local map only has to compare the
+ * version it read the value at with the current version. The hits on
+ * the local map are buffered, and recorded in the frequency sketches
+ * of their segments a batch at a time, so that they count toward
+ * admission without taking a lock on every read.
+ */
+class OffHeapStorageAccess implements DomainDataStorageAccess {
+
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( OffHeapStorageAccess.class );
+
+	/**
+	 * The size of the unit of allocation of off-heap memory
+	 */
+	static final int CHUNK_SIZE = 256;
+
+	/**
+	 * The number of local hits buffered by an event loop thread before
+	 * they're recorded in the frequency sketches
+	 */
+	private static final int HIT_BUFFER_SIZE = 64;
+
+	private final Segment[] segments;
+	private final int segmentMask;
+	private final ThreadLocal<LocalValues> localValues;
+
+	/**
+	 * @param maxBytes the maximum total size of the serialized values
+	 * @param maxLocalEntries the maximum number of deserialized values
+	 *                        kept by each event loop thread
+	 */
+	OffHeapStorageAccess(long maxBytes, int maxLocalEntries) {
+		this( maxBytes, maxLocalEntries, defaultSegmentCount() );
+	}
+
+	/**
+	 * @param segmentCount the number of segments, a power of two
+	 */
+	OffHeapStorageAccess(long maxBytes, int maxLocalEntries, int segmentCount) {
+		segments = new Segment[segmentCount];
+		for ( int i = 0; i < segmentCount; i++ ) {
+			segments[i] = new Segment( maxBytes / segmentCount );
+		}
+		segmentMask = segmentCount - 1;
+		localValues = maxLocalEntries > 0
+				? ThreadLocal.withInitial( () -> new LocalValues( maxLocalEntries ) )
+				: null;
+	}
+
+	private static int defaultSegmentCount() {
+		int count = Integer.highestOneBit( Math.max( Runtime.getRuntime().availableProcessors() * 4, 4 ) - 1 ) << 1;
+		return Math.min( count, 64 );
+	}
+
+	private Segment segmentFor(Object key) {
+		return segments[FrequencySketch.spread( key.hashCode() ) & segmentMask];
+	}
+
+	private LocalValues localValues() {
+		return localValues != null && Context.isOnEventLoopThread() ? localValues.get() : null;
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final Segment segment = segmentFor( key );
+		final LocalValues local = localValues();
+		if ( local != null ) {
+			final LocalValue value = local.get( key );
+			if ( value != null && value.version == segment.version ) {
+				local.recordHit( key );
+				return value.value;
+			}
+		}
+
+		// read the version first, so that a concurrent write
+		// makes the value we put in the local map stale
+		final long version = segment.version;
+		final byte[] bytes = segment.get( key );
+		if ( bytes == null ) {
+			return null;
+		}
+		final Object value = SerializationHelper.deserialize( bytes );
+		if ( local != null ) {
+			local.put( key, new LocalValue( value, version ) );
+		}
+		return value;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		final Segment segment = segmentFor( key );
+		final byte[] bytes = serialize( value );
+		if ( bytes == null ) {
+			// don't leave the previous value around
+			segment.remove( key );
+		}
+		else {
+			segment.put( key, bytes );
+		}
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return segmentFor( key ).contains( key );
+	}
+
+	@Override
+	public void evictData() {
+		for ( Segment segment : segments ) {
+			segment.clear();
+		}
+	}
+
+	@Override
+	public void evictData(Object key) {
+		segmentFor( key ).remove( key );
+	}
+
+	@Override
+	public void release() {
+		for ( Segment segment : segments ) {
+			segment.release();
+		}
+	}
+
+	/**
+	 * Record the buffered hits of an event loop thread on its local map
+	 * in the frequency sketches, taking the lock on each segment once.
+	 */
+	private void recordHits(Object[] keys, int count) {
+		final Segment[] segmentOfKey = new Segment[count];
+		for ( int i = 0; i < count; i++ ) {
+			segmentOfKey[i] = segmentFor( keys[i] );
+		}
+		for ( int i = 0; i < count; i++ ) {
+			final Segment segment = segmentOfKey[i];
+			if ( segment != null ) {
+				synchronized ( segment ) {
+					for ( int j = i; j < count; j++ ) {
+						if ( segmentOfKey[j] == segment ) {
+							segment.sketch.increment( keys[j] );
+							segmentOfKey[j] = null;
+						}
+					}
+				}
+			}
+		}
+	}
+
+	private static byte[] serialize(Object value) {
+		if ( !( value instanceof Serializable ) ) {
+			LOG.debugf( "Not caching value of type %s which is not serializable", value.getClass().getName() );
+			return null;
+		}
+		try {
+			return SerializationHelper.serialize( (Serializable) value );
+		}
+		catch (SerializationException e) {
+			LOG.debugf( e, "Not caching value of type %s which could not be serialized", value.getClass().getName() );
+			return null;
+		}
+	}
+
+	/**
+	 * The chunks of off-heap memory holding a serialized value.
+	 */
+	private static final class Block {
+		final int[] chunks;
+		final int length;
+
+		Block(int[] chunks, int length) {
+			this.chunks = chunks;
+			this.length = length;
+		}
+
+		/**
+		 * @return the off-heap memory used by the value
+		 */
+		long size() {
+			return (long) chunks.length * CHUNK_SIZE;
+		}
+	}
+
+	/**
+	 * The off-heap memory of a segment: direct buffers, the slabs, each
+	 * divided into chunks of {@value #CHUNK_SIZE} bytes. A new slab is
+	 * only allocated when there are no free chunks left, and a chunk is
+	 * freed as soon as the entry using it is removed, so the memory is
+	 * bounded by the capacity of the segment, and each slab is allocated
+	 * once, instead of allocating a direct buffer for every entry, and
+	 * waiting for the garbage collector to free it.
+	 * <p>
+	 * Not thread-safe: it's always accessed with the lock on its segment.
+	 */
+	private static final class Arena {
+		private final int chunksPerSlab;
+		private ByteBuffer[] slabs = new ByteBuffer[0];
+		private int[] freeChunks = new int[0];
+		private int freeCount;
+
+		Arena(long capacity) {
+			chunksPerSlab = (int) Math.max( 1, Math.min( 256, capacity / CHUNK_SIZE / 4 ) );
+		}
+
+		Block write(byte[] bytes) {
+			final int[] chunks = new int[( bytes.length + CHUNK_SIZE - 1 ) / CHUNK_SIZE];
+			for ( int i = 0; i < chunks.length; i++ ) {
+				if ( freeCount == 0 ) {
+					addSlab();
+				}
+				final int chunk = freeChunks[--freeCount];
+				final int offset = i * CHUNK_SIZE;
+				final ByteBuffer buffer = chunk( chunk );
+				buffer.put( bytes, offset, Math.min( CHUNK_SIZE, bytes.length - offset ) );
+				chunks[i] = chunk;
+			}
+			return new Block( chunks, bytes.length );
+		}
+
+		byte[] read(Block block) {
+			final byte[] bytes = new byte[block.length];
+			for ( int i = 0; i < block.chunks.length; i++ ) {
+				final int offset = i * CHUNK_SIZE;
+				chunk( block.chunks[i] ).get( bytes, offset, Math.min( CHUNK_SIZE, bytes.length - offset ) );
+			}
+			return bytes;
+		}
+
+		void free(Block block) {
+			for ( int chunk : block.chunks ) {
+				freeChunks[freeCount++] = chunk;
+			}
+		}
+
+		/**
+		 * Free every chunk, keeping the slabs for reuse.
+		 */
+		void clear() {
+			freeCount = 0;
+			for ( int chunk = slabs.length * chunksPerSlab - 1; chunk >= 0; chunk-- ) {
+				freeChunks[freeCount++] = chunk;
+			}
+		}
+
+		/**
+		 * Drop the slabs, so that their memory may be reclaimed.
+		 */
+		void release() {
+			slabs = new ByteBuffer[0];
+			freeChunks = new int[0];
+			freeCount = 0;
+		}
+
+		private ByteBuffer chunk(int chunk) {
+			final ByteBuffer buffer = slabs[chunk / chunksPerSlab].duplicate();
+			final int position = ( chunk % chunksPerSlab ) * CHUNK_SIZE;
+			buffer.limit( position + CHUNK_SIZE );
+			buffer.position( position );
+			return buffer;
+		}
+
+		private void addSlab() {
+			final int slab = slabs.length;
+			slabs = Arrays.copyOf( slabs, slab + 1 );
+			slabs[slab] = ByteBuffer.allocateDirect( chunksPerSlab * CHUNK_SIZE );
+			freeChunks = Arrays.copyOf( freeChunks, slabs.length * chunksPerSlab );
+			for ( int i = chunksPerSlab - 1; i >= 0; i-- ) {
+				freeChunks[freeCount++] = slab * chunksPerSlab + i;
+			}
+		}
+	}
+
+	/**
+	 * A partition of the keys of the region, with its own lock.
+	 */
+	private static final class Segment {
+		private final LinkedHashMap<Object,Block> window = new LinkedHashMap<>( 16, 0.75f, true );
+		private final LinkedHashMap<Object,Block> main = new LinkedHashMap<>( 16, 0.75f, true );
+		private final long windowCapacity;
+		private final long mainCapacity;
+		private long windowSize;
+		private long mainSize;
+		private final Arena arena;
+		final FrequencySketch sketch;
+
+		/**
+		 * Incremented whenever an entry is added, replaced or removed
+		 */
+		private volatile long version;
+
+		Segment(long capacity) {
+			windowCapacity = Math.max( capacity / 100, CHUNK_SIZE );
+			mainCapacity = Math.max( capacity - windowCapacity, 0 );
+			arena = new Arena( capacity );
+			// assume the average serialized value is a few hundred bytes
+			sketch = new FrequencySketch( (int) Math.min( capacity / 256, 1 << 20 ) );
+		}
+
+		synchronized byte[] get(Object key) {
+			sketch.increment( key );
+			Block block = window.get( key );
+			if ( block == null ) {
+				block = main.get( key );
+			}
+			return block == null ? null : arena.read( block );
+		}
+
+		synchronized boolean contains(Object key) {
+			return window.containsKey( key ) || main.containsKey( key );
+		}
+
+		synchronized void put(Object key, byte[] bytes) {
+			version++;
+			removeEntry( key );
+			sketch.increment( key );
+			if ( bytes.length > windowCapacity + mainCapacity ) {
+				// it's never going to fit
+				return;
+			}
+			final Block block = arena.write( bytes );
+			window.put( key, block );
+			windowSize += block.size();
+			while ( windowSize > windowCapacity ) {
+				final Map.Entry<Object,Block> candidate = window.entrySet().iterator().next();
+				window.remove( candidate.getKey() );
+				windowSize -= candidate.getValue().size();
+				admit( candidate.getKey(), candidate.getValue() );
+			}
+		}
+
+		/**
+		 * Move an entry evicted from the window to the main space, if
+		 * it's used more often than every entry it would displace, and
+		 * only then evict those entries. Otherwise, drop the candidate.
+		 */
+		private void admit(Object key, Block candidate) {
+			final long required = mainSize + candidate.size() - mainCapacity;
+			if ( required > 0 ) {
+				final int frequency = sketch.frequency( key );
+				final List<Object> victims = new ArrayList<>();
+				long freed = 0;
+				for ( Map.Entry<Object,Block> victim : main.entrySet() ) {
+					if ( freed >= required ) {
+						break;
+					}
+					if ( frequency <= sketch.frequency( victim.getKey() ) ) {
+						// the candidate loses, and is dropped
+						arena.free( candidate );
+						return;
+					}
+					victims.add( victim.getKey() );
+					freed += victim.getValue().size();
+				}
+				if ( freed < required ) {
+					// it doesn't fit even in an empty main space
+					arena.free( candidate );
+					return;
+				}
+				for ( Object victim : victims ) {
+					final Block block = main.remove( victim );
+					mainSize -= block.size();
+					arena.free( block );
+				}
+			}
+			main.put( key, candidate );
+			mainSize += candidate.size();
+		}
+
+		synchronized void remove(Object key) {
+			version++;
+			removeEntry( key );
+		}
+
+		private void removeEntry(Object key) {
+			final Block windowValue = window.remove( key );
+			if ( windowValue != null ) {
+				windowSize -= windowValue.size();
+				arena.free( windowValue );
+			}
+			final Block mainValue = main.remove( key );
+			if ( mainValue != null ) {
+				mainSize -= mainValue.size();
+				arena.free( mainValue );
+			}
+		}
+
+		synchronized void clear() {
+			version++;
+			window.clear();
+			main.clear();
+			windowSize = 0;
+			mainSize = 0;
+			arena.clear();
+		}
+
+		synchronized void release() {
+			clear();
+			arena.release();
+		}
+	}
+
+	private static final class LocalValue {
+		final Object value;
+		final long version;
+
+		LocalValue(Object value, long version) {
+			this.value = value;
+			this.version = version;
+		}
+	}
+
+	/**
+	 * The values recently read by an event loop thread, which is
+	 * the only thread that ever accesses it, along with the keys of
+	 * its hits which are not yet recorded in the frequency sketches.
+	 */
+	private final class LocalValues extends LinkedHashMap<Object,LocalValue> {
+		private final int maxEntries;
+		private final Object[] hits = new Object[HIT_BUFFER_SIZE];
+		private int hitCount;
+
+		LocalValues(int maxEntries) {
+			super( 16, 0.75f, true );
+			this.maxEntries = maxEntries;
+		}
+
+		void recordHit(Object key) {
+			hits[hitCount++] = key;
+			if ( hitCount == hits.length ) {
+				recordHits( hits, hitCount );
+				Arrays.fill( hits, null );
+				hitCount = 0;
+			}
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Object,LocalValue> eldest) {
+			return size() > maxEntries;
+		}
+	}
+}
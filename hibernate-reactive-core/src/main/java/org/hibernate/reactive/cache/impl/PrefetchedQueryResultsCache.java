@@ -0,0 +1,157 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.type.Type;
+
+/**
+ * A {@link QueryResultsCache} which assembles the results of a query
+ * from an entry of the query cache that was already obtained from the
+ * {@link org.hibernate.reactive.cache.ReactiveCacheAccess}, instead of
+ * reading the entry from the region again, synchronously. It's passed
+ * to {@link org.hibernate.loader.Loader#getResultFromQueryCache}, so
+ * that Hibernate ORM still does everything else.
+ * <p>
+ * The timestamp and results of the entry are private to Hibernate ORM's
+ * {@code QueryResultsCacheImpl.CacheItem}, so we read them reflectively.
+ * We can't let ORM unpack the entry itself, from a region which returns
+ * the entry we already have, because {@code QueryResultsCacheImpl} may
+ * only be instantiated by ORM. If the fields can't be read, the session
+ * factory fails to start, see {@link #checkAccessible()}.
+ *
+ * @see org.hibernate.cache.internal.QueryResultsCacheImpl#get
+ */
+public class PrefetchedQueryResultsCache implements QueryResultsCache {
+
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( PrefetchedQueryResultsCache.class );
+
+	private static final Field TIMESTAMP;
+	private static final Field RESULTS;
+	private static final Exception INACCESSIBLE;
+
+	static {
+		Field timestamp = null;
+		Field results = null;
+		Exception inaccessible = null;
+		try {
+			Class<?> cacheItem = Class.forName( "org.hibernate.cache.internal.QueryResultsCacheImpl$CacheItem" );
+			timestamp = cacheItem.getDeclaredField( "timestamp" );
+			results = cacheItem.getDeclaredField( "results" );
+			timestamp.setAccessible( true );
+			results.setAccessible( true );
+		}
+		catch (ReflectiveOperationException | RuntimeException e) {
+			timestamp = null;
+			results = null;
+			inaccessible = e;
+		}
+		TIMESTAMP = timestamp;
+		RESULTS = results;
+		INACCESSIBLE = inaccessible;
+	}
+
+	/**
+	 * Check that we can read the entries of the query cache, so that
+	 * an incompatible version of Hibernate ORM is detected when the
+	 * session factory starts, instead of when a query is cached.
+	 *
+	 * @throws HibernateException if the entries can't be read
+	 */
+	public static void checkAccessible() {
+		if ( INACCESSIBLE != null ) {
+			throw new HibernateException(
+					"The query cache is not supported by this version of Hibernate ORM"
+							+ " (set '" + AvailableSettings.USE_QUERY_CACHE + "' to false)",
+					INACCESSIBLE
+			);
+		}
+	}
+
+	private final QueryResultsCache delegate;
+	private final Object cacheItem;
+
+	public PrefetchedQueryResultsCache(QueryResultsCache delegate, Object cacheItem) {
+		this.delegate = delegate;
+		this.cacheItem = cacheItem;
+	}
+
+	@Override
+	public QueryResultsRegion getRegion() {
+		return delegate.getRegion();
+	}
+
+	@Override
+	public boolean put(QueryKey key, List result, Type[] returnTypes, SharedSessionContractImplementor session)
+			throws HibernateException {
+		return delegate.put( key, result, returnTypes, session );
+	}
+
+	@Override
+	public List get(QueryKey key, String[] spaces, Type[] returnTypes, SharedSessionContractImplementor session)
+			throws HibernateException {
+		return get( key, new HashSet<>( Arrays.asList( spaces ) ), returnTypes, session );
+	}
+
+	@Override
+	public List get(QueryKey key, Set<Serializable> spaces, Type[] returnTypes, SharedSessionContractImplementor session)
+			throws HibernateException {
+		checkAccessible();
+
+		final long timestamp;
+		final List<?> cached;
+		try {
+			timestamp = TIMESTAMP.getLong( cacheItem );
+			cached = (List<?>) RESULTS.get( cacheItem );
+		}
+		catch (IllegalAccessException | IllegalArgumentException e) {
+			throw new HibernateException( "Could not read the entry of the query cache", e );
+		}
+
+		if ( !session.getFactory().getCache().getTimestampsCache().isUpToDate( spaces, timestamp, session ) ) {
+			LOG.debug( "Cached query results were not up-to-date" );
+			return null;
+		}
+
+		final List<Object> result = new ArrayList<>( cached.size() );
+		if ( returnTypes.length == 1 ) {
+			for ( Object cachedItem : cached ) {
+				result.add( returnTypes[0].assemble( (Serializable) cachedItem, session, null ) );
+			}
+		}
+		else {
+			for ( Object cachedItem : cached ) {
+				final Serializable[] tuple = (Serializable[]) cachedItem;
+				final Object[] row = new Object[tuple.length];
+				for ( int j = 0; j < tuple.length; j++ ) {
+					row[j] = returnTypes[j].assemble( tuple[j], session, null );
+				}
+				result.add( row );
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public void clear() {
+		delegate.clear();
+	}
+}
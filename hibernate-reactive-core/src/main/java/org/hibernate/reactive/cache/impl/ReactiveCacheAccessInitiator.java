@@ -0,0 +1,67 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
+import org.hibernate.reactive.cache.ReactiveCacheAccess;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.service.spi.ServiceException;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * A Hibernate {@link StandardServiceInitiator service initiator} that
+ * integrates our {@link ReactiveCacheAccess}. By default, the
+ * implementation is {@link SynchronousCacheAccess}. A custom
+ * implementation may be specified via {@link Settings#CACHE_ACCESS}.
+ */
+public class ReactiveCacheAccessInitiator implements StandardServiceInitiator<ReactiveCacheAccess> {
+
+	public static final ReactiveCacheAccessInitiator INSTANCE = new ReactiveCacheAccessInitiator();
+
+	@Override
+	public ReactiveCacheAccess initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		Object configValue = configurationValues.get( Settings.CACHE_ACCESS );
+		if ( configValue == null ) {
+			return new SynchronousCacheAccess();
+		}
+
+		if ( configValue instanceof ReactiveCacheAccess ) {
+			return (ReactiveCacheAccess) configValue;
+		}
+		else {
+			final Class<ReactiveCacheAccess> implClass;
+			if ( configValue instanceof Class ) {
+				implClass = (Class) configValue;
+			}
+			else {
+				final String className = configValue.toString();
+				final ClassLoaderService classLoaderService = registry.getService( ClassLoaderService.class );
+				try {
+					implClass = classLoaderService.classForName( className );
+				}
+				catch (ClassLoadingException cle) {
+					throw new ServiceException( "Unable to locate specified reactive cache access [" + className + "]" );
+				}
+			}
+
+			try {
+				return implClass.newInstance();
+			}
+			catch (Exception e) {
+				throw new ServiceException( "Unable to instantiate specified reactive cache access [" + implClass.getName() + "]" );
+			}
+		}
+	}
+
+	@Override
+	public Class<ReactiveCacheAccess> getServiceInitiated() {
+		return ReactiveCacheAccess.class;
+	}
+}
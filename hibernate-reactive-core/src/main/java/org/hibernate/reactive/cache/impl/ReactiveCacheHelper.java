@@ -0,0 +1,275 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.HibernateException;
+import org.hibernate.LockMode;
+import org.hibernate.WrongClassException;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.engine.internal.StatefulPersistenceContext;
+import org.hibernate.engine.internal.TwoPhaseLoad;
+import org.hibernate.engine.internal.Versioning;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.ManagedEntity;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.reactive.cache.ReactiveCacheAccess;
+import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
+import org.hibernate.stat.internal.StatsHelper;
+import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.type.Type;
+import org.hibernate.type.TypeHelper;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+
+/**
+ * Operations on the second-level cache which go through the
+ * {@link ReactiveCacheAccess} service, and so never block.
+ * <p>
+ * An entity is assembled from the cache entry returned by the
+ * {@code ReactiveCacheAccess}, so that the cache is read just once.
+ * This is a port of what Hibernate ORM does in
+ * {@link org.hibernate.loader.entity.CacheEntityLoaderHelper}, which
+ * always reads the entry itself, synchronously.
+ */
+public final class ReactiveCacheHelper {
+
+	private ReactiveCacheHelper() {
+	}
+
+	public static ReactiveCacheAccess cacheAccess(SharedSessionContractImplementor session) {
+		return session.getFactory().getServiceRegistry().getService( ReactiveCacheAccess.class );
+	}
+
+	/**
+	 * Obtain the entry of the second-level cache holding the state of
+	 * the given entity, recording a cache hit or miss.
+	 *
+	 * @return the cache entry, or {@code null} if it's not cached
+	 */
+	public static CompletionStage<Object> getCachedEntity(
+			EntityPersister persister,
+			Serializable id,
+			SharedSessionContractImplementor session) {
+		final EntityDataAccess access = persister.getCacheAccessStrategy();
+		final Object ck = access.generateCacheKey( id, persister, session.getFactory(), session.getTenantIdentifier() );
+		return cacheAccess( session ).get( access, ck, session )
+				.thenApply( entry -> {
+					recordCacheAccess( persister, session, entry );
+					return entry;
+				} );
+	}
+
+	/**
+	 * Obtain the entries of the second-level cache holding the state
+	 * of the given entities, with a single request to the
+	 * {@link ReactiveCacheAccess}.
+	 *
+	 * @return the cache entries of the cached entities, by id
+	 */
+	public static CompletionStage<Map<Serializable, Object>> getCachedEntities(
+			EntityPersister persister,
+			Serializable[] ids,
+			SharedSessionContractImplementor session) {
+		if ( !persister.canReadFromCache() || !session.getCacheMode().isGetEnabled() ) {
+			return completedFuture( new HashMap<>() );
+		}
+		final EntityDataAccess access = persister.getCacheAccessStrategy();
+		final List<Object> keys = new ArrayList<>( ids.length );
+		for ( Serializable id : ids ) {
+			keys.add( access.generateCacheKey( id, persister, session.getFactory(), session.getTenantIdentifier() ) );
+		}
+		return cacheAccess( session ).getAll( access, keys, session )
+				.thenApply( entries -> {
+					final Map<Serializable, Object> entriesById = new HashMap<>();
+					for ( int i = 0; i < ids.length; i++ ) {
+						final Object entry = entries.get( i );
+						recordCacheAccess( persister, session, entry );
+						if ( entry != null ) {
+							entriesById.put( ids[i], entry );
+						}
+					}
+					return entriesById;
+				} );
+	}
+
+	private static void recordCacheAccess(EntityPersister persister, SharedSessionContractImplementor session, Object entry) {
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			final String regionName = persister.getCacheAccessStrategy().getRegion().getName();
+			if ( entry == null ) {
+				statistics.entityCacheMiss( StatsHelper.INSTANCE.getRootEntityRole( persister ), regionName );
+			}
+			else {
+				statistics.entityCacheHit( StatsHelper.INSTANCE.getRootEntityRole( persister ), regionName );
+			}
+		}
+	}
+
+	/**
+	 * Assemble an entity from the given entry of the second-level
+	 * cache, and add it to the persistence context.
+	 *
+	 * @see org.hibernate.loader.entity.CacheEntityLoaderHelper#loadFromSecondLevelCache
+	 */
+	public static Object assembleEntity(LoadEvent event, EntityPersister persister, EntityKey entityKey, Object cached) {
+		final PersistenceContext persistenceContext = event.getSession().getPersistenceContextInternal();
+		if ( persistenceContext instanceof ReactivePersistenceContextAdapter ) {
+			// entity resolution may not be deferred while we're
+			// assembling the associations of the entity
+			final ReactivePersistenceContextAdapter adapter = (ReactivePersistenceContextAdapter) persistenceContext;
+			adapter.beginSecondLevelCacheAssembly();
+			try {
+				return processCachedEntry( event, persister, entityKey, cached );
+			}
+			finally {
+				adapter.endSecondLevelCacheAssembly();
+			}
+		}
+		else {
+			return processCachedEntry( event, persister, entityKey, cached );
+		}
+	}
+
+	private static Object processCachedEntry(LoadEvent event, EntityPersister persister, EntityKey entityKey, Object cached) {
+		final EventSource session = event.getSession();
+		final CacheEntry entry = (CacheEntry) persister.getCacheEntryStructure().destructure( cached, session.getFactory() );
+		if ( entry.isReferenceEntry() ) {
+			if ( event.getInstanceToLoad() != null ) {
+				throw new HibernateException( "Attempt to load entity [" + event.getEntityId()
+						+ "] from cache using provided object instance, but cache is storing references" );
+			}
+			return convertCacheReferenceEntryToEntity( (ReferenceCacheEntryImpl) entry, session, entityKey );
+		}
+		else {
+			final Object entity = convertCacheEntryToEntity( entry, event, persister, entityKey );
+			if ( !persister.isInstance( entity ) ) {
+				throw new WrongClassException(
+						"loaded object was of wrong class " + entity.getClass(),
+						event.getEntityId(),
+						persister.getEntityName()
+				);
+			}
+			return entity;
+		}
+	}
+
+	private static Object convertCacheReferenceEntryToEntity(
+			ReferenceCacheEntryImpl entry,
+			EventSource session,
+			EntityKey entityKey) {
+		final Object entity = entry.getReference();
+		if ( entity == null ) {
+			throw new IllegalStateException( "Reference cache entry contained null : " + entry );
+		}
+
+		// make it circular-reference safe
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		if ( entity instanceof ManagedEntity ) {
+			( (StatefulPersistenceContext) persistenceContext ).addReferenceEntry( entity, Status.READ_ONLY );
+		}
+		else {
+			TwoPhaseLoad.addUninitializedCachedEntity(
+					entityKey,
+					entity,
+					entry.getSubclassPersister(),
+					LockMode.NONE,
+					entry.getVersion(),
+					session
+			);
+		}
+		persistenceContext.initializeNonLazyCollections();
+		return entity;
+	}
+
+	private static Object convertCacheEntryToEntity(
+			CacheEntry entry,
+			LoadEvent event,
+			EntityPersister persister,
+			EntityKey entityKey) {
+		final EventSource session = event.getSession();
+		final SessionFactoryImplementor factory = session.getFactory();
+		final Serializable id = event.getEntityId();
+		final EntityPersister subclassPersister = factory.getMetamodel().entityPersister( entry.getSubclass() );
+		final Object entity = event.getInstanceToLoad() == null
+				? session.instantiate( subclassPersister, id )
+				: event.getInstanceToLoad();
+
+		// make it circular-reference safe
+		TwoPhaseLoad.addUninitializedCachedEntity(
+				entityKey,
+				entity,
+				subclassPersister,
+				LockMode.NONE,
+				entry.getVersion(),
+				session
+		);
+
+		// initializes the entity by (desired) side effect
+		final StandardCacheEntryImpl standardEntry = (StandardCacheEntryImpl) entry;
+		final Type[] types = subclassPersister.getPropertyTypes();
+		final Object[] values = standardEntry.assemble( entity, id, subclassPersister, session.getInterceptor(), session );
+		if ( standardEntry.isDeepCopyNeeded() ) {
+			TypeHelper.deepCopy( values, types, subclassPersister.getPropertyUpdateability(), values, session );
+		}
+		final Object version = Versioning.getVersion( values, subclassPersister );
+
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Object proxy = persistenceContext.getProxy( entityKey );
+		// if there's already a proxy, the entity is only read-only if the proxy is
+		final boolean isReadOnly = proxy != null
+				? ( (HibernateProxy) proxy ).getHibernateLazyInitializer().isReadOnly()
+				: session.isDefaultReadOnly();
+
+		persistenceContext.addEntry(
+				entity,
+				isReadOnly ? Status.READ_ONLY : Status.MANAGED,
+				values,
+				null,
+				id,
+				version,
+				LockMode.NONE,
+				true,
+				subclassPersister,
+				false
+		);
+		subclassPersister.afterInitialize( entity, session );
+		persistenceContext.initializeNonLazyCollections();
+
+		final PostLoadEvent postLoadEvent = new PostLoadEvent( session )
+				.setEntity( entity )
+				.setId( id )
+				.setPersister( persister );
+		for ( PostLoadEventListener listener : factory.getServiceRegistry()
+				.getService( EventListenerRegistry.class )
+				.getEventListenerGroup( EventType.POST_LOAD )
+				.listeners() ) {
+			listener.onPostLoad( postLoadEvent );
+		}
+
+		return entity;
+	}
+}
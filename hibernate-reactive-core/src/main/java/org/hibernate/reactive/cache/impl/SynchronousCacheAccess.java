@@ -0,0 +1,134 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import org.hibernate.cache.spi.DirectAccessRegion;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.reactive.cache.ReactiveCacheAccess;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+
+/**
+ * The default implementation of {@link ReactiveCacheAccess}, which
+ * simply calls the synchronous operations of the region, and returns
+ * an already-completed {@link CompletionStage}.
+ * <p>
+ * This is the right choice for an in-process cache, which never does
+ * IO, for example, EHCache or Caffeine with on-heap storage. It also
+ * serves as the reference implementation of the SPI: an asynchronous
+ * implementation should produce the same results and notify the
+ * session's {@link org.hibernate.engine.spi.SessionEventListenerManager}
+ * in the same way.
+ */
+public class SynchronousCacheAccess implements ReactiveCacheAccess {
+
+	@Override
+	public CompletionStage<Object> get(
+			CachedDomainDataAccess access,
+			Object key,
+			SharedSessionContractImplementor session) {
+		session.getEventListenerManager().cacheGetStart();
+		return execute( () -> access.get( session, key ) )
+				.whenComplete( (value, failure) -> session.getEventListenerManager().cacheGetEnd( value != null ) );
+	}
+
+	@Override
+	public CompletionStage<List<Object>> getAll(
+			CachedDomainDataAccess access,
+			List<Object> keys,
+			SharedSessionContractImplementor session) {
+		// a single operation, so that a subclass which switches
+		// threads does it once, and not once for every key
+		return execute( () -> {
+			final List<Object> values = new ArrayList<>( keys.size() );
+			for ( Object key : keys ) {
+				session.getEventListenerManager().cacheGetStart();
+				Object value = null;
+				try {
+					value = access.get( session, key );
+				}
+				finally {
+					session.getEventListenerManager().cacheGetEnd( value != null );
+				}
+				values.add( value );
+			}
+			return values;
+		} );
+	}
+
+	@Override
+	public CompletionStage<Boolean> putFromLoad(
+			CachedDomainDataAccess access,
+			Object key,
+			Object value,
+			Object version,
+			SharedSessionContractImplementor session) {
+		session.getEventListenerManager().cachePutStart();
+		return execute( () -> access.putFromLoad( session, key, value, version ) )
+				.whenComplete( (put, failure) -> session.getEventListenerManager().cachePutEnd() );
+	}
+
+	@Override
+	public CompletionStage<Void> evict(CachedDomainDataAccess access, Object key) {
+		return execute( () -> {
+			access.evict( key );
+			return null;
+		} );
+	}
+
+	@Override
+	public CompletionStage<SoftLock> lockItem(
+			CachedDomainDataAccess access,
+			Object key,
+			Object version,
+			SharedSessionContractImplementor session) {
+		return execute( () -> access.lockItem( session, key, version ) );
+	}
+
+	@Override
+	public CompletionStage<Void> unlockItem(
+			CachedDomainDataAccess access,
+			Object key,
+			SoftLock lock,
+			SharedSessionContractImplementor session) {
+		return execute( () -> {
+			access.unlockItem( session, key, lock );
+			return null;
+		} );
+	}
+
+	@Override
+	public CompletionStage<Object> getFromCache(
+			DirectAccessRegion region,
+			Object key,
+			SharedSessionContractImplementor session) {
+		session.getEventListenerManager().cacheGetStart();
+		return execute( () -> region.getFromCache( key, session ) )
+				.whenComplete( (value, failure) -> session.getEventListenerManager().cacheGetEnd( value != null ) );
+	}
+
+	/**
+	 * Execute a synchronous operation of the underlying cache.
+	 * By default, the operation is executed immediately, by the
+	 * calling thread.
+	 */
+	protected <T> CompletionStage<T> execute(Supplier<T> operation) {
+		try {
+			return completedFuture( operation.get() );
+		}
+		catch (RuntimeException e) {
+			return failedFuture( e );
+		}
+	}
+}
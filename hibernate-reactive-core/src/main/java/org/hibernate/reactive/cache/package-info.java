@@ -0,0 +1,5 @@
+/**
+ * A non-blocking SPI for access to the second-level cache, via
+ * {@link org.hibernate.reactive.cache.ReactiveCacheAccess}.
+ */
+package org.hibernate.reactive.cache;
@@ -5,32 +5,66 @@
  */
 package org.hibernate.reactive.common;
 
+import java.util.function.Supplier;
+
 import io.vertx.core.Context;
 
 /**
  * Commonly used assertions to verify that the operations
  * are running on the expected events and threads.
+ * <p>
+ * A synchronous task may be handed off by the thread which owns a
+ * session to a worker thread, using {@link #runOnBehalfOf}, while
+ * the owner waits for it to complete. During the handoff the worker
+ * thread passes the assertions as if it were the owner.
  * @author Sanne Grinovero
  */
 public final class InternalStateAssertions {
 
 	private static final boolean ENFORCE = Boolean.getBoolean( "org.hibernate.reactive.common.InternalStateAssertions.ENFORCE" );
 
+	/**
+	 * The thread on whose behalf the current thread is running a
+	 * task which was handed off to it, if any.
+	 */
+	private static final ThreadLocal<Thread> HANDOFF = new ThreadLocal<>();
+
 	private InternalStateAssertions() {
 		//do not construct
 	}
 
 	public static void assertUseOnEventLoop() {
-		if ( ENFORCE && (! Context.isOnEventLoopThread() ) ) {
+		if ( ENFORCE && (! Context.isOnEventLoopThread() ) && HANDOFF.get() == null ) {
 			throw new IllegalStateException( "This method should exclusively be invoked from a Vert.x EventLoop thread; currently running on thread '" + Thread.currentThread().getName() + '\'' );
 		}
 	}
 
 	public static void assertCurrentThreadMatches(Thread expectedThread) {
-		if ( ENFORCE && ( Thread.currentThread() != expectedThread ) ) {
+		if ( ENFORCE && ( Thread.currentThread() != expectedThread ) && HANDOFF.get() != expectedThread ) {
 			throw new IllegalStateException( "Detected use of the reactive Session from a different Thread than the one which was used to open the reactive Session - this suggests an invalid integration; "
 			+ "original thread: '" + expectedThread.getName() + "' current Thread: '" + Thread.currentThread().getName() + '\'' );
 		}
 	}
 
+	/**
+	 * Run the given task on the current thread, on behalf of the given
+	 * thread, which owns the state the task operates on, and which must
+	 * not touch that state until the task completes.
+	 */
+	public static <T> T runOnBehalfOf(Thread owner, Supplier<T> task) {
+		final Thread previous = HANDOFF.get();
+		HANDOFF.set( owner );
+		try {
+			return task.get();
+		}
+		finally {
+			if ( previous == null ) {
+				HANDOFF.remove();
+			}
+			else {
+				HANDOFF.set( previous );
+			}
+		}
+	}
+
 }
@@ -20,7 +20,10 @@
 import org.hibernate.metadata.ClassMetadata;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.reactive.cache.CacheInvalidation;
+import org.hibernate.reactive.cache.CacheInvalidationBroadcaster;
 import org.hibernate.reactive.engine.impl.*;
+import org.hibernate.reactive.jfr.impl.ReactiveEvents;
 import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.type.*;
@@ -184,6 +187,7 @@ ExecutableList<ReactiveEntityDeleteAction> init(ReactiveActionQueue instance) {
 	private transient boolean isTransactionCoordinatorShared;
 	private AfterTransactionCompletionProcessQueue afterTransactionProcesses;
 	private BeforeTransactionCompletionProcessQueue beforeTransactionProcesses;
+	private CacheInvalidationBroadcaster cacheInvalidationBroadcaster;
 
 	/**
 	 * Constructs an action queue bound to the given session.
@@ -469,6 +473,47 @@ private void registerCleanupActions(Executable executable) {
 			afterTransactionProcesses();
 			afterTransactionProcesses.register( executable.getAfterTransactionCompletionProcess() );
 		}
+		registerCacheInvalidation( executable );
+	}
+
+	private CacheInvalidationBroadcaster cacheInvalidationBroadcaster() {
+		if ( cacheInvalidationBroadcaster == null ) {
+			cacheInvalidationBroadcaster = session.getFactory().getServiceRegistry()
+					.getService( CacheInvalidationBroadcaster.class );
+		}
+		return cacheInvalidationBroadcaster;
+	}
+
+	/**
+	 * Remember the changes to the second-level cache made by the given
+	 * action, so that they can be propagated to the other nodes of the
+	 * cluster when the transaction completes.
+	 */
+	private void registerCacheInvalidation(Executable executable) {
+		if ( cacheInvalidationBroadcaster().isEnabled() ) {
+			if ( executable instanceof BulkOperationCleanupAction ) {
+				for ( Serializable space : executable.getPropertySpaces() ) {
+					afterTransactionProcesses().addSpaceToEvict( (String) space );
+				}
+			}
+			else if ( executable instanceof ReactiveEntityUpdateAction
+					|| executable instanceof ReactiveEntityDeleteAction ) {
+				// inserted entities can't be in the cache of another node
+				final EntityAction action = (EntityAction) executable;
+				if ( action.getPersister().canWriteToCache() ) {
+					afterTransactionProcesses().addEntityToEvict( action.getPersister().getEntityName(), action.getId() );
+				}
+			}
+			else if ( executable instanceof ReactiveCollectionAction ) {
+				final ReactiveCollectionAction action = (ReactiveCollectionAction) executable;
+				if ( action.getAffectedCollectionPersister().hasCache() ) {
+					afterTransactionProcesses().addCollectionToEvict(
+							action.getAffectedCollectionPersister().getRole(),
+							action.getAffectedCollectionKey()
+					);
+				}
+			}
+		}
 	}
 
 	/**
@@ -522,7 +567,7 @@ private BeforeTransactionCompletionProcessQueue beforeTransactionProcesses() {
 
 	private AfterTransactionCompletionProcessQueue afterTransactionProcesses() {
 		if (afterTransactionProcesses == null) {
-			afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
+			afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session, cacheInvalidationBroadcaster() );
 		}
 		return afterTransactionProcesses;
 	}
@@ -550,13 +595,20 @@ public CompletionStage<Void> executeActions() {
 					"About to execute actions, but there are unresolved entity insert actions." ) );
 		}
 
+		final Object event = ReactiveEvents.beginFlush();
+		int actions = 0;
 		CompletionStage<Void> ret = voidFuture();
 		for ( ListProvider<? extends ReactiveExecutable> listProvider : EXECUTABLE_LISTS_MAP.values() ) {
 			ExecutableList<? extends ReactiveExecutable> l = listProvider.get( this );
 			if ( l != null && !l.isEmpty() ) {
+				actions += l.size();
 				ret = ret.thenCompose( v -> executeActions( l ) );
 			}
 		}
+		if ( event != null ) {
+			final int executed = actions;
+			ret = ret.whenComplete( (v, failure) -> ReactiveEvents.endFlush( event, executed, failure ) );
+		}
 		return ret;
 	}
 
@@ -664,6 +716,7 @@ private <E extends ReactiveExecutable> CompletionStage<Void> executeActions(
 							if ( e.getAfterTransactionCompletionProcess() != null ) {
 								afterTransactionProcesses().register( e.getAfterTransactionCompletionProcess() );
 							}
+							registerCacheInvalidation( e );
 						} )
 		)
 		.whenComplete( (v, x) -> {
@@ -967,10 +1020,42 @@ public CompletionStage<Void> beforeTransactionCompletion() {
 					throw new AssertionFailure( "Unable to perform beforeTransactionCompletion callback", e );
 				}
 			}
-			return CompletionStages.loop(
-					reactiveProcesses,
-					process -> process.doBeforeTransactionCompletion( session )
-			).whenComplete( (v, e) -> reactiveProcesses.clear() );
+			// consecutive version checks, and consecutive version
+			// increments, for optimistic locks are executed together,
+			// but otherwise processes run in the order they were
+			// registered
+			final List<List<ReactiveBeforeTransactionCompletionProcess>> runs = new ArrayList<>();
+			List<ReactiveBeforeTransactionCompletionProcess> run = null;
+			for ( ReactiveBeforeTransactionCompletionProcess process : reactiveProcesses ) {
+				if ( run == null || !canExecuteTogether( run.get( 0 ), process ) ) {
+					run = new ArrayList<>();
+					runs.add( run );
+				}
+				run.add( process );
+			}
+			return CompletionStages.loop( runs, this::doBeforeTransactionCompletion )
+					.whenComplete( (v, e) -> reactiveProcesses.clear() );
+		}
+
+		private static boolean canExecuteTogether(
+				ReactiveBeforeTransactionCompletionProcess first,
+				ReactiveBeforeTransactionCompletionProcess process) {
+			return first instanceof ReactiveEntityVerifyVersionProcess && process instanceof ReactiveEntityVerifyVersionProcess
+					|| first instanceof ReactiveEntityIncrementVersionProcess && process instanceof ReactiveEntityIncrementVersionProcess;
+		}
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		private CompletionStage<Void> doBeforeTransactionCompletion(List<ReactiveBeforeTransactionCompletionProcess> run) {
+			final ReactiveBeforeTransactionCompletionProcess first = run.get( 0 );
+			if ( first instanceof ReactiveEntityVerifyVersionProcess ) {
+				return ReactiveEntityVerifyVersionProcess.doBeforeTransactionCompletion( (List) run, session );
+			}
+			else if ( first instanceof ReactiveEntityIncrementVersionProcess ) {
+				return ReactiveEntityIncrementVersionProcess.doBeforeTransactionCompletion( (List) run, session );
+			}
+			else {
+				return first.doBeforeTransactionCompletion( session );
+			}
 		}
 	}
 
@@ -981,15 +1066,54 @@ public CompletionStage<Void> beforeTransactionCompletion() {
 			extends AbstractTransactionCompletionProcessQueue<AfterTransactionCompletionProcess,
 															ReactiveAfterTransactionCompletionProcess> {
 		private final Set<Serializable> querySpacesToInvalidate = new HashSet<>();
+		private final CacheInvalidationBroadcaster cacheInvalidationBroadcaster;
+		private CacheInvalidation cacheInvalidation;
 
-		private AfterTransactionCompletionProcessQueue(ReactiveSession session) {
+		private AfterTransactionCompletionProcessQueue(ReactiveSession session,
+				CacheInvalidationBroadcaster cacheInvalidationBroadcaster) {
 			super( session );
+			this.cacheInvalidationBroadcaster = cacheInvalidationBroadcaster;
 		}
 
 		public void addSpaceToInvalidate(Serializable space) {
 			querySpacesToInvalidate.add( space );
 		}
 
+		public void addSpaceToEvict(String space) {
+			cacheInvalidation().addEvictedSpace( space );
+		}
+
+		public void addEntityToEvict(String entityName, Serializable id) {
+			cacheInvalidation().addEvictedEntity( entityName, id );
+		}
+
+		public void addCollectionToEvict(String role, Serializable key) {
+			cacheInvalidation().addEvictedCollection( role, key );
+		}
+
+		private CacheInvalidation cacheInvalidation() {
+			if ( cacheInvalidation == null ) {
+				cacheInvalidation = new CacheInvalidation();
+			}
+			return cacheInvalidation;
+		}
+
+		/**
+		 * Send the invalidations made by the transaction to the other
+		 * nodes of the cluster, all in one message.
+		 */
+		private void broadcastCacheInvalidation(boolean success) {
+			if ( success && cacheInvalidationBroadcaster.isEnabled() ) {
+				for ( Serializable space : querySpacesToInvalidate ) {
+					cacheInvalidation().addQuerySpace( (String) space );
+				}
+				if ( cacheInvalidation != null ) {
+					cacheInvalidationBroadcaster.broadcast( cacheInvalidation, session.getFactory() );
+				}
+			}
+			cacheInvalidation = null;
+		}
+
 		public CompletionStage<Void> afterTransactionCompletion(boolean success) {
 			while ( !processes.isEmpty() ) {
 				try {
@@ -1010,6 +1134,7 @@ public CompletionStage<Void> afterTransactionCompletion(boolean success) {
 						session.getSharedContract()
 				);
 			}
+			broadcastCacheInvalidation( success );
 			querySpacesToInvalidate.clear();
 
 			return CompletionStages.loop(
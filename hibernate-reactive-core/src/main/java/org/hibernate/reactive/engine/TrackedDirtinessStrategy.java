@@ -0,0 +1,31 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.engine;
+
+import org.hibernate.CustomEntityDirtinessStrategy;
+import org.hibernate.Session;
+
+/**
+ * A {@link CustomEntityDirtinessStrategy} which keeps track of the
+ * entities it has seen modified. A flush only visits the entities
+ * reported by {@link #getModifiedEntities(Session)}, together with
+ * entities whose modifications aren't tracked by this strategy,
+ * instead of asking every entity in the session whether it is dirty.
+ * <p>
+ * An entity is tracked if {@link #canDirtyCheck} returns true for it,
+ * and if its persister has no collections and no cascades. It should
+ * be reported modified from the moment its state changes until the
+ * strategy is told to {@link #resetDirty reset} it.
+ */
+public interface TrackedDirtinessStrategy extends CustomEntityDirtinessStrategy {
+
+	/**
+	 * The tracked entities which might have been modified since they
+	 * were loaded or last flushed. The result may include entities
+	 * which don't belong to the given session: they're ignored.
+	 */
+	Iterable<?> getModifiedEntities(Session session);
+}
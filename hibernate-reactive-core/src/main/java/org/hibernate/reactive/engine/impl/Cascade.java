@@ -23,7 +23,9 @@
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.stat.impl.ReactiveSessionStatistics;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.type.AssociationType;
 import org.hibernate.type.CollectionType;
@@ -32,13 +34,18 @@
 import org.hibernate.type.ForeignKeyDirection;
 import org.hibernate.type.Type;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 
 import static org.hibernate.pretty.MessageHelper.infoString;
+import static org.hibernate.reactive.stat.ReactiveStatistics.EventLoopPhase.CASCADE;
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
@@ -60,7 +67,12 @@
 	private final C context;
 	private CascadePoint cascadePoint;
 
-	private CompletionStage<Void> stage = voidFuture();
+	/**
+	 * The work to be done, in order, collected while visiting the
+	 * properties, and executed by a loop rather than by a chain of
+	 * nested stages
+	 */
+	private final List<Supplier<CompletionStage<?>>> tasks = new ArrayList<>();
 
 	/**
 	 * 	@param persister The parent's entity persister
@@ -113,9 +125,25 @@ public CompletionStage<Void> cascade() throws HibernateException {
 			if (action==CascadingActions.DELETE) {
 				eventSource.setCacheMode( CacheMode.GET );
 			}
-			eventSource.getPersistenceContextInternal().incrementCascadeLevel();
-			return cascadeInternal().whenComplete( (vv, e) -> {
-				eventSource.getPersistenceContextInternal().decrementCascadeLevel();
+			final PersistenceContext persistenceContext = eventSource.getPersistenceContextInternal();
+			persistenceContext.incrementCascadeLevel();
+			// only the outermost cascade is measured, since it includes
+			// the synchronous work of the cascades it triggers
+			final ReactiveSessionStatistics statistics = persistenceContext.getCascadeLevel() == 1
+					? ReactiveSessionStatistics.of( eventSource )
+					: null;
+			final long cascadeStart = statistics == null ? 0 : System.nanoTime();
+			final CompletionStage<Void> cascade;
+			try {
+				cascade = cascadeInternal();
+			}
+			finally {
+				if ( statistics != null ) {
+					statistics.eventLoop( CASCADE, persister.getEntityName(), cascadeStart );
+				}
+			}
+			return cascade.whenComplete( (vv, e) -> {
+				persistenceContext.decrementCascadeLevel();
 				eventSource.setCacheMode( cacheMode );
 			} );
 		} );
@@ -123,7 +151,8 @@ public CompletionStage<Void> cascade() throws HibernateException {
 
 	private CompletionStage<Void> cascadeInternal() throws HibernateException {
 
-		if ( persister.hasCascades() || action.requiresNoCascadeChecking() ) { // performance opt
+		final int[] properties = cascadePlan( persister ).getProperties( action );
+		if ( properties.length > 0 ) { // performance opt
 			final boolean traceEnabled = LOG.isTraceEnabled();
 			if ( traceEnabled ) {
 				LOG.tracev( "Processing cascade {0} for: {1}", action, persister.getEntityName() );
@@ -135,7 +164,7 @@ private CompletionStage<Void> cascadeInternal() throws HibernateException {
 			final CascadeStyle[] cascadeStyles = persister.getPropertyCascadeStyles();
 			final boolean hasUninitializedLazyProperties = persister.hasUninitializedLazyProperties( parent );
 			final int componentPathStackDepth = 0;
-			for ( int i = 0; i < types.length; i++) {
+			for ( int i : properties ) {
 				final CascadeStyle style = cascadeStyles[ i ];
 				final String propertyName = propertyNames[ i ];
 				final boolean isUninitializedProperty =
@@ -224,7 +253,22 @@ else if ( action.performOnLazyProperty() && types[ i ].isEntityType() ) {
 			}
 		}
 
-		return stage;
+		return tasks.isEmpty() ? voidFuture() : CompletionStages.loop( tasks, Cascade::execute );
+	}
+
+	private static CascadePlan cascadePlan(EntityPersister persister) {
+		return persister instanceof ReactiveEntityPersister
+				? ( (ReactiveEntityPersister) persister ).getCascadePlan()
+				: new CascadePlan( persister );
+	}
+
+	private static CompletionStage<?> execute(Supplier<CompletionStage<?>> task) {
+		try {
+			return task.get();
+		}
+		catch (RuntimeException e) {
+			return failedFuture( e );
+		}
 	}
 
 	private void noCascade(
@@ -233,7 +277,7 @@ private void noCascade(
 			final EntityPersister persister,
 			final Type[] types,
 			final int i) {
-		stage = stage.thenCompose( v -> action.noCascade( eventSource, parent, persister, types[i], i ) );
+		tasks.add( () -> action.noCascade( eventSource, parent, persister, types[i], i ) );
 	}
 
 	/**
@@ -476,12 +520,13 @@ private void cascadeToOne(
 				? ( (EntityType) type ).getAssociatedEntityName()
 				: null;
 		if ( style.reallyDoCascade( action.delegate() ) ) {
-			//not really necessary, but good for consistency...
-			final PersistenceContext persistenceContext = eventSource.getPersistenceContextInternal();
-			persistenceContext.addChildParent( child, parent );
-			stage = stage.thenCompose( v -> action.cascade( eventSource, child, entityName, context, isCascadeDeleteEnabled ) )
-					.whenComplete( (vv, e) -> persistenceContext.removeChildParent( child ) )
-					.thenAccept( vv -> {} );
+			tasks.add( () -> {
+				//not really necessary, but good for consistency...
+				final PersistenceContext persistenceContext = eventSource.getPersistenceContextInternal();
+				persistenceContext.addChildParent( child, parent );
+				return execute( () -> action.cascade( eventSource, child, entityName, context, isCascadeDeleteEnabled ) )
+						.whenComplete( (vv, e) -> persistenceContext.removeChildParent( child ) );
+			} );
 		}
 	}
 
@@ -561,7 +606,7 @@ private void deleteOrphans(String entityName, PersistentCollection pc) throws Hi
 		}
 
 		ReactiveSession session = (ReactiveSession) eventSource;
-		stage = stage.thenCompose( v -> CompletionStages.loop( orphans, orphan -> {
+		tasks.add( () -> CompletionStages.loop( orphans, orphan -> {
 			if ( orphan != null ) {
 				LOG.tracev( "Deleting orphaned entity instance: {0}", entityName );
 				return session.reactiveRemove( orphan, false, new IdentitySet() );
@@ -0,0 +1,76 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.engine.impl;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+/**
+ * The properties of an entity which {@link Cascade} must visit for
+ * each {@link CascadingAction}, computed once, when the persister is
+ * created, so that a cascade doesn't need to look at the properties
+ * which are not affected by the action.
+ *
+ * @see org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister#getCascadePlan()
+ */
+public final class CascadePlan {
+
+	private static final List<CascadingAction<?>> ACTIONS = Arrays.asList(
+			CascadingActions.DELETE,
+			CascadingActions.PERSIST,
+			CascadingActions.PERSIST_ON_FLUSH,
+			CascadingActions.MERGE,
+			CascadingActions.REFRESH,
+			CascadingActions.LOCK
+	);
+
+	private final Type[] types;
+	private final CascadeStyle[] cascadeStyles;
+	private final Map<CascadingAction<?>, int[]> propertiesByAction = new IdentityHashMap<>();
+
+	public CascadePlan(EntityPersister persister) {
+		types = persister.getPropertyTypes();
+		cascadeStyles = persister.getPropertyCascadeStyles();
+		for ( CascadingAction<?> action : ACTIONS ) {
+			propertiesByAction.put( action, properties( action ) );
+		}
+	}
+
+	/**
+	 * @return the indexes of the properties to visit, in order
+	 */
+	int[] getProperties(CascadingAction<?> action) {
+		final int[] properties = propertiesByAction.get( action );
+		return properties == null ? properties( action ) : properties;
+	}
+
+	private int[] properties(CascadingAction<?> action) {
+		int[] properties = new int[types.length];
+		int count = 0;
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( isAffected( action, types[i], cascadeStyles[i] ) ) {
+				properties[count++] = i;
+			}
+		}
+		return Arrays.copyOf( properties, count );
+	}
+
+	private static boolean isAffected(CascadingAction<?> action, Type type, CascadeStyle style) {
+		return style.doCascade( action.delegate() )
+				// only a to-one association can reference a transient instance
+				|| action.requiresNoCascadeChecking() && type.isEntityType()
+				// a one-to-one may be orphaned even if it doesn't cascade
+				|| action.deleteOrphans() && style.hasOrphanDelete()
+						&& type.isEntityType() && ( (EntityType) type ).isLogicalOneToOne();
+	}
+}
@@ -0,0 +1,22 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.engine.impl;
+
+import java.io.Serializable;
+
+import org.hibernate.persister.collection.CollectionPersister;
+
+/**
+ * A reactive {@link org.hibernate.action.internal.CollectionAction},
+ * which exposes the persister and key of the affected collection,
+ * since Hibernate ORM only makes them visible to subclasses.
+ */
+public interface ReactiveCollectionAction {
+
+	CollectionPersister getAffectedCollectionPersister();
+
+	Serializable getAffectedCollectionKey();
+}
@@ -22,7 +22,7 @@
 import org.hibernate.reactive.engine.ReactiveExecutable;
 import org.hibernate.reactive.persister.collection.impl.ReactiveCollectionPersister;
 
-public class ReactiveCollectionRecreateAction extends CollectionAction implements ReactiveExecutable {
+public class ReactiveCollectionRecreateAction extends CollectionAction implements ReactiveExecutable, ReactiveCollectionAction {
 
 	public ReactiveCollectionRecreateAction(
 			final PersistentCollection collection,
@@ -32,6 +32,16 @@ public ReactiveCollectionRecreateAction(
 		super( persister, collection, key, session );
 	}
 
+	@Override
+	public CollectionPersister getAffectedCollectionPersister() {
+		return getPersister();
+	}
+
+	@Override
+	public Serializable getAffectedCollectionKey() {
+		return getKey();
+	}
+
 	@Override
 	public CompletionStage<Void> reactiveExecute() {
 		final ReactiveCollectionPersister persister = (ReactiveCollectionPersister)getPersister();
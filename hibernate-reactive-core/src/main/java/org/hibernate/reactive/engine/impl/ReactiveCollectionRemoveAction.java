@@ -29,7 +29,7 @@
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
-public class ReactiveCollectionRemoveAction extends CollectionAction implements ReactiveExecutable {
+public class ReactiveCollectionRemoveAction extends CollectionAction implements ReactiveExecutable, ReactiveCollectionAction {
 	private final Object affectedOwner;
 	private final boolean emptySnapshot;
 
@@ -50,6 +50,16 @@ public ReactiveCollectionRemoveAction(
 		this.affectedOwner = session.getPersistenceContextInternal().getLoadedCollectionOwnerOrNull( collection );
 	}
 
+	@Override
+	public CollectionPersister getAffectedCollectionPersister() {
+		return getPersister();
+	}
+
+	@Override
+	public Serializable getAffectedCollectionKey() {
+		return getKey();
+	}
+
 	@Override
 	public CompletionStage<Void> reactiveExecute() {
 		final Serializable key = getKey();
@@ -37,7 +37,7 @@
  *
  * @see org.hibernate.action.internal.CollectionUpdateAction
  */
-public class ReactiveCollectionUpdateAction extends CollectionAction implements ReactiveExecutable {
+public class ReactiveCollectionUpdateAction extends CollectionAction implements ReactiveExecutable, ReactiveCollectionAction {
 	private final boolean emptySnapshot;
 
 	public ReactiveCollectionUpdateAction(
@@ -50,6 +50,16 @@ public ReactiveCollectionUpdateAction(
 		this.emptySnapshot = emptySnapshot;
 	}
 
+	@Override
+	public CollectionPersister getAffectedCollectionPersister() {
+		return getPersister();
+	}
+
+	@Override
+	public Serializable getAffectedCollectionKey() {
+		return getKey();
+	}
+
 	@Override
 	public CompletionStage<Void> reactiveExecute() {
 		final Serializable key = getKey();
@@ -8,12 +8,18 @@
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.reactive.engine.ReactiveBeforeTransactionCompletionProcess;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.session.ReactiveSession;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
@@ -57,4 +63,27 @@ public CompletionStage<Void> doBeforeTransactionCompletion(ReactiveSession sessi
 						session.getSharedContract()
 				);
 	}
+
+	/**
+	 * Increment the versions of the entities of all the given processes,
+	 * with one batch of updates per entity type.
+	 */
+	public static CompletionStage<Void> doBeforeTransactionCompletion(
+			List<ReactiveEntityIncrementVersionProcess> processes,
+			ReactiveSession session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContext();
+		final Map<ReactiveEntityPersister, List<Object>> entitiesByPersister = new LinkedHashMap<>();
+		for ( ReactiveEntityIncrementVersionProcess process : processes ) {
+			final EntityEntry entry = persistenceContext.getEntry( process.object );
+			// Don't increment version for an entity that is not in the PersistenceContext;
+			if ( entry != null ) {
+				entitiesByPersister.computeIfAbsent( (ReactiveEntityPersister) entry.getPersister(), p -> new ArrayList<>() )
+						.add( process.object );
+			}
+		}
+		return loop(
+				entitiesByPersister.entrySet(),
+				entities -> entities.getKey().reactiveIncrementVersions( entities.getValue(), session.getSharedContract() )
+		);
+	}
 }
@@ -7,13 +7,20 @@
 
 import org.hibernate.dialect.lock.OptimisticEntityLockException;
 import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.reactive.engine.ReactiveBeforeTransactionCompletionProcess;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.session.ReactiveSession;
 
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
 
 import static org.hibernate.pretty.MessageHelper.infoString;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
@@ -24,6 +31,13 @@
  * @author Gavin King
  */
 public class ReactiveEntityVerifyVersionProcess implements ReactiveBeforeTransactionCompletionProcess {
+
+	/**
+	 * The maximum number of identifiers in the 'in' list of a query
+	 * which verifies versions, unless the dialect imposes a lower limit.
+	 */
+	private static final int MAX_IDS_PER_QUERY = 1000;
+
 	private final Object object;
 
 	/**
@@ -45,16 +59,71 @@ public CompletionStage<Void> doBeforeTransactionCompletion(ReactiveSession sessi
 
 		return ( (ReactiveEntityPersister) entry.getPersister() )
 				.reactiveGetCurrentVersion( entry.getId(), session.getSharedContract() )
-				.thenAccept( latestVersion -> {
-					if ( !entry.getVersion().equals( latestVersion ) ) {
-						throw new OptimisticEntityLockException(
-								object,
-								"Newer version ["
-										+ latestVersion
-										+ "] of entity ["
-										+ infoString( entry.getEntityName(), entry.getId() )
-										+ "] found in database"
-						);
+				.thenAccept( latestVersion -> checkVersion( object, entry, latestVersion ) );
+	}
+
+	private static void checkVersion(Object object, EntityEntry entry, Object latestVersion) {
+		if ( !entry.getVersion().equals( latestVersion ) ) {
+			throw new OptimisticEntityLockException(
+					object,
+					"Newer version ["
+							+ latestVersion
+							+ "] of entity ["
+							+ infoString( entry.getEntityName(), entry.getId() )
+							+ "] found in database"
+			);
+		}
+	}
+
+	/**
+	 * Verify the versions of the entities of all the given processes,
+	 * with one query per entity type, instead of one query per entity.
+	 */
+	public static CompletionStage<Void> doBeforeTransactionCompletion(
+			List<ReactiveEntityVerifyVersionProcess> processes,
+			ReactiveSession session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContext();
+		final Map<ReactiveEntityPersister, List<Object>> entitiesByPersister = new LinkedHashMap<>();
+		for ( ReactiveEntityVerifyVersionProcess process : processes ) {
+			final EntityEntry entry = persistenceContext.getEntry( process.object );
+			// Don't check version for an entity that is not in the PersistenceContext;
+			if ( entry != null ) {
+				entitiesByPersister.computeIfAbsent( (ReactiveEntityPersister) entry.getPersister(), p -> new ArrayList<>() )
+						.add( process.object );
+			}
+		}
+
+		final int inExpressionCountLimit = session.getDialect().getInExpressionCountLimit();
+		final int chunkSize = inExpressionCountLimit > 0
+				? Math.min( inExpressionCountLimit, MAX_IDS_PER_QUERY )
+				: MAX_IDS_PER_QUERY;
+		return loop(
+				entitiesByPersister.entrySet(),
+				entities -> loop(
+						0, ( entities.getValue().size() + chunkSize - 1 ) / chunkSize,
+						chunk -> {
+							final List<Object> objects = entities.getValue().subList(
+									chunk * chunkSize,
+									Math.min( ( chunk + 1 ) * chunkSize, entities.getValue().size() )
+							);
+							return verifyVersions( entities.getKey(), objects, session );
+						}
+				)
+		);
+	}
+
+	private static CompletionStage<Void> verifyVersions(ReactiveEntityPersister persister, List<Object> objects,
+			ReactiveSession session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContext();
+		final List<Serializable> ids = new ArrayList<>( objects.size() );
+		for ( Object object : objects ) {
+			ids.add( persistenceContext.getEntry( object ).getId() );
+		}
+		return persister.reactiveGetCurrentVersions( ids, session.getSharedContract() )
+				.thenAccept( latestVersions -> {
+					for ( Object object : objects ) {
+						final EntityEntry entry = persistenceContext.getEntry( object );
+						checkVersion( object, entry, latestVersions.get( entry.getId() ) );
 					}
 				} );
 	}
@@ -5,24 +5,54 @@
  */
 package org.hibernate.reactive.engine.impl;
 
+import org.hibernate.CustomEntityDirtinessStrategy;
 import org.hibernate.HibernateException;
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.Session;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
+import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.engine.spi.CascadeStyles;
+import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.internal.util.collections.IdentityMap;
+import org.hibernate.metamodel.spi.MetamodelImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.MultiLoadOptions;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.reactive.engine.TrackedDirtinessStrategy;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.reactive.util.impl.CompletionStages;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
 
 import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 import static org.hibernate.pretty.MessageHelper.infoString;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
@@ -32,6 +62,52 @@ public class ReactivePersistenceContextAdapter extends StatefulPersistenceContex
 
 	private HashMap<Serializable,Object[]> entitySnapshotsByKey;
 
+	/**
+	 * The ids of entities, grouped by persister, whose resolution
+	 * was deferred, and which have not been loaded yet
+	 *
+	 * @see #deferEntityResolution(EntityKey)
+	 */
+	private Map<EntityPersister,Set<Serializable>> deferredEntityIds;
+	private boolean deferringEntityResolution;
+	private int secondLevelCacheAssemblyDepth;
+
+	/**
+	 * The persisters of every entity which has been added to this
+	 * context since it was last cleared, together with the persisters
+	 * of the entities they cascade to
+	 */
+	private Set<EntityPersister> flushablePersisters;
+	/**
+	 * The tables which a flush might write to: the query spaces of the
+	 * {@link #flushablePersisters} and of their collections
+	 */
+	private Set<Serializable> flushableSpaces;
+
+	/**
+	 * The {@link TrackedDirtinessStrategy}, or {@code null} if there's
+	 * no such strategy
+	 */
+	private final TrackedDirtinessStrategy dirtinessStrategy;
+	/**
+	 * Are the modifications of entities tracked? That's from the start
+	 * if there's a {@link #dirtinessStrategy}, or else from when the
+	 * first bytecode-enhanced {@link SelfDirtinessTracker} is added
+	 */
+	private boolean tracking;
+	/**
+	 * The entries of entities whose modifications aren't tracked, and
+	 * which must therefore be visited by every flush, in the order
+	 * they were added
+	 */
+	private IdentityMap<Object,EntityEntry> untrackedEntries;
+	/**
+	 * The entries of enhanced entities which track their own
+	 * modifications, and which a flush only visits if they have
+	 * dirty attributes
+	 */
+	private IdentityMap<Object,EntityEntry> selfTrackingEntries;
+
 	/**
 	 * Constructs a PersistentContext, bound to the given session.
 	 *
@@ -39,6 +115,12 @@ public class ReactivePersistenceContextAdapter extends StatefulPersistenceContex
 	 */
 	public ReactivePersistenceContextAdapter(SharedSessionContractImplementor session) {
 		super( session );
+		final CustomEntityDirtinessStrategy strategy =
+				session.getFactory().getSessionFactoryOptions().getCustomEntityDirtinessStrategy();
+		this.dirtinessStrategy = strategy instanceof TrackedDirtinessStrategy && session instanceof Session
+				? (TrackedDirtinessStrategy) strategy
+				: null;
+		this.tracking = dirtinessStrategy != null;
 	}
 
 	public CompletionStage<Void> reactiveInitializeNonLazyCollections() throws HibernateException {
@@ -99,6 +181,140 @@ public CompletionStage<Object[]> reactiveGetDatabaseSnapshot(Serializable id, En
 		}
 	}
 
+	/**
+	 * Start deferring the resolution of entities which are neither
+	 * in the session nor in the second-level cache, so that they may
+	 * later be loaded together, by {@link #reactiveLoadDeferredEntities()},
+	 * instead of one at a time. This is used to assemble results from
+	 * the query cache, which may refer to entities that are no longer
+	 * in the second-level cache.
+	 */
+	public void beginDeferredEntityResolution() {
+		deferredEntityIds = null;
+		deferringEntityResolution = true;
+	}
+
+	/**
+	 * Stop deferring the resolution of entities. The entities which
+	 * were deferred until now may still be loaded.
+	 */
+	public void endDeferredEntityResolution() {
+		deferringEntityResolution = false;
+	}
+
+	/**
+	 * @return true if the resolution of at least one entity was deferred
+	 */
+	public boolean hasDeferredEntities() {
+		return deferredEntityIds != null;
+	}
+
+	/**
+	 * Called by the load event listener for an entity that would have
+	 * to be loaded from the database.
+	 *
+	 * @return true if the entity will be loaded later, and so the
+	 *         caller must not go to the database, false if the caller
+	 *         should go ahead and load the entity
+	 */
+	public boolean deferEntityResolution(EntityKey key) {
+		// an association of an entity being assembled from the
+		// second-level cache may not be replaced with a placeholder
+		if ( !deferringEntityResolution || secondLevelCacheAssemblyDepth > 0 ) {
+			return false;
+		}
+		else {
+			if ( deferredEntityIds == null ) {
+				deferredEntityIds = new LinkedHashMap<>();
+			}
+			deferredEntityIds.computeIfAbsent( key.getPersister(), p -> new LinkedHashSet<>() )
+					.add( key.getIdentifier() );
+			return true;
+		}
+	}
+
+	/**
+	 * Called around the assembly of an entity from the second-level
+	 * cache, during which entity resolution may not be deferred.
+	 */
+	public void beginSecondLevelCacheAssembly() {
+		secondLevelCacheAssemblyDepth++;
+	}
+
+	public void endSecondLevelCacheAssembly() {
+		secondLevelCacheAssemblyDepth--;
+	}
+
+	/**
+	 * @return true if Hibernate ORM is synchronously assembling an
+	 *         entity or a query result from the second-level cache
+	 */
+	public boolean isAssemblingFromCache() {
+		return deferringEntityResolution || secondLevelCacheAssemblyDepth > 0;
+	}
+
+	/**
+	 * Load all the entities whose resolution was deferred, using a
+	 * single query for each entity type (or one query per batch, when
+	 * there are too many ids for one query).
+	 */
+	public CompletionStage<Void> reactiveLoadDeferredEntities() {
+		if ( deferringEntityResolution ) {
+			throw new IllegalStateException( "still deferring entity resolution" );
+		}
+		if ( deferredEntityIds == null ) {
+			return voidFuture();
+		}
+		final Map<EntityPersister,Set<Serializable>> idsByPersister = deferredEntityIds;
+		deferredEntityIds = null;
+		final SessionImplementor session = (SessionImplementor) getSession();
+		return loop(
+				idsByPersister.entrySet(),
+				entry -> ( (ReactiveEntityPersister) entry.getKey() ).reactiveMultiLoad(
+						entry.getValue().toArray( new Serializable[0] ),
+						session,
+						DeferredEntityLoadOptions.INSTANCE
+				)
+		);
+	}
+
+	private static class DeferredEntityLoadOptions implements MultiLoadOptions {
+		static final DeferredEntityLoadOptions INSTANCE = new DeferredEntityLoadOptions();
+
+		@Override
+		public boolean isSessionCheckingEnabled() {
+			// it might have been loaded along with another entity
+			return true;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			// we already know it's not there
+			return false;
+		}
+
+		@Override
+		public boolean isReturnOfDeletedEntitiesEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isOrderReturnEnabled() {
+			// we don't even look at the results
+			return false;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return null;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return null;
+		}
+	}
+
 	//All below methods copy/pasted from superclass because entitySnapshotsByKey is private:
 
 	@Override
@@ -117,6 +333,275 @@ public Object[] getCachedDatabaseSnapshot(EntityKey key) {
 	public void clear() {
 		super.clear();
 		entitySnapshotsByKey = null;
+		deferredEntityIds = null;
+		flushablePersisters = null;
+		flushableSpaces = null;
+		untrackedEntries = null;
+		selfTrackingEntries = null;
+		tracking = dirtinessStrategy != null;
+	}
+
+	@Override
+	public EntityEntry addEntry(
+			Object entity,
+			Status status,
+			Object[] loadedState,
+			Object rowId,
+			Serializable id,
+			Object version,
+			LockMode lockMode,
+			boolean existsInDatabase,
+			EntityPersister persister,
+			boolean disableVersionIncrement) {
+		addFlushableSpaces( persister );
+		final EntityEntry entry = super.addEntry(
+				entity,
+				status,
+				loadedState,
+				rowId,
+				id,
+				version,
+				lockMode,
+				existsInDatabase,
+				persister,
+				disableVersionIncrement
+		);
+		trackModifications( entity, entry );
+		return entry;
+	}
+
+	@Override
+	public EntityEntry addReferenceEntry(Object entity, Status status) {
+		final EntityEntry entry = super.addReferenceEntry( entity, status );
+		trackModifications( entity, entry );
+		return entry;
+	}
+
+	@Override
+	public EntityEntry removeEntry(Object entity) {
+		if ( untrackedEntries != null ) {
+			untrackedEntries.remove( entity );
+		}
+		if ( selfTrackingEntries != null ) {
+			selfTrackingEntries.remove( entity );
+		}
+		return super.removeEntry( entity );
+	}
+
+	@Override
+	public void setEntryStatus(EntityEntry entry, Status status) {
+		super.setEntryStatus( entry, status );
+		if ( tracking && entry.getId() != null ) {
+			final Object entity = getEntity( entry.getEntityKey() );
+			if ( entity != null ) {
+				trackModifications( entity, entry );
+			}
+		}
+	}
+
+	@Override
+	public void setReadOnly(Object object, boolean readOnly) {
+		super.setReadOnly( object, readOnly );
+		if ( tracking ) {
+			Object entity = object;
+			if ( object instanceof HibernateProxy ) {
+				final LazyInitializer initializer = ( (HibernateProxy) object ).getHibernateLazyInitializer();
+				if ( initializer.isUninitialized() ) {
+					return;
+				}
+				entity = initializer.getImplementation();
+			}
+			final EntityEntry entry = getEntry( entity );
+			if ( entry != null ) {
+				trackModifications( entity, entry );
+			}
+		}
+	}
+
+	/**
+	 * Are the modifications of entities tracked, by a
+	 * {@link TrackedDirtinessStrategy} or by the enhanced entities
+	 * themselves, so that a flush may visit just the entries returned
+	 * by {@link #reentrantSafeModifiedEntityEntries()}?
+	 */
+	public boolean isTrackingModifications() {
+		return tracking;
+	}
+
+	/**
+	 * The entries of the entities which might need to be flushed: the
+	 * entities whose modifications aren't tracked, followed by the
+	 * enhanced entities with dirty attributes, and by the entities
+	 * reported modified by the {@link TrackedDirtinessStrategy}.
+	 * Unmodified tracked entities are never asked whether they are
+	 * dirty.
+	 *
+	 * @see #reentrantSafeEntityEntries()
+	 */
+	@SuppressWarnings("unchecked")
+	public Map.Entry<Object,EntityEntry>[] reentrantSafeModifiedEntityEntries() {
+		final List<Map.Entry<Object,EntityEntry>> entries = new ArrayList<>();
+		if ( untrackedEntries != null ) {
+			Collections.addAll( entries, IdentityMap.concurrentEntries( untrackedEntries ) );
+		}
+		if ( selfTrackingEntries != null ) {
+			for ( Map.Entry<Object,EntityEntry> entry : IdentityMap.concurrentEntries( selfTrackingEntries ) ) {
+				if ( ( (SelfDirtinessTracker) entry.getKey() ).$$_hibernate_hasDirtyAttributes() ) {
+					entries.add( entry );
+				}
+			}
+		}
+		if ( dirtinessStrategy != null ) {
+			for ( Object entity : dirtinessStrategy.getModifiedEntities( (Session) getSession() ) ) {
+				if ( ( untrackedEntries == null || !untrackedEntries.containsKey( entity ) )
+						&& ( selfTrackingEntries == null || !selfTrackingEntries.containsKey( entity ) ) ) {
+					final EntityEntry entry = getEntry( entity );
+					if ( entry != null ) {
+						entries.add( new AbstractMap.SimpleImmutableEntry<>( entity, entry ) );
+					}
+				}
+			}
+		}
+		return entries.toArray( new Map.Entry[0] );
+	}
+
+	/**
+	 * Called once a flush has visited the given entity, whose
+	 * modifications might now be tracked: for example, because it
+	 * has since been inserted.
+	 */
+	public void afterFlushEntity(Object entity, EntityEntry entry) {
+		if ( getEntry( entity ) == entry ) {
+			trackModifications( entity, entry );
+		}
+	}
+
+	private void trackModifications(Object entity, EntityEntry entry) {
+		if ( !tracking ) {
+			if ( entity instanceof SelfDirtinessTracker && getSession() instanceof Session ) {
+				// from now on, every entity must be classified,
+				// starting with those already in the context
+				tracking = true;
+				for ( Map.Entry<Object,EntityEntry> me : reentrantSafeEntityEntries() ) {
+					trackModifications( me.getKey(), me.getValue() );
+				}
+			}
+			return;
+		}
+
+		if ( untrackedEntries != null ) {
+			untrackedEntries.remove( entity );
+		}
+		if ( selfTrackingEntries != null ) {
+			selfTrackingEntries.remove( entity );
+		}
+		if ( isSelfTracking( entity, entry ) ) {
+			if ( selfTrackingEntries == null ) {
+				selfTrackingEntries = IdentityMap.instantiateSequenced( 16 );
+			}
+			selfTrackingEntries.put( entity, entry );
+		}
+		else if ( !isTrackedByStrategy( entity, entry ) ) {
+			if ( untrackedEntries == null ) {
+				untrackedEntries = IdentityMap.instantiateSequenced( 16 );
+			}
+			untrackedEntries.put( entity, entry );
+		}
+	}
+
+	/**
+	 * Can a flush skip the given entity unless it's reported modified?
+	 * It has no collections to reach and nothing to cascade to, so
+	 * visiting it has no effect if it's unmodified.
+	 */
+	private static boolean canSkipUnlessModified(EntityEntry entry) {
+		final EntityPersister persister = entry.getPersister();
+		return entry.getStatus() == Status.MANAGED
+			&& entry.isExistsInDatabase()
+			&& !persister.hasCollections()
+			&& !persister.hasCascades();
+	}
+
+	/**
+	 * Does the {@link TrackedDirtinessStrategy} report the given entity
+	 * when it's modified? Like in the dirty check, an enhanced entity's
+	 * own tracking takes precedence over the strategy.
+	 */
+	private boolean isTrackedByStrategy(Object entity, EntityEntry entry) {
+		return dirtinessStrategy != null
+			&& canSkipUnlessModified( entry )
+			&& dirtinessStrategy.canDirtyCheck( entity, entry.getPersister(), (Session) getSession() );
+	}
+
+	/**
+	 * Does the given enhanced entity know whether it was modified? It
+	 * can't know if it has mutable properties, which may be modified
+	 * in place, without going through a setter.
+	 */
+	private static boolean isSelfTracking(Object entity, EntityEntry entry) {
+		return entity instanceof SelfDirtinessTracker
+			&& canSkipUnlessModified( entry )
+			&& !entry.getPersister().hasMutableProperties();
+	}
+
+	/**
+	 * Could flushing this context affect the result of a query of the
+	 * given tables? The answer is conservative: entities removed from
+	 * the context since it was last cleared are still accounted for,
+	 * and any entity still in the context might be dirty.
+	 */
+	public boolean mightFlushAffect(Set<?> querySpaces) {
+		if ( flushableSpaces != null ) {
+			for ( Object space : querySpaces ) {
+				if ( flushableSpaces.contains( space ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private void addFlushableSpaces(EntityPersister persister) {
+		if ( flushablePersisters == null ) {
+			flushablePersisters = new HashSet<>();
+			flushableSpaces = new HashSet<>();
+		}
+		if ( flushablePersisters.add( persister ) ) {
+			Collections.addAll( flushableSpaces, persister.getQuerySpaces() );
+			addFlushableSpaces( persister.getPropertyTypes(), persister.getPropertyCascadeStyles() );
+		}
+	}
+
+	private void addFlushableSpaces(Type[] types, CascadeStyle[] cascadeStyles) {
+		final MetamodelImplementor metamodel = getSession().getFactory().getMetamodel();
+		for ( int i = 0; i < types.length; i++ ) {
+			final Type type = types[i];
+			// a flush might persist or delete an entity reached via a cascade
+			final boolean cascades = cascadeStyles[i] != CascadeStyles.NONE;
+			if ( type.isCollectionType() ) {
+				final CollectionPersister collectionPersister =
+						metamodel.collectionPersister( ( (CollectionType) type ).getRole() );
+				Collections.addAll( flushableSpaces, collectionPersister.getCollectionSpaces() );
+				final Type elementType = collectionPersister.getElementType();
+				if ( cascades && elementType.isEntityType() ) {
+					addFlushableSpaces( metamodel.entityPersister( ( (EntityType) elementType ).getAssociatedEntityName() ) );
+				}
+			}
+			else if ( type.isEntityType() ) {
+				if ( cascades ) {
+					addFlushableSpaces( metamodel.entityPersister( ( (EntityType) type ).getAssociatedEntityName() ) );
+				}
+			}
+			else if ( type.isComponentType() ) {
+				final CompositeType componentType = (CompositeType) type;
+				final Type[] subtypes = componentType.getSubtypes();
+				final CascadeStyle[] subtypeCascadeStyles = new CascadeStyle[subtypes.length];
+				for ( int j = 0; j < subtypes.length; j++ ) {
+					subtypeCascadeStyles[j] = componentType.getCascadeStyle( j );
+				}
+				addFlushableSpaces( subtypes, subtypeCascadeStyles );
+			}
+		}
 	}
 
 	@Override
@@ -0,0 +1,94 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.engine.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import org.hibernate.reactive.common.InternalStateAssertions;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.service.Service;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+
+/**
+ * Decides when a large synchronous phase of the work of a session,
+ * the dirty checking of a flush, or the hydration of query results,
+ * should be moved off the event loop, as specified by
+ * {@link Settings#FLUSH_OFFLOAD_THRESHOLD} and
+ * {@link Settings#HYDRATION_OFFLOAD_THRESHOLD}, and runs it on a
+ * worker thread of the current Vert.x context.
+ * <p>
+ * The session is handed off to the worker thread for the duration
+ * of the task, and its work resumes on the event loop once the task
+ * completes. Since the session is waiting for the task, no other
+ * code touches it meanwhile.
+ */
+public final class WorkerOffload implements Service {
+
+	private final int flushThreshold;
+	private final int hydrationThreshold;
+
+	WorkerOffload(int flushThreshold, int hydrationThreshold) {
+		this.flushThreshold = flushThreshold;
+		this.hydrationThreshold = hydrationThreshold;
+	}
+
+	/**
+	 * @return {@code true} if a flush of a persistence context with
+	 * the given number of entities should be offloaded
+	 */
+	public boolean offloadFlush(int entityCount) {
+		return flushThreshold > 0 && entityCount >= flushThreshold;
+	}
+
+	/**
+	 * @return {@code true} if the hydration of the given number of rows
+	 * should be offloaded
+	 */
+	public boolean offloadHydration(int rowCount) {
+		return hydrationThreshold > 0 && rowCount >= hydrationThreshold;
+	}
+
+	/**
+	 * Run the given task on a worker thread, on behalf of the current
+	 * thread, or right away if we're not running in a Vert.x context.
+	 *
+	 * @return a stage which completes with the result of the task on
+	 * the current Vert.x context
+	 */
+	public static <T> CompletionStage<T> offload(Supplier<T> task) {
+		final Context context = Vertx.currentContext();
+		if ( context == null ) {
+			try {
+				return completedFuture( task.get() );
+			}
+			catch (Throwable t) {
+				return failedFuture( t );
+			}
+		}
+		final Thread owner = Thread.currentThread();
+		final CompletableFuture<T> result = new CompletableFuture<>();
+		context.<T>executeBlocking(
+				promise -> promise.complete( InternalStateAssertions.runOnBehalfOf( owner, task ) ),
+				false,
+				ar -> {
+					if ( ar.succeeded() ) {
+						result.complete( ar.result() );
+					}
+					else {
+						result.completeExceptionally( ar.cause() );
+					}
+				}
+		);
+		return result;
+	}
+}
@@ -0,0 +1,36 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.engine.impl;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+
+/**
+ * A Hibernate {@link StandardServiceInitiator service initiator} that
+ * creates the {@link WorkerOffload}.
+ */
+public class WorkerOffloadInitiator implements StandardServiceInitiator<WorkerOffload> {
+
+	public static final WorkerOffloadInitiator INSTANCE = new WorkerOffloadInitiator();
+
+	@Override
+	public WorkerOffload initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		return new WorkerOffload(
+				getInt( Settings.FLUSH_OFFLOAD_THRESHOLD, configurationValues, 0 ),
+				getInt( Settings.HYDRATION_OFFLOAD_THRESHOLD, configurationValues, 0 )
+		);
+	}
+
+	@Override
+	public Class<WorkerOffload> getServiceInitiated() {
+		return WorkerOffload.class;
+	}
+}
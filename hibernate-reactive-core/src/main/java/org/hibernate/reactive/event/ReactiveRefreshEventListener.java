@@ -10,6 +10,7 @@
 import org.hibernate.internal.util.collections.IdentitySet;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -28,4 +29,12 @@ public interface ReactiveRefreshEventListener extends Serializable {
 
 	CompletionStage<Void> reactiveOnRefresh(RefreshEvent event, IdentitySet refreshedAlready) throws HibernateException;
 
+	/**
+	 * Handle the given refresh events, which all request the same lock
+	 * options, refreshing the entities of each entity type together.
+	 *
+	 * @param events The refresh events to be handled.
+	 */
+	CompletionStage<Void> reactiveOnRefreshAll(List<RefreshEvent> events) throws HibernateException;
+
 }
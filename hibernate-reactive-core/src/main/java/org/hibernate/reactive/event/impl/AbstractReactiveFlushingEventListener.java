@@ -34,11 +34,15 @@
 import org.hibernate.reactive.engine.impl.ReactiveCollectionRecreateAction;
 import org.hibernate.reactive.engine.impl.ReactiveCollectionRemoveAction;
 import org.hibernate.reactive.engine.impl.ReactiveCollectionUpdateAction;
+import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
+import org.hibernate.reactive.engine.impl.WorkerOffload;
 import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.stat.impl.ReactiveSessionStatistics;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
 import org.jboss.logging.Logger;
 
+import static org.hibernate.reactive.stat.ReactiveStatistics.EventLoopPhase.FLUSH;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
@@ -50,6 +54,8 @@ public abstract class AbstractReactiveFlushingEventListener {
 
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger( CoreMessageLogger.class, AbstractReactiveFlushingEventListener.class.getName() );
 
+	private WorkerOffload workerOffload;
+
 	protected CompletionStage<Void> performExecutions(EventSource session) {
 		LOG.trace( "Executing flush" );
 
@@ -72,6 +78,15 @@ protected CompletionStage<Void> performExecutions(EventSource session) {
 				} );
 	}
 
+	private WorkerOffload workerOffload(EventSource session) {
+		// a listener belongs to a single session factory, so the
+		// service never changes, and it's safe to publish it racily
+		if ( workerOffload == null ) {
+			workerOffload = session.getFactory().getServiceRegistry().getService( WorkerOffload.class );
+		}
+		return workerOffload;
+	}
+
 	private ReactiveActionQueue actionQueue(EventSource session) {
 		return session.unwrap( ReactiveSession.class ).getReactiveActionQueue();
 	}
@@ -89,50 +104,81 @@ protected CompletionStage<Void> flushEverythingToExecutions(FlushEvent event) th
 		LOG.trace( "Flushing session" );
 
 		EventSource session = event.getSession();
+		final ReactiveSessionStatistics statistics = ReactiveSessionStatistics.of( session );
 
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 		session.getInterceptor().preFlush( persistenceContext.managedEntitiesIterator() );
 
-		CompletionStage<Void> cascades = prepareEntityFlushes(session, persistenceContext);
+		final boolean skipUnmodified = canSkipUnmodifiedEntities( session, persistenceContext );
+		CompletionStage<Void> cascades = prepareEntityFlushes( session, persistenceContext, skipUnmodified );
 		// we could move this inside if we wanted to
 		// tolerate collection initializations during
 		// collection dirty checking:
+		final long collectionStart = statistics == null ? 0 : System.nanoTime();
 		prepareCollectionFlushes( persistenceContext );
+		if ( statistics != null ) {
+			statistics.eventLoop( FLUSH, "collection dirty checking", collectionStart );
+		}
 		// now, any collections that are initialized
 		// inside this block do not get updated - they
 		// are ignored until the next flush
 
-		return cascades.thenAccept( v -> {
-			persistenceContext.setFlushing(true);
+		return cascades.thenCompose( v -> {
+			if ( workerOffload( session ).offloadFlush( persistenceContext.getNumberOfManagedEntities() ) ) {
+				return WorkerOffload.offload( () -> {
+					flushEntitiesAndCollections( event, persistenceContext, skipUnmodified );
+					return null;
+				} );
+			}
+			final long flushStart = statistics == null ? 0 : System.nanoTime();
 			try {
-				int entityCount = flushEntities(event, persistenceContext);
-				int collectionCount = flushCollections(session, persistenceContext);
-
-				event.setNumberOfEntitiesProcessed(entityCount);
-				event.setNumberOfCollectionsProcessed(collectionCount);
+				flushEntitiesAndCollections( event, persistenceContext, skipUnmodified );
 			}
 			finally {
-				persistenceContext.setFlushing(false);
+				if ( statistics != null ) {
+					statistics.eventLoop( FLUSH, "dirty checking", flushStart );
+				}
 			}
+			return voidFuture();
 		});
 
 		//some statistics
 //		logFlushResults( event );
 	}
 
+	private void flushEntitiesAndCollections(
+			FlushEvent event,
+			PersistenceContext persistenceContext,
+			boolean skipUnmodified) {
+		persistenceContext.setFlushing(true);
+		try {
+			int entityCount = flushEntities(event, persistenceContext, skipUnmodified);
+			int collectionCount = flushCollections(event.getSession(), persistenceContext);
+
+			event.setNumberOfEntitiesProcessed(entityCount);
+			event.setNumberOfCollectionsProcessed(collectionCount);
+		}
+		finally {
+			persistenceContext.setFlushing(false);
+		}
+	}
+
 	/**
 	 * process cascade save/update at the start of a flush to discover
 	 * any newly referenced entity that must be passed to saveOrUpdate(),
 	 * and also apply orphan delete
 	 */
-	private CompletionStage<Void> prepareEntityFlushes(EventSource session, PersistenceContext persistenceContext) throws HibernateException {
+	private CompletionStage<Void> prepareEntityFlushes(
+			EventSource session,
+			PersistenceContext persistenceContext,
+			boolean skipUnmodified) throws HibernateException {
 
 		LOG.debug( "Processing flush-time cascades" );
 
 		IdentitySet copiedAlready = new IdentitySet( 10 );
 		//safe from concurrent modification because of how concurrentEntries() is implemented on IdentityMap
 		return CompletionStages.loop(
-				Arrays.stream( persistenceContext.reentrantSafeEntityEntries() )
+				Arrays.stream( entriesToFlush( persistenceContext, skipUnmodified ) )
 						.filter( entry -> flushable( entry.getValue() ) ),
 				entry -> cascadeOnFlush( session, entry.getValue().getPersister(), entry.getKey(), copiedAlready )
 		);
@@ -145,6 +191,47 @@ private static boolean flushable(EntityEntry entry) {
 			|| status == Status.READ_ONLY;
 	}
 
+	/**
+	 * The entries of the entities which the flush must visit. When the
+	 * modifications of entities are tracked, by bytecode enhancement or
+	 * by a {@link org.hibernate.reactive.engine.TrackedDirtinessStrategy},
+	 * we can skip unmodified tracked entities, which have nothing to
+	 * cascade to and no collections to reach, without even asking them
+	 * whether they're dirty. Otherwise, that's every entity.
+	 */
+	private static Map.Entry<Object,EntityEntry>[] entriesToFlush(
+			PersistenceContext persistenceContext,
+			boolean skipUnmodified) {
+		return skipUnmodified
+				? ( (ReactivePersistenceContextAdapter) persistenceContext ).reentrantSafeModifiedEntityEntries()
+				: persistenceContext.reentrantSafeEntityEntries();
+	}
+
+	/**
+	 * Can we skip the unmodified entities whose modifications are
+	 * tracked? Visiting them is a no-op for our own flush entity
+	 * listener, but perhaps not for a custom listener.
+	 */
+	private static boolean canSkipUnmodifiedEntities(EventSource session, PersistenceContext persistenceContext) {
+		if ( !( persistenceContext instanceof ReactivePersistenceContextAdapter )
+				|| !( (ReactivePersistenceContextAdapter) persistenceContext ).isTrackingModifications() ) {
+			return false;
+		}
+		for ( FlushEntityEventListener listener : flushEntityListeners( session ) ) {
+			if ( listener.getClass() != DefaultReactiveFlushEntityEventListener.class ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static Iterable<FlushEntityEventListener> flushEntityListeners(EventSource session) {
+		return session.getFactory().getServiceRegistry()
+				.getService( EventListenerRegistry.class )
+				.getEventListenerGroup( EventType.FLUSH_ENTITY )
+				.listeners();
+	}
+
 	/**
 	 * Initialize the flags of the CollectionEntry, including the
 	 * dirty check.
@@ -163,16 +250,15 @@ private void prepareCollectionFlushes(PersistenceContext persistenceContext) thr
 	 * 2. schedule any entity updates
 	 * 3. search out any reachable collections
 	 */
-	private int flushEntities(final FlushEvent event, final PersistenceContext persistenceContext) throws HibernateException {
+	private int flushEntities(
+			final FlushEvent event,
+			final PersistenceContext persistenceContext,
+			final boolean skipUnmodified) throws HibernateException {
 
 		LOG.trace( "Flushing entities and processing referenced collections" );
 
 		final EventSource source = event.getSession();
-		final Iterable<FlushEntityEventListener> flushListeners =
-				source.getFactory().getServiceRegistry()
-						.getService( EventListenerRegistry.class )
-						.getEventListenerGroup( EventType.FLUSH_ENTITY )
-						.listeners();
+		final Iterable<FlushEntityEventListener> flushListeners = flushEntityListeners( source );
 
 		// Among other things, updateReachables() will recursively load all
 		// collections that are moving roles. This might cause entities to
@@ -180,7 +266,7 @@ private int flushEntities(final FlushEvent event, final PersistenceContext persi
 
 		// So this needs to be safe from concurrent modification problems.
 
-		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
+		final Map.Entry<Object,EntityEntry>[] entityEntries = entriesToFlush( persistenceContext, skipUnmodified );
 		final int count = entityEntries.length;
 
 		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
@@ -196,6 +282,10 @@ private int flushEntities(final FlushEvent event, final PersistenceContext persi
 					listener.onFlushEntity( entityEvent );
 				}
 			}
+
+			if ( skipUnmodified ) {
+				( (ReactivePersistenceContextAdapter) persistenceContext ).afterFlushEntity( me.getKey(), entry );
+			}
 		}
 
 		source.getActionQueue().sortActions();
@@ -19,6 +19,7 @@
 import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.reactive.engine.ReactiveActionQueue;
 import org.hibernate.reactive.event.ReactiveAutoFlushEventListener;
+import org.hibernate.reactive.stat.impl.ReactiveSessionStatistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
@@ -50,6 +51,7 @@ public CompletionStage<Void> reactiveOnAutoFlush(AutoFlushEvent event) throws Hi
 							LOG.trace( "Need to execute flush" );
 							event.setFlushRequired( true );
 
+							final long flushStart = System.nanoTime();
 							return performExecutions( source )
 									.thenRun( () -> postFlush( source ) )
 									.thenRun( () -> postPostFlush( source ) )
@@ -58,6 +60,10 @@ public CompletionStage<Void> reactiveOnAutoFlush(AutoFlushEvent event) throws Hi
 										if ( statistics.isStatisticsEnabled() ) {
 											statistics.flush();
 										}
+										final ReactiveSessionStatistics reactiveStatistics = ReactiveSessionStatistics.of( source );
+										if ( reactiveStatistics != null ) {
+											reactiveStatistics.flush( System.nanoTime() - flushStart );
+										}
 									} );
 
 						}
@@ -10,6 +10,7 @@
 import org.hibernate.event.spi.*;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.reactive.event.ReactiveFlushEventListener;
+import org.hibernate.reactive.stat.impl.ReactiveSessionStatistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.jboss.logging.Logger;
 
@@ -37,6 +38,7 @@ public CompletionStage<Void> reactiveOnFlush(FlushEvent event) throws HibernateE
 				persistenceContext.getCollectionEntriesSize() > 0 ) {
 
 			source.getEventListenerManager().flushStart();
+			final long flushStart = System.nanoTime();
 
 			return flushEverythingToExecutions(event)
 					.thenCompose( v -> performExecutions(source) )
@@ -53,6 +55,10 @@ public CompletionStage<Void> reactiveOnFlush(FlushEvent event) throws HibernateE
 						if ( statistics.isStatisticsEnabled() ) {
 							statistics.flush();
 						}
+						final ReactiveSessionStatistics reactiveStatistics = ReactiveSessionStatistics.of( source );
+						if ( reactiveStatistics != null ) {
+							reactiveStatistics.flush( System.nanoTime() - flushStart );
+						}
 					} );
 		}
 		return voidFuture();
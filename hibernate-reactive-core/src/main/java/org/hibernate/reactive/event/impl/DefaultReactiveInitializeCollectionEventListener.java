@@ -12,7 +12,6 @@
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.entry.CollectionCacheEntry;
 import org.hibernate.collection.spi.PersistentCollection;
-import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -23,10 +22,13 @@
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.reactive.cache.impl.ReactiveCacheHelper;
 import org.hibernate.reactive.persister.collection.impl.ReactiveCollectionPersister;
+import org.hibernate.reactive.stat.impl.SessionDiagnostics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.pretty.MessageHelper.collectionInfoString;
+import static org.hibernate.reactive.util.impl.CompletionStages.falseFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 public class DefaultReactiveInitializeCollectionEventListener implements InitializeCollectionEventListener {
@@ -57,29 +59,35 @@ public CompletionStage<Void> onReactiveInitializeCollection(InitializeCollection
 				LOG.trace( "Checking second-level cache" );
 			}
 
-			final boolean foundInCache = initializeCollectionFromCache( ce.getLoadedKey(), loadedPersister, collection, source );
-			if ( foundInCache ) {
-				if ( LOG.isTraceEnabled() ) {
-					LOG.trace( "Collection initialized from cache" );
-				}
-				return voidFuture();
-			}
-			else {
-				if ( LOG.isTraceEnabled() ) {
-					LOG.trace( "Collection not cached" );
-				}
-				return ( (ReactiveCollectionPersister) loadedPersister ).reactiveInitialize( ce.getLoadedKey(), source )
-						.thenAccept( list -> {
+			return initializeCollectionFromCache( ce.getLoadedKey(), loadedPersister, collection, source )
+					.thenCompose( foundInCache -> {
+						if ( foundInCache ) {
 							if ( LOG.isTraceEnabled() ) {
-								LOG.trace( "Collection initialized" );
+								LOG.trace( "Collection initialized from cache" );
 							}
-
-							final StatisticsImplementor statistics = source.getFactory().getStatistics();
-							if ( statistics.isStatisticsEnabled() ) {
-								statistics.fetchCollection( loadedPersister.getRole() );
+							return voidFuture();
+						}
+						else {
+							if ( LOG.isTraceEnabled() ) {
+								LOG.trace( "Collection not cached" );
 							}
-						} );
-			}
+							final SessionDiagnostics diagnostics = SessionDiagnostics.of( source );
+							if ( diagnostics != null ) {
+								diagnostics.collectionFetched( loadedPersister.getRole() );
+							}
+							return ( (ReactiveCollectionPersister) loadedPersister ).reactiveInitialize( ce.getLoadedKey(), source )
+									.thenAccept( list -> {
+										if ( LOG.isTraceEnabled() ) {
+											LOG.trace( "Collection initialized" );
+										}
+
+										final StatisticsImplementor statistics = source.getFactory().getStatistics();
+										if ( statistics.isStatisticsEnabled() ) {
+											statistics.fetchCollection( loadedPersister.getRole() );
+										}
+									} );
+						}
+					} );
 		}
 		// Collection was already initialized.
 		return voidFuture();
@@ -96,7 +104,7 @@ public CompletionStage<Void> onReactiveInitializeCollection(InitializeCollection
 	 * @return true if we were able to initialize the collection from the cache;
 	 *         false otherwise.
 	 */
-	private boolean initializeCollectionFromCache(
+	private CompletionStage<Boolean> initializeCollectionFromCache(
 			Serializable id,
 			CollectionPersister persister,
 			PersistentCollection collection,
@@ -104,39 +112,39 @@ private boolean initializeCollectionFromCache(
 
 		if ( source.getLoadQueryInfluencers().hasEnabledFilters() && persister.isAffectedByEnabledFilters( source ) ) {
 			LOG.trace( "Disregarding cached version (if any) of collection due to enabled filters" );
-			return false;
+			return falseFuture();
 		}
 
 		final boolean useCache = persister.hasCache() && source.getCacheMode().isGetEnabled();
 
 		if ( !useCache ) {
-			return false;
+			return falseFuture();
 		}
 
 		final SessionFactoryImplementor factory = source.getFactory();
 		final CollectionDataAccess cacheAccessStrategy = persister.getCacheAccessStrategy();
 		final Object ck = cacheAccessStrategy.generateCacheKey( id, persister, factory, source.getTenantIdentifier() );
-		final Object ce = CacheHelper.fromSharedCache( source, ck, cacheAccessStrategy );
+		return ReactiveCacheHelper.cacheAccess( source ).get( cacheAccessStrategy, ck, source ).thenApply( ce -> {
+			final StatisticsImplementor statistics = factory.getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				if ( ce == null ) {
+					statistics.collectionCacheMiss( persister.getNavigableRole(), cacheAccessStrategy.getRegion().getName() );
+				}
+				else {
+					statistics.collectionCacheHit( persister.getNavigableRole(), cacheAccessStrategy.getRegion().getName() );
+				}
+			}
 
-		final StatisticsImplementor statistics = factory.getStatistics();
-		if ( statistics.isStatisticsEnabled() ) {
 			if ( ce == null ) {
-				statistics.collectionCacheMiss( persister.getNavigableRole(), cacheAccessStrategy.getRegion().getName() );
+				return false;
 			}
-			else {
-				statistics.collectionCacheHit( persister.getNavigableRole(), cacheAccessStrategy.getRegion().getName() );
-			}
-		}
-
-		if ( ce == null ) {
-			return false;
-		}
 
-		CollectionCacheEntry cacheEntry = (CollectionCacheEntry) persister.getCacheEntryStructure().destructure( ce, factory );
+			CollectionCacheEntry cacheEntry = (CollectionCacheEntry) persister.getCacheEntryStructure().destructure( ce, factory );
 
-		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
-		cacheEntry.assemble( collection, persister, persistenceContext.getCollectionOwner( id, persister ) );
-		persistenceContext.getCollectionEntry( collection ).postInitialize( collection );
-		return true;
+			final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
+			cacheEntry.assemble( collection, persister, persistenceContext.getCollectionOwner( id, persister ) );
+			persistenceContext.getCollectionEntry( collection ).postInitialize( collection );
+			return true;
+		} );
 	}
 }
@@ -29,8 +29,12 @@
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.reactive.cache.ReactiveCacheAccess;
+import org.hibernate.reactive.cache.impl.ReactiveCacheHelper;
+import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
 import org.hibernate.reactive.event.ReactiveLoadEventListener;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
+import org.hibernate.reactive.stat.impl.SessionDiagnostics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.tuple.IdentifierProperty;
 import org.hibernate.tuple.entity.EntityMetamodel;
@@ -41,12 +45,15 @@
 import java.io.Serializable;
 import java.util.concurrent.CompletionStage;
 
+import static java.util.function.Function.identity;
+
 import static org.hibernate.pretty.MessageHelper.infoString;
 import static org.hibernate.reactive.session.impl.SessionUtil.checkEntityFound;
 import static org.hibernate.reactive.session.impl.SessionUtil.throwEntityNotFound;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.nullFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.returnNullorRethrow;
+import static org.hibernate.reactive.util.impl.CompletionStages.returnOrRethrow;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
@@ -66,6 +73,15 @@ public class DefaultReactiveLoadEventListener implements LoadEventListener, Reac
 
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( DefaultReactiveLoadEventListener.class );
 
+	/**
+	 * Stands in for an entity whose resolution was deferred, in a
+	 * result which will be discarded and assembled again once the
+	 * entity has been loaded.
+	 *
+	 * @see ReactivePersistenceContextAdapter#deferEntityResolution(EntityKey)
+	 */
+	private static final Object DEFERRED_ENTITY = new Object();
+
 	/**
 	 * This method is not reactive but we expect it to be called only when a proxy can be returned.
 	 * <p>
@@ -457,7 +473,11 @@ private CompletionStage<Object> returnNarrowedProxy(
 			implStage = nullFuture();
 		}
 
-		return implStage.thenApply( impl -> persistenceContext.narrowProxy( proxy, persister, keyToLoad, impl ) );
+		// a placeholder for a deferred entity must never become the
+		// implementation of the proxy, the result will be discarded
+		return implStage.thenApply( impl -> impl == DEFERRED_ENTITY
+				? impl
+				: persistenceContext.narrowProxy( proxy, persister, keyToLoad, impl ) );
 	}
 
 	/**
@@ -533,42 +553,41 @@ private CompletionStage<Object> lockAndLoad(
 			SessionImplementor source) {
 
 		final boolean canWriteToCache = persister.canWriteToCache();
-		final SoftLock lock;
+		final ReactiveCacheAccess cacheAccess = ReactiveCacheHelper.cacheAccess( source );
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final CompletionStage<SoftLock> lock;
 		final Object cacheKey;
 		if ( canWriteToCache ) {
-			EntityDataAccess cache = persister.getCacheAccessStrategy();
 			cacheKey = cache.generateCacheKey(
 					event.getEntityId(),
 					persister,
 					source.getFactory(),
 					source.getTenantIdentifier()
 			);
-			lock = cache.lockItem( source, cacheKey, null );
+			lock = cacheAccess.lockItem( cache, cacheKey, null, source );
 		}
 		else {
 			cacheKey = null;
-			lock = null;
-		}
-
-		try {
-			return load( event, persister, keyToLoad, options )
-					.whenComplete( (v, x) -> {
-						if ( canWriteToCache ) {
-							persister.getCacheAccessStrategy().unlockItem( source, cacheKey, lock );
-						}
-					} )
-					.thenApply( entity -> source.getPersistenceContextInternal().proxyFor( persister, keyToLoad, entity ) );
-		}
-		catch (HibernateException he) {
-			//in case load() throws an exception
-			if ( canWriteToCache ) {
-				persister.getCacheAccessStrategy().unlockItem( source, cacheKey, lock );
-			}
-			throw he;
-		}
+			lock = nullFuture();
+		}
+
+		final CompletionStage<Object> loaded = lock.thenCompose(
+				softLock -> voidFuture()
+						// in case load() throws an exception
+						.thenCompose( v -> load( event, persister, keyToLoad, options ) )
+						.handle( (entity, x) -> {
+							final CompletionStage<Void> unlock = canWriteToCache
+									? cacheAccess.unlockItem( cache, cacheKey, softLock, source )
+									: voidFuture();
+							return unlock.thenApply( v -> returnOrRethrow( x, entity ) );
+						} )
+						.thenCompose( identity() )
+		);
+		return loaded.thenApply( entity -> entity == DEFERRED_ENTITY
+				? entity
+				: source.getPersistenceContextInternal().proxyFor( persister, keyToLoad, entity ) );
 	}
 
-
 	/**
 	 * Coordinates the efforts to load a given entity.  First, an attempt is
 	 * made to load the entity from the session-level cache.  If not found there,
@@ -609,32 +628,75 @@ private CompletionStage<Object> doLoad(
 			return completedFuture( managed );
 		}
 
-		entity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache( event, persister, keyToLoad );
-		if ( entity != null ) {
-			if ( traceEnabled ) {
-				LOG.tracev(
-						"Resolved object in second-level cache: {0}",
-						infoString( persister, event.getEntityId(), session.getFactory() )
-				);
+		return loadFromSecondLevelCache( event, persister, keyToLoad ).thenCompose( cached -> {
+			if ( cached != null ) {
+				if ( traceEnabled ) {
+					LOG.tracev(
+							"Resolved object in second-level cache: {0}",
+							infoString( persister, event.getEntityId(), session.getFactory() )
+					);
+				}
+				cacheNaturalId( event, persister, session, cached );
+				return completedFuture( cached );
 			}
-			cacheNaturalId( event, persister, session, entity );
-			return completedFuture( entity );
-		}
-		else {
-			if ( traceEnabled ) {
-				LOG.tracev(
-						"Object not resolved in any cache: {0}",
-						infoString( persister, event.getEntityId(), session.getFactory() )
-				);
+			else {
+				if ( traceEnabled ) {
+					LOG.tracev(
+							"Object not resolved in any cache: {0}",
+							infoString( persister, event.getEntityId(), session.getFactory() )
+					);
+				}
+				if ( isResolutionDeferred( session, keyToLoad ) ) {
+					// the entity will be loaded later, together with
+					// the others that are missing from the cache
+					return completedFuture( DEFERRED_ENTITY );
+				}
+				return loadFromDatasource( event, persister )
+						.thenApply( optional -> {
+							if ( optional!=null ) {
+								cacheNaturalId( event, persister, session, optional );
+							}
+							return optional;
+						} );
 			}
-			return loadFromDatasource( event, persister )
-					.thenApply( optional -> {
-						if ( optional!=null ) {
-							cacheNaturalId( event, persister, session, optional );
-						}
-						return optional;
-					} );
+		} );
+	}
+
+	/**
+	 * Obtain the entity from the second-level cache, using the entry
+	 * returned by the {@link org.hibernate.reactive.cache.ReactiveCacheAccess},
+	 * so that we never block on a synchronous read of the cache.
+	 *
+	 * @return the entity, or null if it's not in the cache
+	 */
+	private static CompletionStage<Object> loadFromSecondLevelCache(
+			LoadEvent event,
+			EntityPersister persister,
+			EntityKey keyToLoad) {
+		final EventSource session = event.getSession();
+		final boolean useCache = persister.canReadFromCache()
+				&& session.getCacheMode().isGetEnabled()
+				&& event.getLockMode().lessThan( LockMode.READ );
+		if ( !useCache ) {
+			return nullFuture();
 		}
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		if ( persistenceContext instanceof ReactivePersistenceContextAdapter
+				&& ( (ReactivePersistenceContextAdapter) persistenceContext ).isAssemblingFromCache() ) {
+			// Hibernate ORM is waiting for the result synchronously,
+			// and it's already reading from the cache anyway
+			return completedFuture( CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache( event, persister, keyToLoad ) );
+		}
+		return ReactiveCacheHelper.getCachedEntity( persister, event.getEntityId(), session )
+				.thenApply( cached -> cached == null
+						? null
+						: ReactiveCacheHelper.assembleEntity( event, persister, keyToLoad, cached ) );
+	}
+
+	private static boolean isResolutionDeferred(EventSource session, EntityKey keyToLoad) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		return persistenceContext instanceof ReactivePersistenceContextAdapter
+				&& ( (ReactivePersistenceContextAdapter) persistenceContext ).deferEntityResolution( keyToLoad );
 	}
 
 	private void cacheNaturalId(LoadEvent event, EntityPersister persister, EventSource session, Object entity) {
@@ -676,6 +738,11 @@ protected CompletionStage<Object> loadFromDatasource(LoadEvent event, EntityPers
 			statistics.fetchEntity( event.getEntityClassName() );
 		}
 
+		final SessionDiagnostics diagnostics = SessionDiagnostics.of( event.getSession() );
+		if ( event.isAssociationFetch() && diagnostics != null ) {
+			diagnostics.entityFetched( persister.getEntityName(), persister.isBatchLoadable() );
+		}
+
 		return entity;
 	}
 
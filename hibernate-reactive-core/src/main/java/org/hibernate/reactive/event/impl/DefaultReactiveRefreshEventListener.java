@@ -31,10 +31,14 @@
 import org.hibernate.type.Type;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
 
 import static org.hibernate.pretty.MessageHelper.infoString;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
@@ -145,35 +149,7 @@ private CompletionStage<Void> reactiveOnRefresh(RefreshEvent event, IdentitySet
 		return cascadeRefresh(source, persister, entity, refreshedAlready)
 				.thenCompose(v -> {
 
-					if ( e != null ) {
-						final EntityKey key = source.generateEntityKey( id, persister );
-						persistenceContext.removeEntity( key );
-						if ( persister.hasCollections() ) {
-							new EvictVisitor(source, entity ).process( entity, persister );
-						}
-					}
-
-					if ( persister.canWriteToCache() ) {
-						Object previousVersion = null;
-						if ( persister.isVersionPropertyGenerated() ) {
-							// we need to grab the version value from the entity, otherwise
-							// we have issues with generated-version entities that may have
-							// multiple actions queued during the same flush
-							previousVersion = persister.getVersion( entity );
-						}
-						final EntityDataAccess cache = persister.getCacheAccessStrategy();
-						final Object ck = cache.generateCacheKey(
-								id,
-								persister,
-								source.getFactory(),
-								source.getTenantIdentifier()
-						);
-						final SoftLock lock = cache.lockItem(source, ck, previousVersion );
-						cache.remove(source, ck );
-						source.getActionQueue().registerProcess( (success, session) -> cache.unlockItem( session, ck, lock ) );
-					}
-
-					evictCachedCollections( persister, id, source);
+					evict( source, e, persister, id, entity );
 
 					String previousFetchProfile = source.getLoadQueryInfluencers().getInternalFetchProfile();
 					source.getLoadQueryInfluencers().setInternalFetchProfile( "refresh" );
@@ -248,6 +224,195 @@ private CompletionStage<Void> reactiveOnRefresh(RefreshEvent event, IdentitySet
 				} );
 	}
 
+	/**
+	 * Handle the given refresh events, which all request the same lock
+	 * options, reloading all the given entities of a given type with a
+	 * single query, or batch of queries, instead of one query per entity.
+	 * Since the entities are refreshed as a group, a cascade from one
+	 * entity of the group to another does not refresh it a second time.
+	 * An entity which already holds a lock that is more restrictive
+	 * than the requested one is reloaded in a group with the entities
+	 * holding the same lock, as in {@link #reactiveOnRefresh(RefreshEvent, IdentitySet)}.
+	 */
+	@Override
+	public CompletionStage<Void> reactiveOnRefreshAll(List<RefreshEvent> events) throws HibernateException {
+		if ( events.isEmpty() ) {
+			return voidFuture();
+		}
+
+		final EventSource source = events.get( 0 ).getSession();
+		final LockOptions lockOptions = events.get( 0 ).getLockOptions();
+		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
+		final IdentitySet refreshedAlready = new IdentitySet( events.size() );
+		final List<Object> entities = new ArrayList<>( events.size() );
+		final List<RefreshEvent> others = new ArrayList<>();
+		return loop( events, event -> {
+			boolean detached = event.getEntityName() != null
+					? !source.contains( event.getEntityName(), event.getObject() )
+					: !source.contains( event.getObject() );
+			if ( detached ) {
+				// Hibernate Reactive doesn't support detached instances in refresh()
+				throw new IllegalArgumentException("unmanaged instance passed to refresh()");
+			}
+			return ( (ReactiveSession) source ).reactiveFetch( event.getObject(), true )
+					.thenAccept( entity -> {
+						final EntityEntry e = persistenceContext.getEntry( entity );
+						if ( e == null ) {
+							// a transient instance needs special handling,
+							// so just refresh it on its own
+							others.add( event );
+						}
+						else if ( refreshedAlready.add( entity ) ) {
+							if ( !e.isExistsInDatabase() ) {
+								throw new UnresolvableObjectException(
+										e.getId(),
+										"this instance does not yet exist as a row in the database"
+								);
+							}
+							entities.add( entity );
+						}
+					} );
+		} )
+				// cascade the refresh prior to refreshing the entities
+				.thenCompose( v -> loop( entities, entity -> cascadeRefresh(
+						source,
+						persistenceContext.getEntry( entity ).getPersister(),
+						entity,
+						refreshedAlready
+				) ) )
+				.thenCompose( v -> {
+					// group the entities by type, and by the lock mode to reload them with
+					final Map<EntityPersister, Map<LockMode, List<Object>>> groups = new LinkedHashMap<>();
+					for ( Object entity : entities ) {
+						final EntityEntry e = persistenceContext.getEntry( entity );
+						groups.computeIfAbsent( e.getPersister(), persister -> new LinkedHashMap<>() )
+								.computeIfAbsent(
+										lockModeToUse( lockOptions.getLockMode(), e.getLockMode() ),
+										lockMode -> new ArrayList<>()
+								)
+								.add( entity );
+					}
+					return loop( groups.entrySet(), byPersister -> loop(
+							byPersister.getValue().entrySet(),
+							group -> {
+								LockOptions lockOptionsToUse = lockOptions;
+								if ( group.getKey() != lockOptions.getLockMode() ) {
+									lockOptionsToUse = LockOptions.copy( lockOptions, new LockOptions() );
+									lockOptionsToUse.setLockMode( group.getKey() );
+								}
+								return refreshAll( source, byPersister.getKey(), group.getValue(), lockOptionsToUse );
+							}
+					) );
+				} )
+				.thenCompose( v -> loop( others, event -> reactiveOnRefresh( event, refreshedAlready ) ) );
+	}
+
+	private CompletionStage<Void> refreshAll(
+			EventSource source,
+			EntityPersister persister,
+			List<Object> entities,
+			LockOptions lockOptions) {
+		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
+		final Serializable[] ids = new Serializable[entities.size()];
+		final boolean[] readOnly = new boolean[entities.size()];
+		final LockMode[] postRefreshLockModes = new LockMode[entities.size()];
+		for ( int i = 0; i < ids.length; i++ ) {
+			final Object entity = entities.get( i );
+			final EntityEntry e = persistenceContext.getEntry( entity );
+			ids[i] = e.getId();
+			readOnly[i] = !persister.isMutable() || e.isReadOnly();
+			if ( e.getLockMode().greaterThan( lockOptions.getLockMode() ) && isExclusive( e.getLockMode() ) ) {
+				// reloaded with READ, so reset the lock mode after the refresh completes
+				postRefreshLockModes[i] = e.getLockMode();
+			}
+			evict( source, e, persister, ids[i], entity );
+		}
+
+		String previousFetchProfile = source.getLoadQueryInfluencers().getInternalFetchProfile();
+		source.getLoadQueryInfluencers().setInternalFetchProfile( "refresh" );
+
+		return ( (ReactiveSession) source ).reactiveReload( persister, ids, entities.toArray(), lockOptions )
+				.thenAccept( loaded -> {
+					final IdentitySet refreshed = new IdentitySet( loaded.size() );
+					refreshed.addAll( loaded );
+					for ( int i = 0; i < ids.length; i++ ) {
+						final Object entity = entities.get( i );
+						if ( !refreshed.contains( entity ) ) {
+							throw new UnresolvableObjectException( ids[i], persister.getEntityName() );
+						}
+						if ( postRefreshLockModes[i] != null ) {
+							// the refresh operation actually creates a new entry
+							persistenceContext.getEntry( entity ).setLockMode( postRefreshLockModes[i] );
+						}
+						// Keep the same read-only/modifiable setting for the entity that it had before refreshing
+						source.setReadOnly( entity, readOnly[i] );
+					}
+				} )
+				.whenComplete( (v, t) -> source.getLoadQueryInfluencers().setInternalFetchProfile( previousFetchProfile ) );
+	}
+
+	/**
+	 * The lock mode to reload an entity with, given the requested lock
+	 * mode and the lock mode the entity currently holds: an entity
+	 * which already holds an exclusive lock on its row is reloaded with
+	 * {@link LockMode#READ}.
+	 */
+	private static LockMode lockModeToUse(LockMode requestedLockMode, LockMode currentLockMode) {
+		if ( currentLockMode.greaterThan( requestedLockMode ) ) {
+			return isExclusive( currentLockMode ) ? LockMode.READ : currentLockMode;
+		}
+		else {
+			return requestedLockMode;
+		}
+	}
+
+	/**
+	 * The Loader/Locker mechanism does not allow for {@link LockMode#WRITE}
+	 * locks, but our transaction already holds the exclusive lock on the
+	 * underlying row in these lock modes.
+	 */
+	private static boolean isExclusive(LockMode lockMode) {
+		return lockMode == LockMode.WRITE
+				|| lockMode == LockMode.PESSIMISTIC_WRITE
+				|| lockMode == LockMode.PESSIMISTIC_READ;
+	}
+
+	/**
+	 * Remove the given entity from the persistence context and from the
+	 * second-level cache, before its state is reloaded.
+	 */
+	private void evict(EventSource source, EntityEntry e, EntityPersister persister, Serializable id, Object entity) {
+		if ( e != null ) {
+			final EntityKey key = source.generateEntityKey( id, persister );
+			source.getPersistenceContextInternal().removeEntity( key );
+			if ( persister.hasCollections() ) {
+				new EvictVisitor(source, entity ).process( entity, persister );
+			}
+		}
+
+		if ( persister.canWriteToCache() ) {
+			Object previousVersion = null;
+			if ( persister.isVersionPropertyGenerated() ) {
+				// we need to grab the version value from the entity, otherwise
+				// we have issues with generated-version entities that may have
+				// multiple actions queued during the same flush
+				previousVersion = persister.getVersion( entity );
+			}
+			final EntityDataAccess cache = persister.getCacheAccessStrategy();
+			final Object ck = cache.generateCacheKey(
+					id,
+					persister,
+					source.getFactory(),
+					source.getTenantIdentifier()
+			);
+			final SoftLock lock = cache.lockItem(source, ck, previousVersion );
+			cache.remove(source, ck );
+			source.getActionQueue().registerProcess( (success, session) -> cache.unlockItem( session, ck, lock ) );
+		}
+
+		evictCachedCollections( persister, id, source);
+	}
+
 	private CompletionStage<Void> cascadeRefresh(
 			EventSource source,
 			EntityPersister persister,
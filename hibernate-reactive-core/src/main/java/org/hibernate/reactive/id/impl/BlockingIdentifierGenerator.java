@@ -6,7 +6,10 @@
 package org.hibernate.reactive.id.impl;
 
 import org.hibernate.reactive.id.ReactiveIdentifierGenerator;
+import org.hibernate.reactive.jfr.impl.ReactiveEvents;
 import org.hibernate.reactive.session.ReactiveConnectionSupplier;
+import org.hibernate.reactive.session.ReactiveQueryExecutor;
+import org.hibernate.reactive.stat.impl.ReactiveSessionStatistics;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -52,6 +55,23 @@ protected synchronized long next(long hi) {
         return hi;
     }
 
+    private CompletionStage<Long> fetchHiValue(ReactiveConnectionSupplier session) {
+        final Object event = ReactiveEvents.beginIdentifierBlock();
+        final CompletionStage<Long> hi = nextHiValue( session );
+        return event == null
+                ? hi
+                : hi.whenComplete( (id, failure) -> ReactiveEvents.endIdentifierBlock( event, getClass().getSimpleName(), failure ) );
+    }
+
+    private static void recordRoundTrip(ReactiveConnectionSupplier session) {
+        if ( session instanceof ReactiveQueryExecutor ) {
+            ReactiveSessionStatistics statistics = ( (ReactiveQueryExecutor) session ).getReactiveStatistics();
+            if ( statistics != null ) {
+                statistics.identifierRoundTrip();
+            }
+        }
+    }
+
     @Override
     public CompletionStage<Long> generate(ReactiveConnectionSupplier session, Object entity) {
         long local = next();
@@ -68,7 +88,8 @@ public CompletionStage<Long> generate(ReactiveConnectionSupplier session, Object
                     // make a queue for any concurrent streams
                     queue = new ArrayList<>();
                     // go off and fetch the next hi value from db
-                    nextHiValue(session).thenAccept( id -> {
+                    recordRoundTrip( session );
+                    fetchHiValue( session ).thenAccept( id -> {
 //						Vertx.currentContext().runOnContext(v -> {
                         List<CompletableFuture<Long>> list;
                         synchronized (this) {
@@ -0,0 +1,61 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.jfr.impl;
+
+/**
+ * Emits the {@linkplain org.hibernate.reactive.jfr events} for the
+ * JDK Flight Recorder.
+ * <p>
+ * This implementation, for Java 8, does nothing. On Java 11 and
+ * above, it's replaced by the implementation in
+ * {@code META-INF/versions/11} of the multi-release jar, which
+ * declares exactly the same methods.
+ * <p>
+ * Each {@code begin} method returns {@code null} when the event is
+ * disabled, and then the caller must not call the {@code end}
+ * method, so that a disabled event costs nothing more than the
+ * {@code begin} call.
+ */
+public final class ReactiveEvents {
+
+	private ReactiveEvents() {
+	}
+
+	public static Object beginStatement() {
+		return null;
+	}
+
+	public static void endStatement(Object event, String sql, int batchSize, Throwable failure) {
+	}
+
+	public static Object beginConnectionAcquisition() {
+		return null;
+	}
+
+	public static void endConnectionAcquisition(Object event, Throwable failure) {
+	}
+
+	public static Object beginFlush() {
+		return null;
+	}
+
+	public static void endFlush(Object event, int actions, Throwable failure) {
+	}
+
+	public static Object beginQuery() {
+		return null;
+	}
+
+	public static void endQuery(Object event, String hql, int results, Throwable failure) {
+	}
+
+	public static Object beginIdentifierBlock() {
+		return null;
+	}
+
+	public static void endIdentifierBlock(Object event, String generator, Throwable failure) {
+	}
+}
@@ -0,0 +1,23 @@
+/**
+ * Events for the JDK Flight Recorder, which allow the time spent
+ * on an event loop to be attributed to statements, flushes,
+ * queries, connection acquisition, and the allocation of blocks of
+ * identifiers:
+ * <ul>
+ * <li>{@code org.hibernate.reactive.Statement},
+ * <li>{@code org.hibernate.reactive.ConnectionAcquisition},
+ * <li>{@code org.hibernate.reactive.Flush},
+ * <li>{@code org.hibernate.reactive.Query}, and
+ * <li>{@code org.hibernate.reactive.IdentifierBlock}.
+ * </ul>
+ * The events are only available on Java 11 and above, and are
+ * disabled by default. They may be enabled in the configuration of
+ * a recording, for example:
+ * <pre>
+ * jfr configure org.hibernate.reactive.Statement#enabled=true ...
+ * </pre>
+ * or by specifying {@code +org.hibernate.reactive.Statement#enabled=true}
+ * in a {@code .jfc} file. When an event is disabled, or when no
+ * recording is running, it costs a single check.
+ */
+package org.hibernate.reactive.jfr;
@@ -11,12 +11,16 @@
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.dialect.pagination.LimitHandler;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.loader.Loader;
 import org.hibernate.reactive.adaptor.impl.PreparedStatementAdaptor;
+import org.hibernate.reactive.cache.impl.PrefetchedQueryResultsCache;
+import org.hibernate.reactive.cache.impl.ReactiveCacheHelper;
+import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
 import org.hibernate.reactive.event.impl.UnexpectedAccessToTheDatabase;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.transform.CacheableResultTransformer;
@@ -26,12 +30,15 @@
 import java.io.Serializable;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.nullFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.logSqlException;
 import static org.hibernate.reactive.util.impl.CompletionStages.returnOrRethrow;
 
@@ -47,6 +54,12 @@ public interface CachingReactiveLoader extends ReactiveLoader {
 
 	CoreMessageLogger log = CoreLogging.messageLogger( Loader.class );
 
+	/**
+	 * Returned by {@link #assembleResultFromQueryCache} when the cached
+	 * results refer to entities which must be loaded from the database.
+	 */
+	List<Object> UNRESOLVED_ENTITIES = Collections.unmodifiableList( new ArrayList<>() );
+
 	default CompletionStage<List<Object>> doReactiveList(
 			final String sql,
 			final String queryIdentifier,
@@ -94,9 +107,42 @@ default CompletionStage<List<Object>> reactiveListUsingQueryCache(
 
 		QueryKey key = queryKey( sql, session, queryParameters );
 
+		return getFromQueryCache( queryIdentifier, session, queryCache, key )
+				.thenCompose( cacheItem -> reactiveListUsingQueryCache(
+						sql,
+						queryIdentifier,
+						session,
+						queryParameters,
+						querySpaces,
+						resultTypes,
+						queryCache,
+						key,
+						cacheItem
+				) );
+	}
+
+	default CompletionStage<List<Object>> reactiveListUsingQueryCache(
+			final String sql,
+			final String queryIdentifier,
+			final SharedSessionContractImplementor session,
+			final QueryParameters queryParameters,
+			final Set<Serializable> querySpaces,
+			final Type[] resultTypes,
+			final QueryResultsCache queryCache,
+			final QueryKey key,
+			final Object cacheItem) {
+
+		// assemble the results from the entry we already have,
+		// instead of reading it from the query cache again
+		final QueryResultsCache cachedResults = cacheItem == null
+				? null
+				: new PrefetchedQueryResultsCache( queryCache, cacheItem );
+
 		final List<Object> cachedList;
 		try {
-			cachedList = getReactiveResultFromQueryCache( session, queryParameters, querySpaces, resultTypes, queryCache, key );
+			cachedList = cachedResults != null
+					? assembleResultFromQueryCache( session, queryParameters, querySpaces, resultTypes, cachedResults, key )
+					: null;
 		}
 		catch (UnexpectedAccessToTheDatabase e) {
 			log.debugf( "Some of the entities are not in the cache. The cache will be ignored for query: %s ", sql );
@@ -109,10 +155,22 @@ default CompletionStage<List<Object>> reactiveListUsingQueryCache(
 
 		CompletionStage<List<Object>> list;
 		if ( cachedList == null ) {
-			list = doReactiveList( sql, queryIdentifier, session, queryParameters, key.getResultTransformer() )
-					.thenApply( cachableList -> {
-						putReactiveResultInQueryCache( session, queryParameters, resultTypes, queryCache, key, cachableList );
-						return cachableList;
+			list = doReactiveListAndPutInQueryCache( sql, queryIdentifier, session, queryParameters, resultTypes, queryCache, key );
+		}
+		else if ( cachedList == UNRESOLVED_ENTITIES ) {
+			// Some of the entities in the query results aren't in the second-level cache
+			// or in the session, so load them all at once and then assemble the results
+			ReactivePersistenceContextAdapter persistenceContext =
+					(ReactivePersistenceContextAdapter) session.getPersistenceContextInternal();
+			list = persistenceContext.reactiveLoadDeferredEntities()
+					.thenCompose( v -> {
+						final List<Object> assembledList =
+								assembleResultFromQueryCache( session, queryParameters, querySpaces, resultTypes, cachedResults, key );
+						// if there's still something missing, an entity must have been deleted,
+						// or the result was evicted, so go to the database after all
+						return assembledList == null || assembledList == UNRESOLVED_ENTITIES
+								? doReactiveListAndPutInQueryCache( sql, queryIdentifier, session, queryParameters, resultTypes, queryCache, key )
+								: completedFuture( assembledList );
 					} );
 		}
 		else {
@@ -128,6 +186,89 @@ default CompletionStage<List<Object>> reactiveListUsingQueryCache(
 		);
 	}
 
+	/**
+	 * Obtain the entry of the query cache for the query from the
+	 * {@link org.hibernate.reactive.cache.ReactiveCacheAccess}, so
+	 * that we never block on a synchronous read of the cache.
+	 *
+	 * @return the entry, or {@code null} if the results are not in
+	 *         the cache
+	 */
+	default CompletionStage<Object> getFromQueryCache(
+			String queryIdentifier,
+			SharedSessionContractImplementor session,
+			QueryResultsCache queryCache,
+			QueryKey key) {
+		if ( !session.getCacheMode().isGetEnabled() ) {
+			return nullFuture();
+		}
+
+		return ReactiveCacheHelper.cacheAccess( session )
+				.getFromCache( queryCache.getRegion(), key, session )
+				.thenApply( cached -> {
+					if ( cached == null ) {
+						final StatisticsImplementor statistics = session.getFactory().getStatistics();
+						if ( statistics.isStatisticsEnabled() ) {
+							statistics.queryCacheMiss( queryIdentifier, queryCache.getRegion().getName() );
+						}
+					}
+					return cached;
+				} );
+	}
+
+	/**
+	 * Assemble the results of the query from the query cache, without
+	 * going to the database for entities which are missing from the
+	 * second-level cache.
+	 *
+	 * @return the results, {@code null} if they're not in the query
+	 *         cache, or {@link #UNRESOLVED_ENTITIES} if there are some
+	 *         entities which need to be loaded first
+	 */
+	default List<Object> assembleResultFromQueryCache(
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters,
+			Set<Serializable> querySpaces,
+			Type[] resultTypes,
+			QueryResultsCache queryCache,
+			QueryKey key) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		if ( !( persistenceContext instanceof ReactivePersistenceContextAdapter ) ) {
+			return getReactiveResultFromQueryCache( session, queryParameters, querySpaces, resultTypes, queryCache, key );
+		}
+
+		final ReactivePersistenceContextAdapter adapter = (ReactivePersistenceContextAdapter) persistenceContext;
+		adapter.beginDeferredEntityResolution();
+		try {
+			final List<Object> cachedList =
+					getReactiveResultFromQueryCache( session, queryParameters, querySpaces, resultTypes, queryCache, key );
+			if ( cachedList != null && adapter.hasDeferredEntities() ) {
+				// the list contains placeholders for the missing entities,
+				// we'll assemble it again, after loading the entities
+				return UNRESOLVED_ENTITIES;
+			}
+			return cachedList;
+		}
+		finally {
+			adapter.endDeferredEntityResolution();
+		}
+	}
+
+	default CompletionStage<List<Object>> doReactiveListAndPutInQueryCache(
+			String sql,
+			String queryIdentifier,
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters,
+			Type[] resultTypes,
+			QueryResultsCache queryCache,
+			QueryKey key) {
+		return doReactiveList( sql, queryIdentifier, session, queryParameters, key.getResultTransformer() )
+				.thenApply( cachableList -> {
+					putReactiveResultInQueryCache( session, queryParameters, resultTypes, queryCache, key, cachableList );
+					return cachableList;
+				} );
+	}
+
 	default List<?> transform(QueryParameters queryParameters, QueryKey key, List<Object> result,
 							  ResultTransformer resolvedTransformer) {
 		if (resolvedTransformer == null) {
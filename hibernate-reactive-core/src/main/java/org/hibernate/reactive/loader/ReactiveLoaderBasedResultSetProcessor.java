@@ -16,7 +16,11 @@
 import org.hibernate.loader.plan.exec.query.spi.NamedParameterContext;
 import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.Loadable;
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
+import org.hibernate.reactive.engine.impl.WorkerOffload;
+import org.hibernate.reactive.stat.impl.ReactiveSessionStatistics;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.transform.ResultTransformer;
 
@@ -27,6 +31,7 @@
 import java.util.Objects;
 import java.util.concurrent.CompletionStage;
 
+import static org.hibernate.reactive.stat.ReactiveStatistics.EventLoopPhase.HYDRATION;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
@@ -39,6 +44,7 @@ public class ReactiveLoaderBasedResultSetProcessor implements ReactiveResultSetP
 
 	private final ReactiveLoaderBasedLoader loader;
 	private final Iterable<PreLoadEventListener> listeners;
+	private final WorkerOffload offload;
 
 	public ReactiveLoaderBasedResultSetProcessor(ReactiveLoaderBasedLoader loader) {
 		this.loader = loader;
@@ -48,6 +54,7 @@ public ReactiveLoaderBasedResultSetProcessor(ReactiveLoaderBasedLoader loader) {
 				.getService(EventListenerRegistry.class)
 				.getEventListenerGroup(EventType.PRE_LOAD)
 				.listeners();
+		this.offload = loader.getFactory().getServiceRegistry().getService( WorkerOffload.class );
 	}
 
 	/**
@@ -69,30 +76,71 @@ public CompletionStage<List<Object>> reactiveExtractResults(
 		final boolean createSubselects = loader.isSubselectLoadingEnabled();
 		final List<EntityKey[]> subselectResultKeys = createSubselects ? new ArrayList<>() : null;
 		final List<Object> hydratedObjects = entitySpan == 0 ? null : new ArrayList<>(entitySpan * 10);
+		final ReactiveSessionStatistics statistics = ReactiveSessionStatistics.of( session );
+		final long hydrationStart = statistics == null ? 0 : System.nanoTime();
+
+		final boolean offloaded = rs instanceof ResultSetAdaptor
+				&& offload.offloadHydration( ( (ResultSetAdaptor) rs ).getRowCount() );
+		final CompletionStage<List<Object>> rows;
+		if ( offloaded ) {
+			rows = WorkerOffload.offload( () -> {
+				try {
+					return loader.getRowsFromResultSet(
+							rs,
+							queryParameters,
+							session,
+							returnProxies,
+							forcedResultTransformer,
+							maxRows,
+							hydratedObjects,
+							subselectResultKeys );
+				}
+				catch (SQLException sqle) {
+					throw session.getJdbcServices().getSqlExceptionHelper()
+							.convert( sqle, "could not read query results" );
+				}
+			} );
+		}
+		else {
+			final List<Object> results = loader.getRowsFromResultSet(
+					rs,
+					queryParameters,
+					session,
+					returnProxies,
+					forcedResultTransformer,
+					maxRows,
+					hydratedObjects,
+					subselectResultKeys );
+			rows = CompletionStages.completedFuture( results );
+		}
 
-		final List<Object> results = loader.getRowsFromResultSet(
-				rs,
-				queryParameters,
-				session,
-				returnProxies,
-				forcedResultTransformer,
-				maxRows,
-				hydratedObjects,
-				subselectResultKeys );
-
-		return reactiveInitializeEntitiesAndCollections(
-						hydratedObjects,
-						rs,
-						session,
-						queryParameters.isReadOnly(session),
-						afterLoadActionList
-		)
-				.thenAccept( v -> {
-					if (createSubselects) {
-						loader.createSubselects( subselectResultKeys, queryParameters, session );
-					}
-				} )
-				.thenApply( v -> results );
+		return rows.thenCompose( results -> {
+			// the rows were read on the event loop, unless they were
+			// offloaded, but the entities are always initialized there
+			final long eventLoopStart = statistics == null || !offloaded ? hydrationStart : System.nanoTime();
+			return reactiveInitializeEntitiesAndCollections(
+							hydratedObjects,
+							rs,
+							session,
+							queryParameters.isReadOnly(session),
+							afterLoadActionList
+			)
+					.thenAccept( v -> {
+						if (createSubselects) {
+							loader.createSubselects( subselectResultKeys, queryParameters, session );
+						}
+						if ( statistics != null ) {
+							statistics.eventLoop( HYDRATION, hydrationOperation(), eventLoopStart );
+							statistics.hydration( results.size(), System.nanoTime() - hydrationStart );
+						}
+					} )
+					.thenApply( v -> results );
+		} );
+	}
+
+	private String hydrationOperation() {
+		final EntityPersister[] persisters = loader.getEntityPersisters();
+		return persisters.length == 0 ? "query results" : persisters[0].getEntityName();
 	}
 
 	/**
@@ -11,7 +11,7 @@
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
-import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.loader.entity.EntityJoinWalker;
 import org.hibernate.persister.entity.OuterJoinLoadable;
@@ -98,7 +98,7 @@ public boolean isSubselectLoadingEnabled() {
 	}
 
 	public CompletionStage<List<Object>> doEntityBatchFetch(
-			SessionImplementor session,
+			SharedSessionContractImplementor session,
 			QueryParameters queryParameters,
 			Serializable[] ids) {
 
@@ -14,6 +14,7 @@
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.LoadEvent;
@@ -23,16 +24,20 @@
 import org.hibernate.loader.entity.UniqueEntityLoader;
 import org.hibernate.persister.entity.MultiLoadOptions;
 import org.hibernate.persister.entity.OuterJoinLoadable;
+import org.hibernate.reactive.cache.impl.ReactiveCacheHelper;
 import org.hibernate.type.Type;
 
 import java.io.Serializable;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
 
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
@@ -52,9 +57,57 @@ public CompletionStage<List<Object>> multiLoad(
 			Serializable[] ids,
 			SessionImplementor session,
 			MultiLoadOptions loadOptions) {
-		return loadOptions.isOrderReturnEnabled() ?
-				performOrderedMultiLoad(persister, ids, session, loadOptions) :
-				performUnorderedMultiLoad(persister, ids, session, loadOptions);
+		// read the entries of all the entities from the second-level cache
+		// up front, with a single request, so that we never block reading
+		// the cache, and never read an entry twice
+		final boolean useCache = loadOptions.isSecondLevelCacheCheckingEnabled()
+				&& ( loadOptions.getLockOptions() == null
+						|| loadOptions.getLockOptions().getLockMode().lessThan( LockMode.READ ) );
+		final CompletionStage<Map<Serializable, Object>> cachedEntries = useCache
+				? ReactiveCacheHelper.getCachedEntities( persister, ids, session )
+				: completedFuture( Collections.emptyMap() );
+		return cachedEntries.thenCompose( cached -> loadOptions.isOrderReturnEnabled() ?
+				performOrderedMultiLoad(persister, ids, cached, session, loadOptions) :
+				performUnorderedMultiLoad(persister, ids, cached, session, loadOptions) );
+	}
+
+	/**
+	 * Load the state of the entities with the given ids, a batch at a
+	 * time, without looking in the persistence context or second-level
+	 * cache first. This is used by a batched refresh, and the entities
+	 * which no longer exist are simply missing from the returned list.
+	 */
+	public CompletionStage<List<Object>> reload(
+			OuterJoinLoadable persister,
+			Serializable[] ids,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		final List<Object> result = new ArrayList<>( ids.length );
+		if ( ids.length == 0 ) {
+			return completedFuture( result );
+		}
+
+		final int maxBatchSize = session.getJdbcServices().getJdbcEnvironment().getDialect()
+				.getDefaultBatchLoadSizingStrategy()
+				.determineOptimalBatchLoadSize(
+						persister.getIdentifierType().getColumnSpan( session.getFactory() ),
+						ids.length
+				);
+		return loop( 0, ( ids.length + maxBatchSize - 1 ) / maxBatchSize, batch -> {
+			final int start = batch * maxBatchSize;
+			final Serializable[] idsInBatch = Arrays.copyOfRange( ids, start, Math.min( start + maxBatchSize, ids.length ) );
+			final ReactiveDynamicBatchingEntityLoader batchingLoader = new ReactiveDynamicBatchingEntityLoader(
+					persister,
+					idsInBatch.length,
+					lockOptions,
+					session.getFactory(),
+					session.getLoadQueryInfluencers()
+			);
+			QueryParameters qp = buildMultiLoadQueryParameters( persister, idsInBatch, lockOptions );
+			return batchingLoader.doEntityBatchFetch( session, qp, idsInBatch )
+					.thenAccept( result::addAll );
+		} )
+				.thenApply( v -> result );
 	}
 
 	private CompletionStage<List<Object>> performOrderedBatchLoad(
@@ -81,6 +134,7 @@ private CompletionStage<List<Object>> performOrderedBatchLoad(
 	private CompletionStage<List<Object>> performUnorderedMultiLoad(
 			OuterJoinLoadable persister,
 			Serializable[] ids,
+			Map<Serializable, Object> cachedEntries,
 			SessionImplementor session,
 			MultiLoadOptions loadOptions) {
 		assert !loadOptions.isOrderReturnEnabled();
@@ -131,11 +185,12 @@ private CompletionStage<List<Object>> performUnorderedMultiLoad(
 					}
 				}
 
-				if ( managedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
+				if ( managedEntity == null && cachedEntries.containsKey( id ) ) {
+					managedEntity = ReactiveCacheHelper.assembleEntity(
 							loadEvent,
 							persister,
-							entityKey
+							entityKey,
+							cachedEntries.get( id )
 					);
 				}
 
@@ -249,6 +304,7 @@ protected UniqueEntityLoader buildBatchingLoader(
 	private CompletionStage<List<Object>> performOrderedMultiLoad(
 			OuterJoinLoadable persister,
 			Serializable[] ids,
+			Map<Serializable, Object> cachedEntries,
 			SessionImplementor session,
 			MultiLoadOptions loadOptions) {
 		assert loadOptions.isOrderReturnEnabled();
@@ -310,14 +366,14 @@ private CompletionStage<List<Object>> performOrderedMultiLoad(
 					}
 				}
 
-				if ( managedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+				if ( managedEntity == null && cachedEntries.containsKey( id ) ) {
 					// look for it in the SessionFactory
-					managedEntity = CacheEntityLoaderHelper.INSTANCE
-							.loadFromSecondLevelCache(
-									loadEvent,
-									persister,
-									entityKey
-							);
+					managedEntity = ReactiveCacheHelper.assembleEntity(
+							loadEvent,
+							persister,
+							entityKey,
+							cachedEntries.get( id )
+					);
 				}
 
 				if ( managedEntity != null ) {
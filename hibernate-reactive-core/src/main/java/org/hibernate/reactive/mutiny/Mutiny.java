@@ -22,6 +22,7 @@
 import org.hibernate.reactive.common.Identifier;
 import org.hibernate.reactive.common.ResultSetMapping;
 import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.stat.ReactiveStatistics;
 
 import javax.persistence.EntityGraph;
 import javax.persistence.Parameter;
@@ -252,6 +253,16 @@ public interface Mutiny {
 
 		/**
 		 * Set the {@link LockMode} to use for the whole query.
+		 * <p>
+		 * A work queue may be consumed by many clients concurrently using
+		 * {@link LockMode#UPGRADE_SKIPLOCKED}, which skips rows already
+		 * locked by another transaction, or {@link LockMode#UPGRADE_NOWAIT},
+		 * which fails immediately if a row is already locked, together with
+		 * {@link #setMaxResults(int)}. The lock mode is translated to SQL by
+		 * the {@link org.hibernate.dialect.Dialect}, and a database with no
+		 * support for skipping locked rows simply waits for the lock.
+		 *
+		 * @see SessionFactory#withClaimedBatch(Function, int, BiFunction)
 		 */
 		Query<R> setLockMode(LockMode lockMode);
 
@@ -266,6 +277,22 @@ public interface Mutiny {
 		 */
 		Query<R> setLockMode(String alias, LockMode lockMode);
 
+		/**
+		 * Set the time to wait for the pessimistic locks requested by
+		 * {@link #setLockMode(LockMode)}, in milliseconds, or one of the
+		 * special values:
+		 * <ul>
+		 * <li>{@link org.hibernate.LockOptions#NO_WAIT}, to fail immediately
+		 * if a row is already locked,
+		 * <li>{@link org.hibernate.LockOptions#SKIP_LOCKED}, to skip rows
+		 * which are already locked, or
+		 * <li>{@link org.hibernate.LockOptions#WAIT_FOREVER}, the default.
+		 * </ul>
+		 *
+		 * @see org.hibernate.LockOptions#setTimeOut(int)
+		 */
+		Query<R> setLockTimeout(int timeout);
+
 //		/**
 //		 * Set the {@link LockOptions} to use for the whole query.
 //		 *
@@ -329,6 +356,11 @@ interface Session extends AutoCloseable {
 		/**
 		 * Asynchronously return the persistent instance of the given entity
 		 * class with the given identifier, requesting the given {@link LockMode}.
+		 * <p>
+		 * If the lock mode is {@link LockMode#UPGRADE_SKIPLOCKED}, and the row
+		 * is already locked by another transaction, the instance is not
+		 * returned. If it's {@link LockMode#UPGRADE_NOWAIT}, the operation
+		 * fails instead of waiting for the lock.
 		 *
 		 * @param entityClass The entity type
 		 * @param id an identifier
@@ -381,6 +413,30 @@ interface Session extends AutoCloseable {
 		 */
 		<T> Uni<List<T>> find(Class<T> entityClass, Object... ids);
 
+		/**
+		 * Asynchronously return the persistent instances of the given entity
+		 * class with the given identifiers, or null if there is no such
+		 * persistent instance, obtaining the specified lock mode on every
+		 * instance. A pessimistic lock is obtained using a single
+		 * {@code select ... for update} for all the instances.
+		 * <p>
+		 * This method isn't an overload of {@code find()}, since then
+		 * {@code find(Pig.class, LockMode.READ)} would resolve to
+		 * {@link #find(Class, Object)}, passing the lock mode as the
+		 * identifier, while {@code find(Pig.class, 5, LockMode.READ)} and
+		 * {@code find(Pig.class, LockMode.READ, 5)} would both compile,
+		 * with different result types.
+		 *
+		 * @param entityClass The entity type
+		 * @param lockMode the requested {@link LockMode}
+		 * @param ids the identifiers
+		 *
+		 * @return a list of persistent instances and nulls via a {@code Uni}
+		 *
+		 * @see #find(Class, Object, LockMode)
+		 */
+		<T> Uni<List<T>> findAll(Class<T> entityClass, LockMode lockMode, Object... ids);
+
 		/**
 		 * Asynchronously return the persistent instance of the given entity
 		 * class with the given natural identifier, or null if there is no
@@ -550,7 +606,10 @@ interface Session extends AutoCloseable {
 //		Uni<Void> refresh(Object entity, LockOptions lockOptions);
 
 		/**
-		 * Refresh multiple entity instances at once.
+		 * Refresh multiple entity instances at once. The state of all the
+		 * given instances of a given entity type is reloaded from the
+		 * database by a single query, or by one query per batch of
+		 * instances, if there are very many of them.
 		 *
 		 * @see #refresh(Object)
 		 */
@@ -580,6 +639,26 @@ interface Session extends AutoCloseable {
 		 */
 		Uni<Void> lock(Object entity, LockMode lockMode);
 
+		/**
+		 * Obtain the specified lock level upon each of the given objects.
+		 * A pessimistic lock is obtained using a single {@code select ... for update}
+		 * per entity type, instead of one per instance, and the versions of
+		 * versioned entities are verified by the same statement.
+		 * <p>
+		 * Unlike {@link #lock(Object, LockMode)}, a pessimistic lock does
+		 * not cascade to associated instances.
+		 * <p>
+		 * This method isn't an overload of {@code lock()}, since then
+		 * {@code lock(pig, LockMode.READ)} and {@code lock(LockMode.READ, pig)}
+		 * would both compile, and only differ in whether the lock cascades.
+		 *
+		 * @param lockMode the lock level
+		 * @param entities managed persistent instances
+		 *
+		 * @throws IllegalArgumentException if a given instance is not managed
+		 */
+		Uni<Void> lockAll(LockMode lockMode, Object... entities);
+
 //		/**
 //		 * Obtain the specified lock level upon the given object, with the given
 //		 * {@link LockOptions}.
@@ -1311,7 +1390,9 @@ interface StatelessSession extends AutoCloseable {
 		Uni<Void> refresh(Object entity);
 
 		/**
-		 * Refresh the entity instance state from the database.
+		 * Refresh the entity instance state from the database, using
+		 * a single query for all the given instances of a given entity
+		 * type, or one query per batch, if there are very many of them.
 		 *
 		 * @param entities The entities to be refreshed.
 		 *
@@ -1548,6 +1629,35 @@ interface SessionFactory extends AutoCloseable {
 		 */
 		<T> Uni<T> withTransaction(String tenantId, BiFunction<Session, Transaction, Uni<T>> work);
 
+		/**
+		 * Claim a batch of at most {@code batchSize} results of the given
+		 * query, skipping any row which is already locked by a concurrent
+		 * transaction, and perform work on the batch, using a
+		 * {@link Session reactive session} within an associated
+		 * {@link Transaction transaction}.
+		 * <p>
+		 * The results are locked using {@link LockMode#UPGRADE_SKIPLOCKED},
+		 * that is, {@code select ... for update skip locked} on databases
+		 * which support it, so many consumers may drain a work queue in
+		 * parallel, each claiming a different batch. The locks are released
+		 * when the transaction is committed, after the session is flushed,
+		 * so the work should update or delete each result it consumes.
+		 * <p>
+		 * If no row is available, the work is passed an empty list.
+		 *
+		 * @param query a function which accepts the session and creates
+		 *              a query returning the rows of the work queue,
+		 *              usually ordered
+		 * @param batchSize the maximum number of results to claim
+		 * @param work a function which accepts the session and the claimed
+		 *             results, and returns the result of the work as a
+		 *             {@link Uni}.
+		 *
+		 * @see Query#setLockMode(LockMode)
+		 */
+		<T, R> Uni<R> withClaimedBatch(Function<Session, Query<T>> query, int batchSize,
+				BiFunction<Session, List<T>, Uni<R>> work);
+
 		/**
 		 * @return an instance of {@link CriteriaBuilder} for creating
 		 * criteria queries.
@@ -1565,6 +1675,16 @@ interface SessionFactory extends AutoCloseable {
 		 */
 		Cache getCache();
 
+		/**
+		 * Obtain the {@link ReactiveStatistics} for the reactive
+		 * operations of this factory: statements, database round
+		 * trips, batches, flushes, and hydration of query results.
+		 * The statistics are only collected when
+		 * {@code hibernate.generate_statistics} is enabled.
+		 */
+		@Incubating
+		ReactiveStatistics getStatistics();
+
 		/**
 		 * Destroy the session factory and clean up its connection pool.
 		 */
@@ -143,6 +143,12 @@ public Mutiny.Query<R> setLockMode(String alias, LockMode lockMode) {
 		return this;
 	}
 
+	@Override
+	public Mutiny.Query<R> setLockTimeout(int timeout) {
+		delegate.setLockTimeout( timeout );
+		return this;
+	}
+
 	@Override
 	public Mutiny.Query<R> setCacheMode(CacheMode cacheMode) {
 		delegate.setCacheMode( cacheMode );
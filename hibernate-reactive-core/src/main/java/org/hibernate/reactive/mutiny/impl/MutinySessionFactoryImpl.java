@@ -10,6 +10,7 @@
 import io.vertx.core.Context;
 import io.vertx.core.Vertx;
 import org.hibernate.Cache;
+import org.hibernate.LockMode;
 import org.hibernate.HibernateException;
 import org.hibernate.internal.SessionCreationOptions;
 import org.hibernate.internal.SessionFactoryImpl;
@@ -19,10 +20,12 @@
 import org.hibernate.reactive.session.impl.ReactiveCriteriaBuilderImpl;
 import org.hibernate.reactive.session.impl.ReactiveSessionImpl;
 import org.hibernate.reactive.session.impl.ReactiveStatelessSessionImpl;
+import org.hibernate.reactive.stat.ReactiveStatistics;
 import org.hibernate.reactive.vertx.VertxInstance;
 
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.metamodel.Metamodel;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
@@ -154,6 +157,16 @@ public <T> Uni<T> withTransaction(String tenantId, BiFunction<Mutiny.Session, Mu
 		return withSession( tenantId, (s) -> s.withTransaction( (t) -> work.apply(s, t) ) );
 	}
 
+	@Override
+	public <T, R> Uni<R> withClaimedBatch(Function<Mutiny.Session, Mutiny.Query<T>> query, int batchSize,
+			BiFunction<Mutiny.Session, List<T>, Uni<R>> work) {
+		return withTransaction( (session, transaction) -> query.apply( session )
+				.setLockMode( LockMode.UPGRADE_SKIPLOCKED )
+				.setMaxResults( batchSize )
+				.getResultList()
+				.flatMap( batch -> work.apply( session, batch ) ) );
+	}
+
 	@Override
 	public CriteriaBuilder getCriteriaBuilder() {
 		return new ReactiveCriteriaBuilderImpl( delegate );
@@ -169,6 +182,11 @@ public Cache getCache() {
 		return delegate.getCache();
 	}
 
+	@Override
+	public ReactiveStatistics getStatistics() {
+		return delegate.getServiceRegistry().getService( ReactiveStatistics.class );
+	}
+
 	@Override
 	public void close() {
 		delegate.close();
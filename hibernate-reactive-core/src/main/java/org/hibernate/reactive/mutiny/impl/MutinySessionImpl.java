@@ -104,6 +104,11 @@ public <T> Uni<List<T>> find(Class<T> entityClass, Object... ids) {
 		return uni( () -> delegate.reactiveFind( entityClass, ids ) );
 	}
 
+	@Override
+	public <T> Uni<List<T>> findAll(Class<T> entityClass, LockMode lockMode, Object... ids) {
+		return uni( () -> delegate.reactiveFind( entityClass, new LockOptions(lockMode), ids ) );
+	}
+
 	@Override
 	public <T> Uni<T> find(Class<T> entityClass, Identifier<T> id) {
 		return uni( () -> delegate.reactiveFind( entityClass, id.namedValues() ) );
@@ -172,7 +177,7 @@ public Uni<Void> refresh(Object entity, LockOptions lockOptions) {
 
 	@Override
 	public Uni<Void> refreshAll(Object... entity) {
-		return uni( () -> applyToAll( e -> delegate.reactiveRefresh(e, LockOptions.NONE), entity ) );
+		return uni( () -> delegate.reactiveRefreshAll( entity, LockOptions.NONE ) );
 	}
 
 	@Override
@@ -180,6 +185,11 @@ public Uni<Void> lock(Object entity, LockMode lockMode) {
 		return uni( () -> delegate.reactiveLock( entity, new LockOptions(lockMode) ) );
 	}
 
+	@Override
+	public Uni<Void> lockAll(LockMode lockMode, Object... entities) {
+		return uni( () -> delegate.reactiveLockAll( entities, new LockOptions(lockMode) ) );
+	}
+
 //	@Override
 	public Uni<Void> lock(Object entity, LockOptions lockOptions) {
 		return uni( () -> delegate.reactiveLock( entity, lockOptions ) );
@@ -9,9 +9,13 @@
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.stream.IntStream;
@@ -1055,6 +1059,216 @@ default CompletionStage<Object> reactiveGetCurrentVersion(Serializable id,
 				} );
 	}
 
+	@Override
+	default CompletionStage<Map<Serializable, Object>> reactiveGetCurrentVersions(List<Serializable> ids,
+																				 SharedSessionContractImplementor session) {
+		final Map<Serializable, Object> versions = new HashMap<>();
+		final Type identifierType = getIdentifierType();
+		if ( !isVersioned() || identifierType.isEntityType()
+				|| identifierType.getColumnSpan( getFactory() ) != 1 ) {
+			// there's no portable way to write an 'in' condition
+			// for a composite id, so just fetch the versions one
+			// at a time
+			return loop( ids, id -> reactiveGetCurrentVersion( id, session )
+					.thenAccept( version -> {
+						if ( version != null ) {
+							versions.put( id, version );
+						}
+					} )
+			).thenApply( v -> versions );
+		}
+
+		if ( log.isTraceEnabled() ) {
+			log.tracev(
+					"Getting versions of {0} instances of: {1}",
+					ids.size(),
+					getEntityName()
+			);
+		}
+
+		Object[] params = PreparedStatementAdaptor.bind( statement -> {
+			int position = 1;
+			for ( Serializable id : ids ) {
+				identifierType.nullSafeSet( statement, id, position++, session );
+			}
+		} );
+
+		return getReactiveConnection( session )
+				.selectJdbc( generateVersionsSelectString( ids.size() ), params )
+				.thenApply( resultSet -> {
+					try {
+						while ( resultSet.next() ) {
+							Serializable id = (Serializable) identifierType.nullSafeGet(
+									resultSet,
+									getRootTableIdentifierColumnNames(),
+									session,
+									null
+							);
+							versions.put( id, getVersionType().nullSafeGet( resultSet, getVersionColumnName(), session, null ) );
+						}
+						return versions;
+					}
+					catch (SQLException sqle) {
+						//can never happen
+						throw new JDBCException("error reading versions", sqle);
+					}
+				} );
+	}
+
+	/**
+	 * @return a query which selects the identifiers and versions of
+	 * the given number of entities, by identifier
+	 */
+	default String generateVersionsSelectString(int count) {
+		return generateVersionsSelectString( count, null );
+	}
+
+	/**
+	 * @return a query which selects the identifiers and versions of
+	 * the given number of entities, by identifier, obtaining the given
+	 * lock, if any, on their rows
+	 */
+	default String generateVersionsSelectString(int count, LockOptions lockOptions) {
+		final SessionFactoryImplementor factory = getFactory();
+		final String placeholders = String.join( ",", Collections.nCopies( count, "?" ) );
+		final SimpleSelect select = new SimpleSelect( factory.getJdbcServices().getDialect() )
+				.setTableName( getRootTableName() )
+				.addColumn( getRootTableIdentifierColumnNames()[0] )
+				.addCondition( getRootTableIdentifierColumnNames()[0], " in (" + placeholders + ")" );
+		if ( isVersioned() ) {
+			select.addColumn( getVersionColumnName() );
+		}
+		if ( lockOptions != null ) {
+			select.setLockOptions( lockOptions );
+		}
+		if ( factory.getSessionFactoryOptions().isCommentsEnabled() ) {
+			select.setComment( lockOptions == null
+					? "get versions " + getEntityName()
+					: lockOptions.getLockMode() + " lock " + getEntityName() );
+		}
+		return parameters().process( select.toStatementString() );
+	}
+
+	@Override
+	default CompletionStage<Void> reactiveLockAll(List<Object> entities, LockOptions lockOptions,
+												  SharedSessionContractImplementor session) {
+		final LockMode lockMode = lockOptions.getLockMode();
+		if ( lockMode == LockMode.PESSIMISTIC_FORCE_INCREMENT || lockMode == LockMode.FORCE ) {
+			return reactiveIncrementVersions( entities, session );
+		}
+
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Type identifierType = getIdentifierType();
+		if ( identifierType.isEntityType() || identifierType.getColumnSpan( getFactory() ) != 1 ) {
+			// there's no portable way to write an 'in' condition
+			// for a composite id, so just lock them one at a time
+			return loop( entities, entity -> {
+				final EntityEntry entry = persistenceContext.getEntry( entity );
+				return lockReactive( entry.getId(), entry.getVersion(), entity, lockOptions, session );
+			} );
+		}
+
+		final int inExpressionCountLimit = getFactory().getJdbcServices().getDialect().getInExpressionCountLimit();
+		final int chunkSize = inExpressionCountLimit > 0 ? inExpressionCountLimit : entities.size();
+		return loop( 0, ( entities.size() + chunkSize - 1 ) / chunkSize, chunk -> {
+			final List<Object> lockedEntities = entities.subList(
+					chunk * chunkSize,
+					Math.min( ( chunk + 1 ) * chunkSize, entities.size() )
+			);
+			final List<Serializable> ids = new ArrayList<>( lockedEntities.size() );
+			for ( Object entity : lockedEntities ) {
+				ids.add( persistenceContext.getEntry( entity ).getId() );
+			}
+
+			final String sql = generateVersionsSelectString( ids.size(), lockOptions );
+			Object[] params = PreparedStatementAdaptor.bind( statement -> {
+				int position = 1;
+				for ( Serializable id : ids ) {
+					identifierType.nullSafeSet( statement, id, position++, session );
+				}
+			} );
+
+			return getReactiveConnection( session )
+					.selectJdbc( sql, params )
+					.thenAccept( resultSet -> {
+						// every row must still exist, with the version we
+						// already have, or else the entity is stale
+						final Map<Serializable, Object> versions = new HashMap<>();
+						try {
+							while ( resultSet.next() ) {
+								Serializable id = (Serializable) identifierType.nullSafeGet(
+										resultSet,
+										getRootTableIdentifierColumnNames(),
+										session,
+										null
+								);
+								versions.put( id, isVersioned()
+										? getVersionType().nullSafeGet( resultSet, getVersionColumnName(), session, null )
+										: id );
+							}
+						}
+						catch (SQLException sqle) {
+							//can never happen
+							throw new JDBCException("error reading versions", sqle);
+						}
+						for ( Object entity : lockedEntities ) {
+							final EntityEntry entry = persistenceContext.getEntry( entity );
+							final Object version = versions.get( entry.getId() );
+							if ( version == null || isVersioned() && !version.equals( entry.getVersion() ) ) {
+								throw new StaleObjectStateException( getEntityName(), entry.getId() );
+							}
+						}
+					} )
+					.handle( (r, e) -> {
+						logSqlException( e,
+								() -> "could not lock " + ids.size() + " instances of: " + getEntityName(),
+								sql
+						);
+						return returnOrRethrow( e, r );
+					} );
+		} );
+	}
+
+	@Override
+	default CompletionStage<Void> reactiveIncrementVersions(List<Object> entities,
+															SharedSessionContractImplementor session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final int versionOffset = 2 + getIdentifierType().getColumnSpan( getFactory() );
+		final List<Serializable> ids = new ArrayList<>( entities.size() );
+		final List<Object[]> arguments = new ArrayList<>( entities.size() );
+		for ( Object entity : entities ) {
+			final EntityEntry entry = persistenceContext.getEntry( entity );
+			final Serializable id = entry.getId();
+			final Object version = entry.getVersion();
+			final Object nextVersion = nextVersionForLock( LockMode.PESSIMISTIC_FORCE_INCREMENT, id, version, entity, session );
+			ids.add( id );
+			arguments.add( bind( statement -> {
+				getVersionType().nullSafeSet( statement, nextVersion, 1, session );
+				getIdentifierType().nullSafeSet( statement, id, 2, session );
+				getVersionType().nullSafeSet( statement, version, versionOffset, session );
+			} ) );
+		}
+
+		String sql = generateUpdateLockString( new LockOptions( LockMode.PESSIMISTIC_FORCE_INCREMENT ) );
+		return getReactiveConnection( session )
+				.update( sql, arguments )
+				.thenAccept( rowCounts -> {
+					for ( int i = 0; i < rowCounts.length; i++ ) {
+						if ( rowCounts[i] == 0 ) {
+							throw new StaleObjectStateException( getEntityName(), ids.get( i ) );
+						}
+					}
+				} )
+				.handle( (r, e) -> {
+					logSqlException( e,
+							() -> "could not increment versions of " + ids.size()
+									+ " instances of: " + getEntityName(),
+							sql
+					);
+					return returnOrRethrow( e, r );
+				} );
+	}
+
 	//would be nice of we could just reuse this code from AbstractEntityPersister
 	default Object[] processSnapshot(SharedSessionContractImplementor session, ResultSet resultSet) {
 		try {
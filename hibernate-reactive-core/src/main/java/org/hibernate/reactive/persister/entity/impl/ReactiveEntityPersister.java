@@ -6,17 +6,20 @@
 package org.hibernate.reactive.persister.entity.impl;
 
 import org.hibernate.HibernateException;
+import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.MultiLoadOptions;
+import org.hibernate.reactive.engine.impl.CascadePlan;
 import org.hibernate.reactive.loader.entity.ReactiveUniqueEntityLoader;
 
 import javax.persistence.metamodel.Attribute;
 import java.io.Serializable;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
 
 import static org.hibernate.reactive.util.impl.CompletionStages.nullFuture;
@@ -88,6 +91,17 @@ CompletionStage<Void> lockReactive(
 			SharedSessionContractImplementor session)
 			throws HibernateException;
 
+	/**
+	 * Obtain a pessimistic lock on the given managed entities, with a
+	 * single {@code select ... for update} or batch of updates, where
+	 * possible, verifying that none of them is stale.
+	 */
+	CompletionStage<Void> reactiveLockAll(
+			List<Object> entities,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session)
+			throws HibernateException;
+
 	CompletionStage<List<Object>> reactiveMultiLoad(
 	 		Serializable[] ids,
 			SessionImplementor session,
@@ -118,6 +132,24 @@ ReactiveUniqueEntityLoader getAppropriateUniqueKeyLoader(String propertyName,
 	CompletionStage<Object> reactiveGetCurrentVersion(Serializable id,
 													  SharedSessionContractImplementor session);
 
+	/**
+	 * Obtain the current versions of the given entities, with a single
+	 * query, where possible.
+	 *
+	 * @return a map from the identifier of each entity which still
+	 * exists to its current version
+	 */
+	CompletionStage<Map<Serializable, Object>> reactiveGetCurrentVersions(List<Serializable> ids,
+																		 SharedSessionContractImplementor session);
+
+	/**
+	 * Increment the versions of the given managed entities, as if each
+	 * were locked with {@link LockMode#PESSIMISTIC_FORCE_INCREMENT},
+	 * with a single batch of updates.
+	 */
+	CompletionStage<Void> reactiveIncrementVersions(List<Object> entities,
+													SharedSessionContractImplementor session);
+
 	/**
 	 * @see EntityPersister#processInsertGeneratedProperties(Serializable, Object, Object[], SharedSessionContractImplementor)
 	 */
@@ -144,4 +176,9 @@ default <E,T> CompletionStage<T> reactiveInitializeLazyProperty(Attribute<E,T> f
 
     CompletionStage<Serializable> reactiveLoadEntityIdByNaturalId(Object[] orderedNaturalIdValues,
 																  LockOptions lockOptions, EventSource session);
+
+	/**
+	 * The properties of this entity visited by each kind of cascade.
+	 */
+	CascadePlan getCascadePlan();
 }
@@ -19,7 +19,9 @@
 import org.hibernate.loader.entity.UniqueEntityLoader;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.persister.entity.JoinedSubclassEntityPersister;
+import org.hibernate.persister.entity.Loadable;
 import org.hibernate.persister.spi.PersisterCreationContext;
+import org.hibernate.reactive.engine.impl.CascadePlan;
 import org.hibernate.reactive.loader.entity.ReactiveUniqueEntityLoader;
 import org.hibernate.reactive.loader.entity.impl.ReactiveBatchingEntityLoaderBuilder;
 import org.hibernate.reactive.loader.entity.impl.ReactiveCascadeEntityLoader;
@@ -27,6 +29,8 @@
 
 import java.io.Serializable;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -39,12 +43,22 @@ public class ReactiveJoinedSubclassEntityPersister extends JoinedSubclassEntityP
 	private String sqlUpdateGeneratedValuesSelectString;
 	private String sqlInsertGeneratedValuesSelectString;
 
+	private final RowHydrationPlan hydrationPlan;
+	private final CascadePlan cascadePlan;
+
 	public ReactiveJoinedSubclassEntityPersister(
 			PersistentClass persistentClass,
 			EntityDataAccess cacheAccessStrategy,
 			NaturalIdDataAccess naturalIdRegionAccessStrategy,
 			PersisterCreationContext creationContext) throws HibernateException {
 		super( persistentClass, cacheAccessStrategy, naturalIdRegionAccessStrategy, creationContext );
+		hydrationPlan = RowHydrationPlan.create( persistentClass, getPropertyTypes() );
+		cascadePlan = new CascadePlan( this );
+	}
+
+	@Override
+	public CascadePlan getCascadePlan() {
+		return cascadePlan;
 	}
 
 	@Override
@@ -242,6 +256,21 @@ public void update(
 		throw new UnsupportedOperationException( "Wrong method calls. Use the reactive equivalent." );
 	}
 
+	@Override
+	public Object[] hydrate(
+			ResultSet rs,
+			Serializable id,
+			Object object,
+			Loadable rootLoadable,
+			String[][] suffixedPropertyColumns,
+			boolean allProperties,
+			SharedSessionContractImplementor session) throws SQLException, HibernateException {
+		return hydrationPlan.isApplicable( rs )
+				? hydrationPlan.hydrate( rs, object, getPropertyTypes(), getPropertyLaziness(),
+						suffixedPropertyColumns, allProperties, session )
+				: super.hydrate( rs, id, object, rootLoadable, suffixedPropertyColumns, allProperties, session );
+	}
+
 	@Override
 	public ReactiveUniqueEntityLoader getAppropriateLoader(LockOptions lockOptions, SharedSessionContractImplementor session) {
 		return (ReactiveUniqueEntityLoader) super.getAppropriateLoader(lockOptions, session);
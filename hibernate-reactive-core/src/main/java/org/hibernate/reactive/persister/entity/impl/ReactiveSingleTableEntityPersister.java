@@ -7,6 +7,8 @@
 
 import java.io.Serializable;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
@@ -24,9 +26,11 @@
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.loader.entity.UniqueEntityLoader;
 import org.hibernate.mapping.PersistentClass;
+import org.hibernate.persister.entity.Loadable;
 import org.hibernate.persister.entity.MultiLoadOptions;
 import org.hibernate.persister.entity.SingleTableEntityPersister;
 import org.hibernate.persister.spi.PersisterCreationContext;
+import org.hibernate.reactive.engine.impl.CascadePlan;
 import org.hibernate.reactive.loader.entity.ReactiveUniqueEntityLoader;
 import org.hibernate.reactive.loader.entity.impl.ReactiveBatchingEntityLoaderBuilder;
 import org.hibernate.reactive.loader.entity.impl.ReactiveCascadeEntityLoader;
@@ -42,12 +46,22 @@ public class ReactiveSingleTableEntityPersister extends SingleTableEntityPersist
 	private String sqlInsertGeneratedValuesSelectString;
 	private String sqlUpdateGeneratedValuesSelectString;
 
+	private final RowHydrationPlan hydrationPlan;
+	private final CascadePlan cascadePlan;
+
 	public ReactiveSingleTableEntityPersister(
 			PersistentClass persistentClass,
 			EntityDataAccess cacheAccessStrategy,
 			NaturalIdDataAccess naturalIdRegionAccessStrategy,
 			PersisterCreationContext creationContext) throws HibernateException {
 		super( persistentClass, cacheAccessStrategy, naturalIdRegionAccessStrategy, creationContext );
+		hydrationPlan = RowHydrationPlan.create( persistentClass, getPropertyTypes() );
+		cascadePlan = new CascadePlan( this );
+	}
+
+	@Override
+	public CascadePlan getCascadePlan() {
+		return cascadePlan;
 	}
 
 	@Override
@@ -259,6 +273,21 @@ public List multiLoad(Serializable[] ids, SharedSessionContractImplementor sessi
 		throw new UnsupportedOperationException( "Wrong method calls. Use the reactive equivalent." );
 	}
 
+	@Override
+	public Object[] hydrate(
+			ResultSet rs,
+			Serializable id,
+			Object object,
+			Loadable rootLoadable,
+			String[][] suffixedPropertyColumns,
+			boolean allProperties,
+			SharedSessionContractImplementor session) throws SQLException, HibernateException {
+		return hydrationPlan.isApplicable( rs )
+				? hydrationPlan.hydrate( rs, object, getPropertyTypes(), getPropertyLaziness(),
+						suffixedPropertyColumns, allProperties, session )
+				: super.hydrate( rs, id, object, rootLoadable, suffixedPropertyColumns, allProperties, session );
+	}
+
 	@Override
 	public ReactiveUniqueEntityLoader getAppropriateLoader(LockOptions lockOptions, SharedSessionContractImplementor session) {
 		return (ReactiveUniqueEntityLoader) super.getAppropriateLoader(lockOptions, session);
@@ -0,0 +1,236 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.persister.entity.impl;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.mapping.Join;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
+import org.hibernate.type.BigDecimalType;
+import org.hibernate.type.BooleanType;
+import org.hibernate.type.DoubleType;
+import org.hibernate.type.FloatType;
+import org.hibernate.type.IntegerType;
+import org.hibernate.type.LongType;
+import org.hibernate.type.ShortType;
+import org.hibernate.type.StringType;
+import org.hibernate.type.Type;
+
+/**
+ * Hydrates the state of an entity directly from the value returned
+ * by the Vert.x driver, instead of going through the JDBC emulation
+ * of {@link ResultSetAdaptor} and {@link Type#hydrate}, for the basic
+ * properties of those few types where we know exactly what the JDBC
+ * path would produce. Any other property, for example, a property
+ * with a user type or an {@code AttributeConverter}, an embeddable,
+ * or an association, is hydrated by its {@code Type}, as usual.
+ * <p>
+ * The plan is computed once, when the persister is created, and is
+ * only used for {@code ResultSet}s produced by the Vert.x client.
+ *
+ * @see org.hibernate.persister.entity.AbstractEntityPersister#hydrate
+ */
+final class RowHydrationPlan {
+
+	private static final Object UNREADABLE = new Object();
+
+	/**
+	 * Converts a value of a single column, exactly as returned by the
+	 * driver, to the hydrated value of a property, or returns
+	 * {@link #UNREADABLE} if the property should be hydrated by its
+	 * {@code Type}.
+	 */
+	private enum ColumnReader {
+		LONG {
+			@Override
+			Object read(Object value) {
+				if ( value instanceof Long ) {
+					return value;
+				}
+				return value instanceof Number ? (Object) ( (Number) value ).longValue() : UNREADABLE;
+			}
+		},
+		INTEGER {
+			@Override
+			Object read(Object value) {
+				if ( value instanceof Integer ) {
+					return value;
+				}
+				return value instanceof Number ? (Object) ( (Number) value ).intValue() : UNREADABLE;
+			}
+		},
+		SHORT {
+			@Override
+			Object read(Object value) {
+				if ( value instanceof Short ) {
+					return value;
+				}
+				return value instanceof Number ? (Object) ( (Number) value ).shortValue() : UNREADABLE;
+			}
+		},
+		DOUBLE {
+			@Override
+			Object read(Object value) {
+				if ( value instanceof Double ) {
+					return value;
+				}
+				return value instanceof Number ? (Object) ( (Number) value ).doubleValue() : UNREADABLE;
+			}
+		},
+		FLOAT {
+			@Override
+			Object read(Object value) {
+				if ( value instanceof Float ) {
+					return value;
+				}
+				return value instanceof Number ? (Object) ( (Number) value ).floatValue() : UNREADABLE;
+			}
+		},
+		// for the remaining types, the driver's conversions
+		// are subtle, so we only handle the trivial case
+		BIG_DECIMAL {
+			@Override
+			Object read(Object value) {
+				return value instanceof BigDecimal ? value : UNREADABLE;
+			}
+		},
+		BOOLEAN {
+			@Override
+			Object read(Object value) {
+				return value instanceof Boolean ? value : UNREADABLE;
+			}
+		},
+		STRING {
+			@Override
+			Object read(Object value) {
+				return value instanceof String ? value : UNREADABLE;
+			}
+		};
+
+		abstract Object read(Object value);
+
+		static ColumnReader forType(Type type) {
+			// the comparisons are by identity on purpose: a subclass,
+			// or a type built with a different descriptor, might read
+			// the value differently
+			if ( type == LongType.INSTANCE ) {
+				return LONG;
+			}
+			if ( type == IntegerType.INSTANCE ) {
+				return INTEGER;
+			}
+			if ( type == ShortType.INSTANCE ) {
+				return SHORT;
+			}
+			if ( type == DoubleType.INSTANCE ) {
+				return DOUBLE;
+			}
+			if ( type == FloatType.INSTANCE ) {
+				return FLOAT;
+			}
+			if ( type == BigDecimalType.INSTANCE ) {
+				return BIG_DECIMAL;
+			}
+			if ( type == BooleanType.INSTANCE ) {
+				return BOOLEAN;
+			}
+			if ( type == StringType.INSTANCE ) {
+				return STRING;
+			}
+			return null;
+		}
+	}
+
+	private static final RowHydrationPlan DISABLED = new RowHydrationPlan( null );
+
+	/**
+	 * A reader for each property, or {@code null} for a property
+	 * which must be hydrated by its {@code Type}
+	 */
+	private final ColumnReader[] readers;
+
+	private RowHydrationPlan(ColumnReader[] readers) {
+		this.readers = readers;
+	}
+
+	static RowHydrationPlan create(PersistentClass persistentClass, Type[] propertyTypes) {
+		// deferred properties of a <join fetch="select"> are read by a
+		// second select, which AbstractEntityPersister executes via JDBC
+		Iterator<?> joins = persistentClass.getRootClass().getSubclassJoinClosureIterator();
+		while ( joins.hasNext() ) {
+			if ( ( (Join) joins.next() ).isSequentialSelect() ) {
+				return DISABLED;
+			}
+		}
+
+		// must iterate the properties in the same order as
+		// the AbstractEntityPersister constructor does
+		Iterator<?> properties = persistentClass.getPropertyClosureIterator();
+		int i = 0;
+		boolean hasReader = false;
+		ColumnReader[] readers = new ColumnReader[propertyTypes.length];
+		while ( properties.hasNext() ) {
+			Property property = (Property) properties.next();
+			if ( i >= readers.length || !property.isSelectable() ) {
+				// something we don't understand, don't even try
+				return DISABLED;
+			}
+			readers[i] = property.getColumnSpan() == 1 ? ColumnReader.forType( propertyTypes[i] ) : null;
+			hasReader = hasReader || readers[i] != null;
+			i++;
+		}
+		return hasReader && i == readers.length ? new RowHydrationPlan( readers ) : DISABLED;
+	}
+
+	boolean isApplicable(ResultSet resultSet) {
+		return readers != null && resultSet instanceof ResultSetAdaptor;
+	}
+
+	/**
+	 * Equivalent to {@link org.hibernate.persister.entity.AbstractEntityPersister#hydrate},
+	 * for a persister without deferred properties and a
+	 * {@code ResultSet} for which {@link #isApplicable} returns true.
+	 */
+	Object[] hydrate(
+			ResultSet resultSet,
+			Object object,
+			Type[] types,
+			boolean[] laziness,
+			String[][] suffixedPropertyColumns,
+			boolean allProperties,
+			SharedSessionContractImplementor session) throws SQLException {
+		final Object[] values = new Object[types.length];
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( allProperties || !laziness[i] ) {
+				final String[] columns = suffixedPropertyColumns[i];
+				final ColumnReader reader = readers[i];
+				final Object value = reader == null ? UNREADABLE : read( reader, resultSet, columns[0] );
+				values[i] = value == UNREADABLE
+						? types[i].hydrate( resultSet, columns, session, object )
+						: value;
+			}
+			else {
+				values[i] = LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			}
+		}
+		return values;
+	}
+
+	private static Object read(ColumnReader reader, ResultSet resultSet, String column) throws SQLException {
+		// for the ResultSetAdaptor, this is the value exactly as
+		// returned by the driver, or null for an unknown column,
+		// just like the typed getters used by Type.hydrate()
+		Object value = resultSet.getObject( column );
+		return value == null ? null : reader.read( value );
+	}
+}
@@ -0,0 +1,89 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool;
+
+import java.util.UUID;
+
+import org.hibernate.Incubating;
+
+/**
+ * Observes the statements sent to the database by the
+ * {@link ReactiveConnection} of a session, for example, to create
+ * tracing spans or to measure execution times. Interceptors are
+ * specified using {@link org.hibernate.reactive.provider.Settings#STATEMENT_INTERCEPTORS}.
+ * <p>
+ * Both callbacks are called for every statement and for every batch
+ * of statements, from the thread which executes the statement, which
+ * is usually the event loop thread of the session. They must not
+ * block, and should do as little work as possible. An exception
+ * thrown by an interceptor is logged, and otherwise ignored.
+ * <p>
+ * When more than one interceptor is specified, {@link #beforeStatement}
+ * is called in the given order, and {@link #afterStatement} in the
+ * reverse order.
+ */
+@Incubating
+public interface StatementInterceptor {
+
+	/**
+	 * Called right before the statement is sent to the database.
+	 *
+	 * @return an object, for example, a tracing span, which is
+	 * passed back to {@link #afterStatement}, or {@code null}
+	 */
+	Object beforeStatement(Statement statement);
+
+	/**
+	 * Called when the database has executed the statement, or when
+	 * the execution failed.
+	 *
+	 * @param context the object returned by {@link #beforeStatement}
+	 * @param rowCount the number of rows returned or affected by the
+	 *                 statement, or {@code -1} if it's unknown or the
+	 *                 statement failed
+	 * @param failure the failure, or {@code null} if the statement
+	 *                succeeded
+	 * @param nanos the execution time of the statement, including the
+	 *              round trip to the database
+	 */
+	void afterStatement(Statement statement, Object context, int rowCount, Throwable failure, long nanos);
+
+	/**
+	 * A statement, or batch of statements, sent to the database.
+	 */
+	interface Statement {
+		String getSql();
+
+		/**
+		 * @return the number of parameters bound to the statement,
+		 * or to each statement of a batch
+		 */
+		int getParameterCount();
+
+		/**
+		 * @return the number of statements in the batch, or
+		 * {@code 1} if the statement isn't batched
+		 */
+		int getBatchSize();
+
+		/**
+		 * @return the identifier of the session which owns the connection
+		 */
+		UUID getSessionIdentifier();
+
+		/**
+		 * @return the tenant of the session, or {@code null}
+		 */
+		String getTenantIdentifier();
+
+		/**
+		 * @return the number of the transaction, counting from
+		 * {@code 1} for the first transaction of the session, or
+		 * {@code 0} if the statement is executed outside a transaction
+		 */
+		int getTransactionNumber();
+	}
+}
@@ -55,6 +55,7 @@ public class DefaultSqlClientPool extends SqlClientPool
 
 	private ThreadLocalPoolManager pools;
 	private SqlStatementLogger sqlStatementLogger;
+	private SlowStatementLog slowStatementLog;
 	private URI uri;
 	private ServiceRegistryImplementor serviceRegistry;
 
@@ -64,6 +65,8 @@ public DefaultSqlClientPool() {}
 	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
 		this.serviceRegistry = serviceRegistry;
 		sqlStatementLogger = serviceRegistry.getService(JdbcServices.class).getSqlStatementLogger();
+		SlowStatementLog slowStatementLog = serviceRegistry.getService(SlowStatementLog.class);
+		this.slowStatementLog = slowStatementLog != null && slowStatementLog.isEnabled() ? slowStatementLog : null;
 	}
 
 	@Override
@@ -88,6 +91,11 @@ protected SqlStatementLogger getSqlStatementLogger() {
 		return sqlStatementLogger;
 	}
 
+	@Override
+	protected SlowStatementLog getSlowStatementLog() {
+		return slowStatementLog;
+	}
+
 	/**
 	 * Create a new {@link ThreadLocalPoolManager} for the given JDBC URL or database URI,
 	 * using the {@link VertxInstance} service to obtain an instance of
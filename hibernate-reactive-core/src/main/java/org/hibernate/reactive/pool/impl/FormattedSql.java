@@ -0,0 +1,60 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.engine.jdbc.internal.FormatStyle;
+import org.hibernate.engine.jdbc.internal.Formatter;
+
+/**
+ * A {@link Formatter} for {@link FormatStyle#BASIC} which caches the
+ * formatted SQL. The statements executed by Hibernate are mostly
+ * generated, and repeated over and over, so there's no need to format
+ * each of them again every time it's logged.
+ * <p>
+ * Each {@link SqlClientPool} has its own cache, holding at most the
+ * given number of statements, the least recently used of which is
+ * evicted to make room for a new one.
+ */
+final class FormattedSql implements Formatter {
+
+	static final int DEFAULT_MAX_ENTRIES = 1024;
+
+	private final Map<String, String> cache;
+
+	FormattedSql(int maxEntries) {
+		this.cache = new LinkedHashMap<String, String>( 16, 0.75f, true ) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	@Override
+	public String format(String sql) {
+		String formatted;
+		synchronized ( cache ) {
+			formatted = cache.get( sql );
+		}
+		if ( formatted == null ) {
+			// format outside the lock, it's the expensive part
+			formatted = FormatStyle.BASIC.getFormatter().format( sql );
+			synchronized ( cache ) {
+				cache.put( sql, formatted );
+			}
+		}
+		return formatted;
+	}
+
+	int size() {
+		synchronized ( cache ) {
+			return cache.size();
+		}
+	}
+}
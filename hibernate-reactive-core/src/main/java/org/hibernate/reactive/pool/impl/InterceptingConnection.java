@@ -0,0 +1,251 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.StatementInterceptor;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+
+/**
+ * A {@link ReactiveConnection} which calls a chain of
+ * {@link StatementInterceptor}s around every statement executed by
+ * the connection it wraps. It sits beneath the
+ * {@link org.hibernate.reactive.pool.BatchingConnection} of the
+ * session, and so the interceptors see the batches actually sent to
+ * the database.
+ */
+final class InterceptingConnection implements ReactiveConnection {
+
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( InterceptingConnection.class );
+
+	private static final ToIntFunction<Object> UNKNOWN = result -> -1;
+	// the functions are also passed a null result, since some
+	// operations report their row count by other means
+	private static final ToIntFunction<Integer> UPDATED = count -> count == null ? -1 : count;
+	private static final ToIntFunction<Result> SELECTED = result -> result == null ? -1 : result.size();
+	private static final ToIntFunction<Long> IDENTIFIER = id -> id == null ? 0 : 1;
+	private static final ToIntFunction<int[]> BATCH = rowCounts -> {
+		if ( rowCounts == null ) {
+			return -1;
+		}
+		int total = 0;
+		for ( int rowCount : rowCounts ) {
+			total += rowCount;
+		}
+		return total;
+	};
+
+	private final ReactiveConnection delegate;
+	private final StatementInterceptor[] interceptors;
+	private final SharedSessionContractImplementor session;
+
+	private int transactions;
+	private boolean inTransaction;
+
+	InterceptingConnection(
+			ReactiveConnection delegate,
+			StatementInterceptor[] interceptors,
+			SharedSessionContractImplementor session) {
+		this.delegate = delegate;
+		this.interceptors = interceptors;
+		this.session = session;
+	}
+
+	private final class Execution implements StatementInterceptor.Statement {
+		private final String sql;
+		private final int parameterCount;
+		private final int batchSize;
+		private final int transactionNumber;
+
+		private Execution(String sql, int parameterCount, int batchSize) {
+			this.sql = sql;
+			this.parameterCount = parameterCount;
+			this.batchSize = batchSize;
+			this.transactionNumber = inTransaction ? transactions : 0;
+		}
+
+		@Override
+		public String getSql() {
+			return sql;
+		}
+
+		@Override
+		public int getParameterCount() {
+			return parameterCount;
+		}
+
+		@Override
+		public int getBatchSize() {
+			return batchSize;
+		}
+
+		@Override
+		public UUID getSessionIdentifier() {
+			return session.getSessionIdentifier();
+		}
+
+		@Override
+		public String getTenantIdentifier() {
+			return session.getTenantIdentifier();
+		}
+
+		@Override
+		public int getTransactionNumber() {
+			return transactionNumber;
+		}
+
+		@Override
+		public String toString() {
+			return sql;
+		}
+	}
+
+	private <T> CompletionStage<T> intercept(
+			String sql,
+			Object[] paramValues,
+			int batchSize,
+			ToIntFunction<? super T> rowCount,
+			Supplier<CompletionStage<T>> operation) {
+		final Execution execution = new Execution( sql, paramValues == null ? 0 : paramValues.length, batchSize );
+		final Object[] contexts = new Object[interceptors.length];
+		for ( int i = 0; i < interceptors.length; i++ ) {
+			try {
+				contexts[i] = interceptors[i].beforeStatement( execution );
+			}
+			catch (RuntimeException e) {
+				LOG.warnf( e, "HRX000023: Statement interceptor [%s] failed", interceptors[i] );
+			}
+		}
+
+		final long start = System.nanoTime();
+		CompletionStage<T> stage;
+		try {
+			stage = operation.get();
+		}
+		catch (RuntimeException e) {
+			stage = failedFuture( e );
+		}
+		return stage.whenComplete( (result, failure) -> {
+			final long nanos = System.nanoTime() - start;
+			final int rows = failure == null ? rowCount.applyAsInt( result ) : -1;
+			for ( int i = interceptors.length - 1; i >= 0; i-- ) {
+				try {
+					interceptors[i].afterStatement( execution, contexts[i], rows, failure, nanos );
+				}
+				catch (RuntimeException e) {
+					LOG.warnf( e, "HRX000023: Statement interceptor [%s] failed", interceptors[i] );
+				}
+			}
+		} );
+	}
+
+	@Override
+	public CompletionStage<Void> execute(String sql) {
+		return intercept( sql, null, 1, UNKNOWN, () -> delegate.execute( sql ) );
+	}
+
+	@Override
+	public CompletionStage<Void> executeOutsideTransaction(String sql) {
+		return intercept( sql, null, 1, UNKNOWN, () -> delegate.executeOutsideTransaction( sql ) );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql) {
+		return intercept( sql, null, 1, UPDATED, () -> delegate.update( sql ) );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql, Object[] paramValues) {
+		return intercept( sql, paramValues, 1, UPDATED, () -> delegate.update( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Void> update(String sql, Object[] paramValues, boolean allowBatching, Expectation expectation) {
+		// the row count is only reported to the Expectation, and
+		// the result is always null
+		final int[] updated = { -1 };
+		final Expectation counting = (rowCount, batchPosition, query) -> {
+			updated[0] = rowCount;
+			expectation.verifyOutcome( rowCount, batchPosition, query );
+		};
+		return intercept( sql, paramValues, 1, result -> updated[0],
+				() -> delegate.update( sql, paramValues, allowBatching, counting ) );
+	}
+
+	@Override
+	public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+		final Object[] first = paramValues.isEmpty() ? null : paramValues.get( 0 );
+		return intercept( sql, first, paramValues.size(), BATCH, () -> delegate.update( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql) {
+		return intercept( sql, null, 1, SELECTED, () -> delegate.select( sql ) );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql, Object[] paramValues) {
+		return intercept( sql, paramValues, 1, SELECTED, () -> delegate.select( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
+		return intercept( sql, paramValues, 1, UNKNOWN, () -> delegate.selectJdbc( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Long> insertAndSelectIdentifier(String sql, Object[] paramValues) {
+		return intercept( sql, paramValues, 1, IDENTIFIER, () -> delegate.insertAndSelectIdentifier( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Long> selectIdentifier(String sql, Object[] paramValues) {
+		return intercept( sql, paramValues, 1, IDENTIFIER, () -> delegate.selectIdentifier( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Void> beginTransaction() {
+		return delegate.beginTransaction()
+				.thenAccept( v -> {
+					// only once the transaction really began
+					transactions++;
+					inTransaction = true;
+				} );
+	}
+
+	@Override
+	public CompletionStage<Void> commitTransaction() {
+		inTransaction = false;
+		return delegate.commitTransaction();
+	}
+
+	@Override
+	public CompletionStage<Void> rollbackTransaction() {
+		inTransaction = false;
+		return delegate.rollbackTransaction();
+	}
+
+	@Override
+	public CompletionStage<Void> executeBatch() {
+		return delegate.executeBatch();
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+}
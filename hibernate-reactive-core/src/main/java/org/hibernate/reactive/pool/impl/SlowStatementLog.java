@@ -0,0 +1,188 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.jdbc.internal.Formatter;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.service.Service;
+
+import org.jboss.logging.Logger;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.sqlclient.Tuple;
+
+/**
+ * Logs the statements which take longer than a threshold, as
+ * specified by {@link Settings#SLOW_STATEMENT_THRESHOLD} and
+ * {@link Settings#SLOW_QUERY_THRESHOLD}, using the same
+ * {@code org.hibernate.SQL_SLOW} category as Hibernate ORM.
+ * <p>
+ * The parameters of a sample of the slow statements are logged too,
+ * truncated, and masked, unless specified otherwise. A masked
+ * parameter is logged as its type, or the length of the text, and
+ * binary values are never logged.
+ * <p>
+ * A statement which isn't slow only costs a call to
+ * {@link System#nanoTime()} before and after its execution. The
+ * formatting of a slow statement, and the logging itself, happen
+ * on a Vert.x worker thread.
+ */
+public final class SlowStatementLog implements Service {
+
+	private static final Logger LOG = Logger.getLogger( "org.hibernate.SQL_SLOW" );
+
+	private final long thresholdNanos;
+	private final long queryThresholdNanos;
+	private final double parameterSampleRate;
+	private final int maxParameterLength;
+	private final boolean maskParameters;
+	private final boolean format;
+
+	SlowStatementLog(
+			long thresholdMillis,
+			long queryThresholdMillis,
+			double parameterSampleRate,
+			int maxParameterLength,
+			boolean maskParameters,
+			boolean format) {
+		this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos( thresholdMillis );
+		this.queryThresholdNanos = TimeUnit.MILLISECONDS.toNanos( queryThresholdMillis );
+		this.parameterSampleRate = parameterSampleRate;
+		this.maxParameterLength = maxParameterLength;
+		this.maskParameters = maskParameters;
+		this.format = format;
+	}
+
+	/**
+	 * @return {@code true} if a threshold was specified
+	 */
+	public boolean isEnabled() {
+		return thresholdNanos > 0 || queryThresholdNanos > 0;
+	}
+
+	long threshold(String sql) {
+		return isQuery( sql ) ? queryThresholdNanos : thresholdNanos;
+	}
+
+	private static boolean isQuery(String sql) {
+		final String trimmed = sql.trim();
+		return trimmed.regionMatches( true, 0, "select", 0, 6 )
+				|| trimmed.regionMatches( true, 0, "with", 0, 4 );
+	}
+
+	/**
+	 * Called when a statement, or a batch of statements, completes.
+	 *
+	 * @param parameters the parameters of the statement, or of the
+	 *                   first statement of the batch, or {@code null}
+	 * @param batchSize the number of statements in the batch
+	 * @param nanos the execution time of the statement
+	 * @param failure the failure, or {@code null}
+	 * @param formatter formats the SQL, if formatting is enabled
+	 */
+	void executed(String sql, Tuple parameters, int batchSize, long nanos, Throwable failure, Formatter formatter) {
+		final long threshold = threshold( sql );
+		if ( threshold <= 0 || nanos < threshold ) {
+			return;
+		}
+
+		final Tuple sampled = parameters != null && sampleParameters() ? parameters : null;
+		final Context context = Vertx.currentContext();
+		if ( context == null ) {
+			LOG.info( message( sql, sampled, batchSize, nanos, threshold, failure, formatter ) );
+		}
+		else {
+			context.executeBlocking(
+					promise -> {
+						LOG.info( message( sql, sampled, batchSize, nanos, threshold, failure, formatter ) );
+						promise.complete();
+					},
+					false,
+					ar -> {}
+			);
+		}
+	}
+
+	/**
+	 * Should the parameters of a slow statement be logged?
+	 */
+	boolean sampleParameters() {
+		return parameterSampleRate >= 1
+			|| parameterSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < parameterSampleRate;
+	}
+
+	String message(
+			String sql,
+			Tuple parameters,
+			int batchSize,
+			long nanos,
+			long threshold,
+			Throwable failure,
+			Formatter formatter) {
+		final StringBuilder message = new StringBuilder( "HRX000024: Slow " )
+				.append( failure == null ? "statement" : "failed statement" )
+				.append( " took " ).append( TimeUnit.NANOSECONDS.toMillis( nanos ) ).append( "ms" )
+				.append( " (threshold " ).append( TimeUnit.NANOSECONDS.toMillis( threshold ) ).append( "ms)" );
+		if ( batchSize > 1 ) {
+			message.append( " for a batch of " ).append( batchSize );
+		}
+		message.append( ": " ).append( format ? formatter.format( sql ) : sql );
+		if ( parameters != null ) {
+			message.append( " [parameters: " );
+			appendParameters( message, parameters );
+			message.append( ']' );
+		}
+		return message.toString();
+	}
+
+	private void appendParameters(StringBuilder message, Tuple parameters) {
+		for ( int i = 0; i < parameters.size(); i++ ) {
+			if ( i > 0 ) {
+				message.append( ", " );
+			}
+			appendParameter( message, parameters.getValue( i ) );
+		}
+	}
+
+	private void appendParameter(StringBuilder message, Object value) {
+		if ( value == null ) {
+			message.append( "null" );
+		}
+		else if ( value instanceof byte[] || value instanceof Buffer ) {
+			// never log binary data
+			message.append( "<binary>" );
+		}
+		else if ( value instanceof List ) {
+			message.append( "<list of size " ).append( ( (List<?>) value ).size() ).append( '>' );
+		}
+		else if ( value instanceof CharSequence ) {
+			final CharSequence text = (CharSequence) value;
+			if ( maskParameters ) {
+				message.append( "<text of length " ).append( text.length() ).append( '>' );
+			}
+			else if ( text.length() > maxParameterLength ) {
+				message.append( '\'' ).append( text, 0, maxParameterLength ).append( "...'" );
+			}
+			else {
+				message.append( '\'' ).append( text ).append( '\'' );
+			}
+		}
+		else if ( maskParameters ) {
+			// numbers, dates, and so on, might be just as sensitive as text
+			message.append( '<' ).append( value.getClass().getSimpleName() ).append( '>' );
+		}
+		else {
+			final String string = String.valueOf( value );
+			message.append( string.length() > maxParameterLength ? string.substring( 0, maxParameterLength ) + "..." : string );
+		}
+	}
+}
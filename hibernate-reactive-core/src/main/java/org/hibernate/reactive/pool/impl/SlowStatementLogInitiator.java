@@ -0,0 +1,70 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.util.Map;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+
+/**
+ * A Hibernate {@link StandardServiceInitiator service initiator} that
+ * creates the {@link SlowStatementLog}, as specified by
+ * {@link Settings#SLOW_STATEMENT_THRESHOLD} and the related settings.
+ */
+public class SlowStatementLogInitiator implements StandardServiceInitiator<SlowStatementLog> {
+
+	public static final SlowStatementLogInitiator INSTANCE = new SlowStatementLogInitiator();
+
+	private static final int DEFAULT_MAX_PARAMETER_LENGTH = 64;
+
+	@Override
+	public SlowStatementLog initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		int threshold = getInt( Settings.SLOW_STATEMENT_THRESHOLD, configurationValues, 0 );
+		int queryThreshold = getInt( Settings.SLOW_QUERY_THRESHOLD, configurationValues, threshold );
+		return new SlowStatementLog(
+				threshold,
+				queryThreshold,
+				getSampleRate( configurationValues ),
+				getInt( Settings.SLOW_STATEMENT_MAX_PARAMETER_LENGTH, configurationValues, DEFAULT_MAX_PARAMETER_LENGTH ),
+				getBoolean( Settings.SLOW_STATEMENT_MASK_PARAMETERS, configurationValues, true ),
+				registry.getService( JdbcServices.class ).getSqlStatementLogger().isFormat()
+		);
+	}
+
+	private static double getSampleRate(Map configurationValues) {
+		final Object value = configurationValues.get( Settings.SLOW_STATEMENT_PARAMETER_SAMPLE_RATE );
+		if ( value == null ) {
+			return 0;
+		}
+		double sampleRate;
+		try {
+			sampleRate = value instanceof Number
+					? ( (Number) value ).doubleValue()
+					: Double.parseDouble( value.toString().trim() );
+		}
+		catch (NumberFormatException e) {
+			sampleRate = Double.NaN;
+		}
+		// written to also reject NaN
+		if ( !( sampleRate >= 0 && sampleRate <= 1 ) ) {
+			throw new HibernateException( "Invalid value for " + Settings.SLOW_STATEMENT_PARAMETER_SAMPLE_RATE
+					+ ": '" + value + "' (must be a number between 0 and 1)" );
+		}
+		return sampleRate;
+	}
+
+	@Override
+	public Class<SlowStatementLog> getServiceInitiated() {
+		return SlowStatementLog.class;
+	}
+}
@@ -16,8 +16,10 @@
 import io.vertx.sqlclient.Transaction;
 import io.vertx.sqlclient.Tuple;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
+import org.hibernate.engine.jdbc.internal.Formatter;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
+import org.hibernate.reactive.jfr.impl.ReactiveEvents;
 import org.hibernate.reactive.pool.ReactiveConnection;
 
 import java.sql.ResultSet;
@@ -36,15 +38,21 @@ public class SqlClientConnection implements ReactiveConnection {
 	private static PropertyKind<Long> mySqlLastInsertedId;
 
 	private final SqlStatementLogger sqlStatementLogger;
+	private final SlowStatementLog slowStatementLog;
+	private final FormattedSql formattedSql;
 
 	private final Pool pool;
 	private final SqlConnection connection;
 	private Transaction transaction;
 
 	SqlClientConnection(SqlConnection connection, Pool pool,
-						SqlStatementLogger sqlStatementLogger) {
+						SqlStatementLogger sqlStatementLogger,
+						SlowStatementLog slowStatementLog,
+						FormattedSql formattedSql) {
 		this.pool = pool;
 		this.sqlStatementLogger = sqlStatementLogger;
+		this.slowStatementLog = slowStatementLog;
+		this.formattedSql = formattedSql;
 		this.connection = connection;
 	}
 
@@ -157,40 +165,72 @@ public CompletionStage<Long> insertAndSelectIdentifier(String sql, Tuple paramet
 
 	public CompletionStage<RowSet<Row>> preparedQuery(String sql, Tuple parameters) {
 		feedback(sql);
-		return Handlers.toCompletionStage(
+		final long start = startTime();
+		final Object event = ReactiveEvents.beginStatement();
+		return timed( sql, parameters, 1, start, event, Handlers.toCompletionStage(
 				handler -> client().preparedQuery( sql ).execute( parameters, handler )
-		);
+		) );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQueryBatch(String sql, List<Tuple> parameters) {
 		feedback(sql);
-		return Handlers.toCompletionStage(
+		final long start = startTime();
+		final Object event = ReactiveEvents.beginStatement();
+		return timed( sql, parameters.isEmpty() ? null : parameters.get( 0 ), parameters.size(), start, event, Handlers.toCompletionStage(
 				handler -> client().preparedQuery( sql ).executeBatch( parameters, handler )
-		);
+		) );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQuery(String sql) {
 		feedback(sql);
-		return Handlers.toCompletionStage(
+		final long start = startTime();
+		final Object event = ReactiveEvents.beginStatement();
+		return timed( sql, null, 1, start, event, Handlers.toCompletionStage(
 				handler -> client().preparedQuery( sql ).execute( handler )
-		);
+		) );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQueryOutsideTransaction(String sql) {
 		feedback(sql);
-		return Handlers.toCompletionStage(
+		final long start = startTime();
+		final Object event = ReactiveEvents.beginStatement();
+		return timed( sql, null, 1, start, event, Handlers.toCompletionStage(
 				handler -> pool.preparedQuery( sql ).execute( handler )
-		);
+		) );
 	}
 
 	private void feedback(String sql) {
 		Objects.requireNonNull(sql, "SQL query cannot be null");
 		// DDL already gets formatted by the client, so don't reformat it
-		FormatStyle formatStyle =
+		Formatter formatter =
 				sqlStatementLogger.isFormat() && !sql.contains( System.lineSeparator() )
-						? FormatStyle.BASIC
-						: FormatStyle.NONE;
-		sqlStatementLogger.logStatement( sql, formatStyle.getFormatter() );
+						? formattedSql
+						: FormatStyle.NONE.getFormatter();
+		// the statement is only formatted if it's actually logged
+		sqlStatementLogger.logStatement( sql, formatter );
+	}
+
+	private long startTime() {
+		return slowStatementLog == null ? 0 : System.nanoTime();
+	}
+
+	/**
+	 * Report the execution time of the statement to the slow statement
+	 * log and to the Flight Recorder, if either is enabled.
+	 */
+	private <T> CompletionStage<T> timed(String sql, Tuple parameters, int batchSize, long start, Object event,
+			CompletionStage<T> stage) {
+		if ( slowStatementLog == null && event == null ) {
+			return stage;
+		}
+		return stage.whenComplete( (result, failure) -> {
+			if ( event != null ) {
+				ReactiveEvents.endStatement( event, sql, batchSize, failure );
+			}
+			if ( slowStatementLog != null ) {
+				slowStatementLog.executed( sql, parameters, batchSize, System.nanoTime() - start, failure, formattedSql );
+			}
+		} );
 	}
 
 	private SqlClient client() {
@@ -8,6 +8,7 @@
 import java.util.concurrent.CompletionStage;
 
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.reactive.jfr.impl.ReactiveEvents;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
 
@@ -34,6 +35,8 @@
  */
 public abstract class SqlClientPool implements ReactiveConnectionPool {
 
+	private final FormattedSql formattedSql = new FormattedSql( FormattedSql.DEFAULT_MAX_ENTRIES );
+
 	/**
 	 * @return the underlying Vert.x {@link Pool} for the current context.
 	 */
@@ -45,6 +48,15 @@ public abstract class SqlClientPool implements ReactiveConnectionPool {
 	 */
 	protected abstract SqlStatementLogger getSqlStatementLogger();
 
+	/**
+	 * @return the {@link SlowStatementLog} for logging statements which
+	 *         take longer than a threshold, or {@code null} if slow
+	 *         statements are not logged
+	 */
+	protected SlowStatementLog getSlowStatementLog() {
+		return null;
+	}
+
 	/**
 	 * Get a {@link Pool} for the specified tenant.
 	 * <p>
@@ -72,19 +84,25 @@ public CompletionStage<ReactiveConnection> getConnection(String tenantId) {
 	}
 
 	private CompletionStage<ReactiveConnection> getConnectionFromPool(Pool pool) {
+		final Object event = ReactiveEvents.beginConnectionAcquisition();
 		return Handlers.toCompletionStage(
 				handler -> pool.getConnection(
-						ar -> handler.handle(
-								ar.succeeded()
-										? succeededFuture( newConnection( ar.result() ) )
-										: failedFuture( ar.cause() )
-						)
+						ar -> {
+							if ( event != null ) {
+								ReactiveEvents.endConnectionAcquisition( event, ar.cause() );
+							}
+							handler.handle(
+									ar.succeeded()
+											? succeededFuture( newConnection( ar.result() ) )
+											: failedFuture( ar.cause() )
+							);
+						}
 				)
 		);
 	}
 
 	private SqlClientConnection newConnection(SqlConnection connection) {
-		return new SqlClientConnection( connection, getPool(), getSqlStatementLogger() );
+		return new SqlClientConnection( connection, getPool(), getSqlStatementLogger(), getSlowStatementLog(), formattedSql );
 	}
 
 	@Override
@@ -0,0 +1,39 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.util.List;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.StatementInterceptor;
+import org.hibernate.service.Service;
+
+/**
+ * A service holding the chain of {@link StatementInterceptor}s
+ * specified by {@link org.hibernate.reactive.provider.Settings#STATEMENT_INTERCEPTORS}.
+ */
+public final class StatementInterceptors implements Service {
+
+	private final StatementInterceptor[] interceptors;
+
+	StatementInterceptors(List<StatementInterceptor> interceptors) {
+		this.interceptors = interceptors.toArray( new StatementInterceptor[0] );
+	}
+
+	public boolean isEmpty() {
+		return interceptors.length == 0;
+	}
+
+	/**
+	 * @return a connection which calls the interceptors around every
+	 * statement executed via the given connection, or the given
+	 * connection itself, if there are no interceptors
+	 */
+	public ReactiveConnection intercept(ReactiveConnection connection, SharedSessionContractImplementor session) {
+		return isEmpty() ? connection : new InterceptingConnection( connection, interceptors, session );
+	}
+}
@@ -0,0 +1,90 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.reactive.pool.StatementInterceptor;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * A Hibernate {@link StandardServiceInitiator service initiator} that
+ * creates the {@link StatementInterceptors} specified by
+ * {@link Settings#STATEMENT_INTERCEPTORS}. Each interceptor may be
+ * given as an instance, a class, or a class name, and several
+ * interceptors as a collection or a comma-separated list of class
+ * names.
+ */
+public class StatementInterceptorsInitiator implements StandardServiceInitiator<StatementInterceptors> {
+
+	public static final StatementInterceptorsInitiator INSTANCE = new StatementInterceptorsInitiator();
+
+	@Override
+	public StatementInterceptors initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		List<StatementInterceptor> interceptors = new ArrayList<>();
+		Object configValue = configurationValues.get( Settings.STATEMENT_INTERCEPTORS );
+		if ( configValue instanceof Collection ) {
+			for ( Object value : (Collection<?>) configValue ) {
+				interceptors.add( interceptor( value, registry ) );
+			}
+		}
+		else if ( configValue instanceof String ) {
+			for ( String className : StringHelper.split( ", ", (String) configValue ) ) {
+				interceptors.add( interceptor( className, registry ) );
+			}
+		}
+		else if ( configValue != null ) {
+			interceptors.add( interceptor( configValue, registry ) );
+		}
+
+		if ( !interceptors.isEmpty() ) {
+			CoreLogging.messageLogger( StatementInterceptors.class )
+					.infof( "HRX000022: Using statement interceptors %s", interceptors );
+		}
+		return new StatementInterceptors( interceptors );
+	}
+
+	private static StatementInterceptor interceptor(Object value, ServiceRegistryImplementor registry) {
+		if ( value instanceof StatementInterceptor ) {
+			return (StatementInterceptor) value;
+		}
+
+		final Class<?> implClass;
+		if ( value instanceof Class ) {
+			implClass = (Class<?>) value;
+		}
+		else {
+			final String className = value.toString().trim();
+			try {
+				implClass = registry.getService( ClassLoaderService.class ).classForName( className );
+			}
+			catch (Exception e) {
+				throw new HibernateException( "Could not load statement interceptor [" + className + "]", e );
+			}
+		}
+
+		try {
+			return (StatementInterceptor) implClass.getDeclaredConstructor().newInstance();
+		}
+		catch (Exception e) {
+			throw new HibernateException( "Could not instantiate statement interceptor [" + implClass.getName() + "]", e );
+		}
+	}
+
+	@Override
+	public Class<StatementInterceptors> getServiceInitiated() {
+		return StatementInterceptors.class;
+	}
+}
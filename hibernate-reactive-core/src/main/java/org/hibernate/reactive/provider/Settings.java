@@ -59,4 +59,126 @@ public interface Settings extends AvailableSettings {
 	 * Specifies a {@link org.hibernate.reactive.pool.impl.SqlClientPoolConfiguration} class.
 	 */
 	String SQL_CLIENT_POOL = "hibernate.vertx.pool.class";
+
+	/**
+	 * Specifies the {@link org.hibernate.reactive.pool.StatementInterceptor}s
+	 * called around every statement sent to the database, as a
+	 * comma-separated list of class names, or as a collection of
+	 * classes or instances.
+	 */
+	String STATEMENT_INTERCEPTORS = "hibernate.reactive.statement_interceptors";
+
+	/**
+	 * The execution time, in milliseconds, above which a statement is
+	 * logged as slow to the category {@code org.hibernate.SQL_SLOW}, or
+	 * 0 if slow statements should not be logged.
+	 *
+	 * @see #SLOW_QUERY_THRESHOLD
+	 */
+	String SLOW_STATEMENT_THRESHOLD = "hibernate.reactive.slow_statement.threshold";
+
+	/**
+	 * The execution time, in milliseconds, above which a query is
+	 * logged as slow. By default, the same as {@link #SLOW_STATEMENT_THRESHOLD}.
+	 */
+	String SLOW_QUERY_THRESHOLD = "hibernate.reactive.slow_statement.query_threshold";
+
+	/**
+	 * The fraction, between 0 and 1, of the slow statements which are
+	 * logged along with their parameters. By default, 0.
+	 */
+	String SLOW_STATEMENT_PARAMETER_SAMPLE_RATE = "hibernate.reactive.slow_statement.parameter_sample_rate";
+
+	/**
+	 * The maximum number of characters of a parameter of a slow
+	 * statement to log. By default, 64.
+	 */
+	String SLOW_STATEMENT_MAX_PARAMETER_LENGTH = "hibernate.reactive.slow_statement.max_parameter_length";
+
+	/**
+	 * If {@code true}, the default, the parameters of slow statements
+	 * are masked in the log, and only their type, or the length of a
+	 * text parameter, is logged.
+	 */
+	String SLOW_STATEMENT_MASK_PARAMETERS = "hibernate.reactive.slow_statement.mask_parameters";
+
+	/**
+	 * The number of times an association or collection may be fetched
+	 * by a single session, one row at a time, before a warning about
+	 * an "N+1 selects" problem is logged, or 0 to disable the warning.
+	 */
+	String REPEATED_FETCH_THRESHOLD = "hibernate.reactive.diagnostics.repeated_fetch_threshold";
+
+	/**
+	 * The maximum number of round trips to the database a single
+	 * session is expected to make, or 0 if there's no limit.
+	 *
+	 * @see #ROUND_TRIP_BUDGET_ACTION
+	 */
+	String ROUND_TRIP_BUDGET = "hibernate.reactive.diagnostics.round_trip_budget";
+
+	/**
+	 * What happens when a session exceeds the {@link #ROUND_TRIP_BUDGET}:
+	 * {@code warn}, the default, to log a warning, or {@code fail}, to
+	 * fail every subsequent statement, which is useful in tests.
+	 */
+	String ROUND_TRIP_BUDGET_ACTION = "hibernate.reactive.diagnostics.round_trip_budget_action";
+
+	/**
+	 * The time, in milliseconds, above which a single synchronous
+	 * stretch of work on the event loop, by a flush, a cascade, the
+	 * hydration of query results, or the translation of a query, is
+	 * logged as a stall, or 0, the default, to disable the warning.
+	 * Only takes effect if {@link #GENERATE_STATISTICS} is enabled.
+	 *
+	 * @see org.hibernate.reactive.stat.ReactiveStatistics#getMaxEventLoopNanos
+	 */
+	String EVENT_LOOP_STALL_THRESHOLD = "hibernate.reactive.diagnostics.event_loop_stall_threshold";
+
+	/**
+	 * The number of entities in the persistence context at or above
+	 * which the dirty checking of a flush is moved off the event loop,
+	 * to a Vert.x worker thread, or 0, the default, to always flush on
+	 * the event loop.
+	 */
+	String FLUSH_OFFLOAD_THRESHOLD = "hibernate.reactive.offload.flush_threshold";
+
+	/**
+	 * The number of rows of a query result at or above which the rows
+	 * are read into entities on a Vert.x worker thread, instead of the
+	 * event loop, or 0, the default, to always read them on the event
+	 * loop.
+	 */
+	String HYDRATION_OFFLOAD_THRESHOLD = "hibernate.reactive.offload.hydration_threshold";
+
+	/**
+	 * Specifies a {@link org.hibernate.reactive.cache.ReactiveCacheAccess} class,
+	 * for non-blocking access to the second-level cache.
+	 *
+	 * @see org.hibernate.reactive.cache.impl.SynchronousCacheAccess
+	 * @see org.hibernate.reactive.cache.impl.BlockingCacheAccess
+	 */
+	String CACHE_ACCESS = "hibernate.reactive.cache.access_class";
+
+	/**
+	 * The maximum size, in megabytes, of the serialized data held by
+	 * each region of the {@link org.hibernate.reactive.cache.impl.OffHeapRegionFactory}.
+	 */
+	String OFF_HEAP_CACHE_MAX_MEGABYTES = "hibernate.reactive.cache.offheap.max_megabytes";
+
+	/**
+	 * The maximum number of deserialized entries of each region of the
+	 * {@link org.hibernate.reactive.cache.impl.OffHeapRegionFactory} that
+	 * are kept by each event loop thread, or 0 to disable this local cache.
+	 */
+	String OFF_HEAP_CACHE_LOCAL_ENTRIES = "hibernate.reactive.cache.offheap.local_entries";
+
+	/**
+	 * The address on the Vert.x event bus used to propagate invalidations
+	 * of the second-level cache and query cache to the other nodes of a
+	 * cluster. If not specified, invalidations are not propagated.
+	 *
+	 * @see org.hibernate.reactive.cache.CacheInvalidationBroadcaster
+	 */
+	String CACHE_INVALIDATION_ADDRESS = "hibernate.reactive.cache.invalidation_address";
 }
@@ -11,6 +11,8 @@
 import org.hibernate.event.spi.EventType;
 import org.hibernate.integrator.spi.Integrator;
 import org.hibernate.internal.CoreLogging;
+import org.hibernate.reactive.cache.CacheInvalidationBroadcaster;
+import org.hibernate.reactive.cache.impl.PrefetchedQueryResultsCache;
 import org.hibernate.reactive.event.impl.*;
 import org.hibernate.service.spi.SessionFactoryServiceRegistry;
 
@@ -30,11 +32,20 @@ public void integrate(
 			SessionFactoryImplementor sessionFactory,
 			SessionFactoryServiceRegistry serviceRegistry) {
 		attachEventContextManagingListenersIfRequired( serviceRegistry );
+		if ( ReactiveModeCheck.isReactiveRegistry( serviceRegistry ) ) {
+			if ( sessionFactory.getSessionFactoryOptions().isQueryCacheEnabled() ) {
+				PrefetchedQueryResultsCache.checkAccessible();
+			}
+			serviceRegistry.getService( CacheInvalidationBroadcaster.class ).subscribe( sessionFactory );
+		}
 	}
 
 	@Override
 	public void disintegrate(
 			SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+		if ( ReactiveModeCheck.isReactiveRegistry( serviceRegistry ) ) {
+			serviceRegistry.getService( CacheInvalidationBroadcaster.class ).unsubscribe( sessionFactory );
+		}
 	}
 
 	private void attachEventContextManagingListenersIfRequired(SessionFactoryServiceRegistry serviceRegistry) {
@@ -21,7 +21,12 @@
 import org.hibernate.jmx.internal.JmxServiceInitiator;
 import org.hibernate.persister.internal.PersisterFactoryInitiator;
 import org.hibernate.property.access.internal.PropertyAccessStrategyResolverInitiator;
+import org.hibernate.reactive.cache.impl.CacheInvalidationBroadcasterInitiator;
+import org.hibernate.reactive.cache.impl.ReactiveCacheAccessInitiator;
+import org.hibernate.reactive.engine.impl.WorkerOffloadInitiator;
+import org.hibernate.reactive.pool.impl.SlowStatementLogInitiator;
 import org.hibernate.reactive.pool.impl.SqlClientPoolConfigurationInitiator;
+import org.hibernate.reactive.pool.impl.StatementInterceptorsInitiator;
 import org.hibernate.reactive.provider.service.NoJdbcMultiTenantConnectionProviderInitiator;
 import org.hibernate.reactive.provider.service.ReactiveMarkerServiceInitiator;
 import org.hibernate.reactive.provider.service.NoJdbcConnectionProviderInitiator;
@@ -32,6 +37,8 @@
 import org.hibernate.reactive.id.impl.ReactiveIdentifierGeneratorFactoryInitiator;
 import org.hibernate.reactive.provider.service.ReactivePersisterClassResolverInitiator;
 import org.hibernate.reactive.pool.impl.ReactiveConnectionPoolInitiator;
+import org.hibernate.reactive.stat.impl.ReactiveStatisticsInitiator;
+import org.hibernate.reactive.stat.impl.SessionDiagnosticsFactoryInitiator;
 import org.hibernate.reactive.vertx.impl.VertxInstanceInitiator;
 import org.hibernate.resource.beans.spi.ManagedBeanRegistryInitiator;
 import org.hibernate.resource.transaction.internal.TransactionCoordinatorBuilderInitiator;
@@ -114,6 +121,15 @@ private static List<StandardServiceInitiator> buildInitialServiceInitiatorList()
 
         serviceInitiators.add( RegionFactoryInitiator.INSTANCE );
 
+        //Exclusive to Hibernate Reactive:
+        serviceInitiators.add( ReactiveCacheAccessInitiator.INSTANCE );
+        serviceInitiators.add( CacheInvalidationBroadcasterInitiator.INSTANCE );
+        serviceInitiators.add( ReactiveStatisticsInitiator.INSTANCE );
+        serviceInitiators.add( SessionDiagnosticsFactoryInitiator.INSTANCE );
+        serviceInitiators.add( StatementInterceptorsInitiator.INSTANCE );
+        serviceInitiators.add( SlowStatementLogInitiator.INSTANCE );
+        serviceInitiators.add( WorkerOffloadInitiator.INSTANCE );
+
         serviceInitiators.add( TransactionCoordinatorBuilderInitiator.INSTANCE );
 
         serviceInitiators.add( ManagedBeanRegistryInitiator.INSTANCE );
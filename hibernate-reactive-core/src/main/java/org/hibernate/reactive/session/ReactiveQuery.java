@@ -84,6 +84,8 @@ default CompletionStage<R> getReactiveSingleResultOrNull() {
 
 	ReactiveQuery<R> setLockOptions(LockOptions lockOptions);
 
+	ReactiveQuery<R> setLockTimeout(int timeout);
+
 	ReactiveQuery<R> setCacheMode(CacheMode cacheMode);
 
 	CacheMode getCacheMode();
@@ -13,6 +13,8 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.reactive.common.ResultSetMapping;
+import org.hibernate.reactive.stat.impl.ReactiveSessionStatistics;
+import org.hibernate.reactive.stat.impl.SessionDiagnostics;
 
 import javax.persistence.EntityGraph;
 import java.io.Serializable;
@@ -53,6 +55,18 @@ <T> ReactiveQuery<T> createReactiveCriteriaQuery(
             Class<T> resultClass,
             CriteriaQueryOptions queryOptions);
 
+    /**
+     * @return the statistics of this session, or {@code null} if
+     *         statistics are disabled
+     */
+    ReactiveSessionStatistics getReactiveStatistics();
+
+    /**
+     * @return the diagnostics of this session, or {@code null} if
+     *         they are disabled
+     */
+    SessionDiagnostics getReactiveDiagnostics();
+
     <T> EntityGraph<T> createEntityGraph(Class<T> entity);
     <T> EntityGraph<T> createEntityGraph(Class<T> entity, String name);
     <T> EntityGraph<T> getEntityGraph(Class<T> entity, String name);
@@ -17,6 +17,7 @@
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.event.internal.MergeContext;
 import org.hibernate.internal.util.collections.IdentitySet;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.reactive.engine.ReactiveActionQueue;
 
 import javax.persistence.EntityGraph;
@@ -72,8 +73,15 @@ public interface ReactiveSession extends ReactiveQueryExecutor {
 
 	CompletionStage<?> reactiveRefresh(Object child, IdentitySet refreshedAlready);
 
+	CompletionStage<Void> reactiveRefreshAll(Object[] entities, LockOptions lockOptions);
+
+	CompletionStage<List<Object>> reactiveReload(EntityPersister persister, Serializable[] ids, Object[] instances,
+												 LockOptions lockOptions);
+
 	CompletionStage<Void> reactiveLock(Object entity, LockOptions lockMode);
 
+	CompletionStage<Void> reactiveLockAll(Object[] entities, LockOptions lockOptions);
+
 	<T> ReactiveQuery<T> createReactiveNativeQuery(String sqlString);
 
 	<T> ReactiveNativeQuery<T> createReactiveNativeQuery(String sqlString, String resultSetMapping);
@@ -95,6 +103,8 @@ <T> CompletionStage<T> reactiveFind(Class<T> entityClass, Object id,
 
 	<T> CompletionStage<List<T>> reactiveFind(Class<T> entityClass, Object... ids);
 
+	<T> CompletionStage<List<T>> reactiveFind(Class<T> entityClass, LockOptions lockOptions, Object... ids);
+
 	<T> CompletionStage<T> reactiveFind(Class<T> entityClass, Map<String,Object> naturalIds);
 
 	CompletionStage<Object> reactiveImmediateLoad(String entityName, Serializable id);
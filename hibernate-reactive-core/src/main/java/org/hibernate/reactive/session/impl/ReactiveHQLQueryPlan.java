@@ -18,6 +18,7 @@
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.IdentitySet;
+import org.hibernate.reactive.jfr.impl.ReactiveEvents;
 import org.hibernate.reactive.session.ReactiveQueryExecutor;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
@@ -25,7 +26,8 @@
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
  * A reactific {@link HQLQueryPlan}
@@ -82,6 +84,20 @@ public int performExecuteUpdate(QueryParameters queryParameters, SharedSessionCo
 	public CompletionStage<List<Object>> performReactiveList(QueryParameters queryParameters,
 															 SharedSessionContractImplementor session)
 			throws HibernateException {
+		final Object event = ReactiveEvents.beginQuery();
+		final CompletionStage<List<Object>> list = list( queryParameters, session );
+		return event == null
+				? list
+				: list.whenComplete( (results, failure) -> ReactiveEvents.endQuery(
+						event,
+						getSourceQuery(),
+						results == null ? -1 : results.size(),
+						failure
+				) );
+	}
+
+	private CompletionStage<List<Object>> list(QueryParameters queryParameters,
+											   SharedSessionContractImplementor session) {
 		if ( log.isTraceEnabled() ) {
 			log.tracev( "Find: {0}", getSourceQuery() );
 			queryParameters.traceParameters( session.getFactory() );
@@ -94,72 +110,111 @@ public CompletionStage<List<Object>> performReactiveList(QueryParameters queryPa
 		final RowSelection rowSelection = queryParameters.getRowSelection();
 		final boolean hasLimit = rowSelection != null
 				&& rowSelection.definesLimits();
-		final boolean needsLimit = hasLimit && translators.length > 1;
-
-		final QueryParameters queryParametersToUse;
-		if ( needsLimit ) {
-			log.needsLimit();
-			final RowSelection selection = new RowSelection();
-			selection.setFetchSize( queryParameters.getRowSelection().getFetchSize() );
-			selection.setTimeout( queryParameters.getRowSelection().getTimeout() );
-			queryParametersToUse = queryParameters.createCopyUsing( selection );
-		}
-		else {
-			queryParametersToUse = queryParameters;
-		}
 
 		//fast path to avoid unnecessary allocation and copying
 		if ( translators.length == 1 ) {
 			ReactiveQueryTranslatorImpl reactiveTranslator = (ReactiveQueryTranslatorImpl) translators[0];
-			return reactiveTranslator.reactiveList( session, queryParametersToUse );
+			return reactiveTranslator.reactiveList( session, queryParameters );
 		}
+
 		final int guessedResultSize = guessResultSize( rowSelection );
-		final List<Object> combinedResults = new ArrayList<>( guessedResultSize );
-		final IdentitySet distinction;
-		if ( needsLimit ) {
-			distinction = new IdentitySet( guessedResultSize );
+		if ( hasLimit ) {
+			// The translators run one after the other, in a stable
+			// order, and each is asked for only as many rows as are
+			// still missing from the requested window of results;
+			// once the window is full, the rest don't run at all
+			final LimitWindow window = new LimitWindow( rowSelection, guessedResultSize );
+			return CompletionStages.loop(
+					translators,
+					translator -> window.isFull()
+							? voidFuture()
+							: listPages( (ReactiveQueryTranslatorImpl) translator, 0, queryParameters, window, session )
+			).thenApply( v -> window.results );
 		}
 		else {
-			distinction = null;
+			final List<Object> combinedResults = new ArrayList<>( guessedResultSize );
+			return CompletionStages.loop(
+					translators,
+					translator -> ((ReactiveQueryTranslatorImpl) translator)
+							.reactiveList( session, queryParameters )
+							.thenAccept( combinedResults::addAll )
+			).thenApply( v -> combinedResults );
 		}
+	}
 
-		AtomicInteger includedCount = new AtomicInteger();
-		return CompletionStages.loop(
-				translators,
-				translator -> ((ReactiveQueryTranslatorImpl) translator)
-						.reactiveList( session, queryParametersToUse )
-						.thenAccept( tmpList -> {
-							if ( needsLimit ) {
-								needsLimitLoop( queryParameters, combinedResults, distinction, includedCount, tmpList );
-							}
-							else {
-								combinedResults.addAll( tmpList );
-							}
-						} )
-		).thenApply( v -> combinedResults );
+	/**
+	 * Run the given translator with a limit equal to the number of
+	 * results still missing from the window. Usually, one page is
+	 * enough, but when some of the results turn out to be duplicates
+	 * of results we already have, we need to ask for the next page.
+	 */
+	private CompletionStage<Void> listPages(ReactiveQueryTranslatorImpl translator,
+											int offset,
+											QueryParameters queryParameters,
+											LimitWindow window,
+											SharedSessionContractImplementor session) {
+		final int pageSize = window.remaining();
+		return translator.reactiveList( session, window.page( queryParameters, offset, pageSize ) )
+				.thenCompose( page -> {
+					window.addAll( page );
+					// a short page means that the translator has no more results
+					return window.isFull() || pageSize < 0 || page.size() < pageSize
+							? voidFuture()
+							: listPages( translator, offset + page.size(), queryParameters, window, session );
+				} );
 	}
 
-	private void needsLimitLoop(QueryParameters queryParameters,
-								List<Object> combinedResults,
-								IdentitySet distinction,
-								AtomicInteger includedCount,
-								List<Object> tmpList) {
-		// NOTE : firstRow is zero-based
-		RowSelection rowSelection = queryParameters.getRowSelection();
-		final int first = rowSelection.getFirstRow() == null ? 0 : rowSelection.getFirstRow();
-		final int max = rowSelection.getMaxRows() == null ? -1 : rowSelection.getMaxRows();
-		for ( final Object result : tmpList ) {
-			if ( !distinction.add( result ) ) {
-				continue;
-			}
-			int included = includedCount.getAndIncrement();
-			if ( included < first ) {
-				continue;
+	/**
+	 * Applies the first/max results of a query to the combined
+	 * results of its translators, ignoring duplicate results.
+	 */
+	private static final class LimitWindow {
+		// NOTE : first is zero-based
+		private final int first;
+		private final int max;
+		private final IdentitySet distinction;
+		private final List<Object> results;
+		private int includedCount;
+
+		LimitWindow(RowSelection rowSelection, int guessedResultSize) {
+			first = rowSelection.getFirstRow() == null ? 0 : rowSelection.getFirstRow();
+			max = rowSelection.getMaxRows() == null ? -1 : rowSelection.getMaxRows();
+			distinction = new IdentitySet( guessedResultSize );
+			results = new ArrayList<>( guessedResultSize );
+		}
+
+		boolean isFull() {
+			return max >= 0 && results.size() >= max;
+		}
+
+		/**
+		 * @return how many more results are needed to fill the window,
+		 *         or {@code -1} if there's no maximum
+		 */
+		int remaining() {
+			return max < 0 ? -1 : first + max - includedCount;
+		}
+
+		void addAll(List<Object> page) {
+			for ( Object result : page ) {
+				if ( isFull() ) {
+					return;
+				}
+				if ( distinction.add( result ) && includedCount++ >= first ) {
+					results.add( result );
+				}
 			}
-			combinedResults.add( result );
-			if ( max >= 0 && included > max ) {
-				return;
+		}
+
+		QueryParameters page(QueryParameters queryParameters, int offset, int pageSize) {
+			final RowSelection selection = new RowSelection();
+			selection.setFetchSize( queryParameters.getRowSelection().getFetchSize() );
+			selection.setTimeout( queryParameters.getRowSelection().getTimeout() );
+			selection.setFirstRow( offset );
+			if ( pageSize >= 0 ) {
+				selection.setMaxRows( pageSize );
 			}
+			return queryParameters.createCopyUsing( selection );
 		}
 	}
 
@@ -21,6 +21,7 @@
 import org.hibernate.query.internal.QueryImpl;
 import org.hibernate.reactive.session.ReactiveQuery;
 import org.hibernate.reactive.session.ReactiveQueryExecutor;
+import org.hibernate.reactive.stat.impl.ReactiveSessionStatistics;
 import org.hibernate.transform.ResultTransformer;
 
 import javax.persistence.EntityGraph;
@@ -34,6 +35,7 @@
 import static java.util.Collections.emptyMap;
 import static org.hibernate.reactive.session.ReactiveQuery.convertQueryException;
 import static org.hibernate.reactive.session.ReactiveQuery.extractUniqueResult;
+import static org.hibernate.reactive.stat.ReactiveStatistics.EventLoopPhase.QUERY_TRANSLATION;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 
 /**
@@ -144,6 +146,10 @@ private ReactiveQueryExecutor reactiveProducer() {
 	private QueryParameters makeReactiveQueryParametersForExecution(String hql) {
 		QueryParameters queryParameters = super.makeQueryParametersForExecution( hql );
 		if ( queryParameters.getQueryPlan() != null ) {
+			// a query with an entity graph isn't cached, and
+			// is translated every time it's executed
+			final ReactiveSessionStatistics statistics = reactiveProducer().getReactiveStatistics();
+			final long translationStart = statistics == null ? 0 : System.nanoTime();
 			HQLQueryPlan plan = new ReactiveHQLQueryPlan(
 					hql,
 					false,
@@ -151,6 +157,9 @@ private QueryParameters makeReactiveQueryParametersForExecution(String hql) {
 					getProducer().getFactory(),
 					entityGraphQueryHint
 			);
+			if ( statistics != null ) {
+				statistics.eventLoop( QUERY_TRANSLATION, hql, translationStart );
+			}
 			queryParameters.setQueryPlan( plan );
 		}
 		return queryParameters;
@@ -252,6 +261,12 @@ public ReactiveQueryImpl<R> setLockOptions(LockOptions lockOptions) {
 		return this;
 	}
 
+	@Override
+	public ReactiveQueryImpl<R> setLockTimeout(int timeout) {
+		getLockOptions().setTimeOut( timeout );
+		return this;
+	}
+
 	@Override
 	public ReactiveQuery<R> setQueryHint(String hintName, Object value) {
 		super.setHint(hintName, value);
@@ -18,6 +18,8 @@
 import org.hibernate.TypeMismatchException;
 import org.hibernate.UnresolvableObjectException;
 import org.hibernate.action.internal.BulkOperationCleanupAction;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
@@ -62,6 +64,7 @@
 import org.hibernate.loader.custom.sql.SQLCustomQuery;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.MultiLoadOptions;
+import org.hibernate.persister.entity.OuterJoinLoadable;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.query.ParameterMetadata;
@@ -82,14 +85,19 @@
 import org.hibernate.reactive.event.impl.DefaultReactiveAutoFlushEventListener;
 import org.hibernate.reactive.event.impl.DefaultReactiveInitializeCollectionEventListener;
 import org.hibernate.reactive.loader.custom.impl.ReactiveCustomLoader;
+import org.hibernate.reactive.loader.entity.impl.ReactiveDynamicBatchingEntityLoaderBuilder;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.pool.BatchingConnection;
+import org.hibernate.reactive.pool.impl.StatementInterceptors;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.session.Criteria;
 import org.hibernate.reactive.session.CriteriaQueryOptions;
 import org.hibernate.reactive.session.ReactiveNativeQuery;
 import org.hibernate.reactive.session.ReactiveQuery;
 import org.hibernate.reactive.session.ReactiveSession;
+import org.hibernate.reactive.stat.impl.ReactiveSessionStatistics;
+import org.hibernate.reactive.stat.impl.SessionDiagnostics;
+import org.hibernate.reactive.stat.impl.SessionDiagnosticsFactory;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
 import javax.persistence.EntityGraph;
@@ -97,6 +105,9 @@
 import javax.persistence.Tuple;
 import javax.persistence.metamodel.Attribute;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -111,6 +122,7 @@
 import static org.hibernate.engine.spi.PersistenceContext.NaturalIdHelper.INVALID_NATURAL_ID_REFERENCE;
 import static org.hibernate.reactive.common.InternalStateAssertions.assertUseOnEventLoop;
 import static org.hibernate.reactive.session.impl.SessionUtil.checkEntityFound;
+import static org.hibernate.reactive.stat.ReactiveStatistics.EventLoopPhase.QUERY_TRANSLATION;
 import static org.hibernate.reactive.util.impl.CompletionStages.*;
 
 /**
@@ -123,21 +135,47 @@ public class ReactiveSessionImpl extends SessionImpl implements ReactiveSession,
 
 	private transient ReactiveActionQueue reactiveActionQueue = new ReactiveActionQueue( this );
 	private final ReactiveConnection reactiveConnection;
+	private final ReactiveSessionStatistics reactiveStatistics;
+	private final SessionDiagnostics reactiveDiagnostics;
 	private final Thread associatedWorkThread;
 
 	//Lazily initialized
 	private transient ExceptionConverter exceptionConverter;
 
+	//Instances being refreshed by reactiveReload()
+	private transient Map<EntityKey, Object> reloadedInstances;
+
 	public ReactiveSessionImpl(SessionFactoryImpl delegate, SessionCreationOptions options,
 							   ReactiveConnection connection) {
 		super( delegate, options );
 		assert Context.isOnEventLoopThread() : "This needs to be run on the Vert.x event loop";
 		this.associatedWorkThread = Thread.currentThread();
+		connection = delegate.getServiceRegistry().getService( StatementInterceptors.class )
+				.intercept( connection, this );
+		reactiveStatistics = ReactiveSessionStatistics.create( delegate );
+		if ( reactiveStatistics != null ) {
+			connection = reactiveStatistics.monitor( connection, delegate );
+		}
+		reactiveDiagnostics = delegate.getServiceRegistry().getService( SessionDiagnosticsFactory.class )
+				.createSessionDiagnostics( reactiveStatistics );
+		if ( reactiveDiagnostics != null ) {
+			connection = reactiveDiagnostics.monitor( connection );
+		}
 		Integer batchSize = getConfiguredJdbcBatchSize();
 		reactiveConnection = batchSize==null || batchSize<2 ? connection :
 				new BatchingConnection( connection, batchSize );
 	}
 
+	@Override
+	public ReactiveSessionStatistics getReactiveStatistics() {
+		return reactiveStatistics;
+	}
+
+	@Override
+	public SessionDiagnostics getReactiveDiagnostics() {
+		return reactiveDiagnostics;
+	}
+
 	@Override
 	public SessionImplementor getSharedContract() {
 		return this;
@@ -401,7 +439,16 @@ else if ( e instanceof RuntimeException ) {
 
 	@Override
 	protected ReactiveHQLQueryPlan getQueryPlan(String query, boolean shallow) throws HibernateException {
-		return (ReactiveHQLQueryPlan) super.getQueryPlan( query, shallow );
+		if ( reactiveStatistics == null ) {
+			return (ReactiveHQLQueryPlan) super.getQueryPlan( query, shallow );
+		}
+		final long translationStart = System.nanoTime();
+		try {
+			return (ReactiveHQLQueryPlan) super.getQueryPlan( query, shallow );
+		}
+		finally {
+			reactiveStatistics.eventLoop( QUERY_TRANSLATION, query, translationStart );
+		}
 	}
 
 	//TODO: parameterize the SessionFactory constructor by ReactiveNativeSQLQueryPlan::new
@@ -417,10 +464,21 @@ protected CompletionStage<Void> reactiveAutoFlushIfRequired(Set<?> querySpaces)
 			// do not auto-flush while outside a transaction
 //			return CompletionStages.nullFuture();
 //		}
+		if ( !isAutoFlushRequired( querySpaces ) ) {
+			// nothing a flush might do would affect the query,
+			// so don't bother looking for dirty entities
+			return voidFuture();
+		}
 		AutoFlushEvent event = new AutoFlushEvent( querySpaces, this );
 		return fire( event, EventType.AUTO_FLUSH, (DefaultReactiveAutoFlushEventListener l) -> l::reactiveOnAutoFlush );
 	}
 
+	private boolean isAutoFlushRequired(Set<?> querySpaces) {
+		return getHibernateFlushMode() == FlushMode.ALWAYS
+				|| reactiveActionQueue.areTablesToBeUpdated( querySpaces )
+				|| ( (ReactivePersistenceContextAdapter) getPersistenceContextInternal() ).mightFlushAffect( querySpaces );
+	}
+
 	@Override
 	public <T> CompletionStage<List<T>> reactiveList(String query, QueryParameters parameters) throws HibernateException {
 		checkOpenOrWaitingForAutoClose();
@@ -936,6 +994,73 @@ CompletionStage<Void> fireRefresh(RefreshEvent event) {
 				});
 	}
 
+	@Override
+	public CompletionStage<Void> reactiveRefreshAll(Object[] entities, LockOptions lockOptions) {
+		checkOpen();
+		final List<RefreshEvent> events = new ArrayList<>( entities.length );
+		for ( Object entity : entities ) {
+			events.add( new RefreshEvent( entity, lockOptions, this ) );
+		}
+		return fireRefreshAll( events );
+	}
+
+	private CompletionStage<Void> fireRefreshAll(List<RefreshEvent> events) {
+		if ( !getSessionFactory().getSessionFactoryOptions().isAllowRefreshDetachedEntity() ) {
+			for ( RefreshEvent event : events ) {
+				if ( !contains( event.getObject() ) ) {
+					throw new IllegalArgumentException( "Entity not managed" );
+				}
+			}
+		}
+		pulseTransactionCoordinator();
+
+		return fire(events, EventType.REFRESH,
+				(ReactiveRefreshEventListener l) -> l::reactiveOnRefreshAll)
+				.handle( (v, e) -> {
+					delayedAfterCompletion();
+
+					if (e instanceof RuntimeException) {
+						if ( !getSessionFactory().getSessionFactoryOptions().isJpaBootstrap() ) {
+							if ( e instanceof HibernateException ) {
+								return rethrow(e);
+							}
+						}
+						//including HibernateException
+						throw getExceptionConverter().convert( (RuntimeException) e );
+					}
+					return returnNullorRethrow( e );
+				});
+	}
+
+	/**
+	 * Load the state of the given instances, which are not associated
+	 * with the persistence context, from the database, using the given
+	 * instances instead of instantiating new objects.
+	 */
+	@Override
+	public CompletionStage<List<Object>> reactiveReload(EntityPersister persister, Serializable[] ids, Object[] instances,
+														LockOptions lockOptions) {
+		reloadedInstances = new HashMap<>();
+		for ( int i = 0; i < ids.length; i++ ) {
+			reloadedInstances.put( generateEntityKey( ids[i], persister ), instances[i] );
+		}
+		return ReactiveDynamicBatchingEntityLoaderBuilder.INSTANCE
+				.reload( (OuterJoinLoadable) persister, ids, lockOptions, this )
+				.whenComplete( (v, e) -> reloadedInstances = null );
+	}
+
+	@Override
+	public Object instantiate(String entityName, Serializable id) throws HibernateException {
+		if ( reloadedInstances != null ) {
+			final EntityPersister persister = getFactory().getMetamodel().entityPersister( entityName );
+			final Object instance = reloadedInstances.remove( generateEntityKey( id, persister ) );
+			if ( instance != null && persister.isInstance( instance ) ) {
+				return instance;
+			}
+		}
+		return super.instantiate( entityName, id );
+	}
+
 	private CompletionStage<Void> fireRefresh(IdentitySet refreshedAlready, RefreshEvent event) {
 		pulseTransactionCoordinator();
 
@@ -957,6 +1082,129 @@ public CompletionStage<Void> reactiveLock(Object object, LockOptions lockOptions
 		return fireLock( new LockEvent( object, lockOptions, this ) );
 	}
 
+	/**
+	 * Obtain a pessimistic lock on all the given entities, with one
+	 * {@code select ... for update} per entity type, instead of one
+	 * per entity. Other lock modes don't go to the database right
+	 * away, and are simply handled one entity at a time.
+	 */
+	@Override
+	public CompletionStage<Void> reactiveLockAll(Object[] entities, LockOptions lockOptions) {
+		checkOpen();
+		final LockMode lockMode = lockOptions.getLockMode();
+		switch ( lockMode ) {
+			case PESSIMISTIC_READ:
+			case PESSIMISTIC_WRITE:
+			case UPGRADE:
+			case UPGRADE_NOWAIT:
+			case UPGRADE_SKIPLOCKED:
+			case PESSIMISTIC_FORCE_INCREMENT:
+			case FORCE:
+				break;
+			default:
+				return loop( entities, entity -> reactiveLock( entity, lockOptions ) );
+		}
+
+		for ( Object entity : entities ) {
+			if ( entity == null ) {
+				throw new NullPointerException( "attempted to lock null" );
+			}
+			if ( !contains( entity ) ) {
+				throw new IllegalArgumentException( "unmanaged instance passed to lock()" );
+			}
+		}
+
+		pulseTransactionCoordinator();
+
+		final PersistenceContext persistenceContext = getPersistenceContextInternal();
+		final Map<ReactiveEntityPersister, List<Object>> entitiesByPersister = new LinkedHashMap<>();
+		return initializeProxies( entities )
+				.thenCompose( v -> loop( entities, object -> reactiveFetch( object, true )
+				.thenAccept( entity -> {
+					final EntityEntry entry = persistenceContext.getEntry( entity );
+					if ( lockMode.greaterThan( entry.getLockMode() ) ) {
+						if ( entry.getStatus() != Status.MANAGED ) {
+							throw new ObjectDeletedException(
+									"attempted to lock a deleted instance",
+									entry.getId(),
+									entry.getPersister().getEntityName()
+							);
+						}
+						entitiesByPersister.computeIfAbsent(
+								(ReactiveEntityPersister) entry.getPersister(),
+								persister -> new ArrayList<>()
+						).add( entity );
+					}
+				} )
+				) )
+				.thenCompose( v -> loop(
+						entitiesByPersister.entrySet(),
+						group -> lockAll( group.getKey(), group.getValue(), lockOptions )
+				) )
+				.handle( (v, e) -> {
+					delayedAfterCompletion();
+
+					if (e instanceof RuntimeException) {
+						throw getExceptionConverter().convert( (RuntimeException) e, lockOptions );
+					}
+					return returnNullorRethrow( e );
+				});
+	}
+
+	/**
+	 * Initialize the uninitialized proxies among the given objects with
+	 * a single batched select per entity type, instead of one select
+	 * per proxy.
+	 */
+	private CompletionStage<Void> initializeProxies(Object[] objects) {
+		final Map<String, List<Serializable>> idsByEntityName = new LinkedHashMap<>();
+		for ( Object object : objects ) {
+			if ( object instanceof HibernateProxy ) {
+				final LazyInitializer initializer = ( (HibernateProxy) object ).getHibernateLazyInitializer();
+				if ( initializer.isUninitialized() ) {
+					idsByEntityName.computeIfAbsent( initializer.getEntityName(), name -> new ArrayList<>() )
+							.add( initializer.getIdentifier() );
+				}
+			}
+		}
+		return loop(
+				idsByEntityName.entrySet(),
+				group -> new ReactiveMultiIdentifierLoadAccessImpl<>( getFactory().getMetamodel().entityPersister( group.getKey() ) )
+						.enableSessionCheck( true )
+						.multiLoad( group.getValue().toArray() )
+		);
+	}
+
+	private CompletionStage<Void> lockAll(ReactiveEntityPersister persister, List<Object> entities,
+										  LockOptions lockOptions) {
+		final PersistenceContext persistenceContext = getPersistenceContextInternal();
+		final EntityDataAccess cache = persister.canWriteToCache() ? persister.getCacheAccessStrategy() : null;
+		final Object[] cacheKeys = cache == null ? null : new Object[entities.size()];
+		final SoftLock[] softLocks = cache == null ? null : new SoftLock[entities.size()];
+		if ( cache != null ) {
+			for ( int i = 0; i < entities.size(); i++ ) {
+				final EntityEntry entry = persistenceContext.getEntry( entities.get( i ) );
+				cacheKeys[i] = cache.generateCacheKey( entry.getId(), persister, getFactory(), getTenantIdentifier() );
+				softLocks[i] = cache.lockItem( this, cacheKeys[i], entry.getVersion() );
+			}
+		}
+		return persister.reactiveLockAll( entities, lockOptions, this )
+				.thenAccept( v -> {
+					for ( Object entity : entities ) {
+						persistenceContext.getEntry( entity ).setLockMode( lockOptions.getLockMode() );
+					}
+				} )
+				.whenComplete( (v, e) -> {
+					// the database now holds the locks, and the objects are
+					// flushed from the cache, so release the soft locks
+					if ( cache != null ) {
+						for ( int i = 0; i < cacheKeys.length; i++ ) {
+							cache.unlockItem( this, cacheKeys[i], softLocks[i] );
+						}
+					}
+				} );
+	}
+
 	private CompletionStage<Void> fireLock(LockEvent event) {
 		pulseTransactionCoordinator();
 
@@ -1047,6 +1295,59 @@ public <T> CompletionStage<List<T>> reactiveFind(Class<T> entityClass, Object...
 		//TODO: copy/paste the exception handling from immediately above?
 	}
 
+	/**
+	 * Entities which are already associated with the session are
+	 * locked using {@link #reactiveLockAll}, and the remaining ones are
+	 * loaded with the requested lock, using a single batched select.
+	 */
+	@Override
+	public <T> CompletionStage<List<T>> reactiveFind(Class<T> entityClass, LockOptions lockOptions, Object... ids) {
+		checkOpen();
+		final LockMode lockMode = lockOptions.getLockMode();
+		if ( lockMode == LockMode.NONE || lockMode == LockMode.READ ) {
+			return reactiveFind( entityClass, ids );
+		}
+
+		final EntityPersister persister = getFactory().getMetamodel().locateEntityPersister( entityClass );
+		final PersistenceContext persistenceContext = getPersistenceContextInternal();
+		final EntityKey[] keys = new EntityKey[ids.length];
+		final List<Object> managed = new ArrayList<>();
+		final List<Object> unmanagedIds = new ArrayList<>();
+		for ( int i = 0; i < ids.length; i++ ) {
+			keys[i] = generateEntityKey( (Serializable) ids[i], persister );
+			final Object entity = persistenceContext.getEntity( keys[i] );
+			if ( entity == null ) {
+				unmanagedIds.add( ids[i] );
+			}
+			else if ( isManaged( persistenceContext.getEntry( entity ) ) ) {
+				managed.add( entity );
+			}
+		}
+
+		return reactiveLockAll( managed.toArray(), lockOptions )
+				.thenCompose( v -> unmanagedIds.isEmpty()
+						? completedFuture( null )
+						: new ReactiveMultiIdentifierLoadAccessImpl<T>( persister )
+								.with( lockOptions )
+								.multiLoad( unmanagedIds.toArray() ) )
+				.thenApply( v -> {
+					final List<T> result = new ArrayList<>( ids.length );
+					for ( EntityKey key : keys ) {
+						final Object entity = persistenceContext.getEntity( key );
+						result.add( entity != null && isManaged( persistenceContext.getEntry( entity ) )
+								? entityClass.cast( entity )
+								: null );
+					}
+					return result;
+				} );
+	}
+
+	private static boolean isManaged(EntityEntry entry) {
+		return entry != null
+			&& entry.getStatus() != Status.DELETED
+			&& entry.getStatus() != Status.GONE;
+	}
+
 	@Override
 	public <T> CompletionStage<T> reactiveFind(Class<T> entityClass, Map<String,Object> ids) {
 		EntityPersister persister = getFactory().getMetamodel().locateEntityPersister(entityClass);
@@ -31,7 +31,9 @@
 import org.hibernate.jpa.spi.NativeQueryTupleTransformer;
 import org.hibernate.loader.custom.CustomQuery;
 import org.hibernate.loader.custom.sql.SQLCustomQuery;
+import org.hibernate.internal.util.collections.IdentitySet;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.OuterJoinLoadable;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.query.ParameterMetadata;
@@ -40,26 +42,36 @@
 import org.hibernate.reactive.common.ResultSetMapping;
 import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
 import org.hibernate.reactive.loader.custom.impl.ReactiveCustomLoader;
+import org.hibernate.reactive.loader.entity.impl.ReactiveDynamicBatchingEntityLoaderBuilder;
 import org.hibernate.reactive.persister.collection.impl.ReactiveCollectionPersister;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.pool.BatchingConnection;
+import org.hibernate.reactive.pool.impl.StatementInterceptors;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.session.Criteria;
 import org.hibernate.reactive.session.CriteriaQueryOptions;
 import org.hibernate.reactive.session.ReactiveNativeQuery;
 import org.hibernate.reactive.session.ReactiveQuery;
 import org.hibernate.reactive.session.ReactiveStatelessSession;
+import org.hibernate.reactive.stat.impl.ReactiveSessionStatistics;
+import org.hibernate.reactive.stat.impl.SessionDiagnostics;
+import org.hibernate.reactive.stat.impl.SessionDiagnosticsFactory;
 import org.hibernate.tuple.entity.EntityMetamodel;
 
 import javax.persistence.EntityGraph;
 import javax.persistence.Tuple;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
 
 import static org.hibernate.reactive.id.impl.IdentifierGeneration.assignIdIfNecessary;
 import static org.hibernate.reactive.id.impl.IdentifierGeneration.generateId;
 import static org.hibernate.reactive.session.impl.SessionUtil.checkEntityFound;
+import static org.hibernate.reactive.stat.ReactiveStatistics.EventLoopPhase.QUERY_TRANSLATION;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 
@@ -73,20 +85,36 @@ public class ReactiveStatelessSessionImpl extends StatelessSessionImpl
         implements ReactiveStatelessSession {
 
     private ReactiveConnection reactiveConnection;
+    private final ReactiveSessionStatistics reactiveStatistics;
+    private final SessionDiagnostics reactiveDiagnostics;
     private final boolean allowBytecodeProxy;
 
     private final ReactiveStatelessSession batchingHelperSession;
 
     private final PersistenceContext persistenceContext;
 
+    //Instances being refreshed by reactiveRefreshAll()
+    private Map<EntityKey, Object> reloadedInstances;
+
     public ReactiveStatelessSessionImpl(SessionFactoryImpl factory,
                                         SessionCreationOptions options,
                                         ReactiveConnection connection) {
         super(factory, options);
+        connection = factory.getServiceRegistry().getService( StatementInterceptors.class )
+                .intercept( connection, this );
+        reactiveStatistics = ReactiveSessionStatistics.create( factory );
+        if ( reactiveStatistics != null ) {
+            connection = reactiveStatistics.monitor( connection, factory );
+        }
+        reactiveDiagnostics = factory.getServiceRegistry().getService( SessionDiagnosticsFactory.class )
+                .createSessionDiagnostics( reactiveStatistics );
+        if ( reactiveDiagnostics != null ) {
+            connection = reactiveDiagnostics.monitor( connection );
+        }
         reactiveConnection = connection;
         allowBytecodeProxy = getFactory().getSessionFactoryOptions().isEnhancementAsProxyEnabled();
         persistenceContext = new ReactivePersistenceContextAdapter(this);
-        batchingHelperSession = new ReactiveStatelessSessionImpl(factory, options, connection, persistenceContext);
+        batchingHelperSession = new ReactiveStatelessSessionImpl(factory, options, connection, persistenceContext, reactiveStatistics, reactiveDiagnostics);
     }
 
     /**
@@ -95,8 +123,12 @@ public ReactiveStatelessSessionImpl(SessionFactoryImpl factory,
     private ReactiveStatelessSessionImpl(SessionFactoryImpl factory,
                                          SessionCreationOptions options,
                                          ReactiveConnection connection,
-                                         PersistenceContext persistenceContext) {
+                                         PersistenceContext persistenceContext,
+                                         ReactiveSessionStatistics reactiveStatistics,
+                                         SessionDiagnostics reactiveDiagnostics) {
         super(factory, options);
+        this.reactiveStatistics = reactiveStatistics;
+        this.reactiveDiagnostics = reactiveDiagnostics;
         Integer batchSize = getConfiguredJdbcBatchSize();
         reactiveConnection = batchSize==null || batchSize<2 ? connection :
                 new BatchingConnection( connection, batchSize );
@@ -134,6 +166,16 @@ public ReactiveConnection getReactiveConnection() {
         return reactiveConnection;
     }
 
+    @Override
+    public ReactiveSessionStatistics getReactiveStatistics() {
+        return reactiveStatistics;
+    }
+
+    @Override
+    public SessionDiagnostics getReactiveDiagnostics() {
+        return reactiveDiagnostics;
+    }
+
     @Override
     public void checkTransactionNeededForUpdateOperation(String exceptionMessage) {
         //no-op because we don't support transactions
@@ -245,18 +287,7 @@ public CompletionStage<Void> reactiveRefresh(Object entity, LockMode lockMode) {
         final ReactiveEntityPersister persister = getEntityPersister( null, entity );
         final Serializable id = persister.getIdentifier( entity, this );
 
-        if ( persister.canWriteToCache() ) {
-            final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
-            if ( cacheAccess != null ) {
-                final Object ck = cacheAccess.generateCacheKey(
-                        id,
-                        persister,
-                        getFactory(),
-                        getTenantIdentifier()
-                );
-                cacheAccess.evict( ck );
-            }
-        }
+        evictFromCache( persister, id );
 
         String previousFetchProfile = getLoadQueryInfluencers().getInternalFetchProfile();
         getLoadQueryInfluencers().setInternalFetchProfile( "refresh" );
@@ -288,10 +319,78 @@ public CompletionStage<Void> reactiveDeleteAll(Object... entities) {
                 .thenCompose( v -> batchingHelperSession.getReactiveConnection().executeBatch() );
     }
 
+    private void evictFromCache(ReactiveEntityPersister persister, Serializable id) {
+        if ( persister.canWriteToCache() ) {
+            final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+            if ( cacheAccess != null ) {
+                final Object ck = cacheAccess.generateCacheKey(
+                        id,
+                        persister,
+                        getFactory(),
+                        getTenantIdentifier()
+                );
+                cacheAccess.evict( ck );
+            }
+        }
+    }
+
+    /**
+     * Refresh the given entities, reloading all the entities of a given
+     * type with a single query, or one query per batch of entities, and
+     * reusing the given instances instead of instantiating new objects.
+     */
     @Override
     public CompletionStage<Void> reactiveRefreshAll(Object... entities) {
-        return loop(entities, batchingHelperSession::reactiveRefresh)
-                .thenCompose( v -> batchingHelperSession.getReactiveConnection().executeBatch() );
+        final Map<ReactiveEntityPersister, List<Object>> entitiesByPersister = new LinkedHashMap<>();
+        for ( Object entity : entities ) {
+            entitiesByPersister.computeIfAbsent( getEntityPersister( null, entity ), p -> new ArrayList<>() )
+                    .add( entity );
+        }
+
+        String previousFetchProfile = getLoadQueryInfluencers().getInternalFetchProfile();
+        getLoadQueryInfluencers().setInternalFetchProfile( "refresh" );
+        return loop( entitiesByPersister.entrySet(), group -> refreshAll( group.getKey(), group.getValue() ) )
+                .whenComplete( (v, e) -> {
+                    reloadedInstances = null;
+                    if ( getPersistenceContext().isLoadFinished() ) {
+                        getPersistenceContext().clear();
+                    }
+                    getLoadQueryInfluencers().setInternalFetchProfile( previousFetchProfile );
+                } );
+    }
+
+    private CompletionStage<Void> refreshAll(ReactiveEntityPersister persister, List<Object> entities) {
+        final Serializable[] ids = new Serializable[entities.size()];
+        reloadedInstances = new HashMap<>();
+        for ( int i = 0; i < ids.length; i++ ) {
+            ids[i] = persister.getIdentifier( entities.get( i ), this );
+            evictFromCache( persister, ids[i] );
+            reloadedInstances.put( generateEntityKey( ids[i], persister ), entities.get( i ) );
+        }
+
+        return ReactiveDynamicBatchingEntityLoaderBuilder.INSTANCE
+                .reload( (OuterJoinLoadable) persister, ids, getNullSafeLockOptions( LockMode.NONE ), this )
+                .thenAccept( loaded -> {
+                    final IdentitySet refreshed = new IdentitySet( loaded.size() );
+                    refreshed.addAll( loaded );
+                    for ( int i = 0; i < ids.length; i++ ) {
+                        if ( !refreshed.contains( entities.get( i ) ) ) {
+                            throw new UnresolvableObjectException( ids[i], persister.getEntityName() );
+                        }
+                    }
+                } );
+    }
+
+    @Override
+    public Object instantiate(String entityName, Serializable id) throws HibernateException {
+        if ( reloadedInstances != null ) {
+            final EntityPersister persister = getFactory().getMetamodel().entityPersister( entityName );
+            final Object instance = reloadedInstances.remove( generateEntityKey( id, persister ) );
+            if ( instance != null && persister.isInstance( instance ) ) {
+                return instance;
+            }
+        }
+        return super.instantiate( entityName, id );
     }
 
     @Override
@@ -416,7 +515,16 @@ public <T> CompletionStage<List<T>> reactiveList(NativeSQLQuerySpecification spe
 
     @Override
     protected ReactiveHQLQueryPlan getQueryPlan(String query, boolean shallow) throws HibernateException {
-        return (ReactiveHQLQueryPlan) super.getQueryPlan( query, shallow );
+        if ( reactiveStatistics == null ) {
+            return (ReactiveHQLQueryPlan) super.getQueryPlan( query, shallow );
+        }
+        final long translationStart = System.nanoTime();
+        try {
+            return (ReactiveHQLQueryPlan) super.getQueryPlan( query, shallow );
+        }
+        finally {
+            reactiveStatistics.eventLoop( QUERY_TRANSLATION, query, translationStart );
+        }
     }
 
     @Override
@@ -142,6 +142,12 @@ public Stage.Query<R> setLockMode(String alias, LockMode lockMode) {
 		return this;
 	}
 
+	@Override
+	public Stage.Query<R> setLockTimeout(int timeout) {
+		delegate.setLockTimeout( timeout );
+		return this;
+	}
+
 	@Override
 	public Stage.Query<R> setCacheMode(CacheMode cacheMode) {
 		delegate.setCacheMode( cacheMode );
@@ -8,6 +8,7 @@
 import io.vertx.core.Context;
 import io.vertx.core.Vertx;
 import org.hibernate.Cache;
+import org.hibernate.LockMode;
 import org.hibernate.internal.SessionCreationOptions;
 import org.hibernate.internal.SessionFactoryImpl;
 import org.hibernate.reactive.pool.ReactiveConnection;
@@ -15,11 +16,13 @@
 import org.hibernate.reactive.session.impl.ReactiveCriteriaBuilderImpl;
 import org.hibernate.reactive.session.impl.ReactiveSessionImpl;
 import org.hibernate.reactive.session.impl.ReactiveStatelessSessionImpl;
+import org.hibernate.reactive.stat.ReactiveStatistics;
 import org.hibernate.reactive.stage.Stage;
 import org.hibernate.reactive.vertx.VertxInstance;
 
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.metamodel.Metamodel;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
@@ -149,6 +152,16 @@ public <T> CompletionStage<T> withTransaction(String tenantId, BiFunction<Stage.
 		return withSession( tenantId, (s) -> s.withTransaction( (t) -> work.apply(s, t) ) );
 	}
 
+	@Override
+	public <T, R> CompletionStage<R> withClaimedBatch(Function<Stage.Session, Stage.Query<T>> query, int batchSize,
+			BiFunction<Stage.Session, List<T>, CompletionStage<R>> work) {
+		return withTransaction( (session, transaction) -> query.apply( session )
+				.setLockMode( LockMode.UPGRADE_SKIPLOCKED )
+				.setMaxResults( batchSize )
+				.getResultList()
+				.thenCompose( batch -> work.apply( session, batch ) ) );
+	}
+
 	@Override
 	public CriteriaBuilder getCriteriaBuilder() {
 		return new ReactiveCriteriaBuilderImpl( delegate );
@@ -164,6 +177,11 @@ public Cache getCache() {
 		return delegate.getCache();
 	}
 
+	@Override
+	public ReactiveStatistics getStatistics() {
+		return delegate.getServiceRegistry().getService( ReactiveStatistics.class );
+	}
+
 	@Override
 	public void close() {
 		delegate.close();
@@ -103,6 +103,11 @@ public <T> CompletionStage<List<T>> find(Class<T> entityClass, Object... ids) {
 		return stage( v -> delegate.reactiveFind( entityClass, ids ) );
 	}
 
+	@Override
+	public <T> CompletionStage<List<T>> findAll(Class<T> entityClass, LockMode lockMode, Object... ids) {
+		return stage( v -> delegate.reactiveFind( entityClass, new LockOptions(lockMode), ids ) );
+	}
+
 	@Override
 	public <T> CompletionStage<T> find(Class<T> entityClass, Identifier<T> id) {
 		return stage( v -> delegate.reactiveFind( entityClass, id.namedValues() ) );
@@ -171,7 +176,7 @@ public CompletionStage<Void> refresh(Object entity, LockOptions lockOptions) {
 
 	@Override
 	public CompletionStage<Void> refresh(Object... entity) {
-		return stage( v -> applyToAll( e -> delegate.reactiveRefresh( e, LockOptions.NONE ), entity ) );
+		return stage( v -> delegate.reactiveRefreshAll( entity, LockOptions.NONE ) );
 	}
 
 	@Override
@@ -179,6 +184,11 @@ public CompletionStage<Void> lock(Object entity, LockMode lockMode) {
 		return stage( v -> delegate.reactiveLock( entity, new LockOptions(lockMode) ) );
 	}
 
+	@Override
+	public CompletionStage<Void> lockAll(LockMode lockMode, Object... entities) {
+		return stage( v -> delegate.reactiveLockAll( entities, new LockOptions(lockMode) ) );
+	}
+
 //	@Override
 	public CompletionStage<Void> lock(Object entity, LockOptions lockOptions) {
 		return stage( v -> delegate.reactiveLock( entity, lockOptions ) );
@@ -0,0 +1,148 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat;
+
+import org.hibernate.Incubating;
+import org.hibernate.service.Service;
+
+/**
+ * Statistics about the interaction of reactive sessions with the
+ * database, complementing the {@link org.hibernate.stat.Statistics}
+ * collected by Hibernate ORM, which are not aware of round trips or
+ * batches, and don't measure the time spent flushing or hydrating
+ * results.
+ * <p>
+ * The time spent on the event loop by each {@link EventLoopPhase phase}
+ * of the work done by Hibernate itself, without waiting for the
+ * database, is also measured, since a long synchronous stretch of CPU
+ * work on the event loop delays every other task scheduled on it.
+ * <p>
+ * Statistics are only collected if
+ * {@link org.hibernate.reactive.provider.Settings#GENERATE_STATISTICS}
+ * is enabled. The statistics of each session are accumulated into the
+ * statistics of its session factory, which may be obtained from
+ * {@link org.hibernate.reactive.stage.Stage.SessionFactory#getStatistics()}
+ * or {@link org.hibernate.reactive.mutiny.Mutiny.SessionFactory#getStatistics()}.
+ */
+@Incubating
+public interface ReactiveStatistics extends Service {
+
+	/**
+	 * The number of buckets of the {@link #getBatchSizeHistogram()
+	 * histogram of batch sizes}.
+	 */
+	int BATCH_SIZE_BUCKETS = 16;
+
+	/**
+	 * A phase of the synchronous work done by a session on the event
+	 * loop.
+	 */
+	enum EventLoopPhase {
+		/**
+		 * Dirty checking of entities and collections, and scheduling
+		 * of the resulting actions, during a flush.
+		 */
+		FLUSH,
+		/**
+		 * Cascading of operations to associated entities.
+		 */
+		CASCADE,
+		/**
+		 * Reading the rows of query results into entities, or other
+		 * values.
+		 */
+		HYDRATION,
+		/**
+		 * Translation of HQL queries to SQL, including the lookup of
+		 * already translated queries in the query plan cache.
+		 */
+		QUERY_TRANSLATION
+	}
+
+	/**
+	 * @return the number of SQL statements executed, counting each
+	 * statement of a batch
+	 */
+	long getStatementCount();
+
+	/**
+	 * @return the number of requests sent to the database, where a
+	 * whole batch of statements counts as one request
+	 */
+	long getRoundTripCount();
+
+	/**
+	 * @return the number of batches of statements executed
+	 */
+	long getBatchCount();
+
+	/**
+	 * A histogram of the number of statements in each batch. The
+	 * {@code n}th element of the returned array is the number of
+	 * batches with at least {@code 2^n} statements and less than
+	 * {@code 2^(n+1)}, and the last element also counts any larger
+	 * batches.
+	 *
+	 * @return a new array of {@value #BATCH_SIZE_BUCKETS} elements
+	 */
+	long[] getBatchSizeHistogram();
+
+	/**
+	 * @return the number of times an identifier generator had to go
+	 * to the database to obtain new identifiers
+	 */
+	long getIdentifierRoundTripCount();
+
+	/**
+	 * @return the number of flushes which executed statements,
+	 * including automatic flushes before a query
+	 */
+	long getFlushCount();
+
+	/**
+	 * @return the total time spent in flushes, in nanoseconds,
+	 * including the time spent waiting for the database
+	 */
+	long getFlushNanos();
+
+	/**
+	 * @return the number of rows of query results read into entities,
+	 * or other values
+	 */
+	long getHydratedRowCount();
+
+	/**
+	 * @return the total time spent reading the rows of query results
+	 * and initializing the entities and collections they contain, in
+	 * nanoseconds
+	 */
+	long getHydrationNanos();
+
+	/**
+	 * @return the number of times a session fetched the same entity
+	 * association, or collection, one row at a time, as many times as
+	 * specified by {@link org.hibernate.reactive.provider.Settings#REPEATED_FETCH_THRESHOLD}
+	 */
+	long getRepeatedFetchCount();
+
+	/**
+	 * @return the total time spent on the event loop in the given
+	 * phase, in nanoseconds, not including the time spent waiting for
+	 * the database
+	 */
+	long getEventLoopNanos(EventLoopPhase phase);
+
+	/**
+	 * @return the longest time spent on the event loop in the given
+	 * phase without yielding, in nanoseconds
+	 */
+	long getMaxEventLoopNanos(EventLoopPhase phase);
+
+	/**
+	 * Reset all the statistics to zero.
+	 */
+	void clear();
+}
@@ -0,0 +1,209 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat.impl;
+
+import java.util.Arrays;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.session.ReactiveQueryExecutor;
+import org.hibernate.reactive.stat.ReactiveStatistics;
+
+/**
+ * The {@link ReactiveStatistics} of a single session, which are also
+ * accumulated into the statistics of the session factory. Like the
+ * session itself, it must not be used concurrently.
+ */
+public final class ReactiveSessionStatistics implements ReactiveStatistics {
+
+	private final ReactiveStatisticsImpl factoryStatistics;
+
+	private long statements;
+	private long roundTrips;
+	private long batches;
+	private final long[] batchSizes = new long[BATCH_SIZE_BUCKETS];
+	private long identifierRoundTrips;
+	private long flushes;
+	private long flushNanos;
+	private long hydratedRows;
+	private long hydrationNanos;
+	private long repeatedFetches;
+	private final long[] eventLoopNanos = new long[EventLoopPhase.values().length];
+	private final long[] maxEventLoopNanos = new long[EventLoopPhase.values().length];
+
+	private ReactiveSessionStatistics(ReactiveStatisticsImpl factoryStatistics) {
+		this.factoryStatistics = factoryStatistics;
+	}
+
+	/**
+	 * @return new statistics for a session of the given factory, or
+	 * {@code null} if statistics are disabled
+	 */
+	public static ReactiveSessionStatistics create(SessionFactoryImplementor factory) {
+		if ( !factory.getStatistics().isStatisticsEnabled() ) {
+			return null;
+		}
+		ReactiveStatistics statistics = factory.getServiceRegistry().getService( ReactiveStatistics.class );
+		return statistics instanceof ReactiveStatisticsImpl
+				? new ReactiveSessionStatistics( (ReactiveStatisticsImpl) statistics )
+				: null;
+	}
+
+	/**
+	 * @return the statistics of the given session, or {@code null}
+	 * if statistics are disabled
+	 */
+	public static ReactiveSessionStatistics of(SharedSessionContractImplementor session) {
+		return session instanceof ReactiveQueryExecutor
+				? ( (ReactiveQueryExecutor) session ).getReactiveStatistics()
+				: null;
+	}
+
+	/**
+	 * @return a connection which counts the statements executed via
+	 * the given connection
+	 */
+	public ReactiveConnection monitor(ReactiveConnection connection, SessionFactoryImplementor factory) {
+		return new StatisticsConnection( connection, this, factory.getStatistics() );
+	}
+
+	void statements(int count) {
+		statements += count;
+		factoryStatistics.statements( count );
+	}
+
+	void roundTrip() {
+		roundTrips++;
+		factoryStatistics.roundTrip();
+	}
+
+	void batch(int size) {
+		batches++;
+		batchSizes[ ReactiveStatisticsImpl.bucket( size ) ]++;
+		factoryStatistics.batch( size );
+	}
+
+	public void identifierRoundTrip() {
+		identifierRoundTrips++;
+		factoryStatistics.identifierRoundTrip();
+	}
+
+	public void flush(long nanos) {
+		flushes++;
+		flushNanos += nanos;
+		factoryStatistics.flush( nanos );
+	}
+
+	public void hydration(int rows, long nanos) {
+		hydratedRows += rows;
+		hydrationNanos += nanos;
+		factoryStatistics.hydration( rows, nanos );
+	}
+
+	void repeatedFetch() {
+		repeatedFetches++;
+		factoryStatistics.repeatedFetch();
+	}
+
+	/**
+	 * Record a synchronous stretch of work on the event loop.
+	 *
+	 * @param phase the kind of work
+	 * @param operation a description of the operation, for example,
+	 * the name of an entity, or an HQL query, used when the stretch
+	 * is logged as a stall
+	 * @param startNanos the value of {@link System#nanoTime()} at the
+	 * start of the work
+	 */
+	public void eventLoop(EventLoopPhase phase, String operation, long startNanos) {
+		final long nanos = System.nanoTime() - startNanos;
+		final int index = phase.ordinal();
+		eventLoopNanos[index] += nanos;
+		maxEventLoopNanos[index] = Math.max( maxEventLoopNanos[index], nanos );
+		factoryStatistics.eventLoop( phase, operation, nanos );
+	}
+
+	@Override
+	public long getStatementCount() {
+		return statements;
+	}
+
+	@Override
+	public long getRoundTripCount() {
+		return roundTrips;
+	}
+
+	@Override
+	public long getBatchCount() {
+		return batches;
+	}
+
+	@Override
+	public long[] getBatchSizeHistogram() {
+		return batchSizes.clone();
+	}
+
+	@Override
+	public long getIdentifierRoundTripCount() {
+		return identifierRoundTrips;
+	}
+
+	@Override
+	public long getFlushCount() {
+		return flushes;
+	}
+
+	@Override
+	public long getFlushNanos() {
+		return flushNanos;
+	}
+
+	@Override
+	public long getHydratedRowCount() {
+		return hydratedRows;
+	}
+
+	@Override
+	public long getHydrationNanos() {
+		return hydrationNanos;
+	}
+
+	@Override
+	public long getRepeatedFetchCount() {
+		return repeatedFetches;
+	}
+
+	@Override
+	public long getEventLoopNanos(EventLoopPhase phase) {
+		return eventLoopNanos[ phase.ordinal() ];
+	}
+
+	@Override
+	public long getMaxEventLoopNanos(EventLoopPhase phase) {
+		return maxEventLoopNanos[ phase.ordinal() ];
+	}
+
+	/**
+	 * Reset the statistics of this session, but not those of the
+	 * session factory.
+	 */
+	@Override
+	public void clear() {
+		statements = 0;
+		roundTrips = 0;
+		batches = 0;
+		Arrays.fill( batchSizes, 0 );
+		identifierRoundTrips = 0;
+		flushes = 0;
+		flushNanos = 0;
+		hydratedRows = 0;
+		hydrationNanos = 0;
+		repeatedFetches = 0;
+		Arrays.fill( eventLoopNanos, 0 );
+		Arrays.fill( maxEventLoopNanos, 0 );
+	}
+}
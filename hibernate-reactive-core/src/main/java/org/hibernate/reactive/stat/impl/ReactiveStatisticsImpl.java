@@ -0,0 +1,196 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat.impl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.reactive.stat.ReactiveStatistics;
+
+/**
+ * The {@link ReactiveStatistics} of a session factory, into which the
+ * {@link ReactiveSessionStatistics} of its sessions are accumulated.
+ * Safe for concurrent use.
+ */
+public class ReactiveStatisticsImpl implements ReactiveStatistics {
+
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( ReactiveStatisticsImpl.class );
+
+	private static final EventLoopPhase[] PHASES = EventLoopPhase.values();
+
+	private final long stallThresholdNanos;
+
+	private final LongAdder statements = new LongAdder();
+	private final LongAdder roundTrips = new LongAdder();
+	private final LongAdder batches = new LongAdder();
+	private final LongAdder[] batchSizes = new LongAdder[BATCH_SIZE_BUCKETS];
+	private final LongAdder identifierRoundTrips = new LongAdder();
+	private final LongAdder flushes = new LongAdder();
+	private final LongAdder flushNanos = new LongAdder();
+	private final LongAdder hydratedRows = new LongAdder();
+	private final LongAdder hydrationNanos = new LongAdder();
+	private final LongAdder repeatedFetches = new LongAdder();
+	private final LongAdder[] eventLoopNanos = new LongAdder[PHASES.length];
+	private final LongAccumulator[] maxEventLoopNanos = new LongAccumulator[PHASES.length];
+
+	public ReactiveStatisticsImpl() {
+		this( 0 );
+	}
+
+	/**
+	 * @param stallThresholdMillis the time above which a synchronous
+	 * stretch of work on the event loop is logged, or 0
+	 */
+	public ReactiveStatisticsImpl(int stallThresholdMillis) {
+		this.stallThresholdNanos = stallThresholdMillis > 0
+				? TimeUnit.MILLISECONDS.toNanos( stallThresholdMillis )
+				: Long.MAX_VALUE;
+		for ( int i = 0; i < batchSizes.length; i++ ) {
+			batchSizes[i] = new LongAdder();
+		}
+		for ( int i = 0; i < PHASES.length; i++ ) {
+			eventLoopNanos[i] = new LongAdder();
+			maxEventLoopNanos[i] = new LongAccumulator( Math::max, 0 );
+		}
+	}
+
+	static int bucket(int batchSize) {
+		// floor(log2(batchSize))
+		int bucket = 31 - Integer.numberOfLeadingZeros( Math.max( 1, batchSize ) );
+		return Math.min( bucket, BATCH_SIZE_BUCKETS - 1 );
+	}
+
+	void statements(int count) {
+		statements.add( count );
+	}
+
+	void roundTrip() {
+		roundTrips.increment();
+	}
+
+	void batch(int size) {
+		batches.increment();
+		batchSizes[ bucket( size ) ].increment();
+	}
+
+	void identifierRoundTrip() {
+		identifierRoundTrips.increment();
+	}
+
+	void flush(long nanos) {
+		flushes.increment();
+		flushNanos.add( nanos );
+	}
+
+	void hydration(int rows, long nanos) {
+		hydratedRows.add( rows );
+		hydrationNanos.add( nanos );
+	}
+
+	void repeatedFetch() {
+		repeatedFetches.increment();
+	}
+
+	void eventLoop(EventLoopPhase phase, String operation, long nanos) {
+		eventLoopNanos[ phase.ordinal() ].add( nanos );
+		maxEventLoopNanos[ phase.ordinal() ].accumulate( nanos );
+		if ( nanos > stallThresholdNanos ) {
+			LOG.warnf(
+					"HRX000027: Event loop blocked for %s ms by %s of %s",
+					TimeUnit.NANOSECONDS.toMillis( nanos ),
+					phase,
+					operation
+			);
+		}
+	}
+
+	@Override
+	public long getStatementCount() {
+		return statements.sum();
+	}
+
+	@Override
+	public long getRoundTripCount() {
+		return roundTrips.sum();
+	}
+
+	@Override
+	public long getBatchCount() {
+		return batches.sum();
+	}
+
+	@Override
+	public long[] getBatchSizeHistogram() {
+		long[] histogram = new long[BATCH_SIZE_BUCKETS];
+		for ( int i = 0; i < histogram.length; i++ ) {
+			histogram[i] = batchSizes[i].sum();
+		}
+		return histogram;
+	}
+
+	@Override
+	public long getIdentifierRoundTripCount() {
+		return identifierRoundTrips.sum();
+	}
+
+	@Override
+	public long getFlushCount() {
+		return flushes.sum();
+	}
+
+	@Override
+	public long getFlushNanos() {
+		return flushNanos.sum();
+	}
+
+	@Override
+	public long getHydratedRowCount() {
+		return hydratedRows.sum();
+	}
+
+	@Override
+	public long getHydrationNanos() {
+		return hydrationNanos.sum();
+	}
+
+	@Override
+	public long getRepeatedFetchCount() {
+		return repeatedFetches.sum();
+	}
+
+	@Override
+	public long getEventLoopNanos(EventLoopPhase phase) {
+		return eventLoopNanos[ phase.ordinal() ].sum();
+	}
+
+	@Override
+	public long getMaxEventLoopNanos(EventLoopPhase phase) {
+		return maxEventLoopNanos[ phase.ordinal() ].get();
+	}
+
+	@Override
+	public void clear() {
+		statements.reset();
+		roundTrips.reset();
+		batches.reset();
+		for ( LongAdder batchSize : batchSizes ) {
+			batchSize.reset();
+		}
+		identifierRoundTrips.reset();
+		flushes.reset();
+		flushNanos.reset();
+		hydratedRows.reset();
+		hydrationNanos.reset();
+		repeatedFetches.reset();
+		for ( int i = 0; i < PHASES.length; i++ ) {
+			eventLoopNanos[i].reset();
+			maxEventLoopNanos[i].reset();
+		}
+	}
+}
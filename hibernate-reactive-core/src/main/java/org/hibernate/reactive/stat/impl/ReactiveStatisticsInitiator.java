@@ -0,0 +1,36 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat.impl;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stat.ReactiveStatistics;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+
+/**
+ * A Hibernate {@link StandardServiceInitiator service initiator} that
+ * integrates our {@link ReactiveStatistics}. The statistics are only
+ * collected when {@link org.hibernate.cfg.AvailableSettings#GENERATE_STATISTICS}
+ * is enabled.
+ */
+public class ReactiveStatisticsInitiator implements StandardServiceInitiator<ReactiveStatistics> {
+
+	public static final ReactiveStatisticsInitiator INSTANCE = new ReactiveStatisticsInitiator();
+
+	@Override
+	public ReactiveStatistics initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		return new ReactiveStatisticsImpl( getInt( Settings.EVENT_LOOP_STALL_THRESHOLD, configurationValues, 0 ) );
+	}
+
+	@Override
+	public Class<ReactiveStatistics> getServiceInitiated() {
+		return ReactiveStatistics.class;
+	}
+}
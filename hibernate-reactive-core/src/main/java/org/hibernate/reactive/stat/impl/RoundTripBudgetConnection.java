@@ -0,0 +1,122 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat.impl;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import org.hibernate.reactive.pool.ReactiveConnection;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+
+/**
+ * A {@link ReactiveConnection} which counts the statements and batches
+ * sent to the database against the round trip budget of a session,
+ * and fails them once the budget is exceeded, if so configured. The
+ * end of the transaction is never counted, nor failed.
+ */
+final class RoundTripBudgetConnection implements ReactiveConnection {
+
+	private final ReactiveConnection delegate;
+	private final SessionDiagnostics diagnostics;
+
+	RoundTripBudgetConnection(ReactiveConnection delegate, SessionDiagnostics diagnostics) {
+		this.delegate = delegate;
+		this.diagnostics = diagnostics;
+	}
+
+	private <T> CompletionStage<T> roundTrip(Supplier<CompletionStage<T>> statement) {
+		try {
+			diagnostics.roundTrip();
+		}
+		catch (RuntimeException e) {
+			return failedFuture( e );
+		}
+		return statement.get();
+	}
+
+	@Override
+	public CompletionStage<Void> execute(String sql) {
+		return roundTrip( () -> delegate.execute( sql ) );
+	}
+
+	@Override
+	public CompletionStage<Void> executeOutsideTransaction(String sql) {
+		return roundTrip( () -> delegate.executeOutsideTransaction( sql ) );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql) {
+		return roundTrip( () -> delegate.update( sql ) );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql, Object[] paramValues) {
+		return roundTrip( () -> delegate.update( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Void> update(String sql, Object[] paramValues, boolean allowBatching, Expectation expectation) {
+		return roundTrip( () -> delegate.update( sql, paramValues, allowBatching, expectation ) );
+	}
+
+	@Override
+	public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+		return roundTrip( () -> delegate.update( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql) {
+		return roundTrip( () -> delegate.select( sql ) );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql, Object[] paramValues) {
+		return roundTrip( () -> delegate.select( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
+		return roundTrip( () -> delegate.selectJdbc( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Long> insertAndSelectIdentifier(String sql, Object[] paramValues) {
+		return roundTrip( () -> delegate.insertAndSelectIdentifier( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Long> selectIdentifier(String sql, Object[] paramValues) {
+		return roundTrip( () -> delegate.selectIdentifier( sql, paramValues ) );
+	}
+
+	@Override
+	public CompletionStage<Void> beginTransaction() {
+		return delegate.beginTransaction();
+	}
+
+	@Override
+	public CompletionStage<Void> commitTransaction() {
+		return delegate.commitTransaction();
+	}
+
+	@Override
+	public CompletionStage<Void> rollbackTransaction() {
+		return delegate.rollbackTransaction();
+	}
+
+	@Override
+	public CompletionStage<Void> executeBatch() {
+		return delegate.executeBatch();
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+}
@@ -0,0 +1,183 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.session.ReactiveQueryExecutor;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Detects the two most common causes of excessive round trips to the
+ * database in a single session:
+ * <ul>
+ * <li>an association or collection fetched one row at a time, over
+ * and over, usually by a call to {@code fetch()}, or by an eager
+ * to-one association, in a loop, and
+ * <li>a session which simply performs too many round trips.
+ * </ul>
+ * Like the session itself, it must not be used concurrently.
+ *
+ * @see SessionDiagnosticsFactory
+ */
+public final class SessionDiagnostics {
+
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( SessionDiagnostics.class );
+
+	private final int repeatedFetchThreshold;
+	private final int roundTripBudget;
+	private final boolean failOnExceededBudget;
+	private final ReactiveSessionStatistics statistics;
+
+	private Map<String, int[]> entityFetches;
+	private Map<String, int[]> collectionFetches;
+	private int roundTrips;
+
+	SessionDiagnostics(
+			int repeatedFetchThreshold,
+			int roundTripBudget,
+			boolean failOnExceededBudget,
+			ReactiveSessionStatistics statistics) {
+		this.repeatedFetchThreshold = repeatedFetchThreshold;
+		this.roundTripBudget = roundTripBudget;
+		this.failOnExceededBudget = failOnExceededBudget;
+		this.statistics = statistics;
+	}
+
+	/**
+	 * @return the diagnostics of the given session, or {@code null}
+	 * if they are disabled
+	 */
+	public static SessionDiagnostics of(SharedSessionContractImplementor session) {
+		return session instanceof ReactiveQueryExecutor
+				? ( (ReactiveQueryExecutor) session ).getReactiveDiagnostics()
+				: null;
+	}
+
+	/**
+	 * @return a connection which counts the round trips to the
+	 * database against the budget, or the given connection, if
+	 * there's no budget
+	 */
+	public ReactiveConnection monitor(ReactiveConnection connection) {
+		return roundTripBudget > 0 ? new RoundTripBudgetConnection( connection, this ) : connection;
+	}
+
+	/**
+	 * Called when an associated entity is loaded from the database
+	 * by its id.
+	 */
+	public void entityFetched(String entityName, boolean batchLoadable) {
+		if ( repeatedFetchThreshold <= 0 ) {
+			return;
+		}
+		if ( entityFetches == null ) {
+			entityFetches = new HashMap<>();
+		}
+		if ( fetched( entityFetches, entityName ) && LOG.isEnabled( Logger.Level.WARN ) ) {
+			LOG.warnf(
+					"HRX000025: Association to entity '%s' fetched %s times, one %s at a time, by a single session (%s)."
+							+ " Consider fetching it using 'join fetch' in the query which returned the owning entities%s.",
+					entityName,
+					repeatedFetchThreshold,
+					batchLoadable ? "batch" : "row",
+					callSite(),
+					batchLoadable ? ", or increasing its @BatchSize" : ", or enabling batch fetching using @BatchSize or 'hibernate.default_batch_fetch_size'"
+			);
+		}
+	}
+
+	/**
+	 * Called when a collection is loaded from the database.
+	 */
+	public void collectionFetched(String role) {
+		if ( repeatedFetchThreshold <= 0 ) {
+			return;
+		}
+		if ( collectionFetches == null ) {
+			collectionFetches = new HashMap<>();
+		}
+		if ( fetched( collectionFetches, role ) && LOG.isEnabled( Logger.Level.WARN ) ) {
+			LOG.warnf(
+					"HRX000025: Collection '%s' fetched %s times, one owner at a time, by a single session (%s)."
+							+ " Consider fetching it using 'join fetch' in the query which returned the owning entities,"
+							+ " or enabling batch fetching using @BatchSize or 'hibernate.default_batch_fetch_size'.",
+					role,
+					repeatedFetchThreshold,
+					callSite()
+			);
+		}
+	}
+
+	/**
+	 * @return {@code true} the first time the threshold is reached
+	 */
+	private boolean fetched(Map<String, int[]> fetches, String key) {
+		if ( ++fetches.computeIfAbsent( key, k -> new int[1] )[0] == repeatedFetchThreshold ) {
+			if ( statistics != null ) {
+				statistics.repeatedFetch();
+			}
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * @return the first frame of the stack which isn't in Hibernate,
+	 * Vert.x, Mutiny, or the JDK. Since the fetch may happen in a
+	 * callback of a {@code CompletionStage}, this is a best effort.
+	 * Walking the stack is expensive, so this is only called when
+	 * something is actually reported.
+	 */
+	private static String callSite() {
+		for ( StackTraceElement frame : new Throwable().getStackTrace() ) {
+			final String className = frame.getClassName();
+			if ( !className.startsWith( "org.hibernate." )
+					&& !className.startsWith( "io.vertx." )
+					&& !className.startsWith( "io.smallrye." )
+					&& !className.startsWith( "java." )
+					&& !className.startsWith( "jdk." )
+					&& !className.startsWith( "sun." ) ) {
+				return "at " + frame;
+			}
+		}
+		return "call site unknown";
+	}
+
+	/**
+	 * Called before each statement, or batch of statements, is sent
+	 * to the database.
+	 *
+	 * @throws HibernateException if the budget is exceeded, and the
+	 * session should fail
+	 */
+	void roundTrip() {
+		if ( ++roundTrips > roundTripBudget ) {
+			if ( failOnExceededBudget ) {
+				throw new HibernateException( "HRX000026: Session exceeded its budget of " + roundTripBudget
+						+ " round trips to the database (" + callSite() + ")" );
+			}
+			else if ( roundTrips == roundTripBudget + 1 && LOG.isEnabled( Logger.Level.WARN ) ) {
+				LOG.warnf( "HRX000026: Session exceeded its budget of %s round trips to the database (%s)",
+						roundTripBudget, callSite() );
+			}
+		}
+	}
+
+	/**
+	 * @return the number of round trips made by the session so far
+	 */
+	public int getRoundTripCount() {
+		return roundTrips;
+	}
+}
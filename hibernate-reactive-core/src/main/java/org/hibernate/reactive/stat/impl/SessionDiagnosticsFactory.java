@@ -0,0 +1,40 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat.impl;
+
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.service.Service;
+
+/**
+ * A service which creates the {@link SessionDiagnostics} of each
+ * session, as specified by {@link Settings#REPEATED_FETCH_THRESHOLD}
+ * and {@link Settings#ROUND_TRIP_BUDGET}.
+ */
+public final class SessionDiagnosticsFactory implements Service {
+
+	private final int repeatedFetchThreshold;
+	private final int roundTripBudget;
+	private final boolean failOnExceededBudget;
+
+	SessionDiagnosticsFactory(int repeatedFetchThreshold, int roundTripBudget, boolean failOnExceededBudget) {
+		this.repeatedFetchThreshold = repeatedFetchThreshold;
+		this.roundTripBudget = roundTripBudget;
+		this.failOnExceededBudget = failOnExceededBudget;
+	}
+
+	/**
+	 * @param statistics the statistics of the session, which count
+	 * repeated fetches, or {@code null} if statistics are disabled
+	 *
+	 * @return new diagnostics for a session, or {@code null} if the
+	 * diagnostics are disabled
+	 */
+	public SessionDiagnostics createSessionDiagnostics(ReactiveSessionStatistics statistics) {
+		return repeatedFetchThreshold > 0 || roundTripBudget > 0
+				? new SessionDiagnostics( repeatedFetchThreshold, roundTripBudget, failOnExceededBudget, statistics )
+				: null;
+	}
+}
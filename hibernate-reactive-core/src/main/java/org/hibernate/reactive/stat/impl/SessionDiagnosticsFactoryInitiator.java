@@ -0,0 +1,46 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat.impl;
+
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
+
+/**
+ * A Hibernate {@link StandardServiceInitiator service initiator} that
+ * creates the {@link SessionDiagnosticsFactory}.
+ */
+public class SessionDiagnosticsFactoryInitiator implements StandardServiceInitiator<SessionDiagnosticsFactory> {
+
+	public static final SessionDiagnosticsFactoryInitiator INSTANCE = new SessionDiagnosticsFactoryInitiator();
+
+	@Override
+	public SessionDiagnosticsFactory initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		final String action = getString( Settings.ROUND_TRIP_BUDGET_ACTION, configurationValues, "warn" )
+				.toLowerCase( Locale.ROOT );
+		if ( !action.equals( "warn" ) && !action.equals( "fail" ) ) {
+			throw new HibernateException( "Invalid value for " + Settings.ROUND_TRIP_BUDGET_ACTION
+					+ ": '" + action + "' (must be 'warn' or 'fail')" );
+		}
+		return new SessionDiagnosticsFactory(
+				getInt( Settings.REPEATED_FETCH_THRESHOLD, configurationValues, 0 ),
+				getInt( Settings.ROUND_TRIP_BUDGET, configurationValues, 0 ),
+				action.equals( "fail" )
+		);
+	}
+
+	@Override
+	public Class<SessionDiagnosticsFactory> getServiceInitiated() {
+		return SessionDiagnosticsFactory.class;
+	}
+}
@@ -0,0 +1,148 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat.impl;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * A {@link ReactiveConnection} which counts the statements and round
+ * trips of the connection it wraps. When the session batches
+ * statements, this connection sits beneath the
+ * {@link org.hibernate.reactive.pool.BatchingConnection}, and so it
+ * sees the batches actually sent to the database.
+ * <p>
+ * Every statement, or batch of statements, is also reported to
+ * Hibernate ORM as a prepared statement.
+ */
+final class StatisticsConnection implements ReactiveConnection {
+
+	private final ReactiveConnection delegate;
+	private final ReactiveSessionStatistics statistics;
+	private final StatisticsImplementor ormStatistics;
+
+	StatisticsConnection(
+			ReactiveConnection delegate,
+			ReactiveSessionStatistics statistics,
+			StatisticsImplementor ormStatistics) {
+		this.delegate = delegate;
+		this.statistics = statistics;
+		this.ormStatistics = ormStatistics;
+	}
+
+	private void statement() {
+		statistics.statements( 1 );
+		statementRoundTrip();
+	}
+
+	private void statementRoundTrip() {
+		statistics.roundTrip();
+		if ( ormStatistics.isStatisticsEnabled() ) {
+			ormStatistics.prepareStatement();
+			ormStatistics.closeStatement();
+		}
+	}
+
+	@Override
+	public CompletionStage<Void> execute(String sql) {
+		statement();
+		return delegate.execute( sql );
+	}
+
+	@Override
+	public CompletionStage<Void> executeOutsideTransaction(String sql) {
+		statement();
+		return delegate.executeOutsideTransaction( sql );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql) {
+		statement();
+		return delegate.update( sql );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql, Object[] paramValues) {
+		statement();
+		return delegate.update( sql, paramValues );
+	}
+
+	@Override
+	public CompletionStage<Void> update(String sql, Object[] paramValues, boolean allowBatching, Expectation expectation) {
+		statement();
+		return delegate.update( sql, paramValues, allowBatching, expectation );
+	}
+
+	@Override
+	public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+		statistics.statements( paramValues.size() );
+		statistics.batch( paramValues.size() );
+		statementRoundTrip();
+		return delegate.update( sql, paramValues );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql) {
+		statement();
+		return delegate.select( sql );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql, Object[] paramValues) {
+		statement();
+		return delegate.select( sql, paramValues );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
+		statement();
+		return delegate.selectJdbc( sql, paramValues );
+	}
+
+	@Override
+	public CompletionStage<Long> insertAndSelectIdentifier(String sql, Object[] paramValues) {
+		statement();
+		return delegate.insertAndSelectIdentifier( sql, paramValues );
+	}
+
+	@Override
+	public CompletionStage<Long> selectIdentifier(String sql, Object[] paramValues) {
+		statement();
+		return delegate.selectIdentifier( sql, paramValues );
+	}
+
+	@Override
+	public CompletionStage<Void> beginTransaction() {
+		statistics.roundTrip();
+		return delegate.beginTransaction();
+	}
+
+	@Override
+	public CompletionStage<Void> commitTransaction() {
+		statistics.roundTrip();
+		return delegate.commitTransaction();
+	}
+
+	@Override
+	public CompletionStage<Void> rollbackTransaction() {
+		statistics.roundTrip();
+		return delegate.rollbackTransaction();
+	}
+
+	@Override
+	public CompletionStage<Void> executeBatch() {
+		return delegate.executeBatch();
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+}
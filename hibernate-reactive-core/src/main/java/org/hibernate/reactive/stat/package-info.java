@@ -0,0 +1,5 @@
+/**
+ * Statistics about the database access performed by Hibernate
+ * Reactive, via {@link org.hibernate.reactive.stat.ReactiveStatistics}.
+ */
+package org.hibernate.reactive.stat;
@@ -5,16 +5,13 @@
  */
 package org.hibernate.reactive.util.impl;
 
-import com.ibm.asyncutil.iteration.AsyncIterator;
-import com.ibm.asyncutil.iteration.AsyncTrampoline;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 
-import java.util.Arrays;
 import java.util.Iterator;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -100,9 +97,14 @@ public static void logSqlException(Throwable t, Supplier<String> message, String
 	 * </pre>
 	 */
 	public static <T> CompletionStage<Integer> total(int start, int end, Function<Integer,CompletionStage<Integer>> consumer) {
-		return AsyncIterator.range( start, end )
-				.thenCompose( i -> consumer.apply( i.intValue() ) )
-				.fold( 0, Integer::sum );
+		return new Total() {
+			int index = start;
+
+			@Override
+			CompletionStage<?> next() {
+				return index < end ? consumer.apply( index++ ) : null;
+			}
+		}.sum();
 	}
 
 	/**
@@ -115,9 +117,12 @@ public static <T> CompletionStage<Integer> total(int start, int end, Function<In
 	 * </pre>
 	 */
 	public static <T> CompletionStage<Integer> total(Iterator<T> iterator, Function<T,CompletionStage<Integer>> consumer) {
-		return AsyncIterator.fromIterator( iterator )
-				.thenCompose( consumer )
-				.fold( 0, Integer::sum );
+		return new Total() {
+			@Override
+			CompletionStage<?> next() {
+				return iterator.hasNext() ? consumer.apply( iterator.next() ) : null;
+			}
+		}.sum();
 	}
 
 	/**
@@ -142,7 +147,14 @@ public static <T> CompletionStage<Integer> total(T[] array, Function<T,Completio
 	 * </pre>
 	 */
 	public static <T> CompletionStage<Void> loop(T[] array, Function<T,CompletionStage<?>> consumer) {
-		return loop( Arrays.stream(array), consumer );
+		return new Loop() {
+			int index = 0;
+
+			@Override
+			CompletionStage<?> next() {
+				return index < array.length ? consumer.apply( array[index++] ) : null;
+			}
+		}.run();
 	}
 
 	/**
@@ -154,24 +166,31 @@ public static <T> CompletionStage<Void> loop(T[] array, Function<T,CompletionSta
 	 * </pre>
 	 */
 	public static <T> CompletionStage<Void> loop(Iterator<T> iterator, BiFunction<T,Integer,CompletionStage<?>> consumer) {
-		if ( iterator.hasNext() ) {
-			AtomicInteger index = new AtomicInteger( 0 );
-			return AsyncTrampoline.asyncWhile( () -> consumer.apply( iterator.next(), index.getAndIncrement() )
-					.thenApply( r -> iterator.hasNext() ));
-		}
-		else {
-			return voidFuture();
-		}
+		return new Loop() {
+			int index = 0;
+
+			@Override
+			CompletionStage<?> next() {
+				return iterator.hasNext() ? consumer.apply( iterator.next(), index++ ) : null;
+			}
+		}.run();
 	}
 
+	/**
+	 * Equivalent to:
+	 * <pre>
+	 * while( iterator.hasNext() ) {
+	 *   consumer.apply( iterator.next() );
+	 * }
+	 * </pre>
+	 */
 	public static <T> CompletionStage<Void> loop(Iterator<T> iterator, Function<T,CompletionStage<?>> consumer) {
-		if ( iterator.hasNext() ) {
-			return AsyncTrampoline.asyncWhile( () -> consumer.apply( iterator.next() )
-					.thenApply( r -> iterator.hasNext() ));
-		}
-		else {
-			return voidFuture();
-		}
+		return new Loop() {
+			@Override
+			CompletionStage<?> next() {
+				return iterator.hasNext() ? consumer.apply( iterator.next() ) : null;
+			}
+		}.run();
 	}
 
 	/**
@@ -221,7 +240,111 @@ public static CompletionStage<Void> loop(IntStream stream, Function<Integer,Comp
 	 * </pre>
 	 */
 	public static CompletionStage<Void> loop(int start, int end, Function<Integer,CompletionStage<?>> consumer) {
-		return loop( IntStream.range(start, end), consumer );
+		return new Loop() {
+			int index = start;
+
+			@Override
+			CompletionStage<?> next() {
+				return index < end ? consumer.apply( index++ ) : null;
+			}
+		}.run();
+	}
+
+	/**
+	 * The implementation of {@code loop()}. Most of the stages
+	 * returned by a consumer are already completed (for example,
+	 * a {@link #voidFuture()}, or the result of a cache hit), and
+	 * so the next element is processed right away, in the same
+	 * {@code while} loop, with no additional allocation. Only when
+	 * a stage is still pending does the loop suspend, and resume
+	 * from a callback when the stage completes. Since the stack
+	 * unwinds whenever this happens, and the callbacks are never
+	 * nested, neither the stack nor the chain of dependent stages
+	 * grows with the number of elements.
+	 */
+	private abstract static class Loop implements BiConsumer<Object, Throwable> {
+
+		private CompletableFuture<Void> result;
+
+		/**
+		 * @return the stage for the next element, or {@code null}
+		 * if there are no more elements
+		 */
+		abstract CompletionStage<?> next();
+
+		/**
+		 * Called with the result of each stage returned by
+		 * {@link #next()}, once it has completed normally
+		 */
+		void completed(Object value) {
+		}
+
+		CompletionStage<Void> run() {
+			CompletionStage<?> stage;
+			while ( ( stage = next() ) != null ) {
+				if ( !isCompleted( stage ) ) {
+					if ( result == null ) {
+						result = new CompletableFuture<>();
+					}
+					stage.whenComplete( this );
+					return result;
+				}
+				completed( stage.toCompletableFuture().getNow( null ) );
+			}
+			if ( result == null ) {
+				return voidFuture();
+			}
+			result.complete( null );
+			return result;
+		}
+
+		@Override
+		public void accept(Object value, Throwable failure) {
+			if ( failure != null ) {
+				result.completeExceptionally( failure );
+			}
+			else {
+				try {
+					completed( value );
+					run();
+				}
+				catch (Throwable t) {
+					result.completeExceptionally( t );
+				}
+			}
+		}
+	}
+
+	private abstract static class Total extends Loop {
+		private int total;
+
+		@Override
+		void completed(Object value) {
+			total += (Integer) value;
+		}
+
+		CompletionStage<Integer> sum() {
+			final CompletionStage<Void> loop = run();
+			return isCompleted( loop ) ? completedFuture( total ) : loop.thenApply( v -> total );
+		}
+	}
+
+	/**
+	 * @return {@code true} if the given stage is known to have
+	 * completed normally, so that its result may be used without
+	 * waiting for it. A stage which failed is treated as pending,
+	 * and the failure is propagated by the callback, as is a stage
+	 * which can't be converted to a {@link CompletableFuture}.
+	 */
+	private static boolean isCompleted(CompletionStage<?> stage) {
+		final CompletableFuture<?> future;
+		try {
+			future = stage.toCompletableFuture();
+		}
+		catch (UnsupportedOperationException e) {
+			return false;
+		}
+		return future.isDone() && !future.isCompletedExceptionally();
 	}
 
 	public static CompletionStage<Void> applyToAll(Function<Object, CompletionStage<?>> op, Object[] entity) {
@@ -0,0 +1,16 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.jfr.impl;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.hibernate.reactive.ConnectionAcquisition")
+@Label("Connection Acquisition")
+@Description("The acquisition of a connection from the reactive connection pool")
+final class ConnectionAcquisitionEvent extends ReactiveEvent {
+}
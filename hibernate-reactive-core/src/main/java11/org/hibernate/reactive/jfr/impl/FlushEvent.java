@@ -0,0 +1,19 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.jfr.impl;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.hibernate.reactive.Flush")
+@Label("Flush")
+@Description("The execution of the actions queued by a reactive session")
+final class FlushEvent extends ReactiveEvent {
+
+	@Label("Actions")
+	int actions;
+}
@@ -0,0 +1,22 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.jfr.impl;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.hibernate.reactive.Query")
+@Label("Query")
+@Description("The execution of an HQL query by a reactive session")
+final class QueryEvent extends ReactiveEvent {
+
+	@Label("HQL")
+	String hql;
+
+	@Label("Results")
+	int results;
+}
@@ -0,0 +1,35 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.jfr.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * The common attributes of the events of Hibernate Reactive, which
+ * are disabled by default.
+ */
+@Category("Hibernate Reactive")
+@Enabled(false)
+@StackTrace(false)
+abstract class ReactiveEvent extends Event {
+
+	@Label("Failure")
+	String failure;
+
+	void end(Throwable failure) {
+		end();
+		if ( shouldCommit() ) {
+			if ( failure != null ) {
+				this.failure = failure.toString();
+			}
+			commit();
+		}
+	}
+}
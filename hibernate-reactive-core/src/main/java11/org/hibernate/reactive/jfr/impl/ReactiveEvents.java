@@ -0,0 +1,87 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.jfr.impl;
+
+import jdk.jfr.EventType;
+
+/**
+ * Emits the {@linkplain org.hibernate.reactive.jfr events} for the
+ * JDK Flight Recorder.
+ * <p>
+ * This is the implementation for Java 11 and above, packaged in
+ * {@code META-INF/versions/11} of the multi-release jar. It must
+ * declare exactly the same methods as the implementation for Java 8.
+ * <p>
+ * Each {@code begin} method returns {@code null} when the event is
+ * disabled, or when no recording is running, and then the caller
+ * must not call the {@code end} method.
+ */
+public final class ReactiveEvents {
+
+	private static final EventType STATEMENT = EventType.getEventType( StatementEvent.class );
+	private static final EventType CONNECTION_ACQUISITION = EventType.getEventType( ConnectionAcquisitionEvent.class );
+	private static final EventType FLUSH = EventType.getEventType( FlushEvent.class );
+	private static final EventType QUERY = EventType.getEventType( QueryEvent.class );
+	private static final EventType IDENTIFIER_BLOCK = EventType.getEventType( IdentifierBlockEvent.class );
+
+	private ReactiveEvents() {
+	}
+
+	private static <E extends ReactiveEvent> E begin(E event) {
+		event.begin();
+		return event;
+	}
+
+	public static Object beginStatement() {
+		return STATEMENT.isEnabled() ? begin( new StatementEvent() ) : null;
+	}
+
+	public static void endStatement(Object event, String sql, int batchSize, Throwable failure) {
+		final StatementEvent statement = (StatementEvent) event;
+		statement.sql = sql;
+		statement.batchSize = batchSize;
+		statement.end( failure );
+	}
+
+	public static Object beginConnectionAcquisition() {
+		return CONNECTION_ACQUISITION.isEnabled() ? begin( new ConnectionAcquisitionEvent() ) : null;
+	}
+
+	public static void endConnectionAcquisition(Object event, Throwable failure) {
+		( (ConnectionAcquisitionEvent) event ).end( failure );
+	}
+
+	public static Object beginFlush() {
+		return FLUSH.isEnabled() ? begin( new FlushEvent() ) : null;
+	}
+
+	public static void endFlush(Object event, int actions, Throwable failure) {
+		final FlushEvent flush = (FlushEvent) event;
+		flush.actions = actions;
+		flush.end( failure );
+	}
+
+	public static Object beginQuery() {
+		return QUERY.isEnabled() ? begin( new QueryEvent() ) : null;
+	}
+
+	public static void endQuery(Object event, String hql, int results, Throwable failure) {
+		final QueryEvent query = (QueryEvent) event;
+		query.hql = hql;
+		query.results = results;
+		query.end( failure );
+	}
+
+	public static Object beginIdentifierBlock() {
+		return IDENTIFIER_BLOCK.isEnabled() ? begin( new IdentifierBlockEvent() ) : null;
+	}
+
+	public static void endIdentifierBlock(Object event, String generator, Throwable failure) {
+		final IdentifierBlockEvent block = (IdentifierBlockEvent) event;
+		block.generator = generator;
+		block.end( failure );
+	}
+}
@@ -0,0 +1,22 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.jfr.impl;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.hibernate.reactive.Statement")
+@Label("Statement")
+@Description("A statement, or batch of statements, executed by a reactive connection")
+final class StatementEvent extends ReactiveEvent {
+
+	@Label("SQL")
+	String sql;
+
+	@Label("Batch Size")
+	int batchSize;
+}
@@ -0,0 +1,146 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Tests that a query sees the changes made in the session, even
+ * though the session only auto-flushes when the query involves a
+ * table which might be written by the flush.
+ */
+public class AutoFlushTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Parent.class );
+		configuration.addAnnotatedClass( Child.class );
+		configuration.addAnnotatedClass( Unrelated.class );
+		return configuration;
+	}
+
+	private CompletionStage<Void> populateDb() {
+		Parent parent = new Parent( 1, "Hermione" );
+		parent.children.add( new Child( 2, "Rose", parent ) );
+		return getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( parent, new Unrelated( 3, "Crookshanks" ) ) );
+	}
+
+	@Test
+	public void testAutoFlushModifiedEntity(TestContext context) {
+		test( context, populateDb()
+				.thenCompose( v -> getSessionFactory().withSession(
+						s -> s.find( Parent.class, 1 )
+								.thenCompose( parent -> {
+									parent.name = "Ron";
+									return s.createQuery( "select name from Parent", String.class ).getSingleResult();
+								} )
+								.thenAccept( name -> context.assertEquals( "Ron", name ) )
+				) )
+		);
+	}
+
+	@Test
+	public void testAutoFlushCascadedEntity(TestContext context) {
+		test( context, populateDb()
+				.thenCompose( v -> getSessionFactory().withSession(
+						s -> s.find( Parent.class, 1 )
+								.thenCompose( parent -> s.fetch( parent.children ).thenApply( children -> parent ) )
+								.thenCompose( parent -> {
+									// only persisted by the flush-time cascade
+									parent.children.add( new Child( 4, "Hugo", parent ) );
+									return s.createQuery( "select count(*) from Child", Long.class ).getSingleResult();
+								} )
+								.thenAccept( count -> context.assertEquals( 2L, count ) )
+				) )
+		);
+	}
+
+	@Test
+	public void testQueryUnaffectedByFlush(TestContext context) {
+		test( context, populateDb()
+				.thenCompose( v -> getSessionFactory().withSession(
+						s -> s.find( Parent.class, 1 )
+								.thenCompose( parent -> {
+									parent.name = "Ron";
+									return s.createQuery( "select name from Unrelated", String.class ).getSingleResult();
+								} )
+								.thenAccept( name -> context.assertEquals( "Crookshanks", name ) )
+								.thenCompose( v2 -> s.createQuery( "select name from Parent", String.class ).getSingleResult() )
+								.thenAccept( name -> context.assertEquals( "Ron", name ) )
+				) )
+		);
+	}
+
+	@Entity(name = "Parent")
+	@Table(name = "AutoFlushParent")
+	public static class Parent {
+		@Id
+		Integer id;
+		String name;
+		@OneToMany(mappedBy = "parent", cascade = CascadeType.PERSIST)
+		List<Child> children = new ArrayList<>();
+
+		public Parent() {
+		}
+
+		public Parent(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Child")
+	@Table(name = "AutoFlushChild")
+	public static class Child {
+		@Id
+		Integer id;
+		String name;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Integer id, String name, Parent parent) {
+			this.id = id;
+			this.name = name;
+			this.parent = parent;
+		}
+	}
+
+	@Entity(name = "Unrelated")
+	@Table(name = "AutoFlushUnrelated")
+	public static class Unrelated {
+		@Id
+		Integer id;
+		String name;
+
+		public Unrelated() {
+		}
+
+		public Unrelated(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.cache.impl.BlockingCacheAccess;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Runs the tests in {@link CacheTest} with the second-level cache
+ * accessed from a Vert.x worker thread.
+ */
+public class BlockingCacheAccessTest extends CacheTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.CACHE_ACCESS, CountingCacheAccess.class.getName() );
+		configuration.setProperty( AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, CacheGetCounter.class.getName() );
+		return configuration;
+	}
+
+	@Test
+	public void testEachEntryReadOnce(TestContext context) {
+		Named foo = new Named( "foo" );
+		Named bar = new Named( "bar" );
+		Named baz = new Named( "baz" );
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( foo, bar, baz ) )
+				//populate the cache
+				.thenCompose( v -> getSessionFactory().withSession(
+						s -> s.createQuery( "from Named" ).getResultList()
+				) )
+				.thenCompose( v -> {
+					CacheGetCounter.GETS.set( 0 );
+					CountingCacheAccess.OPERATIONS.set( 0 );
+					return getSessionFactory().withSession( s -> s.find( Named.class, foo.id ) );
+				} )
+				.thenAccept( n -> {
+					context.assertEquals( "foo", n.name );
+					// the entity is assembled from the entry we read
+					// asynchronously, without reading it again
+					context.assertEquals( 1, CacheGetCounter.GETS.get() );
+					context.assertEquals( 1, CountingCacheAccess.OPERATIONS.get() );
+				} )
+				.thenCompose( v -> {
+					CacheGetCounter.GETS.set( 0 );
+					CountingCacheAccess.OPERATIONS.set( 0 );
+					return getSessionFactory().withSession( s -> s.find( Named.class, foo.id, bar.id, baz.id ) );
+				} )
+				.thenAccept( list -> {
+					context.assertEquals( 3, list.size() );
+					context.assertEquals( 3, CacheGetCounter.GETS.get() );
+					// all three entries are obtained with a single trip to a worker thread
+					context.assertEquals( 1, CountingCacheAccess.OPERATIONS.get() );
+				} )
+				.thenCompose( v -> getSessionFactory().withTransaction(
+						(s, t) -> s.createQuery( "delete Named" ).executeUpdate()
+				) )
+		);
+	}
+
+	public static class CountingCacheAccess extends BlockingCacheAccess {
+		static final AtomicInteger OPERATIONS = new AtomicInteger();
+
+		@Override
+		protected <T> CompletionStage<T> execute(Supplier<T> operation) {
+			OPERATIONS.incrementAndGet();
+			return super.execute( operation );
+		}
+	}
+
+	public static class CacheGetCounter extends BaseSessionEventListener {
+		static final AtomicInteger GETS = new AtomicInteger();
+
+		@Override
+		public void cacheGetStart() {
+			GETS.incrementAndGet();
+		}
+	}
+}
@@ -0,0 +1,148 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.persistence.Cacheable;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.Test;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.TestContext;
+
+import static org.hibernate.annotations.CacheConcurrencyStrategy.NONSTRICT_READ_WRITE;
+
+/**
+ * Tests the propagation of cache invalidations over the event bus,
+ * using the local event bus to stand in for the other nodes.
+ */
+public class CacheInvalidationBroadcastTest extends CacheTest {
+
+	private static final String ADDRESS = "hibernate.reactive.test.invalidation";
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Shelf.class );
+		configuration.setProperty( Settings.CACHE_INVALIDATION_ADDRESS, ADDRESS );
+		return configuration;
+	}
+
+	@Test
+	public void testInvalidationBroadcastOnCommit(TestContext context) {
+		CompletableFuture<JsonObject> received = new CompletableFuture<>();
+		vertxContextRule.vertx().eventBus().<JsonObject>consumer( ADDRESS, message -> received.complete( message.body() ) );
+
+		Named named = new Named( "foo" );
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( named ) )
+				.thenCompose( v -> getSessionFactory().withTransaction(
+						(s, t) -> s.find( Named.class, named.id )
+								.thenAccept( n -> n.name = "bar" )
+				) )
+				.thenCompose( v -> received )
+				.thenAccept( message -> {
+					// the id is sent as a string, and not as a serialized object
+					context.assertEquals(
+							new JsonArray().add( named.id.toString() ),
+							message.getJsonObject( "evictedEntities" ).getJsonArray( Named.class.getName() )
+					);
+					context.assertTrue( message.getJsonArray( "evictedSpaces" ).isEmpty() );
+				} )
+		);
+	}
+
+	@Test
+	public void testCollectionInvalidationBroadcastOnCommit(TestContext context) {
+		CompletableFuture<JsonObject> received = new CompletableFuture<>();
+
+		Shelf shelf = new Shelf( 1 );
+		shelf.books.add( "Dune" );
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( shelf ) )
+				.thenCompose( v -> {
+					vertxContextRule.vertx().eventBus()
+							.<JsonObject>consumer( ADDRESS, message -> received.complete( message.body() ) );
+					return getSessionFactory().withTransaction(
+							(s, t) -> s.find( Shelf.class, shelf.id )
+									.thenCompose( sh -> s.fetch( sh.books ) )
+									.thenAccept( books -> books.add( "Emma" ) )
+					);
+				} )
+				.thenCompose( v -> received )
+				.thenAccept( message -> context.assertEquals(
+						new JsonArray().add( "1" ),
+						message.getJsonObject( "evictedCollections" ).getJsonArray( Shelf.class.getName() + ".books" )
+				) )
+		);
+	}
+
+	@Test
+	public void testInvalidationAppliedFromPeer(TestContext context) {
+		org.hibernate.Cache cache = getSessionFactory().getCache();
+		Named named = new Named( "foo" );
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( named ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Named.class, named.id ) ) )
+				.thenCompose( v -> {
+					context.assertTrue( cache.contains( Named.class, named.id ) );
+
+					// a message from another node
+					JsonObject message = new JsonObject().put(
+							"evictedEntities",
+							new JsonObject().put( Named.class.getName(), new JsonArray().add( named.id.toString() ) )
+					);
+					vertxContextRule.vertx().eventBus().publish( ADDRESS, message );
+
+					return awaitEviction( cache, named.id );
+				} )
+		);
+	}
+
+	private CompletionStage<Void> awaitEviction(org.hibernate.Cache cache, Integer id) {
+		CompletableFuture<Void> evicted = new CompletableFuture<>();
+		vertxContextRule.vertx().setPeriodic( 10, timer -> {
+			if ( !cache.contains( Named.class, id ) ) {
+				vertxContextRule.vertx().cancelTimer( timer );
+				evicted.complete( null );
+			}
+		} );
+		return evicted;
+	}
+
+	@Entity
+	@Table(name = "shelf")
+	@Cacheable
+	@Cache(usage = NONSTRICT_READ_WRITE)
+	static class Shelf {
+		@Id
+		Integer id;
+
+		@ElementCollection
+		@Cache(usage = NONSTRICT_READ_WRITE)
+		List<String> books = new ArrayList<>();
+
+		Shelf() {
+		}
+
+		Shelf(Integer id) {
+			this.id = id;
+		}
+	}
+}
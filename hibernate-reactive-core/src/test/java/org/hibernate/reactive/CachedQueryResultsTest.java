@@ -15,6 +15,7 @@
 import javax.persistence.QueryHint;
 import javax.persistence.Table;
 
+import org.hibernate.Hibernate;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Configuration;
 import org.hibernate.cfg.Environment;
@@ -51,6 +52,7 @@ protected Configuration constructConfiguration() {
 		Configuration configuration = super.constructConfiguration();
 		configuration.getProperties().put( Settings.USE_SECOND_LEVEL_CACHE, Boolean.TRUE );
 		configuration.getProperties().put( Settings.USE_QUERY_CACHE, Boolean.TRUE );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
 		configuration.setProperty( Environment.CACHE_REGION_FACTORY, "org.hibernate.cache.jcache.internal.JCacheRegionFactory" );
 		configuration.setProperty( AvailableSettings.HBM2DDL_IMPORT_FILES, "/import-for-querycachetest.sql" );
 		configuration.setProperty( "hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider" );
@@ -141,6 +143,58 @@ public void testLoadFromCachedQueryResultFromCache2(TestContext context) {
 		);
 	}
 
+	private static Uni<List<Object[]>> findallWithNames(Mutiny.Session session) {
+		return session.createQuery( "SELECT f, f.name FROM Fruit f ORDER BY f.name ASC", Object[].class )
+				.setCacheable( true )
+				.getResultList();
+	}
+
+	@Test
+	public void testLoadFromCachedQueryResultWithScalars(TestContext context) {
+		test( context, getMutinySessionFactory().withSession( CachedQueryResultsTest::findallWithNames )
+				// The entities aren't in the second-level cache, so they have to be loaded
+				// from the db before the cached result can be assembled
+				.call( () -> {
+					getSessionFactory().getStatistics().clear();
+					return getMutinySessionFactory().withSession( CachedQueryResultsTest::findallWithNames );
+				} )
+				.invoke( list -> {
+					// they're all loaded by a single batched select
+					context.assertEquals( 1L, getSessionFactory().getStatistics().getStatementCount() );
+					context.assertNotNull( list );
+					context.assertEquals( 3, list.size() );
+					int i = 0;
+					for ( Object[] row : list ) {
+						Fruit expected = (Fruit) FRUITS[i++];
+						context.assertEquals( expected, row[0] );
+						context.assertEquals( expected.getName(), row[1] );
+					}
+				} )
+		);
+	}
+
+	@Test
+	public void testLoadFromCachedQueryResultWithProxyOfDeletedEntity(TestContext context) {
+		test( context, getMutinySessionFactory().withSession( CachedQueryResultsTest::findall )
+				// Delete the Tomato behind the back of Hibernate, so the cached result is still used
+				.call( () -> Uni.createFrom().completionStage(
+						connection().thenCompose( c -> c.update( "DELETE FROM known_fruits WHERE id = 2" ) )
+				) )
+				.chain( () -> getMutinySessionFactory().withSession( s -> {
+					Fruit proxy = s.getReference( Fruit.class, 2 );
+					return CachedQueryResultsTest.findall( s )
+							.invoke( list -> {
+								// The deleted entity can't be loaded, so the results come from the db
+								context.assertEquals( 2, list.size() );
+								context.assertEquals( FRUITS[0], list.get( 0 ) );
+								context.assertEquals( FRUITS[1], list.get( 1 ) );
+								// and the proxy wasn't initialized with a placeholder in the meantime
+								context.assertFalse( Hibernate.isInitialized( proxy ) );
+							} );
+				} ) )
+		);
+	}
+
 	@Entity(name = "Fruit")
 	@Table(name = "known_fruits")
 	@NamedQuery(name = Fruit.FIND_ALL
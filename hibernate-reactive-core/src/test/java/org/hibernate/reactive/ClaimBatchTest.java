@@ -0,0 +1,117 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.testing.DatabaseSelectionRule;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
+import static org.hibernate.reactive.testing.DatabaseSelectionRule.runOnlyFor;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * Tests consuming a table as a work queue, using {@code skip locked}
+ * and {@code nowait}.
+ */
+public class ClaimBatchTest extends BaseReactiveTest {
+
+	@Rule
+	public DatabaseSelectionRule runOnly = runOnlyFor( POSTGRESQL );
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Job.class );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.createQuery( "delete Job" ).executeUpdate() ) );
+	}
+
+	@Test
+	public void testClaimBatchSkipsLockedRows(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist(
+						new Job( 1 ), new Job( 2 ), new Job( 3 ), new Job( 4 )
+				) )
+				.thenCompose( v -> getSessionFactory().withTransaction(
+						// job 1 is held by another consumer
+						(s, tx) -> s.find( Job.class, 1, LockMode.PESSIMISTIC_WRITE )
+								.thenCompose( job -> getSessionFactory().withClaimedBatch(
+										session -> session.createQuery( "from Job where done = false order by id", Job.class ),
+										2,
+										(session, jobs) -> {
+											context.assertEquals( 2, jobs.size() );
+											context.assertEquals( 2, jobs.get( 0 ).id );
+											context.assertEquals( 3, jobs.get( 1 ).id );
+											jobs.forEach( claimed -> claimed.done = true );
+											return voidFuture();
+										}
+								) )
+				) )
+				.thenCompose( v -> getSessionFactory().withClaimedBatch(
+						session -> session.createQuery( "from Job where done = false order by id", Job.class ),
+						10,
+						(session, jobs) -> {
+							context.assertEquals( 2, jobs.size() );
+							context.assertEquals( 1, jobs.get( 0 ).id );
+							context.assertEquals( 4, jobs.get( 1 ).id );
+							return voidFuture();
+						}
+				) )
+		);
+	}
+
+	@Test
+	public void testNoWaitFailsOnLockedRow(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist( new Job( 1 ) ) )
+				.thenCompose( v -> getSessionFactory().withTransaction(
+						(s, tx) -> s.find( Job.class, 1, LockMode.PESSIMISTIC_WRITE )
+								.thenCompose( job -> getSessionFactory().withTransaction(
+										(session, transaction) -> session.createQuery( "from Job", Job.class )
+												.setLockMode( LockMode.PESSIMISTIC_WRITE )
+												.setLockTimeout( LockOptions.NO_WAIT )
+												.getResultList()
+								) )
+								.handle( (jobs, e) -> {
+									context.assertNotNull( e );
+									return null;
+								} )
+				) )
+		);
+	}
+
+	@Entity(name = "Job")
+	@Table(name = "Job")
+	public static class Job {
+		@Id
+		private Integer id;
+		private boolean done;
+
+		public Job() {
+		}
+
+		public Job(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,26 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.reactive.cache.impl.OffHeapRegionFactory;
+import org.hibernate.reactive.provider.Settings;
+
+/**
+ * Runs the tests in {@link CacheTest} with the off-heap
+ * second-level cache.
+ */
+public class OffHeapCacheTest extends CacheTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Environment.CACHE_REGION_FACTORY, OffHeapRegionFactory.class.getName() );
+		configuration.setProperty( Settings.OFF_HEAP_CACHE_MAX_MEGABYTES, "1" );
+		return configuration;
+	}
+}
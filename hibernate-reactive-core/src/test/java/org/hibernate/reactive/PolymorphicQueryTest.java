@@ -0,0 +1,182 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.HashSet;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.Configuration;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Tests queries for an interface which is not mapped, and is
+ * implemented by more than one entity, so that the query is
+ * executed as a separate SQL query for each entity.
+ */
+public class PolymorphicQueryTest extends BaseReactiveTest {
+
+	private static final String QUERY = "from " + Ingredient.class.getName();
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Spice.class );
+		configuration.addAnnotatedClass( Herb.class );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist(
+						new Spice( 1, "Cumin" ),
+						new Spice( 2, "Nutmeg" ),
+						new Spice( 3, "Saffron" ),
+						new Herb( 4, "Basil" ),
+						new Herb( 5, "Thyme" )
+				) )
+		);
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.createQuery( "delete Spice" ).executeUpdate()
+						.thenCompose( v -> s.createQuery( "delete Herb" ).executeUpdate() ) )
+		);
+	}
+
+	@Test
+	public void testAllResults(TestContext context) {
+		test( context, openSession()
+				.createQuery( QUERY )
+				.getResultList()
+				.thenAccept( list -> assertDistinct( context, list, 5 ) )
+		);
+	}
+
+	@Test
+	public void testMaxResults(TestContext context) {
+		test( context, openSession()
+				.createQuery( QUERY )
+				.setMaxResults( 4 )
+				.getResultList()
+				.thenAccept( list -> assertDistinct( context, list, 4 ) )
+		);
+	}
+
+	@Test
+	public void testFirstAndMaxResults(TestContext context) {
+		test( context, openSession()
+				.createQuery( QUERY )
+				.setFirstResult( 1 )
+				.setMaxResults( 3 )
+				.getResultList()
+				.thenAccept( list -> assertDistinct( context, list, 3 ) )
+		);
+	}
+
+	@Test
+	public void testMaxResultsLargerThanResults(TestContext context) {
+		test( context, openSession()
+				.createQuery( QUERY )
+				.setFirstResult( 3 )
+				.setMaxResults( 10 )
+				.getResultList()
+				.thenAccept( list -> assertDistinct( context, list, 2 ) )
+		);
+	}
+
+	@Test
+	public void testFirstResultOnly(TestContext context) {
+		test( context, openSession()
+				.createQuery( QUERY )
+				.setFirstResult( 2 )
+				.getResultList()
+				.thenAccept( list -> assertDistinct( context, list, 3 ) )
+		);
+	}
+
+	@Test
+	public void testZeroMaxResults(TestContext context) {
+		test( context, openSession()
+				.createQuery( QUERY )
+				.setMaxResults( 0 )
+				.getResultList()
+				.thenAccept( list -> context.assertEquals( 0, list.size() ) )
+		);
+	}
+
+	private static void assertDistinct(TestContext context, List<?> list, int expectedSize) {
+		context.assertEquals( expectedSize, list.size() );
+		context.assertEquals( expectedSize, new HashSet<>( list ).size() );
+		for ( Object result : list ) {
+			context.assertTrue( result instanceof Ingredient );
+		}
+	}
+
+	public interface Ingredient {
+		String getName();
+	}
+
+	@Entity(name = "Spice")
+	@Table(name = "Spice")
+	public static class Spice implements Ingredient {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Spice() {
+		}
+
+		public Spice(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Herb")
+	@Table(name = "Herb")
+	public static class Herb implements Ingredient {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Herb() {
+		}
+
+		public Herb(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+	}
+}
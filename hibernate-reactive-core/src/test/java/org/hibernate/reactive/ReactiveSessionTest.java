@@ -6,15 +6,19 @@
 package org.hibernate.reactive;
 
 import io.vertx.ext.unit.TestContext;
+import org.hibernate.Hibernate;
 import org.hibernate.LockMode;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.lock.OptimisticEntityLockException;
 import org.hibernate.reactive.common.AffectedEntities;
 import org.hibernate.reactive.stage.Stage;
+import org.hibernate.reactive.util.impl.CompletionStages;
 import org.junit.Test;
 
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.OptimisticLockException;
 import javax.persistence.Table;
 import javax.persistence.Version;
 import javax.persistence.metamodel.EntityType;
@@ -32,6 +36,7 @@ protected Configuration constructConfiguration() {
 		Configuration configuration = super.constructConfiguration();
 		configuration.addAnnotatedClass( GuineaPig.class );
 		configuration.setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "5");
+		configuration.setProperty(AvailableSettings.GENERATE_STATISTICS, "true");
 		return configuration;
 	}
 
@@ -197,6 +202,70 @@ public void reactiveFindReadOnlyRefreshWithLock(TestContext context) {
 		);
 	}
 
+	@Test
+	public void reactiveRefreshMany(TestContext context) {
+		test(
+				context,
+				getSessionFactory()
+						.withTransaction( (session, transaction) -> session.persist(
+								new GuineaPig( 5, "Aloi" ),
+								new GuineaPig( 6, "Iola" ),
+								new GuineaPig( 7, "Lilo" )
+						) )
+						.thenCompose( v -> getSessionFactory().withSession(
+								// the three pigs are reloaded by a single select
+								session -> session.createQuery( "from GuineaPig order by id", GuineaPig.class )
+										.getResultList()
+										.thenCompose( pigs -> session.createQuery( "update GuineaPig set name = 'X'" )
+												.executeUpdate()
+												.thenCompose( rows -> {
+													getSessionFactory().getStatistics().clear();
+													return session.refresh( pigs.toArray() );
+												} )
+												.thenAccept( vv -> {
+													context.assertEquals( 1L, getSessionFactory().getStatistics().getStatementCount() );
+													context.assertEquals( 3, pigs.size() );
+													pigs.forEach( pig -> {
+														context.assertEquals( "X", pig.getName() );
+														context.assertTrue( session.contains( pig ) );
+													} );
+												} )
+										)
+						) )
+		);
+	}
+
+	@Test
+	public void reactiveRefreshManyLocked(TestContext context) {
+		test(
+				context,
+				getSessionFactory()
+						.withTransaction( (session, transaction) -> session.persist(
+								new GuineaPig( 5, "Aloi" ),
+								new GuineaPig( 6, "Iola" )
+						) )
+						.thenCompose( v -> getSessionFactory().withTransaction(
+								// the pigs already hold a lock, which must survive the refresh,
+								// but they're still reloaded by a single select
+								(session, transaction) -> session.createQuery( "from GuineaPig order by id", GuineaPig.class )
+										.setLockMode( LockMode.PESSIMISTIC_WRITE )
+										.getResultList()
+										.thenCompose( pigs -> {
+											getSessionFactory().getStatistics().clear();
+											return session.refresh( pigs.toArray() )
+													.thenAccept( vv -> {
+														context.assertEquals( 1L, getSessionFactory().getStatistics().getStatementCount() );
+														context.assertEquals( 2, pigs.size() );
+														pigs.forEach( pig -> {
+															context.assertTrue( session.contains( pig ) );
+															context.assertEquals( LockMode.PESSIMISTIC_WRITE, session.getLockMode( pig ) );
+														} );
+													} );
+										} )
+						) )
+		);
+	}
+
 	@Test
 	public void reactiveFindThenUpgradeLock(TestContext context) {
 		final GuineaPig expectedPig = new GuineaPig( 5, "Aloi" );
@@ -399,6 +468,79 @@ public void reactiveLockWithOptimisticVerify(TestContext context) {
 		);
 	}
 
+	@Test
+	public void reactiveLockManyWithOptimisticVerify(TestContext context) {
+		test(
+				context,
+				getSessionFactory()
+						.withTransaction( (session, transaction) -> session.persist(
+								new GuineaPig( 5, "Aloi" ),
+								new GuineaPig( 6, "Iola" ),
+								new GuineaPig( 7, "Lilo" )
+						) )
+						.thenCompose( v -> getSessionFactory().withTransaction(
+								// the three versions are verified by a single query
+								(session, transaction) -> session.createQuery( "from GuineaPig", GuineaPig.class )
+										.getResultList()
+										.thenCompose( pigs -> session.lock( pigs.get( 0 ), LockMode.OPTIMISTIC )
+												.thenCompose( vv -> session.lock( pigs.get( 1 ), LockMode.OPTIMISTIC ) )
+												.thenCompose( vv -> session.lock( pigs.get( 2 ), LockMode.OPTIMISTIC ) )
+												// meanwhile, another session updates a pig
+												.thenCompose( vv -> getSessionFactory().withTransaction(
+														(other, tx) -> other.find( GuineaPig.class, 6 )
+																.thenAccept( pig -> pig.setName( "Loia" ) )
+												) )
+												.thenAccept( vv -> getSessionFactory().getStatistics().clear() )
+										)
+						) )
+						.handle( (v, e) -> {
+							context.assertEquals( 1L, getSessionFactory().getStatistics().getStatementCount() );
+							context.assertNotNull( e );
+							Throwable cause = e;
+							while ( cause != null && !( cause instanceof OptimisticLockException
+									|| cause instanceof OptimisticEntityLockException ) ) {
+								cause = cause.getCause();
+							}
+							context.assertNotNull( cause, "expected an OptimisticLockException but got " + e );
+							return null;
+						} )
+		);
+	}
+
+	@Test
+	public void reactiveLockManyWithOptimisticIncrement(TestContext context) {
+		test(
+				context,
+				getSessionFactory()
+						.withTransaction( (session, transaction) -> session.persist(
+								new GuineaPig( 5, "Aloi" ),
+								new GuineaPig( 6, "Iola" ),
+								new GuineaPig( 7, "Lilo" )
+						) )
+						.thenCompose( v -> getSessionFactory().withTransaction(
+								// the three versions are incremented by a single batch
+								(session, transaction) -> session.createQuery( "from GuineaPig", GuineaPig.class )
+										.getResultList()
+										.thenCompose( pigs -> CompletionStages.loop(
+												pigs,
+												pig -> session.lock( pig, LockMode.OPTIMISTIC_FORCE_INCREMENT )
+										) )
+										.thenAccept( vv -> getSessionFactory().getStatistics().clear() )
+						) )
+						.thenCompose( v -> {
+							context.assertEquals( 3L, getSessionFactory().getStatistics().getStatementCount() );
+							context.assertEquals( 1L, getSessionFactory().getStatistics().getBatchCount() );
+							return getSessionFactory().withSession(
+									session -> session.createQuery( "from GuineaPig", GuineaPig.class ).getResultList()
+							);
+						} )
+						.thenAccept( pigs -> {
+							context.assertEquals( 3, pigs.size() );
+							pigs.forEach( pig -> context.assertEquals( 1, pig.version ) );
+						} )
+		);
+	}
+
 	@Test
 	public void reactiveFindWithPessimisticRead(TestContext context) {
 		final GuineaPig expectedPig = new GuineaPig( 5, "Aloi" );
@@ -491,6 +633,102 @@ public void reactiveLockWithPessimisticWrite(TestContext context) {
 		);
 	}
 
+	@Test
+	public void reactiveLockManyWithPessimisticWrite(TestContext context) {
+		test(
+				context,
+				getSessionFactory()
+						.withTransaction( (session, transaction) -> session.persist(
+								new GuineaPig( 5, "Aloi" ),
+								new GuineaPig( 6, "Iola" ),
+								new GuineaPig( 7, "Lilo" )
+						) )
+						.thenCompose( v -> getSessionFactory().withTransaction(
+								// does a single select ... for update
+								(session, transaction) -> session.createQuery( "from GuineaPig", GuineaPig.class )
+										.getResultList()
+										.thenCompose( pigs -> {
+											getSessionFactory().getStatistics().clear();
+											return session.lockAll( LockMode.PESSIMISTIC_WRITE, pigs.toArray() )
+												.thenAccept( vv -> {
+													context.assertEquals( 1L, getSessionFactory().getStatistics().getStatementCount() );
+													context.assertEquals( 3, pigs.size() );
+													pigs.forEach( pig -> {
+														context.assertEquals( session.getLockMode( pig ), LockMode.PESSIMISTIC_WRITE );
+														context.assertEquals( 0, pig.version );
+													} );
+												} );
+										} )
+						) )
+		);
+	}
+
+	@Test
+	public void reactiveLockManyProxiesWithPessimisticWrite(TestContext context) {
+		test(
+				context,
+				getSessionFactory()
+						.withTransaction( (session, transaction) -> session.persist(
+								new GuineaPig( 5, "Aloi" ),
+								new GuineaPig( 6, "Iola" ),
+								new GuineaPig( 7, "Lilo" )
+						) )
+						.thenCompose( v -> getSessionFactory().withTransaction(
+								// the proxies are initialized by a single select,
+								// and then locked by a single select ... for update
+								(session, transaction) -> {
+									getSessionFactory().getStatistics().clear();
+									final Object[] pigs = {
+											session.getReference( GuineaPig.class, 5 ),
+											session.getReference( GuineaPig.class, 6 ),
+											session.getReference( GuineaPig.class, 7 )
+									};
+									return session.lockAll( LockMode.PESSIMISTIC_WRITE, pigs )
+											.thenAccept( vv -> {
+												context.assertEquals( 2L, getSessionFactory().getStatistics().getStatementCount() );
+												for ( Object pig : pigs ) {
+													context.assertTrue( Hibernate.isInitialized( pig ) );
+													context.assertEquals( session.getLockMode( pig ), LockMode.PESSIMISTIC_WRITE );
+												}
+											} );
+								}
+						) )
+		);
+	}
+
+	@Test
+	public void reactiveFindManyWithPessimisticWrite(TestContext context) {
+		test(
+				context,
+				getSessionFactory()
+						.withTransaction( (session, transaction) -> session.persist(
+								new GuineaPig( 5, "Aloi" ),
+								new GuineaPig( 6, "Iola" ),
+								new GuineaPig( 7, "Lilo" )
+						) )
+						.thenCompose( v -> getSessionFactory().withTransaction(
+								// pig 5 is already managed, and is locked separately
+								// and the others are loaded by a single select ... for update
+								(session, transaction) -> session.find( GuineaPig.class, 5 )
+										.thenCompose( pig -> {
+											getSessionFactory().getStatistics().clear();
+											return session.findAll( GuineaPig.class, LockMode.PESSIMISTIC_WRITE, 7, 5, 8, 6 );
+										} )
+										.thenAccept( pigs -> {
+											context.assertEquals( 2L, getSessionFactory().getStatistics().getStatementCount() );
+											context.assertEquals( 4, pigs.size() );
+											context.assertEquals( 7, pigs.get( 0 ).getId() );
+											context.assertEquals( 5, pigs.get( 1 ).getId() );
+											context.assertNull( pigs.get( 2 ) );
+											context.assertEquals( 6, pigs.get( 3 ).getId() );
+											context.assertEquals( session.getLockMode( pigs.get( 0 ) ), LockMode.PESSIMISTIC_WRITE );
+											context.assertEquals( session.getLockMode( pigs.get( 1 ) ), LockMode.PESSIMISTIC_WRITE );
+											context.assertEquals( session.getLockMode( pigs.get( 3 ) ), LockMode.PESSIMISTIC_WRITE );
+										} )
+						) )
+		);
+	}
+
 	@Test
 	public void reactiveQueryWithLock(TestContext context) {
 		final GuineaPig expectedPig = new GuineaPig( 5, "Aloi" );
@@ -61,6 +61,24 @@ public void testStatelessSession(TestContext context) {
 		);
 	}
 
+	@Test
+	public void testStatelessSessionRefreshAll(TestContext context) {
+		GuineaPig pig1 = new GuineaPig("Aloi");
+		GuineaPig pig2 = new GuineaPig("Iola");
+		Stage.StatelessSession ss = getSessionFactory().openStatelessSession();
+		test(
+				context,
+				ss.insert(pig1, pig2)
+						.thenCompose( v -> ss.createQuery("update GuineaPig set name='Y'").executeUpdate() )
+						.thenCompose( v -> ss.refresh(pig1, pig2) )
+						.thenAccept( v -> {
+							context.assertEquals(pig1.name, "Y");
+							context.assertEquals(pig2.name, "Y");
+						} )
+						.thenAccept( v -> ss.close() )
+		);
+	}
+
 	@Test
 	public void testStatelessSessionWithNative(TestContext context) {
 		GuineaPig pig = new GuineaPig("Aloi");
@@ -0,0 +1,143 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.stat.ReactiveStatistics;
+import org.hibernate.reactive.stat.ReactiveStatistics.EventLoopPhase;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.hibernate.reactive.stat.ReactiveStatistics.EventLoopPhase.CASCADE;
+import static org.hibernate.reactive.stat.ReactiveStatistics.EventLoopPhase.FLUSH;
+import static org.hibernate.reactive.stat.ReactiveStatistics.EventLoopPhase.HYDRATION;
+import static org.hibernate.reactive.stat.ReactiveStatistics.EventLoopPhase.QUERY_TRANSLATION;
+
+/**
+ * Tests the statistics about statements, batches, flushes,
+ * hydration, and time spent on the event loop, collected by {@link ReactiveStatistics}.
+ */
+public class ReactiveStatisticsTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Planet.class );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+		configuration.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, "5" );
+		return configuration;
+	}
+
+	@Before
+	public void clearStatistics() {
+		getSessionFactory().getStatistics().clear();
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.createQuery( "delete Planet" ).executeUpdate() ) );
+	}
+
+	@Test
+	public void testBatchedInserts(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist(
+						new Planet( 1, "Mercury" ),
+						new Planet( 2, "Venus" ),
+						new Planet( 3, "Earth" ),
+						new Planet( 4, "Mars" ),
+						new Planet( 5, "Jupiter" ),
+						new Planet( 6, "Saturn" ),
+						new Planet( 7, "Uranus" )
+				) )
+				.thenRun( () -> {
+					ReactiveStatistics statistics = getSessionFactory().getStatistics();
+					context.assertEquals( 7L, statistics.getStatementCount() );
+					context.assertEquals( 2L, statistics.getBatchCount() );
+					// a batch of 5 statements, and a batch of 2
+					long[] histogram = statistics.getBatchSizeHistogram();
+					context.assertEquals( 1L, histogram[2] );
+					context.assertEquals( 1L, histogram[1] );
+					// the begin, the two batches, and the commit
+					context.assertEquals( 4L, statistics.getRoundTripCount() );
+					context.assertEquals( 1L, statistics.getFlushCount() );
+				} )
+		);
+	}
+
+	@Test
+	public void testHydration(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist(
+						new Planet( 1, "Mercury" ),
+						new Planet( 2, "Venus" ),
+						new Planet( 3, "Earth" )
+				) )
+				.thenRun( () -> getSessionFactory().getStatistics().clear() )
+				.thenCompose( v -> getSessionFactory().withSession(
+						s -> s.createQuery( "from Planet", Planet.class ).getResultList()
+				) )
+				.thenAccept( planets -> {
+					ReactiveStatistics statistics = getSessionFactory().getStatistics();
+					context.assertEquals( 3, planets.size() );
+					context.assertEquals( 3L, statistics.getHydratedRowCount() );
+					context.assertEquals( 1L, statistics.getStatementCount() );
+					context.assertEquals( 0L, statistics.getBatchCount() );
+				} )
+		);
+	}
+
+	@Test
+	public void testEventLoopTime(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist(
+						new Planet( 1, "Mercury" ),
+						new Planet( 2, "Venus" )
+				) )
+				.thenCompose( v -> getSessionFactory().withSession(
+						s -> s.createQuery( "from Planet", Planet.class ).getResultList()
+				) )
+				.thenRun( () -> {
+					ReactiveStatistics statistics = getSessionFactory().getStatistics();
+					for ( EventLoopPhase phase : new EventLoopPhase[] { CASCADE, FLUSH, HYDRATION, QUERY_TRANSLATION } ) {
+						long total = statistics.getEventLoopNanos( phase );
+						context.assertTrue( total > 0, phase.toString() );
+						context.assertTrue( statistics.getMaxEventLoopNanos( phase ) > 0, phase.toString() );
+						context.assertTrue( statistics.getMaxEventLoopNanos( phase ) <= total, phase.toString() );
+					}
+					statistics.clear();
+					context.assertEquals( 0L, statistics.getEventLoopNanos( FLUSH ) );
+					context.assertEquals( 0L, statistics.getMaxEventLoopNanos( FLUSH ) );
+				} )
+		);
+	}
+
+	@Entity(name = "Planet")
+	@Table(name = "Planet")
+	public static class Planet {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Planet() {
+		}
+
+		public Planet(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
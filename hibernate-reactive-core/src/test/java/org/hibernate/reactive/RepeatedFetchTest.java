@@ -0,0 +1,147 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
+/**
+ * Tests that fetching the same association one row at a time, as
+ * many times as specified by {@link Settings#REPEATED_FETCH_THRESHOLD},
+ * is reported, and that fetching it in batches, or using a join
+ * fetch, is not.
+ */
+public class RepeatedFetchTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Book.class );
+		configuration.addAnnotatedClass( Author.class );
+		configuration.addAnnotatedClass( Publisher.class );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+		configuration.setProperty( Settings.REPEATED_FETCH_THRESHOLD, "3" );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> loop( 1, 5, i -> {
+					Author author = new Author( i, "Author " + i );
+					Publisher publisher = new Publisher( i, "Publisher " + i );
+					return s.persist( author, publisher, new Book( i, "Book " + i, author, publisher ) );
+				} ) )
+				.thenAccept( v -> getSessionFactory().getStatistics().clear() )
+		);
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.createQuery( "delete Book" ).executeUpdate()
+						.thenCompose( v -> s.createQuery( "delete Author" ).executeUpdate() )
+						.thenCompose( v -> s.createQuery( "delete Publisher" ).executeUpdate() ) ) );
+	}
+
+	@Test
+	public void testFetchOneAtATime(TestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s.createQuery( "from Book order by id", Book.class ).getResultList()
+						.thenCompose( books -> loop( books, book -> s.fetch( book.author ) ) ) )
+				.thenAccept( v -> context.assertEquals( 1L, getSessionFactory().getStatistics().getRepeatedFetchCount() ) )
+		);
+	}
+
+	@Test
+	public void testFetchInBatches(TestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s.createQuery( "from Book order by id", Book.class ).getResultList()
+						.thenCompose( books -> loop( books, book -> s.fetch( book.publisher ) ) ) )
+				.thenAccept( v -> context.assertEquals( 0L, getSessionFactory().getStatistics().getRepeatedFetchCount() ) )
+		);
+	}
+
+	@Test
+	public void testJoinFetch(TestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s.createQuery( "from Book b join fetch b.author order by b.id", Book.class ).getResultList()
+						.thenCompose( books -> loop( books, book -> s.fetch( book.author ) ) ) )
+				.thenAccept( v -> context.assertEquals( 0L, getSessionFactory().getStatistics().getRepeatedFetchCount() ) )
+		);
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "RF_Book")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Author author;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Publisher publisher;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author, Publisher publisher) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+			this.publisher = publisher;
+		}
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "RF_Author")
+	public static class Author {
+		@Id
+		Integer id;
+		String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Publisher")
+	@Table(name = "RF_Publisher")
+	@BatchSize(size = 10)
+	public static class Publisher {
+		@Id
+		Integer id;
+		String name;
+
+		public Publisher() {
+		}
+
+		public Publisher(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Tests that a session fails once it exceeds the round trip budget
+ * specified by {@link Settings#ROUND_TRIP_BUDGET}.
+ */
+public class RoundTripBudgetTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Comet.class );
+		// so that populating the database takes a single round trip
+		configuration.setProperty( Settings.STATEMENT_BATCH_SIZE, "5" );
+		configuration.setProperty( Settings.ROUND_TRIP_BUDGET, "2" );
+		configuration.setProperty( Settings.ROUND_TRIP_BUDGET_ACTION, "fail" );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist( new Comet( 1, "Halley" ), new Comet( 2, "Encke" ), new Comet( 3, "Biela" ) ) ) );
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s.createQuery( "delete Comet" ).executeUpdate() ) );
+	}
+
+	@Test
+	public void testWithinBudget(TestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s.find( Comet.class, 1 )
+						.thenCompose( v -> s.find( Comet.class, 2 ) ) )
+				.thenAccept( comet -> context.assertEquals( "Encke", comet.name ) )
+		);
+	}
+
+	@Test
+	public void testBudgetExceeded(TestContext context) {
+		test( context, getSessionFactory()
+				.withSession( s -> s.find( Comet.class, 1 )
+						.thenCompose( v -> s.find( Comet.class, 2 ) )
+						.thenCompose( v -> s.find( Comet.class, 3 ) ) )
+				.handle( (comet, failure) -> {
+					context.assertNull( comet );
+					context.assertNotNull( failure );
+					context.assertTrue( isBudgetExceeded( failure ) );
+					return null;
+				} )
+		);
+	}
+
+	private static boolean isBudgetExceeded(Throwable failure) {
+		for ( Throwable cause = failure; cause != null; cause = cause.getCause() ) {
+			if ( cause instanceof HibernateException && cause.getMessage().contains( "HRX000026" ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Entity(name = "Comet")
+	@Table(name = "Comet")
+	public static class Comet {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Comet() {
+		}
+
+		public Comet(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
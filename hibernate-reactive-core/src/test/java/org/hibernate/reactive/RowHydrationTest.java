@@ -0,0 +1,255 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Inheritance;
+import javax.persistence.InheritanceType;
+import javax.persistence.MappedSuperclass;
+import javax.persistence.SecondaryTable;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.cfg.Configuration;
+
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Tests the hydration of entities with basic properties of every type
+ * read directly from the value returned by the Vert.x driver, for each
+ * inheritance strategy, and for an entity with a secondary table that
+ * is fetched by a sequential select, which is hydrated by the
+ * {@code Type}s of its properties instead.
+ *
+ * @see org.hibernate.reactive.persister.entity.impl.RowHydrationPlan
+ */
+public class RowHydrationTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( SingleTableRoot.class );
+		configuration.addAnnotatedClass( SingleTableChild.class );
+		configuration.addAnnotatedClass( JoinedRoot.class );
+		configuration.addAnnotatedClass( JoinedChild.class );
+		configuration.addAnnotatedClass( UnionRoot.class );
+		configuration.addAnnotatedClass( UnionChild.class );
+		configuration.addAnnotatedClass( SequentialSelect.class );
+		return configuration;
+	}
+
+	@Test
+	public void testSingleTable(TestContext context) {
+		SingleTableChild child = new SingleTableChild( 2, "single" );
+		test( context, persistAndLoad( context, SingleTableRoot.class, new SingleTableRoot( 1 ), child )
+				.thenAccept( list -> context.assertEquals( "single", ( (SingleTableChild) list.get( 1 ) ).label ) )
+		);
+	}
+
+	@Test
+	public void testJoined(TestContext context) {
+		JoinedChild child = new JoinedChild( 2, "joined" );
+		test( context, persistAndLoad( context, JoinedRoot.class, new JoinedRoot( 1 ), child )
+				.thenAccept( list -> context.assertEquals( "joined", ( (JoinedChild) list.get( 1 ) ).label ) )
+		);
+	}
+
+	@Test
+	public void testUnion(TestContext context) {
+		UnionChild child = new UnionChild( 2, "union" );
+		test( context, persistAndLoad( context, UnionRoot.class, new UnionRoot( 1 ), child )
+				.thenAccept( list -> context.assertEquals( "union", ( (UnionChild) list.get( 1 ) ).label ) )
+		);
+	}
+
+	@Test
+	public void testSequentialSelect(TestContext context) {
+		SequentialSelect entity = new SequentialSelect( 1, "sequential" );
+		test( context, persistAndLoad( context, SequentialSelect.class, entity )
+				.thenAccept( list -> context.assertEquals( "sequential", list.get( 0 ).label ) )
+		);
+	}
+
+	/**
+	 * Persist the given entities, with ascending ids, and check that
+	 * they're loaded correctly both by id and by a query.
+	 *
+	 * @return the entities loaded by the query
+	 */
+	@SafeVarargs
+	private final <T extends Basics> CompletionStage<List<T>> persistAndLoad(
+			TestContext context,
+			Class<T> entityClass,
+			T... entities) {
+		Object[] ids = new Object[entities.length];
+		for ( int i = 0; i < entities.length; i++ ) {
+			ids[i] = entities[i].id;
+		}
+		return getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( (Object[]) entities ) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( entityClass, ids ) ) )
+				.thenAccept( list -> assertBasics( context, entities, list ) )
+				.thenCompose( v -> getSessionFactory().withSession(
+						s -> s.createQuery( "from " + entityClass.getSimpleName() + " order by id", entityClass )
+								.getResultList()
+				) )
+				.thenApply( list -> {
+					assertBasics( context, entities, list );
+					return list;
+				} );
+	}
+
+	private static void assertBasics(TestContext context, Basics[] expected, List<? extends Basics> actual) {
+		context.assertEquals( expected.length, actual.size() );
+		for ( int i = 0; i < expected.length; i++ ) {
+			Basics loaded = actual.get( i );
+			context.assertEquals( expected[i].getClass(), loaded.getClass() );
+			context.assertEquals( expected[i].id, loaded.id );
+			context.assertEquals( expected[i].aLong, loaded.aLong );
+			context.assertEquals( expected[i].anInteger, loaded.anInteger );
+			context.assertEquals( expected[i].aShort, loaded.aShort );
+			context.assertEquals( expected[i].aDouble, loaded.aDouble );
+			context.assertEquals( expected[i].aFloat, loaded.aFloat );
+			context.assertEquals( 0, expected[i].aBigDecimal.compareTo( loaded.aBigDecimal ) );
+			context.assertEquals( expected[i].aBoolean, loaded.aBoolean );
+			context.assertEquals( expected[i].aString, loaded.aString );
+			context.assertNull( loaded.nothing );
+		}
+	}
+
+	@MappedSuperclass
+	public abstract static class Basics {
+		@Id
+		Integer id;
+
+		Long aLong;
+		Integer anInteger;
+		Short aShort;
+		Double aDouble;
+		Float aFloat;
+		BigDecimal aBigDecimal;
+		Boolean aBoolean;
+		String aString;
+		// always null
+		String nothing;
+
+		Basics() {
+		}
+
+		Basics(Integer id) {
+			this.id = id;
+			this.aLong = 12345678901L * id;
+			this.anInteger = -42 * id;
+			this.aShort = (short) ( 7 * id );
+			this.aDouble = 1.5 * id;
+			this.aFloat = 0.25f * id;
+			this.aBigDecimal = new BigDecimal( "123.45" ).multiply( BigDecimal.valueOf( id ) );
+			this.aBoolean = id % 2 == 0;
+			this.aString = "Basics #" + id;
+		}
+	}
+
+	@Entity(name = "SingleTableRoot")
+	@Table(name = "hydration_single")
+	@Inheritance(strategy = InheritanceType.SINGLE_TABLE)
+	public static class SingleTableRoot extends Basics {
+		public SingleTableRoot() {
+		}
+
+		public SingleTableRoot(Integer id) {
+			super( id );
+		}
+	}
+
+	@Entity(name = "SingleTableChild")
+	public static class SingleTableChild extends SingleTableRoot {
+		String label;
+
+		public SingleTableChild() {
+		}
+
+		public SingleTableChild(Integer id, String label) {
+			super( id );
+			this.label = label;
+		}
+	}
+
+	@Entity(name = "JoinedRoot")
+	@Table(name = "hydration_joined")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class JoinedRoot extends Basics {
+		public JoinedRoot() {
+		}
+
+		public JoinedRoot(Integer id) {
+			super( id );
+		}
+	}
+
+	@Entity(name = "JoinedChild")
+	@Table(name = "hydration_joined_child")
+	public static class JoinedChild extends JoinedRoot {
+		String label;
+
+		public JoinedChild() {
+		}
+
+		public JoinedChild(Integer id, String label) {
+			super( id );
+			this.label = label;
+		}
+	}
+
+	@Entity(name = "UnionRoot")
+	@Table(name = "hydration_union")
+	@Inheritance(strategy = InheritanceType.TABLE_PER_CLASS)
+	public static class UnionRoot extends Basics {
+		public UnionRoot() {
+		}
+
+		public UnionRoot(Integer id) {
+			super( id );
+		}
+	}
+
+	@Entity(name = "UnionChild")
+	@Table(name = "hydration_union_child")
+	public static class UnionChild extends UnionRoot {
+		String label;
+
+		public UnionChild() {
+		}
+
+		public UnionChild(Integer id, String label) {
+			super( id );
+			this.label = label;
+		}
+	}
+
+	@Entity(name = "SequentialSelect")
+	@Table(name = "hydration_sequential")
+	@SecondaryTable(name = "hydration_sequential_extra")
+	@org.hibernate.annotations.Table(appliesTo = "hydration_sequential_extra", fetch = FetchMode.SELECT)
+	public static class SequentialSelect extends Basics {
+		@Column(table = "hydration_sequential_extra")
+		String label;
+
+		public SequentialSelect() {
+		}
+
+		public SequentialSelect(Integer id, String label) {
+			super( id );
+			this.label = label;
+		}
+	}
+}
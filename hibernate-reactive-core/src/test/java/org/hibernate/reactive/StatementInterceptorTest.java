@@ -0,0 +1,169 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.pool.StatementInterceptor;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Tests that a {@link StatementInterceptor} specified by
+ * {@link Settings#STATEMENT_INTERCEPTORS} sees the statements and
+ * batches executed by a session.
+ */
+public class StatementInterceptorTest extends BaseReactiveTest {
+
+	private static final String UNBATCHED = "testUnbatchedInsert";
+
+	@Rule
+	public TestName testName = new TestName();
+
+	private final RecordingInterceptor interceptor = new RecordingInterceptor();
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Moon.class );
+		if ( !UNBATCHED.equals( testName.getMethodName() ) ) {
+			configuration.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, "5" );
+		}
+		configuration.getProperties().put( Settings.STATEMENT_INTERCEPTORS, interceptor );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.createQuery( "delete Moon" ).executeUpdate() ) );
+	}
+
+	@Test
+	public void testBatchAndQuery(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist( new Moon( 1, "Io" ), new Moon( 2, "Europa" ), new Moon( 3, "Ganymede" ) ) )
+				.thenRun( interceptor::clear )
+				.thenCompose( v -> getSessionFactory().withTransaction(
+						(s, tx) -> s.createQuery( "from Moon", Moon.class ).getResultList()
+				) )
+				.thenAccept( moons -> {
+					context.assertEquals( 3, moons.size() );
+					context.assertEquals( 1, interceptor.after.size() );
+					Call call = interceptor.after.get( 0 );
+					context.assertTrue( call.sql.toLowerCase().startsWith( "select" ) );
+					context.assertEquals( 1, call.batchSize );
+					context.assertEquals( 3, call.rowCount );
+					context.assertEquals( 1, call.transactionNumber );
+					context.assertNotNull( call.sessionIdentifier );
+					context.assertNull( call.failure );
+				} )
+		);
+	}
+
+	@Test
+	public void testBatch(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist( new Moon( 1, "Io" ), new Moon( 2, "Europa" ), new Moon( 3, "Ganymede" ) ) )
+				.thenRun( () -> {
+					context.assertEquals( interceptor.before, interceptor.contexts );
+					context.assertEquals( 1, interceptor.after.size() );
+					Call call = interceptor.after.get( 0 );
+					context.assertTrue( call.sql.toLowerCase().startsWith( "insert" ) );
+					context.assertEquals( 3, call.batchSize );
+					context.assertEquals( 2, call.parameterCount );
+					context.assertEquals( 3, call.rowCount );
+				} )
+		);
+	}
+
+	@Test
+	public void testUnbatchedInsert(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist( new Moon( 1, "Io" ) ) )
+				.thenRun( () -> {
+					context.assertEquals( 1, interceptor.after.size() );
+					Call call = interceptor.after.get( 0 );
+					context.assertTrue( call.sql.toLowerCase().startsWith( "insert" ) );
+					context.assertEquals( 1, call.batchSize );
+					// reported to the Expectation, and not as the result
+					context.assertEquals( 1, call.rowCount );
+					context.assertNull( call.failure );
+				} )
+		);
+	}
+
+	private static class Call {
+		String sql;
+		int parameterCount;
+		int batchSize;
+		int rowCount;
+		int transactionNumber;
+		Object sessionIdentifier;
+		Throwable failure;
+	}
+
+	public static class RecordingInterceptor implements StatementInterceptor {
+		final List<Object> before = new ArrayList<>();
+		final List<Object> contexts = new ArrayList<>();
+		final List<Call> after = new ArrayList<>();
+
+		@Override
+		public Object beforeStatement(Statement statement) {
+			Object context = new Object();
+			before.add( context );
+			return context;
+		}
+
+		@Override
+		public void afterStatement(Statement statement, Object context, int rowCount, Throwable failure, long nanos) {
+			Call call = new Call();
+			call.sql = statement.getSql();
+			call.parameterCount = statement.getParameterCount();
+			call.batchSize = statement.getBatchSize();
+			call.rowCount = rowCount;
+			call.transactionNumber = statement.getTransactionNumber();
+			call.sessionIdentifier = statement.getSessionIdentifier();
+			call.failure = failure;
+			contexts.add( context );
+			after.add( call );
+		}
+
+		void clear() {
+			before.clear();
+			contexts.clear();
+			after.clear();
+		}
+	}
+
+	@Entity(name = "Moon")
+	@Table(name = "Moon")
+	public static class Moon {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Moon() {
+		}
+
+		public Moon(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,338 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Session;
+import org.hibernate.bytecode.enhance.spi.CollectionTracker;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.reactive.engine.TrackedDirtinessStrategy;
+import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Tests flushing entities whose modifications are tracked, by a
+ * {@link TrackedDirtinessStrategy} or by bytecode enhancement, for
+ * which the flush only visits the entities known to be modified.
+ */
+public class TrackedDirtinessFlushTest extends BaseReactiveTest {
+
+	// the tests of enhanced entities run without a dirtiness strategy
+	private static final String ENHANCED = "testEnhanced";
+
+	@Rule
+	public TestName testName = new TestName();
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Tracked.class );
+		configuration.addAnnotatedClass( SelfTracked.class );
+		if ( !testName.getMethodName().startsWith( ENHANCED ) ) {
+			configuration.getProperties().put( AvailableSettings.CUSTOM_ENTITY_DIRTINESS_STRATEGY, new SetterDirtinessStrategy() );
+		}
+		return configuration;
+	}
+
+	@Test
+	public void testFlushModifiedEntity(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist(
+						new Tracked( 1, "one" ),
+						new Tracked( 2, "two" ),
+						new Tracked( 3, "three" )
+				) )
+				.thenCompose( v -> getSessionFactory().withSession(
+						s -> s.find( Tracked.class, 1, 2, 3 )
+								.thenCompose( list -> {
+									SetterDirtinessStrategy.CHECKED.clear();
+									list.get( 1 ).setName( "deux" );
+									return s.flush();
+								} )
+								// the unmodified entities are never asked if they're dirty
+								.thenAccept( vv -> context.assertEquals(
+										Collections.singletonList( 2 ),
+										new ArrayList<>( SetterDirtinessStrategy.CHECKED )
+								) )
+				) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Tracked.class, 1, 2, 3 ) ) )
+				.thenAccept( list -> {
+					context.assertEquals( "one", list.get( 0 ).name );
+					context.assertEquals( "deux", list.get( 1 ).name );
+					context.assertEquals( "three", list.get( 2 ).name );
+					context.assertFalse( list.get( 1 ).dirty );
+				} )
+		);
+	}
+
+	@Test
+	public void testFlushUnmodifiedEntities(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( new Tracked( 1, "one" ), new Tracked( 2, "two" ) ) )
+				.thenCompose( v -> getSessionFactory().withSession(
+						s -> s.find( Tracked.class, 1, 2 )
+								.thenCompose( list -> {
+									SetterDirtinessStrategy.CHECKED.clear();
+									return s.flush();
+								} )
+								.thenAccept( vv -> context.assertTrue( SetterDirtinessStrategy.CHECKED.isEmpty() ) )
+				) )
+		);
+	}
+
+	@Test
+	public void testFlushEntityPersistedInSameSession(TestContext context) {
+		Tracked tracked = new Tracked( 1, "one" );
+		test( context, getSessionFactory()
+				.withSession( s -> s.persist( tracked )
+						.thenCompose( v -> s.flush() )
+						.thenCompose( v -> {
+							tracked.setName( "un" );
+							return s.flush();
+						} )
+				)
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Tracked.class, 1 ) ) )
+				.thenAccept( t -> context.assertEquals( "un", t.name ) )
+		);
+	}
+
+	@Test
+	public void testFlushRemovedEntity(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( new Tracked( 1, "one" ) ) )
+				.thenCompose( v -> getSessionFactory().withSession(
+						s -> s.find( Tracked.class, 1 )
+								.thenCompose( s::remove )
+								.thenCompose( vv -> s.flush() )
+				) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Tracked.class, 1 ) ) )
+				.thenAccept( context::assertNull )
+		);
+	}
+
+	@Test
+	public void testFlushTrustsTrackedDirtiness(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( new Tracked( 1, "one" ) ) )
+				.thenCompose( v -> getSessionFactory().withSession(
+						s -> s.find( Tracked.class, 1 )
+								.thenCompose( tracked -> {
+									// bypass the setter, so the change isn't seen
+									tracked.name = "un";
+									return s.flush();
+								} )
+				) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Tracked.class, 1 ) ) )
+				.thenAccept( tracked -> context.assertEquals( "one", tracked.name ) )
+		);
+	}
+
+	@Test
+	public void testEnhancedFlushModifiedEntity(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist(
+						new SelfTracked( 1, "one" ),
+						new SelfTracked( 2, "two" ),
+						new SelfTracked( 3, "three" )
+				) )
+				.thenCompose( v -> getSessionFactory().withSession(
+						s -> s.find( SelfTracked.class, 1, 2, 3 )
+								.thenCompose( list -> {
+									SelfTracked.VISITED.clear();
+									list.get( 1 ).setName( "deux" );
+									return s.flush();
+								} )
+								// the flush only visits the entity with dirty attributes
+								.thenAccept( vv -> context.assertEquals(
+										Collections.singletonList( 2 ),
+										new ArrayList<>( SelfTracked.VISITED )
+								) )
+				) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( SelfTracked.class, 1, 2, 3 ) ) )
+				.thenAccept( list -> {
+					context.assertEquals( "one", list.get( 0 ).name );
+					context.assertEquals( "deux", list.get( 1 ).name );
+					context.assertEquals( "three", list.get( 2 ).name );
+					context.assertFalse( list.get( 1 ).$$_hibernate_hasDirtyAttributes() );
+				} )
+		);
+	}
+
+	@Test
+	public void testEnhancedFlushUnenhancedEntity(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, t) -> s.persist( new Tracked( 1, "one" ), new SelfTracked( 2, "two" ) ) )
+				.thenCompose( v -> getSessionFactory().withSession(
+						// the unenhanced entity is already in the session
+						// when the enhanced one starts the tracking
+						s -> s.find( Tracked.class, 1 )
+								.thenCompose( tracked -> s.find( SelfTracked.class, 2 )
+										.thenCompose( selfTracked -> {
+											SelfTracked.VISITED.clear();
+											tracked.name = "un";
+											return s.flush();
+										} )
+								)
+								.thenAccept( vv -> context.assertTrue( SelfTracked.VISITED.isEmpty() ) )
+				) )
+				.thenCompose( v -> getSessionFactory().withSession( s -> s.find( Tracked.class, 1 ) ) )
+				.thenAccept( tracked -> context.assertEquals( "un", tracked.name ) )
+		);
+	}
+
+	public static class SetterDirtinessStrategy implements TrackedDirtinessStrategy {
+		// the modified entities, of every session
+		static final Set<Tracked> MODIFIED = Collections.synchronizedSet( Collections.newSetFromMap( new IdentityHashMap<>() ) );
+		// the ids of the entities which were asked if they're dirty
+		static final List<Integer> CHECKED = Collections.synchronizedList( new ArrayList<>() );
+
+		@Override
+		public boolean canDirtyCheck(Object entity, EntityPersister persister, Session session) {
+			return entity instanceof Tracked;
+		}
+
+		@Override
+		public boolean isDirty(Object entity, EntityPersister persister, Session session) {
+			CHECKED.add( ( (Tracked) entity ).id );
+			return ( (Tracked) entity ).dirty;
+		}
+
+		@Override
+		public void resetDirty(Object entity, EntityPersister persister, Session session) {
+			( (Tracked) entity ).dirty = false;
+			MODIFIED.remove( entity );
+		}
+
+		@Override
+		public void findDirty(
+				Object entity,
+				EntityPersister persister,
+				Session session,
+				DirtyCheckContext dirtyCheckContext) {
+			// let Hibernate compare the state with the snapshot
+		}
+
+		@Override
+		public Iterable<?> getModifiedEntities(Session session) {
+			synchronized ( MODIFIED ) {
+				return new ArrayList<>( MODIFIED );
+			}
+		}
+	}
+
+	@Entity(name = "Tracked")
+	@Table(name = "tracked_thing")
+	public static class Tracked {
+		@Id
+		Integer id;
+		String name;
+
+		@Transient
+		boolean dirty;
+
+		public Tracked() {
+		}
+
+		public Tracked(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+			this.dirty = true;
+			SetterDirtinessStrategy.MODIFIED.add( this );
+		}
+	}
+
+	/**
+	 * An entity which tracks its own modifications, like one which is
+	 * bytecode enhanced with dirty tracking enabled.
+	 */
+	@Entity(name = "SelfTracked")
+	@Table(name = "self_tracked_thing")
+	public static class SelfTracked implements SelfDirtinessTracker {
+		// the ids of the entities which were asked by a flush
+		// if they're dirty, other than by the persistence context
+		static final List<Integer> VISITED = Collections.synchronizedList( new ArrayList<>() );
+
+		@Id
+		Integer id;
+		String name;
+
+		@Transient
+		Set<String> dirtyAttributes = new HashSet<>();
+		@Transient
+		boolean suspended;
+
+		public SelfTracked() {
+		}
+
+		public SelfTracked(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+			$$_hibernate_trackChange( "name" );
+		}
+
+		@Override
+		public boolean $$_hibernate_hasDirtyAttributes() {
+			String caller = new Throwable().getStackTrace()[1].getClassName();
+			if ( !caller.equals( ReactivePersistenceContextAdapter.class.getName() ) ) {
+				VISITED.add( id );
+			}
+			return !dirtyAttributes.isEmpty();
+		}
+
+		@Override
+		public String[] $$_hibernate_getDirtyAttributes() {
+			return dirtyAttributes.toArray( new String[0] );
+		}
+
+		@Override
+		public void $$_hibernate_trackChange(String attribute) {
+			if ( !suspended ) {
+				dirtyAttributes.add( attribute );
+			}
+		}
+
+		@Override
+		public void $$_hibernate_clearDirtyAttributes() {
+			dirtyAttributes.clear();
+		}
+
+		@Override
+		public void $$_hibernate_suspendDirtyTracking(boolean suspend) {
+			suspended = suspend;
+		}
+
+		@Override
+		public CollectionTracker $$_hibernate_getCollectionTracker() {
+			return null;
+		}
+	}
+}
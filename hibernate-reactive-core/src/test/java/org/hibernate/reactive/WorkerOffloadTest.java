@@ -0,0 +1,153 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.type.Type;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.core.Context;
+import io.vertx.ext.unit.TestContext;
+
+/**
+ * Tests that flushes and hydrations above the thresholds run on a
+ * worker thread, and hand the session back to the event loop, and
+ * that those below the thresholds stay on the event loop.
+ */
+public class WorkerOffloadTest extends BaseReactiveTest {
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.addAnnotatedClass( Asteroid.class );
+		configuration.setProperty( Settings.FLUSH_OFFLOAD_THRESHOLD, "2" );
+		configuration.setProperty( Settings.HYDRATION_OFFLOAD_THRESHOLD, "2" );
+		// records the thread on which each entity is dirty checked
+		configuration.getProperties().put( AvailableSettings.INTERCEPTOR, new DirtyCheckThreadInterceptor() );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.createQuery( "delete Asteroid" ).executeUpdate() ) );
+	}
+
+	@Test
+	public void testOffloadedFlushAndHydration(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist(
+						new Asteroid( 1, "Ceres" ),
+						new Asteroid( 2, "Vesta" ),
+						new Asteroid( 3, "Pallas" )
+				) )
+				.thenCompose( v -> {
+					HYDRATED_ON_WORKER.clear();
+					return getSessionFactory().withTransaction(
+							(s, tx) -> s.createQuery( "from Asteroid", Asteroid.class ).getResultList()
+									.thenCompose( asteroids -> {
+										context.assertTrue( Context.isOnEventLoopThread() );
+										context.assertEquals( Collections.nCopies( 3, true ), new ArrayList<>( HYDRATED_ON_WORKER ) );
+										asteroids.forEach( asteroid -> asteroid.name = asteroid.name.toUpperCase() );
+										DIRTY_CHECKED_ON_WORKER.clear();
+										return s.flush();
+									} )
+									.thenAccept( vv -> {
+										context.assertTrue( Context.isOnEventLoopThread() );
+										context.assertEquals( Collections.nCopies( 3, true ), new ArrayList<>( DIRTY_CHECKED_ON_WORKER ) );
+									} )
+					);
+				} )
+				.thenCompose( v -> getSessionFactory().withSession(
+						s -> s.createQuery( "from Asteroid order by id", Asteroid.class ).getResultList()
+				) )
+				.thenAccept( (List<Asteroid> asteroids) -> {
+					context.assertEquals( 3, asteroids.size() );
+					context.assertEquals( "CERES", asteroids.get( 0 ).name );
+					context.assertEquals( "VESTA", asteroids.get( 1 ).name );
+					context.assertEquals( "PALLAS", asteroids.get( 2 ).name );
+				} )
+		);
+	}
+
+	@Test
+	public void testFlushAndHydrationBelowThreshold(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( (s, tx) -> s.persist( new Asteroid( 1, "Ceres" ) ) )
+				.thenCompose( v -> {
+					HYDRATED_ON_WORKER.clear();
+					return getSessionFactory().withTransaction(
+							(s, tx) -> s.createQuery( "from Asteroid", Asteroid.class ).getSingleResult()
+									.thenCompose( asteroid -> {
+										context.assertEquals( Collections.singletonList( false ), new ArrayList<>( HYDRATED_ON_WORKER ) );
+										asteroid.name = asteroid.name.toUpperCase();
+										DIRTY_CHECKED_ON_WORKER.clear();
+										return s.flush();
+									} )
+									.thenAccept( vv -> context.assertEquals(
+											Collections.singletonList( false ),
+											new ArrayList<>( DIRTY_CHECKED_ON_WORKER )
+									) )
+					);
+				} )
+				.thenCompose( v -> getSessionFactory().withSession(
+						s -> s.createQuery( "from Asteroid", Asteroid.class ).getSingleResult()
+				) )
+				.thenAccept( asteroid -> context.assertEquals( "CERES", asteroid.name ) )
+		);
+	}
+
+	// for each entity which was hydrated, whether it was on a worker thread
+	static final List<Boolean> HYDRATED_ON_WORKER = Collections.synchronizedList( new ArrayList<>() );
+	// for each entity which was dirty checked, whether it was on a worker thread
+	static final List<Boolean> DIRTY_CHECKED_ON_WORKER = Collections.synchronizedList( new ArrayList<>() );
+
+	public static class DirtyCheckThreadInterceptor extends EmptyInterceptor {
+		@Override
+		public int[] findDirty(
+				Object entity,
+				Serializable id,
+				Object[] currentState,
+				Object[] previousState,
+				String[] propertyNames,
+				Type[] types) {
+			DIRTY_CHECKED_ON_WORKER.add( Context.isOnWorkerThread() );
+			return null;
+		}
+	}
+
+	@Entity(name = "Asteroid")
+	@Table(name = "Asteroid")
+	public static class Asteroid {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Asteroid() {
+			// only called by Hibernate, when it hydrates an entity
+			HYDRATED_ON_WORKER.add( Context.isOnWorkerThread() );
+		}
+
+		public Asteroid(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
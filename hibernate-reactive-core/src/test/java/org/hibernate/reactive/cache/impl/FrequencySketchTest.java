@@ -0,0 +1,54 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FrequencySketchTest {
+
+	@Test
+	public void unusedKeyHasNoFrequency() {
+		FrequencySketch sketch = new FrequencySketch( 1024 );
+		assertThat( sketch.frequency( "key" ) ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void incrementCountsUses() {
+		FrequencySketch sketch = new FrequencySketch( 1024 );
+		for ( int i = 0; i < 5; i++ ) {
+			sketch.increment( "key" );
+		}
+		sketch.increment( "other" );
+		assertThat( sketch.frequency( "key" ) ).isEqualTo( 5 );
+		assertThat( sketch.frequency( "other" ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void frequencyIsAtMostFifteen() {
+		FrequencySketch sketch = new FrequencySketch( 1024 );
+		for ( int i = 0; i < 100; i++ ) {
+			sketch.increment( "key" );
+		}
+		assertThat( sketch.frequency( "key" ) ).isEqualTo( 15 );
+	}
+
+	@Test
+	public void resetHalvesFrequencies() {
+		FrequencySketch sketch = new FrequencySketch( 16 );
+		for ( int i = 0; i < 10; i++ ) {
+			sketch.increment( "key" );
+		}
+		assertThat( sketch.frequency( "key" ) ).isEqualTo( 10 );
+		// the sample size of a sketch with 16 slots is 160
+		// increments, after which every counter is halved
+		for ( int i = 0; i < 150; i++ ) {
+			sketch.increment( "other" + i );
+		}
+		assertThat( sketch.frequency( "key" ) ).isBetween( 5, 7 );
+	}
+}
@@ -0,0 +1,162 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.cache.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import io.vertx.core.Vertx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.cache.impl.OffHeapStorageAccess.CHUNK_SIZE;
+
+/**
+ * Tests the admission and eviction policy of {@link OffHeapStorageAccess},
+ * with a single segment of 100 chunks: a window of one chunk, and a main
+ * space of 99 chunks. Each small value fits in a single chunk.
+ */
+public class OffHeapStorageAccessTest {
+
+	private static final int ENTRIES = 100;
+
+	private final OffHeapStorageAccess storage = new OffHeapStorageAccess( ENTRIES * CHUNK_SIZE, 100, 1 );
+
+	/**
+	 * Fill the segment: "k99" is in the window, "k0" to "k98" are in
+	 * the main space, in LRU order.
+	 */
+	private void fill() {
+		for ( int i = 0; i < ENTRIES; i++ ) {
+			storage.putIntoCache( "k" + i, "value" + i, null );
+		}
+		for ( int i = 0; i < ENTRIES; i++ ) {
+			assertThat( storage.contains( "k" + i ) ).isTrue();
+		}
+	}
+
+	@Test
+	public void readValues() {
+		String large = new String( new char[3 * CHUNK_SIZE] ).replace( '\0', 'x' );
+		storage.putIntoCache( "small", "value", null );
+		storage.putIntoCache( "large", large, null );
+		assertThat( storage.getFromCache( "small", null ) ).isEqualTo( "value" );
+		assertThat( storage.getFromCache( "large", null ) ).isEqualTo( large );
+
+		storage.putIntoCache( "large", "replaced", null );
+		assertThat( storage.getFromCache( "large", null ) ).isEqualTo( "replaced" );
+
+		storage.evictData( "small" );
+		assertThat( storage.getFromCache( "small", null ) ).isNull();
+		assertThat( storage.contains( "small" ) ).isFalse();
+	}
+
+	@Test
+	public void reuseMemoryOfRemovedEntries() {
+		// many more values than fit, each replacing the last
+		for ( int i = 0; i < 10 * ENTRIES; i++ ) {
+			storage.putIntoCache( "key", "value" + i, null );
+			assertThat( storage.getFromCache( "key", null ) ).isEqualTo( "value" + i );
+		}
+		storage.evictData();
+		fill();
+	}
+
+	@Test
+	public void evictLeastRecentlyUsed() {
+		fill();
+		storage.getFromCache( "k0", null );
+		for ( int i = 0; i < 5; i++ ) {
+			storage.getFromCache( "k99", null );
+		}
+
+		// pushes the frequently used k99 out of the window
+		storage.putIntoCache( "new", "value", null );
+
+		assertThat( storage.contains( "new" ) ).isTrue();
+		assertThat( storage.contains( "k99" ) ).isTrue();
+		// k0 was used recently, so k1 is evicted instead
+		assertThat( storage.contains( "k0" ) ).isTrue();
+		assertThat( storage.contains( "k1" ) ).isFalse();
+		for ( int i = 2; i < ENTRIES - 1; i++ ) {
+			assertThat( storage.contains( "k" + i ) ).isTrue();
+		}
+	}
+
+	@Test
+	public void rejectInfrequentCandidate() {
+		fill();
+		for ( int i = 0; i < ENTRIES - 1; i++ ) {
+			storage.getFromCache( "k" + i, null );
+			storage.getFromCache( "k" + i, null );
+		}
+
+		// pushes k99, which is used less often than anything in the main space
+		storage.putIntoCache( "new", "value", null );
+
+		assertThat( storage.contains( "new" ) ).isTrue();
+		assertThat( storage.contains( "k99" ) ).isFalse();
+		for ( int i = 0; i < ENTRIES - 1; i++ ) {
+			assertThat( storage.contains( "k" + i ) ).isTrue();
+		}
+	}
+
+	@Test
+	public void evictNothingWhenCandidateIsRejected() {
+		// a miss counts as a use, but leaves k1 in its place in LRU order
+		for ( int i = 0; i < 10; i++ ) {
+			storage.getFromCache( "k1", null );
+		}
+		for ( int i = 0; i < 5; i++ ) {
+			storage.getFromCache( "big", null );
+		}
+		fill();
+
+		// a value of two chunks, which would displace both k0 and k1,
+		// and is used more often than k0, but less often than k1
+		storage.putIntoCache( "big", new String( new char[CHUNK_SIZE + 1] ).replace( '\0', 'x' ), null );
+
+		assertThat( storage.contains( "big" ) ).isFalse();
+		assertThat( storage.contains( "k0" ) ).isTrue();
+		assertThat( storage.contains( "k1" ) ).isTrue();
+	}
+
+	@Test
+	public void countLocalHits() throws Exception {
+		Vertx vertx = Vertx.vertx();
+		try {
+			CompletableFuture<Void> done = new CompletableFuture<>();
+			vertx.runOnContext( v -> {
+				try {
+					fill();
+					for ( int i = 0; i < ENTRIES - 1; i++ ) {
+						// the second read is a hit on the local map of the event loop
+						storage.getFromCache( "k" + i, null );
+						storage.getFromCache( "k" + i, null );
+					}
+					for ( int i = 0; i < 2 * ENTRIES; i++ ) {
+						assertThat( storage.getFromCache( "k99", null ) ).isEqualTo( "value99" );
+					}
+
+					// k99 is admitted only if its local hits were counted
+					storage.putIntoCache( "new", "value", null );
+
+					assertThat( storage.contains( "k99" ) ).isTrue();
+					assertThat( storage.contains( "k0" ) ).isFalse();
+					done.complete( null );
+				}
+				catch (Throwable e) {
+					done.completeExceptionally( e );
+				}
+			} );
+			done.get( 10, TimeUnit.SECONDS );
+		}
+		finally {
+			vertx.close();
+		}
+	}
+}
@@ -0,0 +1,89 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.jfr;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.JarFile;
+
+import org.hibernate.reactive.jfr.impl.ReactiveEvents;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Checks that the implementation of {@link ReactiveEvents} for Java 11,
+ * as packaged in the multi-release jar, declares the same methods as
+ * the no-op implementation for Java 8 that we compile against.
+ * <p>
+ * The build passes the location of the jar in the system property
+ * {@code hibernate.reactive.jar}, but only when it's able to compile
+ * the classes for Java 11.
+ */
+public class ReactiveEventsTest {
+
+	private static final String REACTIVE_EVENTS = ReactiveEvents.class.getName();
+
+	private File jar;
+
+	@Before
+	public void findJar() {
+		String path = System.getProperty( "hibernate.reactive.jar" );
+		assumeTrue( "The jar doesn't contain the classes for Java 11", path != null );
+		assumeTrue( "The classes for Java 11 can't be loaded by Java 8", !System.getProperty( "java.specification.version" ).startsWith( "1." ) );
+		jar = new File( path );
+	}
+
+	@Test
+	public void testJarIsMultiRelease() throws Exception {
+		try ( JarFile jarFile = new JarFile( jar ) ) {
+			assertThat( jarFile.getManifest().getMainAttributes().getValue( "Multi-Release" ) )
+					.isEqualTo( "true" );
+			assertThat( jarFile.getEntry( "META-INF/versions/11/" + REACTIVE_EVENTS.replace( '.', '/' ) + ".class" ) )
+					.isNotNull();
+		}
+	}
+
+	@Test
+	public void testSameMethods() throws Exception {
+		// the parent is the platform class loader, which sees jdk.jfr
+		try ( URLClassLoader loader = new URLClassLoader( new URL[] { jar.toURI().toURL() }, ClassLoader.getSystemClassLoader().getParent() ) ) {
+			Class<?> packaged = Class.forName( REACTIVE_EVENTS, true, loader );
+
+			// we really loaded the implementation for Java 11
+			assertThat( packaged.getDeclaredFields() ).isNotEmpty();
+			assertThat( signatures( packaged ) ).isEqualTo( signatures( ReactiveEvents.class ) );
+
+			// and no recording is running, so the events are disabled
+			for ( Method method : packaged.getMethods() ) {
+				if ( method.getName().startsWith( "begin" ) ) {
+					assertThat( method.invoke( null ) ).as( method.getName() ).isNull();
+				}
+			}
+		}
+	}
+
+	private static Set<String> signatures(Class<?> type) {
+		Set<String> signatures = new TreeSet<>();
+		for ( Method method : type.getDeclaredMethods() ) {
+			if ( Modifier.isPublic( method.getModifiers() ) ) {
+				signatures.add( Modifier.toString( method.getModifiers() ) + " "
+						+ method.getReturnType().getName() + " " + method.getName()
+						+ Arrays.toString( Arrays.stream( method.getParameterTypes() ).map( Class::getName ).toArray() ) );
+			}
+		}
+		return signatures;
+	}
+}
@@ -0,0 +1,135 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.internal.FormatStyle;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.Test;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.sqlclient.Tuple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SlowStatementLogTest {
+
+	private static final String SELECT = "select name from Person where id = $1";
+	private static final String UPDATE = "update Person set name = $1 where id = $2";
+
+	private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos( 1 );
+
+	@Test
+	public void disabledWithoutThreshold() {
+		assertThat( new SlowStatementLog( 0, 0, 0, 64, true, false ).isEnabled() ).isFalse();
+		assertThat( new SlowStatementLog( 100, 0, 0, 64, true, false ).isEnabled() ).isTrue();
+		assertThat( new SlowStatementLog( 0, 100, 0, 64, true, false ).isEnabled() ).isTrue();
+	}
+
+	@Test
+	public void queriesHaveTheirOwnThreshold() {
+		SlowStatementLog log = new SlowStatementLog( 100, 500, 0, 64, true, false );
+		assertThat( log.threshold( UPDATE ) ).isEqualTo( 100 * MILLIS );
+		assertThat( log.threshold( SELECT ) ).isEqualTo( 500 * MILLIS );
+		assertThat( log.threshold( "  WITH x as (select 1) select * from x" ) ).isEqualTo( 500 * MILLIS );
+		assertThat( log.threshold( "insert into Person values ($1, $2)" ) ).isEqualTo( 100 * MILLIS );
+	}
+
+	@Test
+	public void sampleParameters() {
+		assertThat( new SlowStatementLog( 100, 100, 0, 64, true, false ).sampleParameters() ).isFalse();
+		assertThat( new SlowStatementLog( 100, 100, 1, 64, true, false ).sampleParameters() ).isTrue();
+
+		SlowStatementLog log = new SlowStatementLog( 100, 100, 0.5, 64, true, false );
+		int sampled = 0;
+		for ( int i = 0; i < 10_000; i++ ) {
+			if ( log.sampleParameters() ) {
+				sampled++;
+			}
+		}
+		assertThat( sampled ).isBetween( 4_000, 6_000 );
+	}
+
+	@Test
+	public void message() {
+		SlowStatementLog log = new SlowStatementLog( 100, 100, 1, 64, true, false );
+		assertThat( log.message( UPDATE, null, 1, 250 * MILLIS, 100 * MILLIS, null, new FormattedSql( 10 ) ) )
+				.isEqualTo( "HRX000024: Slow statement took 250ms (threshold 100ms): " + UPDATE );
+		assertThat( log.message( UPDATE, null, 3, 250 * MILLIS, 100 * MILLIS, new RuntimeException(), new FormattedSql( 10 ) ) )
+				.isEqualTo( "HRX000024: Slow failed statement took 250ms (threshold 100ms) for a batch of 3: " + UPDATE );
+	}
+
+	@Test
+	public void maskEveryParameter() {
+		SlowStatementLog log = new SlowStatementLog( 100, 100, 1, 64, true, false );
+		Tuple parameters = Tuple.of( "secret", 42, Buffer.buffer( "bytes" ) )
+				.addValue( Arrays.asList( 1, 2 ) )
+				.addValue( null );
+		assertThat( log.message( UPDATE, parameters, 1, 250 * MILLIS, 100 * MILLIS, null, new FormattedSql( 10 ) ) )
+				.endsWith( " [parameters: <text of length 6>, <Integer>, <binary>, <list of size 2>, null]" )
+				.doesNotContain( "secret" )
+				.doesNotContain( "42" );
+	}
+
+	@Test
+	public void truncateUnmaskedParameters() {
+		SlowStatementLog log = new SlowStatementLog( 100, 100, 1, 4, false, false );
+		Tuple parameters = Tuple.of( "secret", 123456789, "abc", new byte[] { 1, 2 } );
+		assertThat( log.message( UPDATE, parameters, 1, 250 * MILLIS, 100 * MILLIS, null, new FormattedSql( 10 ) ) )
+				.endsWith( " [parameters: 'secr...', 1234..., 'abc', <binary>]" );
+	}
+
+	@Test
+	public void formatStatement() {
+		String formatted = FormatStyle.BASIC.getFormatter().format( SELECT );
+		assertThat( formatted ).isNotEqualTo( SELECT );
+		assertThat( new SlowStatementLog( 100, 100, 0, 64, true, true )
+							.message( SELECT, null, 1, 250 * MILLIS, 100 * MILLIS, null, new FormattedSql( 10 ) ) )
+				.endsWith( ": " + formatted );
+		assertThat( new SlowStatementLog( 100, 100, 0, 64, true, false )
+							.message( SELECT, null, 1, 250 * MILLIS, 100 * MILLIS, null, new FormattedSql( 10 ) ) )
+				.endsWith( ": " + SELECT );
+	}
+
+	@Test
+	public void formattedSqlIsCached() {
+		FormattedSql formattedSql = new FormattedSql( 10 );
+		String formatted = formattedSql.format( SELECT );
+		assertThat( formatted ).isEqualTo( FormatStyle.BASIC.getFormatter().format( SELECT ) );
+		assertThat( formattedSql.format( SELECT ) ).isSameAs( formatted );
+	}
+
+	@Test
+	public void formattedSqlEvictsLeastRecentlyUsed() {
+		FormattedSql formattedSql = new FormattedSql( 2 );
+		String select = formattedSql.format( SELECT );
+		String update = formattedSql.format( UPDATE );
+		// now the update is the least recently used
+		assertThat( formattedSql.format( SELECT ) ).isSameAs( select );
+		formattedSql.format( "delete from Person" );
+		assertThat( formattedSql.size() ).isEqualTo( 2 );
+		assertThat( formattedSql.format( SELECT ) ).isSameAs( select );
+		assertThat( formattedSql.format( UPDATE ) ).isNotSameAs( update );
+	}
+
+	@Test
+	public void invalidSampleRate() {
+		for ( Object sampleRate : Arrays.asList( "often", "1.5", -0.1, "NaN" ) ) {
+			Map<String, Object> settings = new HashMap<>();
+			settings.put( Settings.SLOW_STATEMENT_PARAMETER_SAMPLE_RATE, sampleRate );
+			assertThatThrownBy( () -> SlowStatementLogInitiator.INSTANCE.initiateService( settings, null ) )
+					.isInstanceOf( HibernateException.class )
+					.hasMessageContaining( Settings.SLOW_STATEMENT_PARAMETER_SAMPLE_RATE );
+		}
+	}
+}
@@ -0,0 +1,115 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.util;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.reactive.util.impl.CompletionStages;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+public class CompletionStagesTest {
+
+	private static final int MANY = 100_000;
+
+	@Test
+	public void loopOverCompletedStages() {
+		List<Integer> visited = new ArrayList<>();
+		CompletionStage<Void> loop = CompletionStages.loop( 0, MANY, i -> {
+			visited.add( i );
+			return voidFuture();
+		} );
+
+		assertThat( loop.toCompletableFuture().isDone() ).isTrue();
+		assertThat( visited ).hasSize( MANY );
+		assertThat( visited.get( MANY - 1 ) ).isEqualTo( MANY - 1 );
+	}
+
+	@Test
+	public void loopOverCompletedStagesOfAnotherType() {
+		List<Integer> visited = new ArrayList<>();
+		CompletionStage<Void> loop = CompletionStages.loop( 0, MANY, i -> {
+			visited.add( i );
+			return delegatingStage( voidFuture() );
+		} );
+
+		assertThat( loop.toCompletableFuture().isDone() ).isTrue();
+		assertThat( visited ).hasSize( MANY );
+	}
+
+	/**
+	 * @return a {@link CompletionStage} which isn't a {@link CompletableFuture}
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> CompletionStage<T> delegatingStage(CompletionStage<T> stage) {
+		return (CompletionStage<T>) Proxy.newProxyInstance(
+				CompletionStage.class.getClassLoader(),
+				new Class<?>[] { CompletionStage.class },
+				(proxy, method, args) -> method.invoke( stage, args )
+		);
+	}
+
+	@Test
+	public void loopOverPendingStages() {
+		List<CompletableFuture<Void>> pending = new ArrayList<>();
+		List<Integer> visited = new ArrayList<>();
+		CompletionStage<Void> loop = CompletionStages.loop( 0, MANY, i -> {
+			visited.add( i );
+			if ( i % 2 == 0 ) {
+				return voidFuture();
+			}
+			CompletableFuture<Void> future = new CompletableFuture<>();
+			pending.add( future );
+			return future;
+		} );
+
+		// completing each pending stage resumes the loop, which
+		// stops again at the next odd element
+		for ( int i = 0; i < pending.size(); i++ ) {
+			assertThat( loop.toCompletableFuture().isDone() ).isFalse();
+			pending.get( i ).complete( null );
+		}
+
+		assertThat( loop.toCompletableFuture().isDone() ).isTrue();
+		assertThat( pending ).hasSize( MANY / 2 );
+		assertThat( visited ).hasSize( MANY );
+	}
+
+	@Test
+	public void loopStopsAtFailure() {
+		List<Integer> visited = new ArrayList<>();
+		CompletionStage<Void> loop = CompletionStages.loop( new Integer[] { 1, 2, 3 }, i -> {
+			visited.add( i );
+			return i == 2 ? failedFuture( new IllegalStateException( "expected" ) ) : voidFuture();
+		} );
+
+		assertThatThrownBy( () -> loop.toCompletableFuture().join() )
+				.isInstanceOf( CompletionException.class )
+				.hasCauseInstanceOf( IllegalStateException.class );
+		assertThat( visited ).containsExactly( 1, 2 );
+	}
+
+	@Test
+	public void totalOfCompletedAndPendingStages() {
+		CompletableFuture<Integer> pending = new CompletableFuture<>();
+		CompletionStage<Integer> total = CompletionStages.total( 0, MANY, i -> i == MANY / 2 ? pending : completedFuture( 1 ) );
+
+		assertThat( total.toCompletableFuture().isDone() ).isFalse();
+		pending.complete( 10 );
+		assertThat( total.toCompletableFuture().join() ).isEqualTo( MANY - 1 + 10 );
+	}
+}